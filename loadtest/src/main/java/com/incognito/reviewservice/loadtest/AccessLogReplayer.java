@@ -0,0 +1,113 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays a captured access log in Common/Combined Log Format (Tomcat's {@code common} and {@code combined}
+ * patterns, optionally with milliseconds), keeping the original inter-arrival gaps divided by the speed
+ * factor. Only {@code /api/} GET, PUT and POST requests are replayed. Comment bodies are not in access logs,
+ * so POSTs get a generated body. Lines with whole-second timestamps are spread evenly over their second.
+ */
+final class AccessLogReplayer {
+
+    private static final Pattern LINE = Pattern.compile("^\\S+ \\S+ \\S+ \\[([^]]+)] \"(\\S+) (\\S+)[^\"]*\"");
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss[.SSS] Z", Locale.ENGLISH);
+
+    private final OpenLoopDriver driver;
+
+    AccessLogReplayer(OpenLoopDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * @return the number of requests replayed.
+     */
+    long replay(LoadTestOptions options) throws IOException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long replayed = 0;
+        long skipped = 0;
+        long origin = Long.MIN_VALUE;
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(options.replayLog());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = parse(line, random);
+                if (entry == null) {
+                    skipped++;
+                    continue;
+                }
+                if (origin == Long.MIN_VALUE) {
+                    origin = entry.epochNanos();
+                }
+                long due = start + (long) ((entry.epochNanos() - origin) / options.replaySpeed());
+                HttpRequest request = toRequest(options, entry, random);
+                OpenLoopDriver.parkUntil(due);
+                executor.execute(() -> driver.send(request, entry.endpoint(), due, true));
+                replayed++;
+            }
+        }
+        if (skipped > 0) {
+            System.out.printf("Skipped %d unparseable or non-API log lines%n", skipped);
+        }
+        return replayed;
+    }
+
+    static Entry parse(String line, SplittableRandom random) {
+        Matcher matcher = LINE.matcher(line);
+        if (!matcher.find()) {
+            return null;
+        }
+        String method = matcher.group(2);
+        String target = matcher.group(3);
+        if (!target.startsWith("/api/") || !(method.equals("GET") || method.equals("PUT") || method.equals("POST"))) {
+            return null;
+        }
+        OffsetDateTime timestamp;
+        try {
+            timestamp = OffsetDateTime.parse(matcher.group(1), TIMESTAMP);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+        long epochNanos = TimeUnit.SECONDS.toNanos(timestamp.toEpochSecond()) + timestamp.get(ChronoField.NANO_OF_SECOND);
+        if (!matcher.group(1).contains(".")) {
+            epochNanos += random.nextLong(TimeUnit.SECONDS.toNanos(1));
+        }
+        int query = target.indexOf('?');
+        String path = query < 0 ? target : target.substring(0, query);
+        String endpoint = method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+        return new Entry(epochNanos, method, target, endpoint);
+    }
+
+    private static HttpRequest toRequest(LoadTestOptions options, Entry entry, SplittableRandom random) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(options.baseUri().resolve(entry.target()))
+                .timeout(Operation.REQUEST_TIMEOUT);
+        return switch (entry.method()) {
+            case "PUT" -> builder.PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case "POST" -> builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"content\":\"Replayed comment " + random.nextInt(1_000_000) + "\",\"commenterName\":\"replay\"}"))
+                    .build();
+            default -> builder.GET().build();
+        };
+    }
+
+    record Entry(long epochNanos, String method, String target, String endpoint) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+
+/**
+ * Buffers CSV rows and streams them into a {@code COPY ... FROM STDIN WITH (FORMAT csv)} in chunks,
+ * so a table of millions of rows never sits in memory. Empty unquoted fields are NULL; text is always quoted.
+ */
+final class CsvCopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+    private boolean firstField = true;
+    private long rows;
+
+    CsvCopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    CsvCopyWriter number(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CsvCopyWriter bool(boolean value) {
+        separator();
+        buffer.append(value ? 't' : 'f');
+        return this;
+    }
+
+    CsvCopyWriter timestamp(Instant value) {
+        separator();
+        if (value != null) {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    CsvCopyWriter text(String value) {
+        separator();
+        if (value != null) {
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+        return this;
+    }
+
+    CsvCopyWriter nullValue() {
+        separator();
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstField = true;
+        rows++;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    /**
+     * Sends the remaining rows and completes the COPY.
+     */
+    @Override
+    public void close() throws SQLException {
+        flush();
+        copyIn.endCopy();
+    }
+
+    private void separator() {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        firstField = false;
+    }
+
+    private void flush() throws SQLException {
+        if (!buffer.isEmpty()) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads synthetic {@code reviews} and {@code comments} into an existing schema with {@code COPY}.
+ * <p>
+ * The shapes aim at what query plans are sensitive to: company popularity and comments per review are
+ * Zipf-distributed, so a few companies and reviews dominate; replies form threads up to a maximum depth;
+ * votes grow with a review's comment count; text lengths are log-normal; {@code created_at} increases with
+ * {@code id} and review volume grows over time. Everything derives from the seed, so runs against an empty
+ * database are identical. Rows are appended after the current maximum ids, and the id sequences are moved
+ * past them at the end.
+ */
+public final class DatasetGenerator {
+
+    static final String USAGE = """
+            Usage: generateDataset [--name=value ...]
+              --url=jdbc:postgresql://localhost:5432/review_feedback_db
+              --user=postgres --password=root
+              --reviews=1000000            reviews to insert
+              --companies=5000             distinct company names (Zipf popularity, s=1.0)
+              --comments-zipf=1.3          skew of comments per review (higher = more reviews without comments)
+              --max-comments=2000          comments on the most discussed review
+              --reply-probability=0.35     chance a comment answers an earlier one
+              --max-depth=4                deepest reply level
+              --history-days=730           how far back created_at goes
+              --seed=42
+              --copy-batch=500000          rows per COPY statement and transaction
+            """;
+
+    private static final String REVIEW_COPY = "COPY reviews (id, review_type, title, content_html, ip_address, like_count, "
+            + "dislike_count, status, is_employee, dept, role, company_name, website, work_start_date, work_end_date, "
+            + "reviewer_name, created_at, updated_at, version) FROM STDIN WITH (FORMAT csv)";
+    private static final String COMMENT_COPY = "COPY comments (id, parent_id, review_id, content, ip_address, like_count, "
+            + "dislike_count, status, commenter_name, created_at, updated_at, version) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Support", "Finance", "HR", "Operations", "Product"};
+    private static final String[] ROLES = {"Software Developer", "Manager", "Analyst", "Designer", "Intern", "Director", "Consultant", "Engineer"};
+    private static final String[] REVIEW_TYPES = {"POSITIVE", "NEGATIVE", "MIXED"};
+    private static final double[] REVIEW_TYPE_WEIGHTS = {0.45, 0.35, 0.20};
+    private static final String[] REVIEW_STATUSES = {"APPROVED", "PENDING", "REJECTED", "DELETED"};
+    private static final double[] REVIEW_STATUS_WEIGHTS = {0.70, 0.20, 0.08, 0.02};
+    private static final String[] COMMENT_STATUSES = {"ACTIVE", "HIDDEN", "DELETED"};
+    private static final double[] COMMENT_STATUS_WEIGHTS = {0.95, 0.04, 0.01};
+
+    private final Options options;
+    private final SplittableRandom random;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private DatasetGenerator(Options options) {
+        this.options = options;
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(USAGE);
+            return;
+        }
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password())) {
+            new DatasetGenerator(options).generate(connection);
+        }
+    }
+
+    void generate(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long firstReviewId = maxId(connection, "reviews") + 1;
+        long firstCommentId = maxId(connection, "comments") + 1;
+
+        long started = System.nanoTime();
+        int[] commentCounts = new int[options.reviews()];
+        Instant[] reviewCreatedAt = new Instant[options.reviews()];
+        writeReviews(connection, copyManager, firstReviewId, commentCounts, reviewCreatedAt);
+        System.out.printf("reviews: %,d rows in %s%n", options.reviews(), Duration.ofNanos(System.nanoTime() - started));
+
+        started = System.nanoTime();
+        long comments = writeComments(connection, copyManager, firstReviewId, firstCommentId, commentCounts, reviewCreatedAt);
+        System.out.printf("comments: %,d rows in %s%n", comments, Duration.ofNanos(System.nanoTime() - started));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('reviews', 'id'), (SELECT MAX(id) FROM reviews))");
+            statement.execute("SELECT setval(pg_get_serial_sequence('comments', 'id'), (SELECT MAX(id) FROM comments))");
+            connection.commit();
+            // Fresh statistics so EXPLAIN reflects the new data straight away
+            connection.setAutoCommit(true);
+            statement.execute("ANALYZE reviews");
+            statement.execute("ANALYZE comments");
+        }
+    }
+
+    private void writeReviews(Connection connection, CopyManager copyManager, long firstId,
+                              int[] commentCounts, Instant[] createdAt) throws SQLException {
+        ZipfSampler companies = new ZipfSampler(0, options.companies() - 1, 1.0);
+        ZipfSampler commentsPerReview = new ZipfSampler(0, options.maxComments(), options.commentsZipf());
+        long historySeconds = Duration.ofDays(options.historyDays()).toSeconds();
+        Instant historyStart = now.minusSeconds(historySeconds);
+
+        CsvCopyWriter writer = new CsvCopyWriter(copyManager.copyIn(REVIEW_COPY));
+        for (int i = 0; i < options.reviews(); i++) {
+            // Inverse CDF of a linearly growing arrival rate; monotonic in i so created_at follows id
+            double position = Math.sqrt((i + random.nextDouble()) / options.reviews());
+            Instant created = historyStart.plusSeconds((long) (historySeconds * position));
+            createdAt[i] = created;
+            int commentCount = commentsPerReview.rank(random.nextDouble());
+            commentCounts[i] = commentCount;
+
+            String reviewType = pick(REVIEW_TYPES, REVIEW_TYPE_WEIGHTS);
+            double dislikeShare = switch (reviewType) {
+                case "POSITIVE" -> 0.1;
+                case "NEGATIVE" -> 0.4;
+                default -> 0.25;
+            };
+            // Discussed reviews collect more votes
+            long votes = Math.round(logNormal(3, 1.2) * (1 + commentCount / 5.0));
+            long dislikes = Math.round(votes * dislikeShare * random.nextDouble(0.5, 1.5));
+            boolean employee = random.nextDouble() < 0.6;
+            Instant workStart = created.minus(Duration.ofDays(random.nextLong(180, 365L * 8)));
+            Instant workEnd = employee ? null : workStart.plus(Duration.between(workStart, created).multipliedBy(random.nextInt(30, 100)).dividedBy(100));
+            String company = SyntheticText.companyName((int) companies.next(random));
+
+            writer.number(firstId + i)
+                    .text(reviewType)
+                    .text(SyntheticText.paragraph(random, 35, 0.4, 3, 255))
+                    .text(SyntheticText.paragraph(random, 600, 0.8, 10, 20_000))
+                    .text(SyntheticText.ipAddress(random))
+                    .number(Math.max(0, votes - dislikes))
+                    .number(dislikes)
+                    .text(pick(REVIEW_STATUSES, REVIEW_STATUS_WEIGHTS))
+                    .bool(employee)
+                    .text(random.nextDouble() < 0.7 ? DEPARTMENTS[random.nextInt(DEPARTMENTS.length)] : null)
+                    .text(random.nextDouble() < 0.7 ? ROLES[random.nextInt(ROLES.length)] : null)
+                    .text(company)
+                    .text(random.nextDouble() < 0.5 ? "https://www." + company.toLowerCase().replaceAll("[^a-z0-9]+", "") + ".example.com" : null)
+                    .timestamp(workStart)
+                    .timestamp(workEnd)
+                    .text(SyntheticText.personName(random))
+                    .timestamp(created)
+                    .timestamp(created)
+                    .number(1)
+                    .endRow();
+            if (writer.getRows() >= options.copyBatch()) {
+                writer.close();
+                connection.commit();
+                writer = new CsvCopyWriter(copyManager.copyIn(REVIEW_COPY));
+            }
+        }
+        writer.close();
+        connection.commit();
+    }
+
+    private long writeComments(Connection connection, CopyManager copyManager, long firstReviewId, long firstCommentId,
+                               int[] commentCounts, Instant[] reviewCreatedAt) throws SQLException {
+        int[] depth = new int[options.maxComments() + 1];
+        Instant[] createdAt = new Instant[options.maxComments() + 1];
+        long nextId = firstCommentId;
+        long total = 0;
+
+        CsvCopyWriter writer = new CsvCopyWriter(copyManager.copyIn(COMMENT_COPY));
+        for (int review = 0; review < commentCounts.length; review++) {
+            long threadStart = nextId;
+            for (int j = 0; j < commentCounts[review]; j++) {
+                int parent = -1;
+                if (j > 0 && random.nextDouble() < options.replyProbability()) {
+                    int candidate = random.nextInt(j);
+                    if (depth[candidate] < options.maxDepth()) {
+                        parent = candidate;
+                    }
+                }
+                depth[j] = parent < 0 ? 0 : depth[parent] + 1;
+                // Top-level comments cluster in the days after the review, replies in the hours after their parent
+                Instant after = parent < 0 ? reviewCreatedAt[review] : createdAt[parent];
+                long delaySeconds = (long) (-Math.log(1 - random.nextDouble()) * (parent < 0 ? 2 * 86_400 : 6 * 3_600));
+                Instant created = after.plusSeconds(delaySeconds);
+                createdAt[j] = created.isAfter(now) ? now : created;
+
+                writer.number(nextId++);
+                if (parent < 0) {
+                    writer.nullValue();
+                } else {
+                    writer.number(threadStart + parent);
+                }
+                writer.number(firstReviewId + review)
+                        .text(SyntheticText.paragraph(random, 120, 0.9, 2, 5_000))
+                        .text(SyntheticText.ipAddress(random))
+                        .number(Math.round(logNormal(1, 1.0)))
+                        .number(Math.round(logNormal(0.3, 1.0)))
+                        .text(pick(COMMENT_STATUSES, COMMENT_STATUS_WEIGHTS))
+                        .text(SyntheticText.personName(random))
+                        .timestamp(createdAt[j])
+                        .timestamp(createdAt[j])
+                        .number(1)
+                        .endRow();
+                total++;
+            }
+            // Only split between reviews, so every parent is in the same or an earlier COPY
+            if (writer.getRows() >= options.copyBatch()) {
+                writer.close();
+                connection.commit();
+                writer = new CsvCopyWriter(copyManager.copyIn(COMMENT_COPY));
+            }
+        }
+        writer.close();
+        connection.commit();
+        return total;
+    }
+
+    private double logNormal(double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private String pick(String[] values, double[] weights) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            draw -= weights[i];
+            if (draw < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    record Options(String url, String user, String password, int reviews, int companies, double commentsZipf,
+                   int maxComments, double replyProbability, int maxDepth, int historyDays, long seed, long copyBatch) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+                }
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+            Options options = new Options(
+                    values.getOrDefault("url", "jdbc:postgresql://localhost:5432/review_feedback_db"),
+                    values.getOrDefault("user", "postgres"),
+                    values.getOrDefault("password", "root"),
+                    Integer.parseInt(values.getOrDefault("reviews", "1000000")),
+                    Integer.parseInt(values.getOrDefault("companies", "5000")),
+                    Double.parseDouble(values.getOrDefault("comments-zipf", "1.3")),
+                    Integer.parseInt(values.getOrDefault("max-comments", "2000")),
+                    Double.parseDouble(values.getOrDefault("reply-probability", "0.35")),
+                    Integer.parseInt(values.getOrDefault("max-depth", "4")),
+                    Integer.parseInt(values.getOrDefault("history-days", "730")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Long.parseLong(values.getOrDefault("copy-batch", "500000")));
+            if (options.reviews() < 1 || options.companies() < 1 || options.maxComments() < 0 || options.maxDepth() < 0
+                    || options.historyDays() < 1 || options.copyBatch() < 1) {
+                throw new IllegalArgumentException("Counts must be positive");
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds, measured from the intended send time) and outcome counts.
+ * Warm-up requests never reach it: {@link OpenLoopDriver} only records requests scheduled after the warm-up.
+ */
+final class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, int status) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+        stats.outcomes.computeIfAbsent(outcome(status), key -> new LongAdder()).increment();
+    }
+
+    void recordFailure(String endpoint, long latencyNanos, Throwable failure) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+        stats.outcomes.computeIfAbsent("error:" + failure.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Prints a summary table and, if {@code outputDir} is set, writes one {@code .hlog} per endpoint for
+     * HdrHistogram tooling (e.g. HistogramLogAnalyzer).
+     */
+    void report(PrintStream out, double elapsedSeconds, Path outputDir) throws IOException {
+        out.printf("%-42s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        Map<String, Endpoint> sorted = new TreeMap<>(endpoints);
+        for (Map.Entry<String, Endpoint> entry : sorted.entrySet()) {
+            Histogram histogram = entry.getValue().snapshot();
+            Map<String, Long> outcomes = new TreeMap<>();
+            entry.getValue().outcomes.forEach((key, count) -> outcomes.put(key, count.sum()));
+            out.printf("%-42s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    outcomes);
+            if (outputDir != null) {
+                writeLog(outputDir, entry.getKey(), histogram);
+            }
+        }
+    }
+
+    private static void writeLog(Path outputDir, String endpoint, Histogram histogram) throws IOException {
+        Files.createDirectories(outputDir);
+        String fileName = endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hlog";
+        try (PrintStream log = new PrintStream(outputDir.resolve(fileName).toFile())) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputComment("endpoint: " + endpoint + ", values in microseconds");
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            writer.outputIntervalHistogram(histogram);
+        }
+    }
+
+    static String outcome(int status) {
+        return switch (status) {
+            case 429 -> "429";
+            case 503 -> "503";
+            case 504 -> "504";
+            default -> (status / 100) + "xx";
+        };
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE_MICROS, 3);
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private Histogram accumulated;
+
+        synchronized Histogram snapshot() {
+            Histogram interval = recorder.getIntervalHistogram();
+            if (accumulated == null) {
+                accumulated = interval.copy();
+            } else {
+                accumulated.add(interval);
+            }
+            return accumulated.copy();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Entry point: drives a running service with either a synthetic open-loop mix or a replayed access log,
+ * then prints per-endpoint latency percentiles and outcome counts.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, recorder);
+            long start = System.nanoTime();
+            if (options.replayLog() != null) {
+                System.out.printf("Replaying %s against %s at %.1fx%n", options.replayLog(), options.baseUri(), options.replaySpeed());
+                long replayed = new AccessLogReplayer(driver).replay(options);
+                System.out.printf("Replayed %d requests%n", replayed);
+            } else {
+                System.out.printf("Driving %s at %.0f req/s, mix %s, review ids %d-%d (zipf %.2f), warm-up %s, measuring %s%n",
+                        options.baseUri(), options.rate(), options.mixSpec(), options.minReviewId(), options.maxReviewId(),
+                        options.zipfExponent(), options.warmup(), options.duration());
+                driver.run(options);
+            }
+            double elapsedSeconds = options.replayLog() != null
+                    ? (System.nanoTime() - start) / 1e9
+                    : options.duration().toNanos() / 1e9;
+            recorder.report(System.out, elapsedSeconds, options.outputDir());
+        }
+    }
+}
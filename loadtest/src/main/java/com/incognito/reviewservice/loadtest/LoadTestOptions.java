@@ -0,0 +1,91 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options, given as {@code --name=value}. Run with {@code --help} for the list.
+ */
+record LoadTestOptions(
+        URI baseUri,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        OperationMix mix,
+        String mixSpec,
+        long minReviewId,
+        long maxReviewId,
+        double zipfExponent,
+        long seed,
+        Path replayLog,
+        double replaySpeed,
+        Path outputDir) {
+
+    static final String USAGE = """
+            Usage: loadtest [--name=value ...]
+              --base-url=http://localhost:8080        service under test
+              --rate=100                              open-loop arrivals per second (Poisson)
+              --duration=60s                          measured run length (s, m suffixes)
+              --warmup=10s                            run before measuring, results discarded
+              --mix=comment-page:70,vote:20,create:10 relative weights of comment-page, review, list, search, vote, create
+              --review-ids=1-10000                    review id range to target
+              --zipf=1.1                              hot-key skew over review ids (0 = uniform)
+              --seed=42                               makes the request sequence reproducible
+              --replay=access.log                     replay an access log instead of the synthetic mix
+              --speed=1.0                             replay speed-up factor
+              --output=build/loadtest                 directory for per-endpoint .hlog files
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        String mixSpec = values.getOrDefault("mix", "comment-page:70,vote:20,create:10");
+        String[] reviewIds = values.getOrDefault("review-ids", "1-10000").split("-");
+        if (reviewIds.length != 2) {
+            throw new IllegalArgumentException("--review-ids expects a range like 1-10000");
+        }
+        String replay = values.get("replay");
+        String output = values.getOrDefault("output", "build/loadtest");
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                OperationMix.parse(mixSpec),
+                mixSpec,
+                Long.parseLong(reviewIds[0].trim()),
+                Long.parseLong(reviewIds[1].trim()),
+                Double.parseDouble(values.getOrDefault("zipf", "1.1")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                replay == null ? null : Path.of(replay),
+                Double.parseDouble(values.getOrDefault("speed", "1.0")),
+                output.isEmpty() ? null : Path.of(output));
+    }
+
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+}
@@ -0,0 +1,74 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the synthetic mix at a fixed average rate with Poisson inter-arrival times, regardless of how fast
+ * the service answers (open loop). Each request runs on its own virtual thread, and latency is measured
+ * from when it was due rather than when it was sent, so a stalled service shows up as latency instead of
+ * silently lowering the offered load (coordinated omission).
+ */
+final class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final LatencyRecorder recorder;
+
+    OpenLoopDriver(HttpClient client, LatencyRecorder recorder) {
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+    void run(LoadTestOptions options) {
+        // A single generator on the scheduling thread keeps the request sequence reproducible for a seed
+        SplittableRandom random = new SplittableRandom(options.seed());
+        ZipfSampler reviewIds = new ZipfSampler(options.minReviewId(), options.maxReviewId(), options.zipfExponent());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long due = start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (due < end) {
+                Operation operation = options.mix().next(random);
+                HttpRequest request = operation.request(options.baseUri(), reviewIds.next(random), random)
+                        .timeout(Operation.REQUEST_TIMEOUT)
+                        .build();
+                parkUntil(due);
+                long scheduled = due;
+                boolean measured = due >= measureFrom;
+                executor.execute(() -> send(request, operation.getEndpoint(), scheduled, measured));
+                due += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            }
+        }
+    }
+
+    void send(HttpRequest request, String endpoint, long scheduledNanos, boolean measured) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (measured) {
+                recorder.record(endpoint, System.nanoTime() - scheduledNanos, response.statusCode());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (measured) {
+                recorder.recordFailure(endpoint, System.nanoTime() - scheduledNanos, ex);
+            }
+        }
+    }
+
+    static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
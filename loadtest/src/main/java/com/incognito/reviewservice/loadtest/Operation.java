@@ -0,0 +1,93 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * The API calls a synthetic mix is made of. Each builds its request for a review id drawn by the caller.
+ */
+enum Operation {
+
+    COMMENT_PAGE("comment-page", "GET /api/v1/reviews/{id}/comments") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            // Most readers stay on the first page
+            int page = random.nextDouble() < 0.8 ? 0 : random.nextInt(1, 5);
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews/" + reviewId + "/comments?page=" + page + "&size=10")).GET();
+        }
+    },
+    REVIEW("review", "GET /api/v1/reviews/{id}") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews/" + reviewId)).GET();
+        }
+    },
+    LIST("list", "GET /api/v1/reviews") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews?page=" + random.nextInt(0, 10) + "&size=20")).GET();
+        }
+    },
+    SEARCH("search", "GET /api/v1/reviews/search") {
+        // Content words of the generated dataset (SyntheticText), so every query has matches
+        private static final String[] TERMS = {"salary", "benefits", "culture", "remote", "manager", "deadline",
+                "flexible", "stressful", "onboarding", "leadership", "workload", "promotion", "meetings", "customers"};
+
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            String query = TERMS[random.nextInt(TERMS.length)];
+            if (random.nextBoolean()) {
+                query += "+" + TERMS[random.nextInt(TERMS.length)];
+            }
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews/search?q=" + query + "&size=20")).GET();
+        }
+    },
+    VOTE("vote", "PUT /api/v1/reviews/{id}/like|dislike") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            String direction = random.nextDouble() < 0.8 ? "like" : "dislike";
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews/" + reviewId + "/" + direction))
+                    .PUT(HttpRequest.BodyPublishers.noBody());
+        }
+    },
+    CREATE("create", "POST /api/v1/reviews/{id}/comments") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random) {
+            String body = "{\"content\":\"Load test comment " + random.nextInt(1_000_000) + "\",\"commenterName\":\"loadtest\"}";
+            return HttpRequest.newBuilder(baseUri.resolve("/api/v1/reviews/" + reviewId + "/comments"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    };
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUri, long reviewId, RandomGenerator random);
+
+    String getKey() {
+        return key;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'; expected one of comment-page, review, list, search, vote, create");
+    }
+}
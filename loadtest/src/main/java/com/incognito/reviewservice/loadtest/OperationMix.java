@@ -0,0 +1,60 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice between operations, parsed from {@code comment-page:70,vote:20,create:10}.
+ * Weights are relative and need not add up to 100.
+ */
+final class OperationMix {
+
+    private final List<Operation> operations;
+    private final double[] cumulativeWeights;
+
+    private OperationMix(List<Operation> operations, double[] cumulativeWeights) {
+        this.operations = operations;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static OperationMix parse(String spec) {
+        List<Operation> operations = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like 'operation:weight', got '" + entry + "'");
+            }
+            double weight = Double.parseDouble(parts[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            operations.add(Operation.fromKey(parts[0].trim()));
+            weights.add(weight);
+        }
+        double[] cumulative = new double[weights.size()];
+        double sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += weights.get(i);
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("Mix '" + spec + "' has no positive weight");
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return new OperationMix(List.copyOf(operations), cumulative);
+    }
+
+    Operation next(RandomGenerator random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
@@ -0,0 +1,123 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-request for each startup mode: launches the service, polls a real API URL until it
+ * answers 2xx, records the time since launch, stops the process, and repeats.
+ * <p>
+ * Modes are given as {@code --mode=label=command}, with the command split on whitespace. Each mode has to reach
+ * {@code main} as one argument, so quote the command; Gradle's {@code --args} honours double quotes inside:
+ * <pre>
+ * --mode="jvm=java -jar build/libs/reviewservice-0.0.1-SNAPSHOT.jar"
+ * --mode="cds=java -XX:SharedArchiveFile=build/cds/application.jsa -jar build/cds/reviewservice-0.0.1-SNAPSHOT.jar"
+ * --mode=native=build/native/nativeCompile/reviewservice
+ * </pre>
+ * {@code --args} splits on spaces only, so line breaks in it stay attached to the argument before; arguments are
+ * stripped to allow them.
+ */
+public final class StartupBenchmark {
+
+    static final String USAGE = """
+            Usage: startupBenchmark --mode=label=command [--mode=...] [options]
+              --url=http://localhost:8080/api/v1/reviews?size=1   first request to wait for
+              --runs=5                                           launches per mode
+              --timeout=120s                                     give up on a launch after this long
+            """;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        URI url = URI.create("http://localhost:8080/api/v1/reviews?size=1");
+        int runs = 5;
+        Duration timeout = Duration.ofSeconds(120);
+        for (String rawArg : args) {
+            String arg = rawArg.strip();
+            if (arg.isEmpty()) {
+                continue;
+            }
+            if (arg.startsWith("--mode=")) {
+                String spec = arg.substring("--mode=".length());
+                int separator = spec.indexOf('=');
+                if (separator < 1) {
+                    throw new IllegalArgumentException("Expected --mode=label=command, got '" + arg + "'");
+                }
+                modes.put(spec.substring(0, separator), Arrays.asList(spec.substring(separator + 1).trim().split("\\s+")));
+            } else if (arg.startsWith("--url=")) {
+                url = URI.create(arg.substring("--url=".length()));
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring("--runs=".length()));
+            } else if (arg.startsWith("--timeout=")) {
+                timeout = LoadTestOptions.parseDuration(arg.substring("--timeout=".length()));
+            } else {
+                System.out.print(USAGE);
+                System.exit(arg.equals("--help") ? 0 : 2);
+            }
+        }
+        if (modes.isEmpty()) {
+            System.out.print(USAGE);
+            System.exit(2);
+        }
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build()) {
+            System.out.printf("%-12s %10s %10s %10s  %s%n", "mode", "min ms", "median ms", "max ms", "runs");
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                List<Long> samples = new ArrayList<>();
+                for (int run = 0; run < runs; run++) {
+                    samples.add(timeToFirstRequest(client, mode.getValue(), url, timeout));
+                }
+                samples.sort(null);
+                System.out.printf("%-12s %10d %10d %10d  %s%n", mode.getKey(),
+                        samples.get(0), samples.get(samples.size() / 2), samples.get(samples.size() - 1), samples);
+            }
+        }
+    }
+
+    static long timeToFirstRequest(HttpClient client, List<String> command, URI url, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(2)).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .directory(Path.of("").toAbsolutePath().toFile())
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("'" + String.join(" ", command) + "' exited with " + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // Keep polling until the port opens
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful response from " + url + " within " + timeout);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
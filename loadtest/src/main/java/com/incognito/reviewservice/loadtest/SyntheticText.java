@@ -0,0 +1,69 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Deterministic filler text and names. Lengths follow a log-normal distribution, like user-written text:
+ * most entries are short and a long tail is several times the median.
+ */
+final class SyntheticText {
+
+    private static final String[] WORDS = {
+            "team", "management", "salary", "benefits", "culture", "growth", "remote", "office", "manager",
+            "project", "deadline", "process", "engineering", "support", "great", "poor", "flexible", "stressful",
+            "learning", "career", "review", "interview", "onboarding", "colleagues", "leadership", "workload",
+            "balance", "pay", "promotion", "feedback", "communication", "tools", "meetings", "product", "customers",
+            "the", "and", "was", "very", "not", "really", "but", "with", "for", "overall", "would", "recommend"};
+    private static final String[] COMPANY_PREFIXES = {
+            "North", "Blue", "Bright", "Iron", "Silver", "Green", "Rapid", "Quantum", "Summit", "Harbor",
+            "Pioneer", "Vertex", "Crimson", "Atlas", "Nimbus", "Cedar", "Falcon", "Orbit", "Stone", "Lumen"};
+    private static final String[] COMPANY_STEMS = {
+            "wind", "field", "gate", "ridge", "works", "point", "bridge", "stream", "forge", "path"};
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Systems", "Tech", "Group", "Software", "Solutions", "Corp", "Digital"};
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn"};
+
+    private SyntheticText() {
+    }
+
+    /**
+     * @param medianLength Median length in characters.
+     * @param sigma        Log-normal shape; 0.8 gives a p99 of roughly six times the median.
+     */
+    static String paragraph(RandomGenerator random, int medianLength, double sigma, int minLength, int maxLength) {
+        int target = (int) Math.round(medianLength * Math.exp(sigma * random.nextGaussian()));
+        target = Math.clamp(target, minLength, maxLength);
+        StringBuilder text = new StringBuilder(target + 16);
+        boolean sentenceStart = true;
+        while (text.length() <= target) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (sentenceStart) {
+                text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                text.append(word);
+            }
+            sentenceStart = random.nextInt(12) == 0;
+            text.append(sentenceStart ? ". " : " ");
+        }
+        return text.substring(0, Math.min(text.length(), maxLength)).strip();
+    }
+
+    /**
+     * @return a stable, distinct company name for each index.
+     */
+    static String companyName(int index) {
+        int combinations = COMPANY_PREFIXES.length * COMPANY_STEMS.length * COMPANY_SUFFIXES.length;
+        String name = COMPANY_PREFIXES[index % COMPANY_PREFIXES.length]
+                + COMPANY_STEMS[(index / COMPANY_PREFIXES.length) % COMPANY_STEMS.length] + " "
+                + COMPANY_SUFFIXES[(index / (COMPANY_PREFIXES.length * COMPANY_STEMS.length)) % COMPANY_SUFFIXES.length];
+        return index < combinations ? name : name + " " + (index / combinations + 1);
+    }
+
+    static String personName(RandomGenerator random) {
+        // Most people post anonymously
+        return random.nextInt(3) == 0 ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + (char) ('A' + random.nextInt(26)) + "." : "Anonymous";
+    }
+
+    static String ipAddress(RandomGenerator random) {
+        return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+    }
+}
@@ -0,0 +1,65 @@
+package com.incognito.reviewservice.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ids from {@code [minId, maxId]} with Zipf-distributed popularity: the k-th most popular id is
+ * requested with probability proportional to {@code 1 / k^s}. Ranks are scattered over the id range
+ * (rather than rank 1 being {@code minId}) so the hot set is not simply the oldest rows.
+ */
+final class ZipfSampler {
+
+    private final long minId;
+    private final int size;
+    private final long stride;
+    private final double[] cdf;
+
+    ZipfSampler(long minId, long maxId, double exponent) {
+        long range = maxId - minId + 1;
+        if (range <= 0 || range > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Id range must hold between 1 and " + Integer.MAX_VALUE + " ids");
+        }
+        this.minId = minId;
+        this.size = (int) range;
+        this.stride = coprimeStride(size);
+        this.cdf = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += exponent == 0 ? 1 : 1 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    long next(RandomGenerator random) {
+        return idForRank(rank(random.nextDouble()));
+    }
+
+    /**
+     * @return the zero-based popularity rank for a uniform draw in {@code [0, 1)}.
+     */
+    int rank(double uniform) {
+        int index = Arrays.binarySearch(cdf, uniform);
+        return Math.min(index >= 0 ? index : -index - 1, size - 1);
+    }
+
+    long idForRank(int rank) {
+        // Multiplying by a stride coprime with the range is a bijection, so every id keeps exactly one rank
+        return minId + (rank * stride) % size;
+    }
+
+    private static long coprimeStride(int size) {
+        long candidate = Math.max(1, (long) (size * 0.618_033_988_7));
+        while (gcd(candidate, size) != 1) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
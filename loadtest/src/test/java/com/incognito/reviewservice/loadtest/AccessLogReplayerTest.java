@@ -0,0 +1,48 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogReplayerTest {
+
+    private final SplittableRandom random = new SplittableRandom(1);
+
+    @Test
+    void parse_shouldReadCombinedLogLine() {
+        AccessLogReplayer.Entry entry = AccessLogReplayer.parse(
+                "10.0.0.1 - - [10/Oct/2025:13:55:36.250 +0000] \"GET /api/v1/reviews/42/comments?page=0&size=10 HTTP/1.1\" 200 512 \"-\" \"curl/8.0\"",
+                random);
+
+        assertNotNull(entry);
+        assertEquals("GET", entry.method());
+        assertEquals("/api/v1/reviews/42/comments?page=0&size=10", entry.target());
+        assertEquals("GET /api/v1/reviews/{id}/comments", entry.endpoint());
+        assertEquals(250_000_000L, entry.epochNanos() % 1_000_000_000L);
+    }
+
+    @Test
+    void parse_shouldSpreadWholeSecondTimestampsWithinTheSecond() {
+        AccessLogReplayer.Entry entry = AccessLogReplayer.parse(
+                "10.0.0.1 - - [10/Oct/2025:13:55:36 +0000] \"PUT /api/v1/reviews/42/comments/7/like HTTP/1.1\" 200 310",
+                random);
+
+        assertNotNull(entry);
+        assertEquals("PUT /api/v1/reviews/{id}/comments/{id}/like", entry.endpoint());
+        long secondStart = Instant.parse("2025-10-10T13:55:36Z").getEpochSecond() * 1_000_000_000L;
+        assertTrue(entry.epochNanos() >= secondStart && entry.epochNanos() < secondStart + 1_000_000_000L);
+    }
+
+    @Test
+    void parse_shouldSkipNonApiAndUnsupportedRequests() {
+        assertNull(AccessLogReplayer.parse("10.0.0.1 - - [10/Oct/2025:13:55:36 +0000] \"GET /actuator/health HTTP/1.1\" 200 15", random));
+        assertNull(AccessLogReplayer.parse("10.0.0.1 - - [10/Oct/2025:13:55:36 +0000] \"DELETE /api/v1/reviews/1 HTTP/1.1\" 405 0", random));
+        assertNull(AccessLogReplayer.parse("not an access log line", random));
+    }
+}
@@ -0,0 +1,34 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticTextTest {
+
+    @Test
+    void paragraph_shouldRespectBoundsAndBeReproducible() {
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            String text = SyntheticText.paragraph(first, 120, 0.9, 2, 500);
+            assertTrue(text.length() >= 2 && text.length() <= 500, "length " + text.length());
+            assertEquals(text, SyntheticText.paragraph(second, 120, 0.9, 2, 500));
+        }
+    }
+
+    @Test
+    void companyName_shouldBeDistinctPerIndex() {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            names.add(SyntheticText.companyName(i));
+        }
+        assertEquals(10_000, names.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.incognito.reviewservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfSamplerTest {
+
+    @Test
+    void idForRank_shouldMapRanksOntoTheWholeRangeOnce() {
+        ZipfSampler sampler = new ZipfSampler(100, 1_099, 1.1);
+
+        Set<Long> ids = new HashSet<>();
+        for (int rank = 0; rank < 1_000; rank++) {
+            long id = sampler.idForRank(rank);
+            assertTrue(id >= 100 && id <= 1_099);
+            ids.add(id);
+        }
+        assertEquals(1_000, ids.size());
+    }
+
+    @Test
+    void next_shouldFavourTopRanks() {
+        ZipfSampler sampler = new ZipfSampler(1, 10_000, 1.1);
+        SplittableRandom random = new SplittableRandom(42);
+        long hottest = sampler.idForRank(0);
+
+        int hits = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sampler.next(random) == hottest) {
+                hits++;
+            }
+        }
+        // Rank 1 of 10k with s=1.1 takes roughly 10% of draws; uniform would be 0.01%
+        assertTrue(hits > 500, "hottest id drawn " + hits + " times");
+    }
+
+    @Test
+    void rank_shouldBeUniform_whenExponentIsZero() {
+        ZipfSampler sampler = new ZipfSampler(1, 4, 0);
+
+        assertEquals(0, sampler.rank(0.1));
+        assertEquals(1, sampler.rank(0.3));
+        assertEquals(3, sampler.rank(0.99));
+    }
+}
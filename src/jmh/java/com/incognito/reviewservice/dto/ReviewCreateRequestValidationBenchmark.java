@@ -0,0 +1,62 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.ReviewType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of {@link ReviewCreateRequest} as {@code @Valid} runs it, for a valid request and for one
+ * violating several constraints (violations allocate messages and paths).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ReviewCreateRequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ReviewCreateRequest validRequest;
+    private ReviewCreateRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        Instant start = Instant.now().minusSeconds(86_400 * 365);
+        validRequest = new ReviewCreateRequest(ReviewType.POSITIVE, "Excellent Work Environment",
+                "The company offers great benefits and a supportive team.", "192.168.1.100", "Engineering",
+                "Software Developer", "Incognito Tech", "https://incognito.example.com", true, start, null, "Jane Doe");
+        invalidRequest = new ReviewCreateRequest(null, "Hi", "Too short", "192.168.1.100", "Engineering",
+                "Software Developer", "Incognito Tech", "https://incognito.example.com", true,
+                Instant.now().plusSeconds(86_400), null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ReviewCreateRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ReviewCreateRequest>> invalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
@@ -0,0 +1,62 @@
+package com.incognito.reviewservice.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@code GET /api/v1/reviews} response body. The mapper is configured like
+ * Spring Boot's (JSR-310 module, ISO dates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReviewPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<ReviewResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Instant now = Instant.now();
+        List<ReviewResponse> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new ReviewResponse(id, ReviewType.POSITIVE, "Excellent Work Environment " + id,
+                    "<p>The company offers great benefits and a supportive team.</p>".repeat(10), "192.168.1.100",
+                    12, 3, true, ReviewStatus.APPROVED, true, "Engineering", "Software Developer", "Incognito Tech",
+                    "https://incognito.example.com", now.minusSeconds(86_400 * 365), null, now, now, "Jane Doe", 4));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 1_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,66 @@
+package com.incognito.reviewservice.exception;
+
+import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error body construction in {@link GlobalExceptionHandler} for the two most frequent client errors.
+ * Logging is switched off for the benchmark (src/jmh/resources/logback.xml), so this measures the body only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ErrorBodyBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException notValid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/reviews"));
+        notFound = new ResourceNotFoundException("Review not found with id: 42");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "reviewCreateRequest");
+        bindingResult.addError(new FieldError("reviewCreateRequest", "title", "Title must be between 3 and 255 characters"));
+        bindingResult.addError(new FieldError("reviewCreateRequest", "content", "Content must be at least 10 characters long"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorBodyBenchmark.class.getDeclaredMethod("createReview", ReviewCreateRequest.class), 0);
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> resourceNotFound() {
+        return handler.handleResourceNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> validationFailure() {
+        return handler.handleMethodArgumentNotValid(notValid, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @SuppressWarnings("unused")
+    private void createReview(ReviewCreateRequest request) {
+        // Signature source for the MethodParameter above
+    }
+}
@@ -0,0 +1,85 @@
+package com.incognito.reviewservice.moderation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Screening clean text (the common case, so every keyword is tried against the whole text) with the
+ * {@link KeywordAutomaton} versus one precompiled whole-word, case-insensitive regex per keyword.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class KeywordScreeningBenchmark {
+
+    @Param({"500", "5000"})
+    private int keywordCount;
+
+    @Param({"500", "5000", "50000"})
+    private int textLength;
+
+    private KeywordAutomaton automaton;
+    private List<Keyword> keywords;
+    private List<Pattern> patterns;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keywords = new ArrayList<>(keywordCount);
+        patterns = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            // Same alphabet as the text, so both approaches see near misses, but the final 'q' never occurs in it
+            String term = word(random, 4 + random.nextInt(6)) + "q" + (i % 4 == 0 ? " " + word(random, 4) : "");
+            keywords.add(new Keyword(term, i % 10 == 0 ? ModerationAction.HIDE : ModerationAction.HOLD));
+            patterns.add(Pattern.compile("\\b" + Pattern.quote(term) + "\\b", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        }
+        automaton = KeywordAutomaton.compile(keywords);
+
+        StringBuilder builder = new StringBuilder(textLength + 16);
+        while (builder.length() < textLength) {
+            builder.append(random.nextInt(12) == 0 ? "Review " : word(random, 2 + random.nextInt(9))).append(' ');
+        }
+        text = builder.substring(0, textLength);
+        if (automaton.findMostSevere(text) != null) {
+            throw new IllegalStateException("Benchmark text should not contain any keyword");
+        }
+    }
+
+    @Benchmark
+    public KeywordAutomaton.Match automaton() {
+        return automaton.findMostSevere(text);
+    }
+
+    @Benchmark
+    public Keyword regexPerKeyword() {
+        Keyword worst = null;
+        for (int i = 0; i < patterns.size(); i++) {
+            Keyword keyword = keywords.get(i);
+            if ((worst == null || keyword.action().compareTo(worst.action()) > 0) && patterns.get(i).matcher(text).find()) {
+                worst = keyword;
+            }
+        }
+        return worst;
+    }
+
+    private static String word(Random random, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(8));
+        }
+        return new String(letters);
+    }
+}
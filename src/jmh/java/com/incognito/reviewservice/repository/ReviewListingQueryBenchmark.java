@@ -0,0 +1,170 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preparing the page and count queries of one review listing: a Criteria {@link Specification} built per call
+ * (what the listing did before, and what Spring Data's {@code findAll(spec, pageable)} does with it) versus the
+ * prebuilt {@link ReviewQueryTemplates}. Hibernate runs without a database
+ * ({@code hibernate.boot.allow_jdbc_metadata_access=false}), so this stops before execution and leaves out the
+ * second half of the difference: the SQL translation of an HQL string is cached, that of a Criteria query is not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReviewListingQueryBenchmark {
+
+    @Param({"none", "companyAndType", "employeeRoleDates"})
+    private String filterShape;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private ReviewQueryTemplates templates;
+    private ReviewFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", PostgreSQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.physical_naming_strategy", PhysicalNamingStrategyStandardImpl.class.getName())
+                .applySetting("jakarta.persistence.validation.mode", "none")
+                .build())
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(Comment.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        templates = new ReviewQueryTemplates();
+        filter = switch (filterShape) {
+            case "none" -> ReviewFilter.NONE;
+            case "companyAndType" -> ReviewFilter.of("Incognito", ReviewType.POSITIVE);
+            case "employeeRoleDates" -> new ReviewFilter(null, null, ReviewStatus.APPROVED, true, null, "Software Developer",
+                    Instant.parse("2024-01-01T00:00:00Z"), null, Instant.parse("2023-01-01T00:00:00Z"), null);
+            default -> throw new IllegalArgumentException(filterShape);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void criteriaPerCall(Blackhole blackhole) {
+        Specification<Review> spec = specification(filter);
+        CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+
+        CriteriaQuery<Review> select = criteriaBuilder.createQuery(Review.class);
+        Root<Review> root = select.from(Review.class);
+        select.select(root).where(spec.toPredicate(root, select, criteriaBuilder))
+                .orderBy(criteriaBuilder.desc(root.get("createdAt")));
+        TypedQuery<Review> query = session.createQuery(select);
+        query.setFirstResult(0);
+        query.setMaxResults(10);
+
+        CriteriaQuery<Long> count = criteriaBuilder.createQuery(Long.class);
+        Root<Review> countRoot = count.from(Review.class);
+        count.select(criteriaBuilder.count(countRoot)).where(spec.toPredicate(countRoot, count, criteriaBuilder));
+
+        blackhole.consume(query);
+        blackhole.consume(session.createQuery(count));
+    }
+
+    @Benchmark
+    public void prebuiltTemplate(Blackhole blackhole) {
+        ReviewQueryTemplates.Template template = templates.forFilter(filter);
+
+        TypedQuery<Review> query = session.createQuery(template.select(ReviewQueryTemplates.NEWEST_FIRST), Review.class);
+        template.bind(query, filter);
+        query.setFirstResult(0);
+        query.setMaxResults(10);
+
+        TypedQuery<Long> count = session.createQuery(template.count(), Long.class);
+        template.bind(count, filter);
+
+        blackhole.consume(query);
+        blackhole.consume(count);
+    }
+
+    // The Specification the listing built on every call before the templates
+    private static Specification<Review> specification(ReviewFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(filter.companyName())) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("companyName")),
+                        "%" + filter.companyName().toLowerCase() + "%"));
+            }
+            if (filter.reviewType() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("reviewType"), filter.reviewType()));
+            }
+            if (filter.status() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
+            }
+            if (filter.isEmployee() != null) {
+                Path<Boolean> isEmployee = root.get("isEmployee");
+                predicates.add(filter.isEmployee() ? criteriaBuilder.isTrue(isEmployee) : criteriaBuilder.isFalse(isEmployee));
+            }
+            if (StringUtils.hasText(filter.dept())) {
+                predicates.add(criteriaBuilder.equal(root.get("dept"), filter.dept()));
+            }
+            if (StringUtils.hasText(filter.role())) {
+                predicates.add(criteriaBuilder.equal(root.get("role"), filter.role()));
+            }
+            if (filter.createdFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Instant>get("createdAt"), filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                predicates.add(criteriaBuilder.lessThan(root.<Instant>get("createdAt"), filter.createdTo()));
+            }
+            if (filter.workedFrom() != null || filter.workedTo() != null) {
+                Path<Instant> workStart = root.get("workStartDate");
+                Path<Instant> workEnd = root.get("workEndDate");
+                predicates.add(criteriaBuilder.isNotNull(workStart));
+                if (filter.workedTo() != null) {
+                    predicates.add(criteriaBuilder.lessThan(workStart, filter.workedTo()));
+                }
+                if (filter.workedFrom() != null) {
+                    predicates.add(criteriaBuilder.or(criteriaBuilder.isNull(workEnd),
+                            criteriaBuilder.greaterThanOrEqualTo(workEnd, filter.workedFrom())));
+                }
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
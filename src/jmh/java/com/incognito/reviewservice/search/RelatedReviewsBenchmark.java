@@ -0,0 +1,178 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One related-reviews query on a single thread: {@link RelatedReviewIndex} walking the source review's posting
+ * lists, versus merge-joining the source vector with every review's sorted term ids. Synthetic reviews have
+ * at most {@value #TITLE_WORDS} + {@value #CONTENT_WORDS} words, under the {@value #MAX_TERMS_PER_REVIEW} terms
+ * kept per review, so both hold the same vectors and return the same reviews. A few terms are common and most
+ * are rare.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RelatedReviewsBenchmark {
+
+    private static final int MAX_TERMS_PER_REVIEW = 32;
+    private static final int TITLE_WORDS = 4;
+    private static final int CONTENT_WORDS = 26;
+    private static final int LIMIT = 5;
+    private static final int VOCABULARY = 20_000;
+    private static final int SOURCES = 64; // Power of two, cycled through by mask
+
+    @Param({"20000", "200000"})
+    private int reviewCount;
+
+    private ForkJoinPool pool;
+    private RelatedReviewIndex index;
+    private long[] reviewIds;
+    private int[] companies;
+    private int[][] terms;
+    private float[][] weights;
+    private int[] sources;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            vocabulary[i] = "term" + i;
+        }
+        pool = new ForkJoinPool(1);
+        // The threshold keeps the index's scan on the calling thread, like the merge join
+        index = new RelatedReviewIndex(pool, MAX_TERMS_PER_REVIEW, Integer.MAX_VALUE);
+        List<ReviewDocument> documents = new ArrayList<>(reviewCount);
+        for (long id = 1; id <= reviewCount; id++) {
+            ReviewDocument document = new ReviewDocument(id, ReviewType.POSITIVE, text(random, vocabulary, TITLE_WORDS),
+                    text(random, vocabulary, CONTENT_WORDS), "Company " + (id % 500), ReviewStatus.APPROVED, Instant.ofEpochSecond(id));
+            documents.add(document);
+            index.upsert(document);
+        }
+        index.reweight();
+        buildVectors(documents);
+
+        sources = new int[SOURCES];
+        for (int i = 0; i < SOURCES; i++) {
+            sources[i] = random.nextInt(reviewCount);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public RelatedReviewIndex.Related postingLists() {
+        return index.related(reviewIds[sources[next++ & (SOURCES - 1)]], LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> mergeJoinEveryReview() {
+        int source = sources[next++ & (SOURCES - 1)];
+        int[] sourceTerms = terms[source];
+        float[] sourceWeights = weights[source];
+        TopHits sameCompany = new TopHits(LIMIT);
+        TopHits otherCompanies = new TopHits(LIMIT);
+        for (int ordinal = 0; ordinal < terms.length; ordinal++) {
+            if (ordinal == source) {
+                continue;
+            }
+            int[] documentTerms = terms[ordinal];
+            float[] documentWeights = weights[ordinal];
+            float similarity = 0;
+            for (int i = 0, j = 0; i < sourceTerms.length && j < documentTerms.length; ) {
+                if (sourceTerms[i] < documentTerms[j]) {
+                    i++;
+                } else if (sourceTerms[i] > documentTerms[j]) {
+                    j++;
+                } else {
+                    similarity += sourceWeights[i++] * documentWeights[j++];
+                }
+            }
+            if (similarity > 0) {
+                (companies[ordinal] == companies[source] ? sameCompany : otherCompanies).offer(ordinal, similarity);
+            }
+        }
+        List<Long> hits = new ArrayList<>(sameCompany.sortedDescending((ordinal, similarity) -> reviewIds[ordinal]));
+        hits.addAll(otherCompanies.sortedDescending((ordinal, similarity) -> reviewIds[ordinal]));
+        return hits;
+    }
+
+    // Same vectors as the index after a reweight: (1 + ln tf) x idf, scaled to unit length
+    private void buildVectors(List<ReviewDocument> documents) {
+        List<Map<String, Integer>> frequencies = new ArrayList<>(documents.size());
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        for (ReviewDocument document : documents) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String term : Tokenizer.tokenize(document.title())) {
+                counts.merge(term, RelatedReviewIndex.TITLE_WEIGHT, Integer::sum);
+            }
+            for (String term : Tokenizer.tokenize(document.contentHtml())) {
+                counts.merge(term, 1, Integer::sum);
+            }
+            frequencies.add(counts);
+            counts.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        }
+        Map<String, Integer> termIds = new HashMap<>();
+        reviewIds = new long[documents.size()];
+        companies = new int[documents.size()];
+        terms = new int[documents.size()][];
+        weights = new float[documents.size()][];
+        for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+            reviewIds[ordinal] = documents.get(ordinal).id();
+            companies[ordinal] = (int) (documents.get(ordinal).id() % 500);
+            Map<String, Integer> counts = frequencies.get(ordinal);
+            long[] packed = new long[counts.size()];
+            double norm = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                double idf = Math.log((documents.size() + 1.0) / (documentFrequencies.get(entry.getKey()) + 1.0)) + 1;
+                float weight = (float) ((1 + Math.log(entry.getValue())) * idf);
+                int term = termIds.computeIfAbsent(entry.getKey(), key -> termIds.size());
+                packed[i++] = (long) term << 32 | Float.floatToIntBits(weight) & 0xFFFFFFFFL;
+                norm += (double) weight * weight;
+            }
+            Arrays.sort(packed);
+            terms[ordinal] = new int[packed.length];
+            weights[ordinal] = new float[packed.length];
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (i = 0; i < packed.length; i++) {
+                terms[ordinal][i] = (int) (packed[i] >>> 32);
+                weights[ordinal][i] = Float.intBitsToFloat((int) packed[i]) * scale;
+            }
+        }
+    }
+
+    private static String text(Random random, String[] vocabulary, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // Cubing skews draws toward low indexes, so a few terms are common and most are rare
+            double draw = random.nextDouble();
+            builder.append(vocabulary[(int) (draw * draw * draw * vocabulary.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.ReviewType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping cost per review/comment, without the repositories (the mappers never touch them).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private ReviewService reviewService;
+    private CommentService commentService;
+    private Review review;
+    private Comment reply;
+
+    @Setup
+    public void setUp() {
+        reviewService = new ReviewService(null, null, null, null, null, null);
+        commentService = new CommentService(null, null, null, null);
+
+        Instant now = Instant.now();
+        review = Review.builder()
+                .id(1L)
+                .reviewType(ReviewType.POSITIVE)
+                .title("Excellent Work Environment")
+                .contentHtml("<p>The company offers great benefits and a supportive team.</p>".repeat(10))
+                .companyName("Incognito Tech")
+                .website("https://incognito.example.com")
+                .dept("Engineering")
+                .role("Software Developer")
+                .workStartDate(now.minusSeconds(86_400 * 365))
+                .totalComments(12)
+                .build();
+        review.setCreatedAt(now);
+        review.setUpdatedAt(now);
+
+        Comment parent = Comment.builder().id(10L).content("Parent").review(review).build();
+        reply = Comment.builder()
+                .id(11L)
+                .content("Thanks for the detailed review!")
+                .review(review)
+                .parent(parent)
+                .commenterName("John Doe")
+                .totalReplies(0)
+                .build();
+        reply.setCreatedAt(now);
+        reply.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public ReviewResponse mapReview() {
+        return reviewService.mapToReviewResponse(review);
+    }
+
+    @Benchmark
+    public CommentResponse mapComment() {
+        return commentService.mapToCommentResponse(reply);
+    }
+}
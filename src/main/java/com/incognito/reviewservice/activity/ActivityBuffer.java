@@ -0,0 +1,155 @@
+package com.incognito.reviewservice.activity;
+
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.repository.DailyActivity;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.resilience.BulkheadRegistry;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts committed {@link ActivityEvent}s in memory per (company, UTC day) and adds them to
+ * {@code review_daily_stats} in one batched upsert per flush interval, and on shutdown.
+ * <p>
+ * Votes on one company's reviews all land on the same day row. Upserting it inside every vote transaction
+ * would queue those votes on its row lock; here each row is written once per interval instead. Counts are
+ * only taken after their transaction commits, so rolled-back work is never counted. Counts of a failed
+ * flush are put back and retried; counts still buffered when the process dies are lost.
+ * <p>
+ * Flushes run in the {@link UseBulkhead#BULK} bulkhead, taken directly since they are scheduled from within the
+ * bean, where the bulkhead aspect does not apply.
+ */
+@Slf4j
+public class ActivityBuffer implements InitializingBean, DisposableBean {
+
+    private static final int TYPES = ActivityType.values().length;
+
+    private final ReviewRepository reviewRepository;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TransactionTemplate transaction;
+    private final ActivityProperties properties;
+    private final Counter flushFailures;
+    // Counts per type in ActivityType order; only read or changed under the map's lock for the key
+    private final Map<Key, int[]> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public ActivityBuffer(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager,
+                          BulkheadRegistry bulkheadRegistry, ActivityProperties properties, MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.flushFailures = Counter.builder("reviewservice.activity.flush.failures")
+                .description("Flushes of the daily activity rollup that failed and will be retried")
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.activity.pending", pending, Map::size)
+                .description("Company days with activity not yet written to the rollup")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.getFlushInterval().isZero()) {
+            flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("activity-flush")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = properties.getFlushInterval().toMillis();
+            flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * {@code fallbackExecution} covers publishers running outside a transaction, which count immediately.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ActivityEvent event) {
+        Key key = new Key(DailyActivity.companyKey(event.companyName()), LocalDate.ofInstant(event.at(), ZoneOffset.UTC));
+        int type = event.type().ordinal();
+        pending.compute(key, (k, counts) -> {
+            int[] updated = counts == null ? new int[TYPES] : counts;
+            updated[type]++;
+            return updated;
+        });
+    }
+
+    /**
+     * Writes everything buffered so far in one transaction; on failure the counts are buffered again.
+     */
+    public synchronized void flush() {
+        List<DailyActivity> rows = new ArrayList<>();
+        for (Key key : pending.keySet()) {
+            // Removal takes the key's lock: no increment can land in the counts once they are ours
+            int[] counts = pending.remove(key);
+            if (counts != null) {
+                rows.add(new DailyActivity(key.companyKey(), key.day(), counts[ActivityType.REVIEW.ordinal()],
+                        counts[ActivityType.COMMENT.ordinal()], counts[ActivityType.LIKE.ordinal()],
+                        counts[ActivityType.DISLIKE.ordinal()]));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            bulkheadRegistry.run(UseBulkhead.BULK,
+                    () -> transaction.executeWithoutResult(status -> reviewRepository.addActivity(rows)));
+        } catch (RuntimeException ex) {
+            rows.forEach(this::restore);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            log.warn("Could not write the daily activity rollup, retrying next time: {}", ex.getMessage());
+        }
+    }
+
+    private void restore(DailyActivity row) {
+        int[] counts = new int[TYPES];
+        counts[ActivityType.REVIEW.ordinal()] = row.reviews();
+        counts[ActivityType.COMMENT.ordinal()] = row.comments();
+        counts[ActivityType.LIKE.ordinal()] = row.likes();
+        counts[ActivityType.DISLIKE.ordinal()] = row.dislikes();
+        pending.merge(new Key(row.companyKey(), row.day()), counts,
+                (current, failed) -> {
+                    for (int type = 0; type < current.length; type++) {
+                        current[type] += failed[type];
+                    }
+                    return current;
+                });
+    }
+
+    private record Key(String companyKey, LocalDate day) {
+    }
+}
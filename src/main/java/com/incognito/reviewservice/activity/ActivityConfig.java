@@ -0,0 +1,24 @@
+package com.incognito.reviewservice.activity;
+
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.resilience.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Always registers {@link ActivityBuffer}: it is the only writer of the daily activity rollup.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ActivityProperties.class)
+public class ActivityConfig {
+
+    @Bean
+    public ActivityBuffer activityBuffer(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager,
+                                         BulkheadRegistry bulkheadRegistry, ActivityProperties properties,
+                                         MeterRegistry meterRegistry) {
+        return new ActivityBuffer(reviewRepository, transactionManager, bulkheadRegistry, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.incognito.reviewservice.activity;
+
+import com.incognito.reviewservice.model.ActivityType;
+
+import java.time.Instant;
+
+/**
+ * One review, comment or vote to count in the daily activity rollup once its transaction commits.
+ *
+ * @param companyName Company as written on the review, {@code null} for none.
+ * @param at          When it happened; counted on its UTC day.
+ */
+public record ActivityEvent(String companyName, ActivityType type, Instant at) {
+}
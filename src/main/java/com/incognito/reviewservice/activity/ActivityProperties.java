@@ -0,0 +1,22 @@
+package com.incognito.reviewservice.activity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Buffering of the daily activity rollup, bound from {@code reviewservice.activity.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.activity")
+public class ActivityProperties {
+
+    /**
+     * How often buffered counts are written to {@code review_daily_stats}; activity charts lag by up to this
+     * long. Zero writes them only on shutdown and through {@link ActivityBuffer#flush()}.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,32 @@
+package com.incognito.reviewservice.analytics;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * What review analytics can be grouped by, named as in the API.
+ */
+public enum AnalyticsDimension {
+    COMPANY("company"),
+    REVIEW_TYPE("reviewType"),
+    STATUS("status"),
+    EMPLOYEE("isEmployee"),
+    // Months from work start to work end, or to the review for current employees, in buckets
+    TENURE("tenure"),
+    // Month the review was created in (UTC), e.g. "2024-05"
+    MONTH("month");
+
+    private final String parameterName;
+
+    AnalyticsDimension(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static Optional<AnalyticsDimension> fromParameterName(String name) {
+        return Arrays.stream(values()).filter(dimension -> dimension.parameterName.equalsIgnoreCase(name)).findFirst();
+    }
+}
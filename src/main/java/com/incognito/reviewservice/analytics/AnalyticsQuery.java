@@ -0,0 +1,22 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * An aggregation over {@link ReviewFactStore}: the dimensions to group by, in order, and filters that every
+ * counted review must match. {@code null} filters are not applied; {@code from} and {@code to} are inclusive.
+ */
+public record AnalyticsQuery(
+        List<AnalyticsDimension> groupBy,
+        String companyName,
+        ReviewType reviewType,
+        ReviewStatus status,
+        Boolean isEmployee,
+        YearMonth from,
+        YearMonth to
+) {
+}
@@ -0,0 +1,109 @@
+package com.incognito.reviewservice.analytics;
+
+/**
+ * Per-group review counts and tenure sums of one aggregation task, keyed by the group's mixed-radix key. Up to
+ * {@link #DENSE_LIMIT} possible groups the key indexes the arrays directly; beyond that the groups actually seen
+ * go into an open-addressing table. Not thread-safe: each task fills its own and the results are merged.
+ */
+final class GroupCounts {
+
+    static final int DENSE_LIMIT = 1 << 14;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final boolean dense;
+    // Sparse only: key + 1 per slot, 0 for an empty one
+    private long[] keys;
+    private long[] reviews;
+    private long[] tenureSums;
+    private long[] withTenure;
+    private int size;
+
+    GroupCounts(long possibleGroups) {
+        dense = possibleGroups <= DENSE_LIMIT;
+        int capacity = dense ? (int) possibleGroups : INITIAL_CAPACITY;
+        keys = dense ? null : new long[capacity];
+        reviews = new long[capacity];
+        tenureSums = new long[capacity];
+        withTenure = new long[capacity];
+    }
+
+    void add(long key, int tenureMonths) {
+        int slot = dense ? (int) key : slot(key);
+        reviews[slot]++;
+        if (tenureMonths >= 0) {
+            tenureSums[slot] += tenureMonths;
+            withTenure[slot]++;
+        }
+    }
+
+    /**
+     * Merges the counts of another task of the same aggregation, which has the same layout.
+     */
+    void addAll(GroupCounts other) {
+        for (int slot = 0; slot < other.reviews.length; slot++) {
+            if (other.reviews[slot] == 0) {
+                continue;
+            }
+            int target = dense ? slot : slot(other.keys[slot] - 1);
+            reviews[target] += other.reviews[slot];
+            tenureSums[target] += other.tenureSums[slot];
+            withTenure[target] += other.withTenure[slot];
+        }
+    }
+
+    void forEach(GroupConsumer consumer) {
+        for (int slot = 0; slot < reviews.length; slot++) {
+            if (reviews[slot] != 0) {
+                consumer.accept(dense ? slot : keys[slot] - 1, reviews[slot], tenureSums[slot], withTenure[slot]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize();
+        }
+        long stored = key + 1;
+        int mask = keys.length - 1;
+        int slot = hash(stored) & mask;
+        while (keys[slot] != 0 && keys[slot] != stored) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            keys[slot] = stored;
+            size++;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldReviews = reviews;
+        long[] oldTenureSums = tenureSums;
+        long[] oldWithTenure = withTenure;
+        keys = new long[oldKeys.length * 2];
+        reviews = new long[oldKeys.length * 2];
+        tenureSums = new long[oldKeys.length * 2];
+        withTenure = new long[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i] - 1);
+                reviews[slot] = oldReviews[i];
+                tenureSums[slot] = oldTenureSums[i];
+                withTenure[slot] = oldWithTenure[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    interface GroupConsumer {
+        void accept(long key, long reviews, long tenureSum, long withTenure);
+    }
+}
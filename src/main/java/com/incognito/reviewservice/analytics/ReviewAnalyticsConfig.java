@@ -0,0 +1,20 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.repository.ReviewTableReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ReviewAnalyticsProperties.class)
+public class ReviewAnalyticsConfig {
+
+    @Bean
+    public ReviewAnalyticsManager reviewAnalyticsManager(ReviewTableReader reviewTableReader, ReviewAnalyticsProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new ReviewAnalyticsManager(reviewTableReader, properties, meterRegistry);
+    }
+}
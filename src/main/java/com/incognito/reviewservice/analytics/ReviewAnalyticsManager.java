@@ -0,0 +1,99 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.repository.ReviewTableReader;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the {@link ReviewFactStore}: streams the {@code reviews} table into it before the application reports
+ * ready, then appends the reviews of {@link ReviewFactEvent}s after their transaction commits. Aggregations never
+ * touch the database and run on a dedicated {@link ForkJoinPool}, so they do not compete with the common pool.
+ */
+@Slf4j
+public class ReviewAnalyticsManager implements ApplicationRunner, DisposableBean {
+
+    private static final String FULL_SCAN = "SELECT " + ReviewFact.COLUMNS + " FROM reviews ORDER BY id";
+
+    private final ReviewTableReader reviewTableReader;
+    private final ReviewAnalyticsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+    private final ReviewFactStore store;
+    // Reviews committed while the table is being read; the scan may or may not have seen them
+    private final List<ReviewFact> pending = new ArrayList<>();
+    private volatile boolean ready;
+
+    public ReviewAnalyticsManager(ReviewTableReader reviewTableReader, ReviewAnalyticsProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.reviewTableReader = reviewTableReader;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(properties.getParallelism());
+        this.store = new ReviewFactStore(pool, properties.getParallelThreshold());
+    }
+
+    @Override
+    @UseBulkhead(UseBulkhead.BULK)
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        reviewTableReader.stream(FULL_SCAN, properties.getFetchSize(), (resultSet, row) -> ReviewFact.read(resultSet), store::append);
+        int loaded = store.size();
+        synchronized (pending) {
+            for (ReviewFact fact : pending) {
+                if (!store.contains(fact.id(), loaded)) {
+                    store.append(fact);
+                }
+            }
+            pending.clear();
+            ready = true;
+        }
+        log.info("Review analytics ready in {} ms: {} reviews, {} companies",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), store.size(), store.companyCount());
+
+        Gauge.builder("reviewservice.analytics.reviews", store, ReviewFactStore::size)
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.analytics.companies", store, ReviewFactStore::companyCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Only committed reviews are counted; {@code fallbackExecution} counts those created outside a transaction
+     * right away. Until the table has been read, they wait in {@code pending}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewFactEvent event) {
+        if (!ready) {
+            synchronized (pending) {
+                if (!ready) {
+                    pending.add(event.fact());
+                    return;
+                }
+            }
+        }
+        store.append(event.fact());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public ReviewFactStore.Result aggregate(AnalyticsQuery query, int limit) {
+        return store.aggregate(query, limit);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.incognito.reviewservice.analytics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-memory review analytics, bound from {@code reviewservice.analytics.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.analytics")
+public class ReviewAnalyticsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Worker threads for aggregations.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Below this many stored reviews an aggregation stays on the request thread, where forking would cost more
+     * than it saves.
+     */
+    private int parallelThreshold = 500_000;
+
+    /**
+     * Rows fetched per round trip while loading the reviews table.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,52 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * The fields of a review that {@link ReviewFactStore} aggregates over.
+ */
+public record ReviewFact(
+        long id,
+        String companyName,
+        ReviewType reviewType,
+        ReviewStatus status,
+        boolean isEmployee,
+        Instant workStartDate,
+        Instant workEndDate,
+        Instant createdAt
+) {
+
+    /**
+     * The {@code reviews} columns {@link #read} expects.
+     */
+    static final String COLUMNS = "id, company_name, review_type, status, is_employee, work_start_date, work_end_date, created_at";
+
+    public static ReviewFact of(Review review) {
+        return new ReviewFact(review.getId(), review.getCompanyName(), review.getReviewType(), review.getStatus(),
+                Boolean.TRUE.equals(review.getIsEmployee()), review.getWorkStartDate(), review.getWorkEndDate(),
+                review.getCreatedAt());
+    }
+
+    static ReviewFact read(ResultSet resultSet) throws SQLException {
+        return new ReviewFact(
+                resultSet.getLong("id"),
+                resultSet.getString("company_name"),
+                ReviewType.valueOf(resultSet.getString("review_type")),
+                ReviewStatus.valueOf(resultSet.getString("status")),
+                resultSet.getBoolean("is_employee"),
+                instant(resultSet.getTimestamp("work_start_date")),
+                instant(resultSet.getTimestamp("work_end_date")),
+                instant(resultSet.getTimestamp("created_at")));
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -0,0 +1,8 @@
+package com.incognito.reviewservice.analytics;
+
+/**
+ * Published inside the transaction that created a review; the fact store appends it once that transaction
+ * commits.
+ */
+public record ReviewFactEvent(ReviewFact fact) {
+}
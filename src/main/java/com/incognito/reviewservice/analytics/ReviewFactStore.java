@@ -0,0 +1,465 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Review facts in columns: one primitive array per field, indexed by row, with company names
+ * dictionary-encoded (ignoring case and surrounding blanks, shown as first seen) and tenure and creation month precomputed.
+ * Rows are only appended.
+ * <p>
+ * An aggregation filters and groups rows a batch of {@value #BATCH_SIZE} at a time: each filter narrows a
+ * selection vector of row numbers with one tight loop over its column, then each grouping dimension adds its
+ * code times a stride to the selected rows' keys, and the keys are counted. Above {@code parallelThreshold} rows
+ * the row range is split across a {@link ForkJoinPool} and the per-task counts are merged.
+ * <p>
+ * Appends take a write lock. An aggregation only takes the read lock to capture the row count and the column
+ * arrays: rows below that count never change, and growing copies into new arrays, so it scans without the lock.
+ */
+public class ReviewFactStore {
+
+    static final int BATCH_SIZE = 1024;
+    static final String UNKNOWN_TENURE = "unknown";
+    // Upper bounds in months of the tenure buckets before the last, open-ended one
+    static final int[] TENURE_BOUNDS = {12, 24, 60};
+    static final String[] TENURE_LABELS = {"<1y", "1-2y", "2-5y", "5y+", UNKNOWN_TENURE};
+
+    private static final int SPLIT_SIZE = 1 << 18;
+    private static final int NO_COMPANY = 0;
+    private static final ReviewType[] REVIEW_TYPES = ReviewType.values();
+    private static final ReviewStatus[] STATUSES = ReviewStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> companyCodes = new HashMap<>();
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    // Code 0 stands for reviews without a company
+    private String[] companyNames = new String[64];
+    private int companyCount = 1;
+    private long[] ids;
+    private int[] companies;
+    private byte[] reviewTypes;
+    private byte[] statuses;
+    private boolean[] employees;
+    // Whole months, -1 when the review has no work start date
+    private short[] tenureMonths;
+    // Months since January 1970 (UTC)
+    private int[] createdMonths;
+    private int size;
+    private int minMonth = Integer.MAX_VALUE;
+    private int maxMonth = Integer.MIN_VALUE;
+
+    public ReviewFactStore(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        allocate(1024);
+    }
+
+    public void append(ReviewFact fact) {
+        lock.writeLock().lock();
+        try {
+            if (size == ids.length) {
+                allocate(size * 2);
+            }
+            Instant createdAt = fact.createdAt() == null ? Instant.now() : fact.createdAt();
+            int month = epochMonth(createdAt);
+            ids[size] = fact.id();
+            companies[size] = companyCode(fact.companyName());
+            reviewTypes[size] = (byte) fact.reviewType().ordinal();
+            statuses[size] = (byte) fact.status().ordinal();
+            employees[size] = fact.isEmployee();
+            tenureMonths[size] = tenureMonths(fact, createdAt);
+            createdMonths[size] = month;
+            minMonth = Math.min(minMonth, month);
+            maxMonth = Math.max(maxMonth, month);
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the review is among the first {@code sortedRows} rows, which must be in ascending id order (as a
+     * load ordered by id leaves them).
+     */
+    public boolean contains(long reviewId, int sortedRows) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(ids, 0, Math.min(sortedRows, size), reviewId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int companyCount() {
+        lock.readLock().lock();
+        try {
+            return companyCount - 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the reviews matching the query per group.
+     *
+     * @param limit Most groups returned, largest first; ties are broken by group key.
+     */
+    public Result aggregate(AnalyticsQuery query, int limit) {
+        Scan scan;
+        lock.readLock().lock();
+        try {
+            scan = plan(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (scan == null) {
+            return new Result(0, 0, List.of());
+        }
+        GroupCounts counts = scan.parallel ? pool.invoke(scan) : scan.compute();
+
+        List<Counted> counted = new ArrayList<>();
+        counts.forEach((key, reviews, tenureSum, withTenure) -> counted.add(new Counted(key, reviews, tenureSum, withTenure)));
+        counted.sort(Comparator.comparingLong(Counted::reviews).reversed().thenComparingLong(Counted::key));
+        long matched = counted.stream().mapToLong(Counted::reviews).sum();
+        List<Group> top = counted.stream()
+                .limit(limit)
+                .map(group -> new Group(scan.labels(group.key()), group.reviews(),
+                        group.withTenure() == 0 ? null : (double) group.tenureSum() / group.withTenure()))
+                .toList();
+        return new Result(matched, counted.size(), top);
+    }
+
+    // Under the read lock: captures the columns and resolves the filters; null when nothing can match
+    private Scan plan(AnalyticsQuery query) {
+        int company = -1;
+        if (StringUtils.hasText(query.companyName())) {
+            Integer code = companyCodes.get(companyKey(query.companyName()));
+            if (code == null) {
+                return null;
+            }
+            company = code;
+        }
+        int monthFrom = query.from() == null ? minMonth : Math.max(minMonth, epochMonth(query.from()));
+        int monthTo = query.to() == null ? maxMonth : Math.min(maxMonth, epochMonth(query.to()));
+        if (size == 0 || monthFrom > monthTo) {
+            return null;
+        }
+
+        List<AnalyticsDimension> dimensions = query.groupBy();
+        int[] cardinalities = new int[dimensions.size()];
+        long[] strides = new long[dimensions.size()];
+        long possibleGroups = 1;
+        for (int d = dimensions.size() - 1; d >= 0; d--) {
+            cardinalities[d] = switch (dimensions.get(d)) {
+                case COMPANY -> companyCount;
+                case REVIEW_TYPE -> REVIEW_TYPES.length;
+                case STATUS -> STATUSES.length;
+                case EMPLOYEE -> 2;
+                case TENURE -> TENURE_LABELS.length;
+                case MONTH -> monthTo - monthFrom + 1;
+            };
+            strides[d] = possibleGroups;
+            possibleGroups *= cardinalities[d];
+        }
+        return new Scan(new Columns(companies, reviewTypes, statuses, employees, tenureMonths, createdMonths,
+                companyNames, minMonth, maxMonth),
+                new Filters(company,
+                        query.reviewType() == null ? -1 : query.reviewType().ordinal(),
+                        query.status() == null ? -1 : query.status().ordinal(),
+                        query.isEmployee() == null ? -1 : query.isEmployee() ? 1 : 0,
+                        monthFrom, monthTo),
+                dimensions.toArray(AnalyticsDimension[]::new), cardinalities, strides, possibleGroups, 0, size,
+                size >= parallelThreshold);
+    }
+
+    private int companyCode(String companyName) {
+        if (companyName == null) {
+            return NO_COMPANY;
+        }
+        String key = companyKey(companyName);
+        Integer code = companyCodes.get(key);
+        if (code != null) {
+            return code;
+        }
+        if (companyCount == companyNames.length) {
+            companyNames = Arrays.copyOf(companyNames, companyCount * 2);
+        }
+        companyNames[companyCount] = companyName;
+        companyCodes.put(key, companyCount);
+        return companyCount++;
+    }
+
+    private static String companyKey(String companyName) {
+        return companyName.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        companies = companies == null ? new int[capacity] : Arrays.copyOf(companies, capacity);
+        reviewTypes = reviewTypes == null ? new byte[capacity] : Arrays.copyOf(reviewTypes, capacity);
+        statuses = statuses == null ? new byte[capacity] : Arrays.copyOf(statuses, capacity);
+        employees = employees == null ? new boolean[capacity] : Arrays.copyOf(employees, capacity);
+        tenureMonths = tenureMonths == null ? new short[capacity] : Arrays.copyOf(tenureMonths, capacity);
+        createdMonths = createdMonths == null ? new int[capacity] : Arrays.copyOf(createdMonths, capacity);
+    }
+
+    // Current employees' tenure runs until the review was written
+    private static short tenureMonths(ReviewFact fact, Instant createdAt) {
+        if (fact.workStartDate() == null) {
+            return -1;
+        }
+        Instant end = fact.workEndDate() == null ? createdAt : fact.workEndDate();
+        long months = ChronoUnit.MONTHS.between(LocalDate.ofInstant(fact.workStartDate(), ZoneOffset.UTC),
+                LocalDate.ofInstant(end, ZoneOffset.UTC));
+        return (short) Math.clamp(months, 0, Short.MAX_VALUE);
+    }
+
+    static int tenureBucket(int tenureMonths) {
+        if (tenureMonths < 0) {
+            return TENURE_LABELS.length - 1;
+        }
+        int bucket = 0;
+        while (bucket < TENURE_BOUNDS.length && tenureMonths >= TENURE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int epochMonth(Instant instant) {
+        return epochMonth(YearMonth.from(instant.atOffset(ZoneOffset.UTC)));
+    }
+
+    private static int epochMonth(YearMonth month) {
+        return (month.getYear() - 1970) * 12 + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth yearMonth(int epochMonth) {
+        return YearMonth.of(1970 + Math.floorDiv(epochMonth, 12), Math.floorMod(epochMonth, 12) + 1);
+    }
+
+    /**
+     * One group: its values in {@code groupBy} order (a {@code null} company for reviews without one), how many
+     * matching reviews it has, and their average tenure in months, {@code null} if none has a work start date.
+     */
+    public record Group(List<String> values, long reviews, Double averageTenureMonths) {
+    }
+
+    /**
+     * @param reviews Matching reviews, over all groups.
+     * @param groups  Number of groups, including those past the limit.
+     * @param top     The largest groups.
+     */
+    public record Result(long reviews, int groups, List<Group> top) {
+    }
+
+    private record Counted(long key, long reviews, long tenureSum, long withTenure) {
+    }
+
+    private record Columns(int[] companies, byte[] reviewTypes, byte[] statuses, boolean[] employees,
+                           short[] tenureMonths, int[] createdMonths, String[] companyNames, int minMonth, int maxMonth) {
+    }
+
+    // -1 for a filter that is not applied
+    private record Filters(int company, int reviewType, int status, int employee, int monthFrom, int monthTo) {
+    }
+
+    private static final class Scan extends RecursiveTask<GroupCounts> {
+        private final Columns columns;
+        private final Filters filters;
+        private final AnalyticsDimension[] dimensions;
+        private final int[] cardinalities;
+        private final long[] strides;
+        private final long possibleGroups;
+        private final int from;
+        private final int to;
+        // Split across the pool; otherwise the whole range is scanned on the calling thread
+        private final boolean parallel;
+
+        Scan(Columns columns, Filters filters, AnalyticsDimension[] dimensions, int[] cardinalities, long[] strides,
+             long possibleGroups, int from, int to, boolean parallel) {
+            this.columns = columns;
+            this.filters = filters;
+            this.dimensions = dimensions;
+            this.cardinalities = cardinalities;
+            this.strides = strides;
+            this.possibleGroups = possibleGroups;
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected GroupCounts compute() {
+            if (parallel && to - from > SPLIT_SIZE) {
+                int middle = (from + to) >>> 1;
+                Scan right = new Scan(columns, filters, dimensions, cardinalities, strides, possibleGroups, middle, to, true);
+                right.fork();
+                GroupCounts counts = new Scan(columns, filters, dimensions, cardinalities, strides, possibleGroups, from, middle, true).compute();
+                counts.addAll(right.join());
+                return counts;
+            }
+            GroupCounts counts = new GroupCounts(possibleGroups);
+            int[] selection = new int[BATCH_SIZE];
+            long[] keys = new long[BATCH_SIZE];
+            for (int start = from; start < to; start += BATCH_SIZE) {
+                int selected = select(start, Math.min(start + BATCH_SIZE, to), selection);
+                Arrays.fill(keys, 0, selected, 0L);
+                for (int d = 0; d < dimensions.length; d++) {
+                    addCodes(dimensions[d], strides[d], selection, selected, keys);
+                }
+                short[] tenure = columns.tenureMonths();
+                for (int i = 0; i < selected; i++) {
+                    counts.add(keys[i], tenure[selection[i]]);
+                }
+            }
+            return counts;
+        }
+
+        // Row numbers in [start, end) passing every filter, into the front of selection; returns how many
+        private int select(int start, int end, int[] selection) {
+            int selected = end - start;
+            for (int i = 0; i < selected; i++) {
+                selection[i] = start + i;
+            }
+            if (filters.company() >= 0) {
+                selected = keepEqual(columns.companies(), filters.company(), selection, selected);
+            }
+            if (filters.reviewType() >= 0) {
+                selected = keepEqual(columns.reviewTypes(), filters.reviewType(), selection, selected);
+            }
+            if (filters.status() >= 0) {
+                selected = keepEqual(columns.statuses(), filters.status(), selection, selected);
+            }
+            if (filters.employee() >= 0) {
+                boolean employee = filters.employee() == 1;
+                boolean[] employees = columns.employees();
+                int kept = 0;
+                for (int i = 0; i < selected; i++) {
+                    int row = selection[i];
+                    if (employees[row] == employee) {
+                        selection[kept++] = row;
+                    }
+                }
+                selected = kept;
+            }
+            if (filters.monthFrom() > columns.minMonth() || filters.monthTo() < columns.maxMonth()) {
+                int[] months = columns.createdMonths();
+                int kept = 0;
+                for (int i = 0; i < selected; i++) {
+                    int row = selection[i];
+                    int month = months[row];
+                    if (month >= filters.monthFrom() && month <= filters.monthTo()) {
+                        selection[kept++] = row;
+                    }
+                }
+                selected = kept;
+            }
+            return selected;
+        }
+
+        private void addCodes(AnalyticsDimension dimension, long stride, int[] selection, int selected, long[] keys) {
+            switch (dimension) {
+                case COMPANY -> {
+                    int[] companies = columns.companies();
+                    for (int i = 0; i < selected; i++) {
+                        keys[i] += companies[selection[i]] * stride;
+                    }
+                }
+                case REVIEW_TYPE -> addCodes(columns.reviewTypes(), stride, selection, selected, keys);
+                case STATUS -> addCodes(columns.statuses(), stride, selection, selected, keys);
+                case EMPLOYEE -> {
+                    boolean[] employees = columns.employees();
+                    for (int i = 0; i < selected; i++) {
+                        if (employees[selection[i]]) {
+                            keys[i] += stride;
+                        }
+                    }
+                }
+                case TENURE -> {
+                    short[] tenure = columns.tenureMonths();
+                    for (int i = 0; i < selected; i++) {
+                        keys[i] += tenureBucket(tenure[selection[i]]) * stride;
+                    }
+                }
+                case MONTH -> {
+                    int[] months = columns.createdMonths();
+                    int monthFrom = filters.monthFrom();
+                    for (int i = 0; i < selected; i++) {
+                        keys[i] += (months[selection[i]] - monthFrom) * stride;
+                    }
+                }
+            }
+        }
+
+        List<String> labels(long key) {
+            List<String> labels = new ArrayList<>(dimensions.length);
+            for (int d = 0; d < dimensions.length; d++) {
+                int code = (int) (key / strides[d] % cardinalities[d]);
+                labels.add(switch (dimensions[d]) {
+                    case COMPANY -> columns.companyNames()[code];
+                    case REVIEW_TYPE -> REVIEW_TYPES[code].name();
+                    case STATUS -> STATUSES[code].name();
+                    case EMPLOYEE -> Boolean.toString(code == 1);
+                    case TENURE -> TENURE_LABELS[code];
+                    case MONTH -> yearMonth(filters.monthFrom() + code).toString();
+                });
+            }
+            return labels;
+        }
+
+        private static int keepEqual(int[] column, int value, int[] selection, int selected) {
+            int kept = 0;
+            for (int i = 0; i < selected; i++) {
+                int row = selection[i];
+                if (column[row] == value) {
+                    selection[kept++] = row;
+                }
+            }
+            return kept;
+        }
+
+        private static int keepEqual(byte[] column, int value, int[] selection, int selected) {
+            int kept = 0;
+            for (int i = 0; i < selected; i++) {
+                int row = selection[i];
+                if (column[row] == value) {
+                    selection[kept++] = row;
+                }
+            }
+            return kept;
+        }
+
+        private static void addCodes(byte[] column, long stride, int[] selection, int selected, long[] keys) {
+            for (int i = 0; i < selected; i++) {
+                keys[i] += column[selection[i]] * stride;
+            }
+        }
+    }
+}
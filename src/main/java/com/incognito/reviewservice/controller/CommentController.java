@@ -2,6 +2,8 @@ package com.incognito.reviewservice.controller;
 
 import com.incognito.reviewservice.dto.CommentCreateRequest;
 import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.resilience.ConcurrencyLimited;
+import com.incognito.reviewservice.resilience.EndpointGroup;
 import com.incognito.reviewservice.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -50,6 +52,7 @@ public class CommentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PostMapping
     public ResponseEntity<CommentResponse> createComment(
             @Parameter(description = "ID of the review to which the comment belongs", required = true, example = "1")
@@ -64,7 +67,7 @@ public class CommentController {
                 .path("/{commentId}") // Appends the comment ID
                 .buildAndExpand(commentResponse.id()) // Populates {commentId}
                 .toUri();
-        log.info("commentResponse: {}", commentResponse);
+        log.debug("Created comment {} on review {}", commentResponse.id(), reviewId);
         return ResponseEntity.created(location).body(commentResponse);
     }
 
@@ -80,6 +83,7 @@ public class CommentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.LIST)
     @GetMapping
     public ResponseEntity<Page<CommentResponse>> getCommentsByReviewId(
             @Parameter(description = "ID of the review whose comments are to be retrieved", required = true, example = "1")
@@ -101,6 +105,7 @@ public class CommentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PutMapping("/{commentId}/like")
     public ResponseEntity<CommentResponse> likeComment(
             @Parameter(description = "ID of the review", required = true, example = "1")
@@ -123,6 +128,7 @@ public class CommentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PutMapping("/{commentId}/dislike")
     public ResponseEntity<CommentResponse> dislikeComment(
             @Parameter(description = "ID of the review", required = true, example = "1")
@@ -146,6 +152,7 @@ public class CommentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.LIST)
     @GetMapping("/{commentId}/replies")
     public ResponseEntity<Page<CommentResponse>> getRepliesOfComment(
             @Parameter(description = "ID of the review", required = true, example = "1")
@@ -1,8 +1,23 @@
 package com.incognito.reviewservice.controller;
 
+import com.incognito.reviewservice.dto.FacetedReviewPageResponse;
+import com.incognito.reviewservice.dto.RelatedReviewsResponse;
+import com.incognito.reviewservice.dto.ReviewActivityResponse;
+import com.incognito.reviewservice.dto.ReviewAnalyticsResponse;
 import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.dto.ReviewHistogramResponse;
 import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResponse;
+import com.incognito.reviewservice.listing.ReviewListing;
+import com.incognito.reviewservice.model.HistogramInterval;
+import com.incognito.reviewservice.model.ReviewStatus;
 import com.incognito.reviewservice.model.ReviewType; // Import ReviewType
+import com.incognito.reviewservice.resilience.ConcurrencyLimited;
+import com.incognito.reviewservice.resilience.EndpointGroup;
+import com.incognito.reviewservice.service.RelatedReviewService;
+import com.incognito.reviewservice.service.ReviewActivityService;
+import com.incognito.reviewservice.service.ReviewAnalyticsService;
 import com.incognito.reviewservice.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,22 +32,37 @@ import org.springdoc.core.annotations.ParameterObject; // For Pageable in Swagge
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page; // Import Page
 import org.springframework.data.domain.Pageable; // Import Pageable
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault; // For default pagination
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/reviews")
 @Tag(name = "Review API", description = "APIs for managing reviews")
 public class ReviewController {
+    static final String QUERY_PLAN_HEADER = "X-Query-Plan";
+
     private final ReviewService reviewService;
+    private final RelatedReviewService relatedReviewService;
+    private final ReviewActivityService reviewActivityService;
+    private final ReviewAnalyticsService reviewAnalyticsService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, RelatedReviewService relatedReviewService,
+                            ReviewActivityService reviewActivityService, ReviewAnalyticsService reviewAnalyticsService) {
         this.reviewService = reviewService;
+        this.relatedReviewService = relatedReviewService;
+        this.reviewActivityService = reviewActivityService;
+        this.reviewAnalyticsService = reviewAnalyticsService;
     }
 
     @Operation(summary = "Create a new review", description = "Creates a new review based on the provided data.")
@@ -47,6 +77,7 @@ public class ReviewController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PostMapping
     public ResponseEntity<ReviewResponse> createReview(@Valid @RequestBody ReviewCreateRequest request) {
         ReviewResponse reviewResponse = reviewService.createReview(request);
@@ -70,6 +101,7 @@ public class ReviewController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.SINGLE_READ)
     @GetMapping("/{id}")
     public ResponseEntity<ReviewResponse> getReviewById(
             @Parameter(description = "ID of the review to be retrieved", required = true, example = "1")
@@ -78,27 +110,226 @@ public class ReviewController {
         return ResponseEntity.ok(reviewResponse);
     }
 
-    @Operation(summary = "Get a list of reviews", description = "Retrieves a paginated list of reviews with optional filters.")
+    @Operation(summary = "Get reviews related to a review", description = "Reviews with the most similar title and content "
+            + "(TF-IDF cosine similarity), from the same company and from others. Served from an in-process index without "
+            + "a database round trip; new reviews appear once their transaction commits.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Related reviews found (the lists may be empty)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = RelatedReviewsResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Review not found, rejected or deleted",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "503", description = "The related-reviews index is disabled or still loading",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.SINGLE_READ)
+    @GetMapping("/{id}/related")
+    public ResponseEntity<RelatedReviewsResponse> getRelatedReviews(
+            @Parameter(description = "ID of the review", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Maximum results per list (max 20)", example = "5")
+            @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(relatedReviewService.getRelatedReviews(id, size));
+    }
+
+    @Operation(summary = "Get a list of reviews", description = "Retrieves a paginated list of reviews matching every given filter. "
+            + "The X-Query-Plan response header names the index expected to narrow the rows and the filters checked on them. "
+            + "Filters and sorts that no index can serve are rejected once the table is large; without filters, "
+            + "totalElements is then the table's estimated row count.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of reviews",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Page.class))), // Note: Schema is Page, items will be ReviewResponse
-            @ApiResponse(responseCode = "400", description = "Invalid filter parameters or pagination settings",
+            @ApiResponse(responseCode = "400", description = "Invalid filter parameters or pagination settings, an empty date range, "
+                    + "or filters, sorts or counts that would need a full table scan",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.LIST)
     @GetMapping
     public ResponseEntity<Page<ReviewResponse>> getReviews(
-            @Parameter(description = "Filter by company name (case-insensitive partial match)", example = "Incognito")
+            @ParameterObject ReviewFilter filter,
+            @ParameterObject @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) { // @ParameterObject for Pageable
+        ReviewListing listing = reviewService.listReviews(filter, pageable);
+        return ResponseEntity.ok()
+                .header(QUERY_PLAN_HEADER, listing.plan().describe())
+                .body(listing.page());
+    }
+
+    @Operation(summary = "Get a list of reviews with facet counts", description = "Retrieves a page of reviews like GET /api/v1/reviews, "
+            + "with the same filters, together with counts of all matching reviews by review type, employee status, department "
+            + "and role. The counts come from a single GROUPING SETS query, whatever the number of facets, and are reused for "
+            + "30 seconds by default. Filters that no index narrows are rejected once the table is large.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved reviews and facet counts",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = FacetedReviewPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown facet, invalid filter parameters or pagination settings, "
+                    + "an empty date range, or filters that would need counting the whole table",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.LIST)
+    @GetMapping("/faceted")
+    public ResponseEntity<FacetedReviewPageResponse> getFacetedReviews(
+            @ParameterObject ReviewFilter filter,
+            @Parameter(description = "Facets to count: reviewType, isEmployee, dept, role (default: all)", example = "reviewType,dept")
+            @RequestParam(required = false) List<String> facets,
+            @ParameterObject @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(reviewService.getFacetedReviews(filter, facets, pageable));
+    }
+
+    @Operation(summary = "Get review activity over time", description = "Reviews created, comments and review likes and dislikes "
+            + "per day, week or month (UTC) of a company, or of all companies, for dashboards. Read from a daily rollup kept "
+            + "current by every write; likes and dislikes are counted from the introduction of the rollup on.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Activity retrieved (buckets without activity are left out)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReviewActivityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Hourly interval, empty range or range over 1830 days",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.LIST)
+    @GetMapping("/activity")
+    public ResponseEntity<ReviewActivityResponse> getActivity(
+            @Parameter(description = "Company name (case-insensitive exact match); all companies when absent", example = "Incognito Tech")
             @RequestParam(required = false) String companyName,
-            @Parameter(description = "Filter by review type", schema = @Schema(implementation = ReviewType.class))
+            @Parameter(description = "Bucket width: DAY, WEEK or MONTH (default: DAY)", schema = @Schema(implementation = HistogramInterval.class))
+            @RequestParam(required = false) HistogramInterval interval,
+            @Parameter(description = "First day (default: 90 days before 'to')", example = "2023-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Day after the last one (default: tomorrow)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reviewActivityService.getActivity(companyName, interval, from, to));
+    }
+
+    @Operation(summary = "Get a histogram of created reviews", description = "Reviews created per hour, day, week or month (UTC), "
+            + "counted from the reviews themselves, so exact up to the current second. Ranges are limited to 92 days; "
+            + "use GET /api/v1/reviews/activity for longer ones.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Histogram retrieved (buckets without reviews are left out)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReviewHistogramResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty range or range over 92 days",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.LIST)
+    @GetMapping("/histogram")
+    public ResponseEntity<ReviewHistogramResponse> getHistogram(
+            @Parameter(description = "Company name (case-insensitive exact match); all companies when absent", example = "Incognito Tech")
+            @RequestParam(required = false) String companyName,
+            @Parameter(description = "Bucket width (default: HOUR)", schema = @Schema(implementation = HistogramInterval.class))
+            @RequestParam(required = false) HistogramInterval interval,
+            @Parameter(description = "Start of the range (default: 7 days before 'to')", example = "2024-06-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the range, exclusive (default: now)", example = "2024-06-08T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return ResponseEntity.ok(reviewActivityService.getHistogram(companyName, interval, from, to));
+    }
+
+    @Operation(summary = "Aggregate reviews", description = "Counts reviews, and the average tenure of their reviewers, grouped by "
+            + "any of company, reviewType, status, isEmployee, tenure and month. Served from an in-process columnar store "
+            + "without a database round trip; new reviews are counted once their transaction commits.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aggregation completed (the groups may be empty)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReviewAnalyticsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown or repeated dimension, or 'from' after 'to'",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "503", description = "The analytics store is disabled or still loading",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.LIST)
+    @GetMapping("/analytics")
+    public ResponseEntity<ReviewAnalyticsResponse> getAnalytics(
+            @Parameter(description = "Dimensions to group by, in order: company, reviewType, status, isEmployee, tenure, month "
+                    + "(default: none, one group)", example = "company,month")
+            @RequestParam(required = false) List<String> groupBy,
+            @Parameter(description = "Company name (case-insensitive exact match)", example = "Incognito Tech")
+            @RequestParam(required = false) String companyName,
+            @Parameter(description = "Review type", schema = @Schema(implementation = ReviewType.class))
             @RequestParam(required = false) ReviewType reviewType,
-            @ParameterObject @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) { // @ParameterObject for Pageable
-        Page<ReviewResponse> reviewPage = reviewService.getReviews(companyName, reviewType, pageable);
-        return ResponseEntity.ok(reviewPage);
+            @Parameter(description = "Review status", schema = @Schema(implementation = ReviewStatus.class))
+            @RequestParam(required = false) ReviewStatus status,
+            @Parameter(description = "Whether the reviewer is an employee", example = "true")
+            @RequestParam(required = false) Boolean isEmployee,
+            @Parameter(description = "First month, inclusive (UTC)", example = "2024-01")
+            @RequestParam(required = false) YearMonth from,
+            @Parameter(description = "Last month, inclusive (UTC)", example = "2024-12")
+            @RequestParam(required = false) YearMonth to,
+            @Parameter(description = "Most groups returned, largest first (max 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(reviewAnalyticsService.getAnalytics(groupBy, companyName, reviewType, status, isEmployee,
+                from, to, limit));
+    }
+
+    @Operation(summary = "Search reviews", description = "Full-text search over review titles and content, ranked by relevance, likes and recency. "
+            + "Pages are keyset-based: pass the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReviewSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Blank or overlong query, or invalid cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.LIST)
+    @GetMapping("/search")
+    public ResponseEntity<ReviewSearchResponse> searchReviews(
+            @Parameter(description = "Search terms; supports \"quoted phrases\", OR and -exclusions", required = true, example = "great benefits")
+            @RequestParam String q,
+            @Parameter(description = "nextCursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(reviewService.searchReviews(q, cursor, size));
+    }
+
+    @Operation(summary = "Search reviews in memory", description = "BM25 search over review titles, content and company names, "
+            + "served from an in-process index without a database round trip. Returns one page without snippets or like counts; "
+            + "while the index is disabled or loading, the first page of the database search is returned instead.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReviewSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Blank or overlong query",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = Object.class)))
+    })
+    @ConcurrencyLimited(EndpointGroup.SINGLE_READ)
+    @GetMapping("/search/instant")
+    public ResponseEntity<ReviewSearchResponse> searchReviewsInstant(
+            @Parameter(description = "Search terms; any of them may match", required = true, example = "great benefits")
+            @RequestParam String q,
+            @Parameter(description = "Number of results (max 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        ReviewSearchResponse response = reviewService.searchIndex(q, size)
+                .orElseGet(() -> reviewService.searchReviews(q, null, size));
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Increment the like count of a review", description = "Increments the like counter for the specified review by one.")
@@ -113,6 +344,7 @@ public class ReviewController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PutMapping("/{reviewId}/like")
     public ResponseEntity<ReviewResponse> likeReview(
             @Parameter(description = "ID of the review to be liked", required = true, example = "1")
@@ -133,6 +365,7 @@ public class ReviewController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = Object.class)))
     })
+    @ConcurrencyLimited(EndpointGroup.WRITE)
     @PutMapping("/{reviewId}/dislike")
     public ResponseEntity<ReviewResponse> dislikeReview(
             @Parameter(description = "ID of the review to be disliked", required = true, example = "1")
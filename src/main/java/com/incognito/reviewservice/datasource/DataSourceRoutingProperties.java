@@ -0,0 +1,55 @@
+package com.incognito.reviewservice.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to PostgreSQL read replicas.
+ * Bound from {@code reviewservice.datasource.routing.*} in {@code application.properties}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Enables the routing datasource. When false the single {@code spring.datasource} pool is used for everything.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replica pools that read-only transactions are spread across (round-robin).
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How often each replica is probed for availability and replication lag.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Replicas lagging further behind the primary than this are taken out of rotation until they catch up.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(2);
+
+    /**
+     * How long a client that just wrote (voted, commented, reviewed) is pinned to the primary. Zero disables it.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        // Username and password fall back to spring.datasource.* when not set
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
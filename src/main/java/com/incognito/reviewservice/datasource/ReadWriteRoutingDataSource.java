@@ -0,0 +1,134 @@
+package com.incognito.reviewservice.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica (round-robin) and everything else to the primary.
+ * <p>
+ * The lookup key is resolved when the first connection of a transaction is requested, so this must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the
+ * transaction manager fetches the connection before the read-only flag is bound to the thread.
+ * Replicas are probed on a fixed interval and dropped from rotation while unreachable or lagging more
+ * than the configured maximum. With no healthy replica, reads fall back to the primary.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // Zero when the node is not a standby or has replayed everything it received
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+            END""";
+
+    private final List<ReplicaTarget> replicas;
+    private final Duration maxReplicationLag;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaTarget> replicas,
+                                      Duration maxReplicationLag, Duration healthCheckInterval) {
+        this.replicas = List.copyOf(replicas);
+        this.maxReplicationLag = maxReplicationLag;
+        this.healthCheckInterval = healthCheckInterval;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaTarget candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return candidate.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!replicas.isEmpty() && !healthCheckInterval.isZero()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("replica-health-check")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            boolean wasHealthy = replica.isHealthy();
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                Duration lag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+                if (lag.compareTo(maxReplicationLag) > 0) {
+                    replica.markUnhealthy();
+                    if (wasHealthy) {
+                        log.warn("Replica {} is lagging {} behind primary; routing its reads to other nodes", replica.getName(), lag);
+                    }
+                } else {
+                    replica.markHealthy(lag);
+                    if (!wasHealthy) {
+                        log.info("Replica {} is back in rotation (lag {})", replica.getName(), lag);
+                    }
+                }
+            } catch (Exception ex) {
+                replica.markUnhealthy();
+                if (wasHealthy) {
+                    log.warn("Replica {} failed its health check: {}", replica.getName(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        // The primary is a bean in its own right and is closed by the container
+        for (ReplicaTarget replica : replicas) {
+            try {
+                if (replica.getDataSource().isWrapperFor(AutoCloseable.class)) {
+                    replica.getDataSource().unwrap(AutoCloseable.class).close();
+                }
+            } catch (Exception ex) {
+                log.warn("Failed to close replica pool {}: {}", replica.getName(), ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.incognito.reviewservice.datasource;
+
+/**
+ * Holds, for the current request thread, whether reads must go to the primary because the client wrote recently.
+ * Populated by {@link ReadYourWritesFilter} and consulted by {@link ReadWriteRoutingDataSource}.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
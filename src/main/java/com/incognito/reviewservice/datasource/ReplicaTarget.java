@@ -0,0 +1,32 @@
+package com.incognito.reviewservice.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * A replica pool together with its last observed health, as maintained by {@link ReadWriteRoutingDataSource}.
+ */
+@Getter
+public class ReplicaTarget {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaTarget(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void markHealthy(Duration observedLag) {
+        this.lag = observedLag;
+        this.healthy = true;
+    }
+
+    void markUnhealthy() {
+        this.healthy = false;
+    }
+}
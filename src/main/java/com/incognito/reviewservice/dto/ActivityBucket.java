@@ -0,0 +1,24 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Reviews, comments and review votes of one bucket of days.")
+public record ActivityBucket(
+    @Schema(description = "First day of the bucket (UTC).", example = "2024-06-03")
+    LocalDate start,
+
+    @Schema(description = "Reviews created.", example = "12")
+    long reviews,
+
+    @Schema(description = "Comments created on the company's reviews.", example = "30")
+    long comments,
+
+    @Schema(description = "Likes given to the company's reviews.", example = "85")
+    long likes,
+
+    @Schema(description = "Dislikes given to the company's reviews.", example = "9")
+    long dislikes
+) {
+}
@@ -0,0 +1,20 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Reviews of one combination of the grouped-by values.")
+public record AnalyticsGroup(
+    @Schema(description = "Value of each grouped-by dimension; a null company stands for reviews without one.",
+            example = "{\"company\": \"Incognito Tech\", \"month\": \"2024-05\"}")
+    Map<String, String> values,
+
+    @Schema(description = "Number of matching reviews in the group.", example = "42")
+    long reviews,
+
+    @Schema(description = "Average tenure in months of the group's reviewers with a work start date; absent if none has one.",
+            example = "27.5", nullable = true)
+    Double averageTenureMonths
+) {
+}
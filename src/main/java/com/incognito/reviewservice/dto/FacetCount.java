@@ -0,0 +1,13 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How many reviews of a listing have a given facet value.")
+public record FacetCount(
+    @Schema(description = "The value as text; absent for reviews without one.", example = "Engineering", nullable = true)
+    String value,
+
+    @Schema(description = "Number of matching reviews with this value.", example = "42")
+    long count
+) {
+}
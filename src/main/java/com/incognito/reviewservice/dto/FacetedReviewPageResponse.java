@@ -0,0 +1,29 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "One page of reviews with counts of the whole filtered listing by facet.")
+public record FacetedReviewPageResponse(
+    @Schema(description = "Reviews on this page.")
+    List<ReviewResponse> content,
+
+    @Schema(description = "Zero-based page number.", example = "0")
+    int page,
+
+    @Schema(description = "Requested page size.", example = "10")
+    int size,
+
+    @Schema(description = "Number of reviews matching the filter.", example = "137")
+    long totalElements,
+
+    @Schema(description = "Number of pages.", example = "14")
+    int totalPages,
+
+    @Schema(description = "Per requested facet (reviewType, isEmployee, dept, role), its most frequent values with counts, most frequent first.",
+            example = "{\"reviewType\": [{\"value\": \"POSITIVE\", \"count\": 90}, {\"value\": \"NEGATIVE\", \"count\": 47}]}")
+    Map<String, List<FacetCount>> facets
+) {
+}
@@ -0,0 +1,15 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Reviews created in one bucket of time.")
+public record HistogramBucket(
+    @Schema(description = "Start of the bucket.", example = "2024-06-03T14:00:00Z")
+    Instant start,
+
+    @Schema(description = "Reviews created.", example = "4")
+    long reviews
+) {
+}
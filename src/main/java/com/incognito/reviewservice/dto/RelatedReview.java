@@ -0,0 +1,28 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.ReviewType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "A review worded similarly to another one.")
+public record RelatedReview(
+    @Schema(description = "Unique identifier of the review.", example = "7")
+    Long id,
+
+    @Schema(description = "Type of the review.", example = "COMPANY_REVIEW")
+    ReviewType reviewType,
+
+    @Schema(description = "Title of the review.", example = "Great benefits, slow promotions")
+    String title,
+
+    @Schema(description = "Name of the company being reviewed.", example = "Incognito Tech")
+    String companyName,
+
+    @Schema(description = "Timestamp of when the review was created.", example = "2023-10-27T10:30:00Z")
+    Instant createdAt,
+
+    @Schema(description = "Cosine similarity of the TF-IDF vectors of title and content, from 0 to 1.", example = "0.62")
+    double similarity
+) {
+}
@@ -0,0 +1,18 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Reviews similar to a given review, split by company.")
+public record RelatedReviewsResponse(
+    @Schema(description = "The review the others are related to.", example = "1")
+    Long reviewId,
+
+    @Schema(description = "Similar reviews of the same company, most similar first.")
+    List<RelatedReview> sameCompany,
+
+    @Schema(description = "Similar reviews of other companies, most similar first.")
+    List<RelatedReview> otherCompanies
+) {
+}
@@ -0,0 +1,19 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.HistogramInterval;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Daily activity of a company, or of all companies, summed per bucket.")
+public record ReviewActivityResponse(
+    @Schema(description = "The company requested; absent for all companies.", example = "Incognito Tech", nullable = true)
+    String companyName,
+
+    @Schema(description = "Bucket width.", example = "WEEK")
+    HistogramInterval interval,
+
+    @Schema(description = "Buckets with any activity, oldest first.")
+    List<ActivityBucket> buckets
+) {
+}
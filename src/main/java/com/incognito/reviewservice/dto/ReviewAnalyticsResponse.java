@@ -0,0 +1,21 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Review counts grouped by the requested dimensions.")
+public record ReviewAnalyticsResponse(
+    @Schema(description = "The dimensions grouped by, in order.", example = "[\"company\", \"month\"]")
+    List<String> groupBy,
+
+    @Schema(description = "Matching reviews over all groups.", example = "1234")
+    long reviews,
+
+    @Schema(description = "Number of groups, including those past the limit.", example = "87")
+    int groups,
+
+    @Schema(description = "The largest groups, largest first.")
+    List<AnalyticsGroup> top
+) {
+}
@@ -0,0 +1,81 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional filters of the review listing, bound from query parameters; every filter given must match.
+ */
+@Schema(description = "Filters of the review listing. All given filters must match.")
+public record ReviewFilter(
+    @Schema(description = "Company name, case-insensitive partial match.", example = "Incognito")
+    String companyName,
+
+    @Schema(description = "Review type.")
+    ReviewType reviewType,
+
+    @Schema(description = "Review status.")
+    ReviewStatus status,
+
+    @Schema(description = "Whether the reviewer is an employee.", example = "true")
+    Boolean isEmployee,
+
+    @Schema(description = "Department, exact match.", example = "Engineering")
+    String dept,
+
+    @Schema(description = "Role, exact match.", example = "Software Developer")
+    String role,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Reviews created at or after this instant.", example = "2024-01-01T00:00:00Z")
+    Instant createdFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Reviews created before this instant.", example = "2025-01-01T00:00:00Z")
+    Instant createdTo,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Reviewers still working at the company at or after this instant.", example = "2023-01-01T00:00:00Z")
+    Instant workedFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Reviewers who started working at the company before this instant.", example = "2024-01-01T00:00:00Z")
+    Instant workedTo
+) {
+    public static final ReviewFilter NONE = new ReviewFilter(null, null, null, null, null, null, null, null, null, null);
+
+    public static ReviewFilter of(String companyName, ReviewType reviewType) {
+        return new ReviewFilter(companyName, reviewType, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Names of the filters given, in declaration order; blank strings count as absent.
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(4);
+        addIf(names, StringUtils.hasText(companyName), "companyName");
+        addIf(names, reviewType != null, "reviewType");
+        addIf(names, status != null, "status");
+        addIf(names, isEmployee != null, "isEmployee");
+        addIf(names, StringUtils.hasText(dept), "dept");
+        addIf(names, StringUtils.hasText(role), "role");
+        addIf(names, createdFrom != null, "createdFrom");
+        addIf(names, createdTo != null, "createdTo");
+        addIf(names, workedFrom != null, "workedFrom");
+        addIf(names, workedTo != null, "workedTo");
+        return names;
+    }
+
+    private static void addIf(List<String> names, boolean present, String name) {
+        if (present) {
+            names.add(name);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.HistogramInterval;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Reviews created per bucket, counted from the reviews themselves.")
+public record ReviewHistogramResponse(
+    @Schema(description = "The company requested; absent for all companies.", example = "Incognito Tech", nullable = true)
+    String companyName,
+
+    @Schema(description = "Bucket width.", example = "HOUR")
+    HistogramInterval interval,
+
+    @Schema(description = "Buckets with any reviews, oldest first.")
+    List<HistogramBucket> buckets
+) {
+}
@@ -0,0 +1,15 @@
+package com.incognito.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of full-text search results.")
+public record ReviewSearchResponse(
+    @Schema(description = "Matching reviews, best first.")
+    List<ReviewSearchResult> results,
+
+    @Schema(description = "Opaque token for the next page; absent on the last page.", nullable = true)
+    String nextCursor
+) {
+}
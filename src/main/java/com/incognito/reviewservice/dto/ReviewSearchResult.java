@@ -0,0 +1,36 @@
+package com.incognito.reviewservice.dto;
+
+import com.incognito.reviewservice.model.ReviewType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "A review matching a full-text search, with its score and a highlighted excerpt.")
+public record ReviewSearchResult(
+    @Schema(description = "Unique identifier of the review.", example = "1")
+    Long id,
+
+    @Schema(description = "Type of the review.", example = "COMPANY_REVIEW")
+    ReviewType reviewType,
+
+    @Schema(description = "Title of the review.", example = "Excellent Work Environment")
+    String title,
+
+    @Schema(description = "Name of the company being reviewed.", example = "Incognito Tech")
+    String companyName,
+
+    @Schema(description = "Number of likes the review has received. Absent from instant search results.", example = "10", nullable = true)
+    Integer likeCount,
+
+    @Schema(description = "Timestamp of when the review was created.", example = "2023-10-27T10:30:00Z")
+    Instant createdAt,
+
+    @Schema(description = "Relevance score combining text rank, likes and recency. Only comparable within one search.", example = "0.4213")
+    double score,
+
+    @Schema(description = "Excerpt of the content with HTML tags removed and matched terms wrapped in <mark>. Absent from instant search results.",
+            nullable = true,
+            example = "The company offers great <mark>benefits</mark> and a supportive team.")
+    String snippet
+) {
+}
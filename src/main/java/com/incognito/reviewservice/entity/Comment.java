@@ -3,6 +3,7 @@ package com.incognito.reviewservice.entity;
 import com.incognito.reviewservice.model.CommentStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Formula;
@@ -70,13 +71,19 @@ public class Comment extends BaseEntity {
     @ColumnDefault("'ACTIVE'")
     private CommentStatus status = CommentStatus.ACTIVE;
 
+    // Why the comment was held for moderation (status PENDING); null if nothing was detected
+    @Size(max = 255)
+    @Column(name = "moderation_reason")
+    private String moderationReason;
+
     @Builder.Default
     @ColumnDefault("'Anonymous'")
     @Column(name = "commenter_name", length = 100)
     // @Size(max = 100) // Example
     private String commenterName = "Anonymous";
 
-    @Formula("(SELECT COUNT(*) FROM comments r WHERE r.parent_id = id)")
+    // Only replies that getRepliesOfComment lists; held and hidden ones are not public
+    @Formula("(SELECT COUNT(*) FROM comments r WHERE r.parent_id = id AND r.status = 'ACTIVE')")
     private Integer totalReplies;
 
     /**
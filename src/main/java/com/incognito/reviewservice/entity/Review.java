@@ -23,7 +23,7 @@ import java.util.List;
 @ToString(exclude = {"comments", "contentHtml"}) // Added
 @Entity
 @Table(name = "reviews", indexes = {
-        @Index(name = "idx_reviews_status", columnList = "status"),
+        @Index(name = "idx_reviews_status_created", columnList = "status, created_at DESC"),
         @Index(name = "idx_reviews_review_type", columnList = "review_type"),
         @Index(name = "idx_reviews_company_name", columnList = "company_name"),
         @Index(name = "idx_reviews_created_at", columnList = "created_at")
@@ -67,6 +67,11 @@ public class Review extends BaseEntity {
     @ColumnDefault("'PENDING'")
     private ReviewStatus status = ReviewStatus.PENDING;
 
+    // Why the review was held for moderation (e.g. near-duplicate of another review); null if nothing was detected
+    @Size(max = 255)
+    @Column(name = "moderation_reason")
+    private String moderationReason;
+
     @Builder.Default
     @Column(name = "is_employee", nullable = false)
     @ColumnDefault("false")
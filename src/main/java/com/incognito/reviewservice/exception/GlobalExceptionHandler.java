@@ -1,11 +1,14 @@
 package com.incognito.reviewservice.exception;
 
     import lombok.extern.slf4j.Slf4j;
+    import org.springframework.dao.QueryTimeoutException;
     import org.springframework.http.HttpHeaders;
     import org.springframework.http.HttpStatus;
     import org.springframework.http.HttpStatusCode;
     import org.springframework.http.ResponseEntity;
     import org.springframework.http.converter.HttpMessageNotReadableException;
+    import org.springframework.transaction.CannotCreateTransactionException;
+    import org.springframework.transaction.TransactionTimedOutException;
     import org.springframework.validation.FieldError;
     import org.springframework.web.bind.MethodArgumentNotValidException;
     import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -61,6 +64,73 @@ package com.incognito.reviewservice.exception;
             return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
         }
 
+        // A bulkhead's queue-wait budget was exceeded; tell the client to back off briefly
+        @ExceptionHandler(BulkheadFullException.class)
+        public ResponseEntity<Object> handleBulkheadFullException(
+                BulkheadFullException ex, WebRequest request) {
+            log.warn("Bulkhead '{}' rejected request: {}", ex.getBulkhead(), ex.getMessage());
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+            body.put("error", "Too Many Requests");
+            body.put("message", ex.getMessage());
+            body.put("path", request.getDescription(false).replace("uri=", ""));
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return new ResponseEntity<>(body, headers, HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        // The request's deadline ran out: before a transaction could start, while waiting for a
+        // connection, or PostgreSQL cancelled the running statement
+        @ExceptionHandler({DeadlineExceededException.class, TransactionTimedOutException.class,
+                QueryTimeoutException.class, jakarta.persistence.QueryTimeoutException.class})
+        public ResponseEntity<Object> handleDeadlineExceeded(
+                Exception ex, WebRequest request) {
+            log.warn("Request deadline exceeded: {}", ex.getMessage());
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.GATEWAY_TIMEOUT.value());
+            body.put("error", "Deadline Exceeded");
+            body.put("message", "The request could not be completed within its time budget.");
+            body.put("path", request.getDescription(false).replace("uri=", ""));
+            return new ResponseEntity<>(body, HttpStatus.GATEWAY_TIMEOUT);
+        }
+
+        // No transaction could be opened; a deadline hit while acquiring the connection is still a 504
+        @ExceptionHandler(CannotCreateTransactionException.class)
+        public ResponseEntity<Object> handleCannotCreateTransaction(
+                CannotCreateTransactionException ex, WebRequest request) {
+            for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof DeadlineExceededException) {
+                    return handleDeadlineExceeded(ex, request);
+                }
+            }
+            log.error("Could not open a database transaction: {}", ex.getMessage(), ex);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+            body.put("error", "Service Unavailable");
+            body.put("message", "The database is temporarily unavailable. Please try again later.");
+            body.put("path", request.getDescription(false).replace("uri=", ""));
+            return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        // Shed by the adaptive concurrency limiter before any work was done
+        @ExceptionHandler(ServiceOverloadedException.class)
+        public ResponseEntity<Object> handleServiceOverloadedException(
+                ServiceOverloadedException ex, WebRequest request) {
+            log.debug("Request shed: {}", ex.getMessage());
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+            body.put("error", "Service Unavailable");
+            body.put("message", ex.getMessage());
+            body.put("path", request.getDescription(false).replace("uri=", ""));
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()));
+            return new ResponseEntity<>(body, headers, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
         // Generic fallback handler for other exceptions
         @ExceptionHandler(Exception.class)
         public ResponseEntity<Object> handleAllOtherExceptions(
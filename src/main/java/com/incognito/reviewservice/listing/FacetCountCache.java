@@ -0,0 +1,92 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.model.ReviewFacet;
+import com.incognito.reviewservice.observability.FacetCountCacheEvent;
+import com.incognito.reviewservice.repository.ReviewFacetRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Facet counts per filter and facet combination, reused for {@link ReviewListingProperties#getFacetCacheTtl()}.
+ * Counting aggregates every matching review, so a popular company's landing page would otherwise read all of its
+ * reviews on every request. Concurrent misses on one key may both count; either result is kept.
+ * <p>
+ * Each cached lookup emits a {@link FacetCountCacheEvent} with its key, hit or miss, and the counting time.
+ */
+public class FacetCountCache {
+
+    private final ReviewListingProperties properties;
+    private final LongSupplier nanoClock;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public FacetCountCache(ReviewListingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    FacetCountCache(ReviewListingProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.hits = Counter.builder("reviewservice.listing.facet.cache")
+                .description("Facet count lookups by whether cached counts were reused")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("reviewservice.listing.facet.cache")
+                .description("Facet count lookups by whether cached counts were reused")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached counts of the filter and facets, or those of {@code counter}, which are then cached.
+     */
+    public List<ReviewFacetRow> get(ReviewFilter filter, Set<ReviewFacet> facets, Supplier<List<ReviewFacetRow>> counter) {
+        long ttlNanos = properties.getFacetCacheTtl().toNanos();
+        if (ttlNanos <= 0) {
+            return counter.get();
+        }
+        FacetCountCacheEvent event = new FacetCountCacheEvent();
+        event.begin();
+        Key key = new Key(filter, Set.copyOf(facets));
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.countedAtNanos() < ttlNanos) {
+            hits.increment();
+            complete(event, key, true, 0);
+            return entry.rows();
+        }
+        misses.increment();
+        long loadStart = System.nanoTime();
+        List<ReviewFacetRow> rows = List.copyOf(counter.get());
+        complete(event, key, false, System.nanoTime() - loadStart);
+        if (entries.size() >= properties.getFacetCacheMaxEntries()) {
+            entries.values().removeIf(expired -> now - expired.countedAtNanos() >= ttlNanos);
+        }
+        if (entry != null || entries.size() < properties.getFacetCacheMaxEntries()) {
+            entries.put(key, new Entry(rows, now));
+        }
+        return rows;
+    }
+
+    private static void complete(FacetCountCacheEvent event, Key key, boolean hit, long loaderNanos) {
+        if (event.isEnabled()) {
+            String shape = key.filter().names().isEmpty() ? "none" : String.join("+", key.filter().names());
+            event.complete(shape, key.toString(), hit, loaderNanos);
+        }
+    }
+
+    private record Key(ReviewFilter filter, Set<ReviewFacet> facets) {
+    }
+
+    private record Entry(List<ReviewFacetRow> rows, long countedAtNanos) {
+    }
+}
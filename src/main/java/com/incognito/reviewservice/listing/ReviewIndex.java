@@ -0,0 +1,42 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Indexes that can drive a filtered review listing (V2, V6 and the baseline schema), most selective first.
+ * Each one narrows the rows to read by the filters it covers; the other filters are checked on those rows.
+ */
+public enum ReviewIndex {
+    // Trigrams need at least three characters to narrow anything down
+    COMPANY_NAME("idx_reviews_company_name_trgm", List.of("companyName"),
+            filter -> StringUtils.hasText(filter.companyName()) && filter.companyName().length() >= 3),
+    DEPT_ROLE("idx_reviews_dept_role_created", List.of("dept", "role"), filter -> StringUtils.hasText(filter.dept())),
+    ROLE("idx_reviews_role_created", List.of("role"), filter -> StringUtils.hasText(filter.role())),
+    CREATED_AT("idx_reviews_created_at", List.of("createdFrom", "createdTo"),
+            filter -> filter.createdFrom() != null || filter.createdTo() != null),
+    STATUS("idx_reviews_status_created", List.of("status"), filter -> filter.status() != null),
+    REVIEW_TYPE("idx_reviews_type_created", List.of("reviewType"), filter -> filter.reviewType() != null),
+    // Partial index: only employees' reviews are in it
+    EMPLOYEE("idx_reviews_employee_created", List.of("isEmployee"), filter -> Boolean.TRUE.equals(filter.isEmployee()));
+
+    @Getter
+    private final String indexName;
+    @Getter
+    private final List<String> coveredFilters;
+    private final Predicate<ReviewFilter> applies;
+
+    ReviewIndex(String indexName, List<String> coveredFilters, Predicate<ReviewFilter> applies) {
+        this.indexName = indexName;
+        this.coveredFilters = coveredFilters;
+        this.applies = applies;
+    }
+
+    public boolean appliesTo(ReviewFilter filter) {
+        return applies.test(filter);
+    }
+}
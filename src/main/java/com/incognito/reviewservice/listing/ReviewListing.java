@@ -0,0 +1,10 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewResponse;
+import org.springframework.data.domain.Page;
+
+/**
+ * A page of the review listing together with the plan it was queried with.
+ */
+public record ReviewListing(Page<ReviewResponse> page, ReviewQueryPlan plan) {
+}
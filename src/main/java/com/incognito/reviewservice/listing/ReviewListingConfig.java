@@ -0,0 +1,23 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.repository.ReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReviewListingProperties.class)
+public class ReviewListingConfig {
+
+    @Bean
+    public SequentialScanGuard sequentialScanGuard(ReviewRepository reviewRepository, ReviewListingProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new SequentialScanGuard(reviewRepository::estimateRowCount, properties, meterRegistry);
+    }
+
+    @Bean
+    public FacetCountCache facetCountCache(ReviewListingProperties properties, MeterRegistry meterRegistry) {
+        return new FacetCountCache(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.incognito.reviewservice.listing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Guard against review listings that no index can serve, and caching of their facet counts, bound from
+ * {@code reviewservice.listing.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.listing")
+public class ReviewListingProperties {
+
+    /**
+     * Filters and sorts that no index can serve are rejected once the reviews table holds more rows than this
+     * (by the planner's estimate), and unfiltered listings report the estimate instead of counting. Negative
+     * allows them at any size.
+     */
+    private long sequentialScanRowLimit = 100_000;
+
+    /**
+     * How long a row estimate is reused before it is read again from {@code pg_class}.
+     */
+    private Duration rowEstimateRefresh = Duration.ofMinutes(5);
+
+    /**
+     * How long facet counts of one filter combination are reused; counts may be this much older than the page
+     * they come with. Zero counts on every request.
+     */
+    private Duration facetCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Filter and facet combinations whose counts are kept at most; counts of further ones are not cached until
+     * entries expire.
+     */
+    private int facetCacheMaxEntries = 1000;
+}
@@ -0,0 +1,122 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How a review listing is expected to run: the {@link ReviewIndex} that narrows the rows, or {@code null} when no
+ * index applies and PostgreSQL has to read the whole table, and the filters checked on the rows it returns.
+ * <p>
+ * Every driving index returns rows by {@code created_at}, so a page sorted by it can stop early. Any other sort
+ * reads and sorts every row the index returns; unless the index narrows them by a filter, that is the whole
+ * table, and the listing is planned as a sequential scan. PostgreSQL still makes the final choice; the listing
+ * query templates ({@code ReviewListingRepository}) write their predicates so that the chosen index is usable.
+ */
+public record ReviewQueryPlan(ReviewFilter filter, Sort sort, ReviewIndex index, List<String> residualFilters) {
+
+    /**
+     * The plan for counting or aggregating the listing, where the order does not matter.
+     */
+    public static ReviewQueryPlan of(ReviewFilter filter) {
+        return of(filter, Sort.unsorted());
+    }
+
+    public static ReviewQueryPlan of(ReviewFilter filter, Sort sort) {
+        requireOrdered(filter.createdFrom(), filter.createdTo(), "createdFrom", "createdTo");
+        requireOrdered(filter.workedFrom(), filter.workedTo(), "workedFrom", "workedTo");
+        ReviewQueryPlan plan = byFilters(filter, sort);
+        if (!plan.followsIndexOrder() && !plan.narrowsRows()) {
+            return new ReviewQueryPlan(filter, sort, null, List.copyOf(filter.names()));
+        }
+        return plan;
+    }
+
+    private static ReviewQueryPlan byFilters(ReviewFilter filter, Sort sort) {
+        List<String> names = filter.names();
+        if (names.isEmpty()) {
+            // Newest first over the whole table: walk the created_at index and stop after one page
+            return new ReviewQueryPlan(filter, sort, ReviewIndex.CREATED_AT, List.of());
+        }
+        for (ReviewIndex index : ReviewIndex.values()) {
+            if (index.appliesTo(filter)) {
+                List<String> residual = new ArrayList<>(names);
+                residual.removeAll(index.getCoveredFilters());
+                return new ReviewQueryPlan(filter, sort, index, List.copyOf(residual));
+            }
+        }
+        if (StringUtils.hasText(filter.companyName())) {
+            // Too short for trigrams: walk newest first and stop after a page. Only the page is bounded; the
+            // count behind it still reads every row (see SequentialScanGuard#check)
+            return new ReviewQueryPlan(filter, sort, ReviewIndex.CREATED_AT, List.copyOf(names));
+        }
+        return new ReviewQueryPlan(filter, sort, null, List.copyOf(names));
+    }
+
+    public boolean isSequentialScan() {
+        return index == null;
+    }
+
+    /**
+     * Whether the driving index narrows the rows by a filter, rather than only returning them newest first. A page
+     * can stop early either way; aggregates over the whole listing, like facet counts, read every row it returns.
+     */
+    public boolean narrowsRows() {
+        return index != null && (index != ReviewIndex.CREATED_AT
+                || filter.createdFrom() != null || filter.createdTo() != null);
+    }
+
+    /**
+     * Whether rows come out of the driving index in the requested order: unsorted, or by {@code createdAt} alone
+     * in either direction (indexes are read backwards as well).
+     */
+    public boolean followsIndexOrder() {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.getFirst().getProperty().equals("createdAt")
+                && !orders.getFirst().isIgnoreCase();
+    }
+
+    /**
+     * Filters present, joined with '+', or "none"; for metrics and recordings grouped by query shape.
+     */
+    public String filterShape() {
+        List<String> names = filter.names();
+        return names.isEmpty() ? "none" : String.join("+", names);
+    }
+
+    /**
+     * Value of the {@code X-Query-Plan} response header, e.g.
+     * {@code index=idx_reviews_dept_role_created; filtered=isEmployee,workedFrom; sorted=likeCount}.
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder(index == null ? "seqscan" : "index=" + index.getIndexName());
+        if (!residualFilters.isEmpty()) {
+            description.append("; filtered=").append(String.join(",", residualFilters));
+        }
+        if (!followsIndexOrder()) {
+            description.append("; sorted=").append(sortedBy());
+        }
+        return description.toString();
+    }
+
+    /**
+     * Attributes the listing is sorted by, joined with ','; for messages and the plan header.
+     */
+    public String sortedBy() {
+        return String.join(",", sort.stream().map(Sort.Order::getProperty).toList());
+    }
+
+    private static void requireOrdered(Instant from, Instant to, String fromName, String toName) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException(fromName + " must be before " + toName);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rejects review listings, and facet counts over them, that would read the whole reviews table once it is large.
+ * That covers the page, its sort and the count behind it. Plans whose index narrows the rows pass without any
+ * work; for the others the table size comes from the planner's estimate, read at most once per
+ * {@link ReviewListingProperties#getRowEstimateRefresh() refresh interval}.
+ */
+public class SequentialScanGuard {
+
+    private final LongSupplier rowEstimate;
+    private final ReviewListingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Racing refreshes both read the estimate; either result will do
+    private volatile long estimatedRows;
+    private volatile long estimatedAtNanos;
+    private volatile boolean estimated;
+
+    public SequentialScanGuard(LongSupplier rowEstimate, ReviewListingProperties properties, MeterRegistry meterRegistry) {
+        this.rowEstimate = rowEstimate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Checks a listing page and the count that gives its total. A plan that only bounds the page, such as
+     * walking {@code created_at} newest first, still counts every row on each page: without filters, the table's
+     * row estimate stands in for that count; with filters, the listing is rejected like {@link #checkAggregate}.
+     *
+     * @return The estimated total to report instead of counting, or empty to count the matching rows.
+     * @throws BadRequestException if the page or its count reads the whole table and the table is over the
+     *                             configured limit.
+     */
+    public OptionalLong check(ReviewQueryPlan plan) {
+        long limit = properties.getSequentialScanRowLimit();
+        if (plan.narrowsRows() || limit < 0) {
+            return OptionalLong.empty();
+        }
+        long rows = estimatedRows();
+        if (rows <= limit) {
+            return OptionalLong.empty();
+        }
+        if (plan.isSequentialScan()) {
+            String reads = plan.residualFilters().isEmpty() ? "would read"
+                    : "filtered by " + String.join(", ", plan.residualFilters()) + " alone would read";
+            String sorts = plan.followsIndexOrder() ? "Listing reviews " : "Sorting reviews by " + plan.sortedBy() + " ";
+            reject(plan, sorts + reads + " all ~" + rows + " reviews; add companyName (3+ characters), dept, "
+                    + "role, createdFrom/createdTo, status, reviewType or isEmployee=true"
+                    + (plan.followsIndexOrder() ? "" : ", or sort by createdAt"));
+        }
+        if (!plan.filter().names().isEmpty()) {
+            reject(plan, "Counting reviews filtered by " + String.join(", ", plan.filter().names())
+                    + " alone would read all ~" + rows + " reviews on every page; add companyName (3+ characters), "
+                    + "dept, role, createdFrom/createdTo, status, reviewType or isEmployee=true");
+        }
+        return OptionalLong.of(rows);
+    }
+
+    /**
+     * Checks a query that aggregates every row of the listing, such as facet counts. These cannot stop after a
+     * page, so only plans whose index narrows the rows pass once the table is large.
+     *
+     * @throws BadRequestException if no index narrows the rows and the table is over the configured limit.
+     */
+    public void checkAggregate(ReviewQueryPlan plan) {
+        long limit = properties.getSequentialScanRowLimit();
+        if (plan.narrowsRows() || limit < 0) {
+            return;
+        }
+        long rows = estimatedRows();
+        if (rows > limit) {
+            String filters = plan.filter().names().isEmpty()
+                    ? "without filters" : "filtered by " + String.join(", ", plan.filter().names()) + " alone";
+            reject(plan, "Counting facets " + filters + " would aggregate all ~" + rows + " reviews; add "
+                    + "companyName (3+ characters), dept, role, createdFrom/createdTo, status, reviewType or "
+                    + "isEmployee=true");
+        }
+    }
+
+    private void reject(ReviewQueryPlan plan, String message) {
+        Counter.builder("reviewservice.listing.rejected")
+                .tag("filters", plan.filterShape())
+                .register(meterRegistry)
+                .increment();
+        throw new BadRequestException(message);
+    }
+
+    private long estimatedRows() {
+        long now = System.nanoTime();
+        if (!estimated || now - estimatedAtNanos >= properties.getRowEstimateRefresh().toNanos()) {
+            estimatedRows = rowEstimate.getAsLong();
+            estimatedAtNanos = now;
+            estimated = true;
+        }
+        return estimatedRows;
+    }
+}
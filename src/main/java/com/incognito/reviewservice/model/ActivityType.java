@@ -0,0 +1,11 @@
+package com.incognito.reviewservice.model;
+
+/**
+ * What a row of the daily activity rollup counts; each one is a column of {@code review_daily_stats}.
+ */
+public enum ActivityType {
+    REVIEW,
+    COMMENT,
+    LIKE,
+    DISLIKE
+}
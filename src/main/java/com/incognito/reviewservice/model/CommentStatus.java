@@ -2,6 +2,7 @@ package com.incognito.reviewservice.model;
 
 public enum CommentStatus {
     ACTIVE,
+    PENDING,
     HIDDEN,
     DELETED
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.incognito.reviewservice.model;
+
+import java.util.Locale;
+
+/**
+ * Bucket width of a review time-series; each one is a PostgreSQL {@code date_trunc} field, in UTC. Weeks start
+ * on Monday.
+ */
+public enum HistogramInterval {
+    HOUR,
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * The {@code date_trunc} field name, e.g. "week".
+     */
+    public String field() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+package com.incognito.reviewservice.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Review fields that listings can be counted by, named as in the API.
+ */
+public enum ReviewFacet {
+    REVIEW_TYPE("reviewType"),
+    IS_EMPLOYEE("isEmployee"),
+    DEPT("dept"),
+    ROLE("role");
+
+    private final String parameterName;
+
+    ReviewFacet(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static Optional<ReviewFacet> fromParameterName(String name) {
+        return Arrays.stream(values()).filter(facet -> facet.parameterName.equalsIgnoreCase(name)).findFirst();
+    }
+}
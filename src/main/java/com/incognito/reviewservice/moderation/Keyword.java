@@ -0,0 +1,43 @@
+package com.incognito.reviewservice.moderation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A screened term and the action it triggers. Terms match case-insensitively and only as whole words, so
+ * "spam" does not match "spammed" and "ass" does not match "class".
+ */
+record Keyword(String term, ModerationAction action) {
+
+    /**
+     * Parses the moderators' list: one term per line, optionally followed by {@code | hide} (default: hold).
+     * Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @throws IllegalArgumentException on an unknown action, naming the line.
+     */
+    static List<Keyword> parse(List<String> lines) {
+        List<Keyword> keywords = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.lastIndexOf('|');
+            String term = (separator < 0 ? line : line.substring(0, separator)).strip().toLowerCase(Locale.ROOT);
+            ModerationAction action = ModerationAction.HOLD;
+            if (separator >= 0) {
+                String name = line.substring(separator + 1).strip().toUpperCase(Locale.ROOT);
+                try {
+                    action = ModerationAction.valueOf(name);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("Line " + (i + 1) + ": unknown action '" + name + "', expected hold or hide", ex);
+                }
+            }
+            if (!term.isEmpty() && action != ModerationAction.PASS) {
+                keywords.add(new Keyword(term, action));
+            }
+        }
+        return keywords;
+    }
+}
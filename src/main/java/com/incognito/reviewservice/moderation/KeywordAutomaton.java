@@ -0,0 +1,164 @@
+package com.incognito.reviewservice.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over a keyword list: one pass over the text finds every keyword occurrence, however
+ * many keywords there are. Immutable once compiled, so scans need no locking.
+ * <p>
+ * Transitions are stored per state as sorted label/target arrays (binary-searched), failure links point to the
+ * longest proper suffix that is also a prefix of some keyword, and output links chain the states whose
+ * keyword is a suffix of the current match.
+ */
+final class KeywordAutomaton {
+
+    static final KeywordAutomaton EMPTY = compile(List.of());
+
+    private final List<Keyword> keywords;
+    private final int[] transitionStart;
+    private final char[] transitionLabels;
+    private final int[] transitionTargets;
+    private final int[] failure;
+    private final int[] keywordAt;
+    private final int[] outputLink;
+
+    private KeywordAutomaton(List<Keyword> keywords, int[] transitionStart, char[] transitionLabels, int[] transitionTargets,
+                             int[] failure, int[] keywordAt, int[] outputLink) {
+        this.keywords = keywords;
+        this.transitionStart = transitionStart;
+        this.transitionLabels = transitionLabels;
+        this.transitionTargets = transitionTargets;
+        this.failure = failure;
+        this.keywordAt = keywordAt;
+        this.outputLink = outputLink;
+    }
+
+    static KeywordAutomaton compile(List<Keyword> keywords) {
+        // Trie with sorted children while building; flattened into arrays below
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> keywordAtState = new ArrayList<>();
+        children.add(new TreeMap<>());
+        keywordAtState.add(-1);
+        List<Keyword> unique = new ArrayList<>();
+        for (Keyword keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.term().length(); i++) {
+                char label = keyword.term().charAt(i);
+                Integer next = children.get(state).get(label);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(label, next);
+                    children.add(new TreeMap<>());
+                    keywordAtState.add(-1);
+                }
+                state = next;
+            }
+            int existing = keywordAtState.get(state);
+            if (existing < 0) {
+                keywordAtState.set(state, unique.size());
+                unique.add(keyword);
+            } else if (keyword.action().compareTo(unique.get(existing).action()) > 0) {
+                // Listed twice: the stricter action wins
+                unique.set(existing, keyword);
+            }
+        }
+
+        int states = children.size();
+        int[] transitionStart = new int[states + 1];
+        for (int state = 0; state < states; state++) {
+            transitionStart[state + 1] = transitionStart[state] + children.get(state).size();
+        }
+        char[] transitionLabels = new char[transitionStart[states]];
+        int[] transitionTargets = new int[transitionStart[states]];
+        for (int state = 0; state < states; state++) {
+            int slot = transitionStart[state];
+            for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+                transitionLabels[slot] = child.getKey();
+                transitionTargets[slot++] = child.getValue();
+            }
+        }
+
+        int[] keywordAt = keywordAtState.stream().mapToInt(Integer::intValue).toArray();
+        int[] failure = new int[states];
+        int[] outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        KeywordAutomaton automaton = new KeywordAutomaton(List.copyOf(unique), transitionStart, transitionLabels,
+                transitionTargets, failure, keywordAt, outputLink);
+
+        // Breadth-first, so a state's failure target is always finished before the state itself
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int slot = transitionStart[0]; slot < transitionStart[1]; slot++) {
+            queue.add(transitionTargets[slot]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int slot = transitionStart[state]; slot < transitionStart[state + 1]; slot++) {
+                char label = transitionLabels[slot];
+                int child = transitionTargets[slot];
+                int fallback = failure[state];
+                while (fallback != 0 && automaton.transition(fallback, label) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = automaton.transition(fallback, label);
+                failure[child] = target < 0 ? 0 : target;
+                outputLink[child] = keywordAt[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    int size() {
+        return keywords.size();
+    }
+
+    /**
+     * Scans {@code text} once and returns the whole-word match with the most severe action (the first one among
+     * equals), or {@code null}. Stops early at the first {@link ModerationAction#HIDE} match.
+     */
+    Match findMostSevere(String text) {
+        if (keywords.isEmpty() || text == null) {
+            return null;
+        }
+        Match best = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char label = Character.toLowerCase(text.charAt(i));
+            int next = transition(state, label);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(state, label);
+            }
+            state = next < 0 ? 0 : next;
+            for (int output = keywordAt[state] >= 0 ? state : outputLink[state]; output >= 0; output = outputLink[output]) {
+                Keyword keyword = keywords.get(keywordAt[output]);
+                int start = i - keyword.term().length() + 1;
+                if (isWholeWord(text, start, i + 1) && (best == null || keyword.action().compareTo(best.keyword().action()) > 0)) {
+                    best = new Match(keyword, start);
+                    if (keyword.action() == ModerationAction.HIDE) {
+                        return best;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private int transition(int state, char label) {
+        int slot = Arrays.binarySearch(transitionLabels, transitionStart[state], transitionStart[state + 1], label);
+        return slot < 0 ? -1 : transitionTargets[slot];
+    }
+
+    private static boolean isWholeWord(String text, int start, int end) {
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    record Match(Keyword keyword, int start) {
+    }
+}
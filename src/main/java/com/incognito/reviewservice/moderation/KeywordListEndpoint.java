@@ -0,0 +1,37 @@
+package com.incognito.reviewservice.moderation;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/moderationkeywords}: the keyword list in use; POST reloads it from disk right away.
+ */
+@Endpoint(id = "moderationkeywords")
+public class KeywordListEndpoint {
+
+    private final KeywordScreener keywordScreener;
+
+    public KeywordListEndpoint(KeywordScreener keywordScreener) {
+        this.keywordScreener = keywordScreener;
+    }
+
+    @ReadOperation
+    public Map<String, Object> keywords() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("path", keywordScreener.getPath() == null ? null : keywordScreener.getPath().toString());
+        body.put("keywords", keywordScreener.getKeywordCount());
+        body.put("loadedAt", keywordScreener.getLoadedAt());
+        body.put("lastError", keywordScreener.getLastError());
+        return body;
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        keywordScreener.reload();
+        return keywords();
+    }
+}
@@ -0,0 +1,130 @@
+package com.incognito.reviewservice.moderation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Screens text against the moderators' keyword list, compiled into a {@link KeywordAutomaton}. The file is
+ * checked for changes on a fixed interval (or reloaded on demand) and the new automaton is swapped in atomically.
+ * A list that fails to load or parse leaves the previous one in place.
+ */
+@Slf4j
+public class KeywordScreener implements InitializingBean, DisposableBean {
+
+    private final Path path;
+    private final Duration reloadInterval;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile KeywordAutomaton automaton = KeywordAutomaton.EMPTY;
+    private volatile FileTime loadedModifiedTime;
+    private volatile Instant loadedAt;
+    private volatile String lastError;
+    private ScheduledExecutorService reloader;
+
+    public KeywordScreener(Path path, Duration reloadInterval) {
+        this.path = path;
+        this.reloadInterval = reloadInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (path == null) {
+            return;
+        }
+        reload();
+        if (!reloadInterval.isZero()) {
+            reloader = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("moderation-keyword-reload")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = reloadInterval.toMillis();
+            reloader.scheduleWithFixedDelay(this::reloadIfModified, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The most severe keyword match in {@code text}, or {@code null}.
+     */
+    KeywordAutomaton.Match screen(String text) {
+        return automaton.findMostSevere(text);
+    }
+
+    /**
+     * Re-reads and recompiles the keyword file.
+     *
+     * @return {@code true} if the new list is in use.
+     */
+    public boolean reload() {
+        if (path == null) {
+            return false;
+        }
+        reloadLock.lock();
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            List<Keyword> keywords = Keyword.parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+            automaton = KeywordAutomaton.compile(keywords);
+            loadedModifiedTime = modifiedTime;
+            loadedAt = Instant.now();
+            lastError = null;
+            log.info("Loaded {} moderation keywords from {}", automaton.size(), path);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            lastError = ex.getMessage();
+            log.warn("Could not load moderation keywords from {}, keeping the previous {}: {}", path, automaton.size(), ex.getMessage());
+            return false;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Package-private for tests
+    void install(KeywordAutomaton automaton) {
+        this.automaton = automaton;
+    }
+
+    void reloadIfModified() {
+        try {
+            if (!Files.getLastModifiedTime(path).equals(loadedModifiedTime)) {
+                reload();
+            }
+        } catch (IOException | RuntimeException ex) {
+            lastError = ex.getMessage();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getKeywordCount() {
+        return automaton.size();
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
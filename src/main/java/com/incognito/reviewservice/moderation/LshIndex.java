@@ -0,0 +1,124 @@
+package com.incognito.reviewservice.moderation;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locality-sensitive hashing over {@link MinHasher} signatures. Each signature is cut into {@value #BANDS} bands of
+ * {@value #ROWS} values, and items sharing any whole band land in the same bucket. A pair with similarity s
+ * becomes a candidate with probability {@code 1 - (1 - s^8)^8}: about 99% at 0.9 and 4% at 0.5.
+ * <p>
+ * A lookup probes one bucket per band and compares at most {@value #MAX_CANDIDATES_PER_BUCKET} of the newest items
+ * in each, so its cost does not grow with the index. Items expire after the horizon, and the oldest are
+ * evicted beyond {@code maxEntries}. Items must be added in time order.
+ */
+final class LshIndex {
+
+    static final int BANDS = 8;
+    static final int ROWS = MinHasher.NUM_HASHES / BANDS;
+    static final int MAX_CANDIDATES_PER_BUCKET = 32;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, ArrayDeque<Entry>> buckets = new HashMap<>();
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final long horizonMillis;
+    private final int maxEntries;
+
+    LshIndex(long horizonMillis, int maxEntries) {
+        this.horizonMillis = horizonMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return The most similar indexed item at or above {@code threshold}, or {@code null}.
+     */
+    Match findMostSimilar(int[] signature, double threshold, long nowMillis) {
+        lock.lock();
+        try {
+            evictExpired(nowMillis);
+            Match best = null;
+            for (int band = 0; band < BANDS; band++) {
+                ArrayDeque<Entry> bucket = buckets.get(bandKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                Iterator<Entry> newestFirst = bucket.descendingIterator();
+                for (int checked = 0; checked < MAX_CANDIDATES_PER_BUCKET && newestFirst.hasNext(); checked++) {
+                    Entry candidate = newestFirst.next();
+                    double similarity = MinHasher.similarity(signature, candidate.signature());
+                    if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                        best = new Match(candidate.id(), similarity);
+                    }
+                }
+            }
+            return best;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void add(long id, int[] signature, long addedAtMillis) {
+        lock.lock();
+        try {
+            evictExpired(addedAtMillis);
+            while (entries.size() >= maxEntries) {
+                evictOldest();
+            }
+            Entry entry = new Entry(id, signature, addedAtMillis);
+            entries.addLast(entry);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), key -> new ArrayDeque<>()).addLast(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(long nowMillis) {
+        long cutoff = nowMillis - horizonMillis;
+        while (!entries.isEmpty() && entries.peekFirst().addedAtMillis() < cutoff) {
+            evictOldest();
+        }
+    }
+
+    // The oldest entry is also the oldest in each of its buckets, so removal is from the head
+    private void evictOldest() {
+        Entry oldest = entries.pollFirst();
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(oldest.signature(), band);
+            ArrayDeque<Entry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.removeFirstOccurrence(oldest);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band + 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x100000001B3L ^ signature[row];
+        }
+        return MinHasher.mix(key);
+    }
+
+    private record Entry(long id, int[] signature, long addedAtMillis) {
+    }
+
+    record Match(long id, double similarity) {
+    }
+}
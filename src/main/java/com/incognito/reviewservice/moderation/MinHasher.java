@@ -0,0 +1,104 @@
+package com.incognito.reviewservice.moderation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over character 5-gram shingles of normalized text. The fraction of equal positions in two
+ * signatures estimates the Jaccard similarity of their shingle sets. A small edit changes only the few shingles
+ * that overlap it, so lightly edited copies keep a high similarity.
+ */
+final class MinHasher {
+
+    static final int NUM_HASHES = 64;
+    static final int SHINGLE_LENGTH = 5;
+    // Long texts are compared on their beginning; enough to tell copies apart at bounded cost
+    static final int MAX_TEXT_LENGTH = 10_000;
+
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(NUM_HASHES).toArray();
+
+    private MinHasher() {
+    }
+
+    /**
+     * Lower-cases, drops HTML tags, and collapses everything that is not a letter or digit into single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(Math.min(text.length(), MAX_TEXT_LENGTH));
+        boolean inTag = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length() && normalized.length() < MAX_TEXT_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (inTag) {
+                inTag = c != '>';
+            } else if (c == '<') {
+                inTag = true;
+                pendingSpace = true;
+            } else if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    static int wordCount(String normalized) {
+        if (normalized.isEmpty()) {
+            return 0;
+        }
+        int words = 1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    static int[] signature(String normalized) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(normalized.length() - SHINGLE_LENGTH + 1, 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int i = start; i < Math.min(start + SHINGLE_LENGTH, normalized.length()); i++) {
+                shingle = shingle * 31 + normalized.charAt(i);
+            }
+            for (int k = 0; k < NUM_HASHES; k++) {
+                int value = (int) (mix(shingle ^ SEEDS[k]) >>> 32);
+                if (value < signature[k]) {
+                    signature[k] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    // Murmur3 finalizer
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
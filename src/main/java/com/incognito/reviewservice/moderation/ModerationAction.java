@@ -0,0 +1,23 @@
+package com.incognito.reviewservice.moderation;
+
+/**
+ * What to do with new content, in increasing severity.
+ */
+public enum ModerationAction {
+    /**
+     * Publish as usual.
+     */
+    PASS,
+    /**
+     * Hold for a moderator: reviews and comments are saved as PENDING.
+     */
+    HOLD,
+    /**
+     * Keep out of sight: comments are saved as HIDDEN; reviews, which have no hidden state, as PENDING.
+     */
+    HIDE;
+
+    ModerationAction atLeast(ModerationAction other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+}
@@ -0,0 +1,35 @@
+package com.incognito.reviewservice.moderation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Always registers {@link ModerationService}, since the services depend on it; with
+ * {@code reviewservice.moderation.enabled=false} it passes everything.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ModerationProperties.class)
+public class ModerationConfig {
+
+    @Bean
+    public KeywordScreener keywordScreener(ModerationProperties properties) {
+        return new KeywordScreener(properties.getKeywordListPath(), properties.getKeywordListReloadInterval());
+    }
+
+    @Bean
+    public ModerationService moderationService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                               ModerationProperties properties, KeywordScreener keywordScreener,
+                                               MeterRegistry meterRegistry) {
+        return new ModerationService(dataSource, transactionManager, properties, keywordScreener, meterRegistry);
+    }
+
+    @Bean
+    public KeywordListEndpoint keywordListEndpoint(KeywordScreener keywordScreener) {
+        return new KeywordListEndpoint(keywordScreener);
+    }
+}
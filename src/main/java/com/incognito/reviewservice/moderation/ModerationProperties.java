@@ -0,0 +1,49 @@
+package com.incognito.reviewservice.moderation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Screening of new reviews and comments (near-duplicates and keywords), bound from {@code reviewservice.moderation.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.moderation")
+public class ModerationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Estimated Jaccard similarity of character shingles at which new content counts as a near-duplicate.
+     */
+    private double similarityThreshold = 0.8;
+
+    /**
+     * How far back new content is compared; older items are dropped from memory.
+     */
+    private Duration horizon = Duration.ofDays(7);
+
+    /**
+     * Upper bound on remembered items per kind (reviews, comments); about 300 bytes each.
+     */
+    private int maxEntries = 200_000;
+
+    /**
+     * Texts with fewer words are not screened, so short replies like "thanks, agreed" are never flagged.
+     */
+    private int minWords = 8;
+
+    /**
+     * Moderators' keyword list (one term per line, optionally {@code | hide}); unset screens no keywords.
+     */
+    private Path keywordListPath;
+
+    /**
+     * How often the keyword list file is checked for changes; zero only loads it at startup and on demand.
+     */
+    private Duration keywordListReloadInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,147 @@
+package com.incognito.reviewservice.moderation;
+
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screens new reviews and comments in two single-pass checks:
+ * <ul>
+ *     <li>terms from the moderators' keyword list, via {@link KeywordScreener}; each term holds or hides the content;</li>
+ *     <li>near-duplicates of content submitted within the horizon, such as partner feeds or spam re-posting the same
+ *     text with small edits. These are held. Signatures of recent content live in one {@link LshIndex} per kind,
+ *     loaded from the database before the application reports ready.</li>
+ * </ul>
+ * The most severe outcome wins; a keyword match is reported in preference to a duplicate.
+ * <p>
+ * Callers screen before saving and record the verdict once the content has an id. Content from a transaction
+ * that later rolls back stays in the index until it expires; at worst a later copy is flagged against a missing id.
+ */
+@Slf4j
+public class ModerationService implements ApplicationRunner {
+
+    static final String REVIEW = "review";
+    static final String COMMENT = "comment";
+
+    private static final String RECENT_REVIEWS =
+            "SELECT id, title, content_html, created_at FROM reviews WHERE created_at >= ? ORDER BY created_at, id";
+    private static final String RECENT_COMMENTS =
+            "SELECT id, content, created_at FROM comments WHERE created_at >= ? ORDER BY created_at, id";
+
+    private final DataSource dataSource;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ModerationProperties properties;
+    private final KeywordScreener keywordScreener;
+    private final MeterRegistry meterRegistry;
+    private final LshIndex reviews;
+    private final LshIndex comments;
+    private final Counter reviewDuplicates;
+    private final Counter commentDuplicates;
+
+    public ModerationService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                             ModerationProperties properties, KeywordScreener keywordScreener, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.keywordScreener = keywordScreener;
+        this.meterRegistry = meterRegistry;
+        this.reviews = new LshIndex(properties.getHorizon().toMillis(), properties.getMaxEntries());
+        this.comments = new LshIndex(properties.getHorizon().toMillis(), properties.getMaxEntries());
+        this.reviewDuplicates = Counter.builder("reviewservice.moderation.duplicates").tag("kind", REVIEW).register(meterRegistry);
+        this.commentDuplicates = Counter.builder("reviewservice.moderation.duplicates").tag("kind", COMMENT).register(meterRegistry);
+        Gauge.builder("reviewservice.moderation.index.entries", reviews, LshIndex::size).tag("kind", REVIEW).register(meterRegistry);
+        Gauge.builder("reviewservice.moderation.index.entries", comments, LshIndex::size).tag("kind", COMMENT).register(meterRegistry);
+    }
+
+    @Override
+    @UseBulkhead(UseBulkhead.BULK)
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Timestamp since = Timestamp.from(Instant.now().minus(properties.getHorizon()));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(1000);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(RECENT_REVIEWS, (RowCallbackHandler) resultSet -> load(reviews, resultSet.getLong("id"),
+                    resultSet.getString("title") + " " + resultSet.getString("content_html"), resultSet.getTimestamp("created_at")), since);
+            jdbcTemplate.query(RECENT_COMMENTS, (RowCallbackHandler) resultSet -> load(comments, resultSet.getLong("id"),
+                    resultSet.getString("content"), resultSet.getTimestamp("created_at")), since);
+        });
+        log.info("Duplicate detection loaded {} reviews and {} comments from the last {} in {} ms", reviews.size(), comments.size(),
+                properties.getHorizon(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public ModerationVerdict screenReview(String title, String content) {
+        return screen(reviews, REVIEW, reviewDuplicates, title + " " + content);
+    }
+
+    public ModerationVerdict screenComment(String content) {
+        return screen(comments, COMMENT, commentDuplicates, content);
+    }
+
+    public void recordReview(Long reviewId, ModerationVerdict verdict) {
+        if (reviewId != null && verdict.signature() != null) {
+            reviews.add(reviewId, verdict.signature(), System.currentTimeMillis());
+        }
+    }
+
+    public void recordComment(Long commentId, ModerationVerdict verdict) {
+        if (commentId != null && verdict.signature() != null) {
+            comments.add(commentId, verdict.signature(), System.currentTimeMillis());
+        }
+    }
+
+    private ModerationVerdict screen(LshIndex index, String kind, Counter duplicates, String text) {
+        if (!properties.isEnabled()) {
+            return ModerationVerdict.CLEAN;
+        }
+        ModerationAction action = ModerationAction.PASS;
+        String reason = null;
+        KeywordAutomaton.Match keyword = keywordScreener.screen(text);
+        if (keyword != null) {
+            action = keyword.keyword().action();
+            reason = "Contains screened term '" + keyword.keyword().term() + "'";
+            meterRegistry.counter("reviewservice.moderation.keyword.matches", "kind", kind,
+                    "action", action.name().toLowerCase(Locale.ROOT)).increment();
+        }
+
+        String normalized = MinHasher.normalize(text);
+        if (MinHasher.wordCount(normalized) < properties.getMinWords()) {
+            return new ModerationVerdict(action, reason, null);
+        }
+        int[] signature = MinHasher.signature(normalized);
+        LshIndex.Match match = index.findMostSimilar(signature, properties.getSimilarityThreshold(), System.currentTimeMillis());
+        if (match != null) {
+            duplicates.increment();
+            action = action.atLeast(ModerationAction.HOLD);
+            if (reason == null) {
+                reason = String.format(Locale.ROOT, "Near-duplicate of %s %d (similarity %.2f)", kind, match.id(), match.similarity());
+            }
+        }
+        return new ModerationVerdict(action, reason, signature);
+    }
+
+    private void load(LshIndex index, long id, String text, Timestamp createdAt) {
+        String normalized = MinHasher.normalize(text);
+        if (MinHasher.wordCount(normalized) >= properties.getMinWords()) {
+            index.add(id, MinHasher.signature(normalized), createdAt.getTime());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.incognito.reviewservice.moderation;
+
+/**
+ * Outcome of screening new content. Pass it back to {@link ModerationService} once the content has an id, so
+ * later submissions are compared against it.
+ *
+ * @param action    What to do with the content.
+ * @param reason    Why it is held or hidden, or {@code null} if nothing was detected.
+ * @param signature MinHash signature of the content; {@code null} when it was too short to compare.
+ */
+public record ModerationVerdict(ModerationAction action, String reason, int[] signature) {
+
+    public static final ModerationVerdict CLEAN = new ModerationVerdict(ModerationAction.PASS, null, null);
+
+    public boolean isFlagged() {
+        return action != ModerationAction.PASS;
+    }
+}
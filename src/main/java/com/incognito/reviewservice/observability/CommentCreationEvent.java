@@ -0,0 +1,35 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("reviewservice.CommentCreation")
+@Label("Comment Creation")
+@Category({"Review Service", "Comments"})
+@Description("Creating a comment or reply on a review")
+@StackTrace(false)
+public final class CommentCreationEvent extends Event {
+
+    @Label("Review Id")
+    long reviewId;
+
+    @Label("Reply")
+    boolean reply;
+
+    @Label("Comment Id")
+    long commentId;
+
+    public void complete(long reviewId, boolean reply, long commentId) {
+        end();
+        if (shouldCommit()) {
+            this.reviewId = reviewId;
+            this.reply = reply;
+            this.commentId = commentId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.incognito.reviewservice.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Resolves the {@code endpoint} metric tag ("GET /api/v1/reviews/{id}") for the request on the current thread.
+ * Uses the matched route pattern, never the raw URI, to keep tag cardinality bounded; warm-up calls are
+ * tagged {@code warmup}.
+ */
+final class EndpointTags {
+
+    static final String NONE = "none";
+
+    private EndpointTags() {
+    }
+
+    static String current() {
+        if (WarmupTraffic.isActive()) {
+            return WarmupTraffic.ENDPOINT;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return of(servletAttributes.getRequest());
+        }
+        return NONE;
+    }
+
+    static String of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? NONE : request.getMethod() + " " + pattern;
+    }
+}
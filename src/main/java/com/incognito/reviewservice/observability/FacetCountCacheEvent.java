@@ -0,0 +1,49 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A facet count lookup in {@code FacetCountCache}. Records the cache key, whether cached counts were reused and,
+ * on a miss, how long counting took, so slow misses can be traced to the filters behind them.
+ */
+@Name("reviewservice.FacetCountCache")
+@Label("Facet Count Cache")
+@Category({"Review Service", "Reviews"})
+@Description("Looking up facet counts, counting them on a miss")
+@StackTrace(false)
+public final class FacetCountCacheEvent extends Event {
+
+    @Label("Filter Shape")
+    @Description("Filters present in the request, e.g. companyName+reviewType, or none")
+    String filterShape;
+
+    @Label("Key")
+    @Description("Filter values and facets the counts are cached under")
+    String key;
+
+    @Label("Hit")
+    @Description("Whether cached counts were reused")
+    boolean hit;
+
+    @Label("Loader Duration")
+    @Description("Time spent counting on a miss; zero on a hit")
+    @Timespan(Timespan.NANOSECONDS)
+    long loaderDuration;
+
+    public void complete(String filterShape, String key, boolean hit, long loaderNanos) {
+        end();
+        if (shouldCommit()) {
+            this.filterShape = filterShape;
+            this.key = key;
+            this.hit = hit;
+            this.loaderDuration = loaderNanos;
+            commit();
+        }
+    }
+}
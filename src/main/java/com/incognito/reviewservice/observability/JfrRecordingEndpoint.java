@@ -0,0 +1,117 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: starts ({@code POST}), stops ({@code DELETE}) and reports on ({@code GET}) a single
+ * on-demand flight recording. The recording uses one of the JDK's settings ({@code default} or {@code profile})
+ * and always includes the {@code reviewservice.*} events. Its contents are downloaded from
+ * {@code /actuator/jfrdump}.
+ */
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint implements DisposableBean {
+
+    static final String RECORDING_NAME = "reviewservice-on-demand";
+
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(10);
+
+    private Recording recording;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (recording == null) {
+            body.put("state", "NONE");
+            return body;
+        }
+        body.put("name", recording.getName());
+        body.put("state", recording.getState().name());
+        body.put("startTime", recording.getStartTime());
+        body.put("stopTime", recording.getStopTime());
+        body.put("maxAge", recording.getMaxAge());
+        body.put("sizeBytes", recording.getSize());
+        return body;
+    }
+
+    /**
+     * Starts a new recording, discarding any previous one.
+     *
+     * @param settings JDK settings to use, {@code default} (about 1% overhead) or {@code profile}.
+     * @param maxAge   How much history the recording keeps; defaults to ten minutes.
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Duration maxAge) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? "default" : settings);
+        } catch (IOException | ParseException ex) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings, "Unknown JFR settings");
+        }
+        closeRecording();
+        Recording newRecording = new Recording(configuration);
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge == null ? DEFAULT_MAX_AGE : maxAge);
+        newRecording.enable(ReviewLookupEvent.class);
+        newRecording.enable(ReviewListingEvent.class);
+        newRecording.enable(CommentCreationEvent.class);
+        newRecording.enable(VoteEvent.class);
+        newRecording.start();
+        recording = newRecording;
+        return status();
+    }
+
+    /**
+     * Stops the recording; its data stays available for download until the next start.
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    /**
+     * Writes what the recording holds so far to a new temporary file.
+     *
+     * @return The file, or {@code null} if nothing has been recorded yet.
+     */
+    synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED) {
+            return null;
+        }
+        Path file = Files.createTempFile("reviewservice-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
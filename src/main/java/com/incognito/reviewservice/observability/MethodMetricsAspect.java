@@ -0,0 +1,84 @@
+package com.incognito.reviewservice.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service method and every repository call, tagged with the endpoint that
+ * triggered it. Ordered outermost so service timings include bulkhead and admission queueing.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    // Resolved once per tag combination, so a call only pays for a map lookup instead of builder, tags and registry
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.incognito.reviewservice.service..*.*(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "reviewservice.service.calls", "service",
+                joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "reviewservice.repository.calls", "repository",
+                repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(), MethodMetricsAspect::repositoryName));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metric, String ownerTag, String owner) throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            TimerKey key = new TimerKey(metric, ownerTag, owner, joinPoint.getSignature().getName(),
+                    EndpointTags.current(), exception);
+            Timer timer = timers.get(key);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(key, this::register);
+            }
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.metric())
+                .tag(key.ownerTag(), key.owner())
+                .tag("method", key.method())
+                .tag("endpoint", key.endpoint())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // Spring Data repositories are proxies; report the application interface rather than $ProxyNN
+    private static String repositoryName(Class<?> targetClass) {
+        for (Class<?> candidate : targetClass.getInterfaces()) {
+            if (candidate.getName().startsWith("com.incognito.reviewservice.")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return targetClass.getSimpleName();
+    }
+
+    private record TimerKey(String metric, String ownerTag, String owner, String method, String endpoint,
+                            String exception) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.incognito.reviewservice.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Method timers, per-request SQL statement counts and the Hibernate hook feeding them, request ids and
+ * the slow-query/sampled SQL log, and the on-demand JFR recording endpoints (not exposed over HTTP by
+ * default). Hikari pool and Hibernate statistics metrics are bound by Spring Boot (see application.properties).
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(SqlLogProperties.class)
+public class ObservabilityConfig {
+
+    /**
+     * Static and fed from the {@link Binder} because post-processors are created before
+     * {@code @ConfigurationProperties} beans can be bound.
+     */
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(Environment environment) {
+        SqlLogProperties properties = Binder.get(environment)
+                .bind("reviewservice.sql-log", SqlLogProperties.class)
+                .orElseGet(SqlLogProperties::new);
+        return new SqlLoggingDataSourcePostProcessor(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestCorrelationFilter> requestCorrelationFilter(SqlLogProperties properties) {
+        FilterRegistrationBean<RequestCorrelationFilter> registration =
+                new FilterRegistrationBean<>(new RequestCorrelationFilter(properties.getTraceSampleRate()));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MethodMetricsAspect methodMetricsAspect(MeterRegistry meterRegistry) {
+        return new MethodMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlStatementCountingConfigurer(MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SqlStatementCountingInterceptor(meterRegistry)).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint() {
+        return new JfrRecordingEndpoint();
+    }
+
+    @Bean
+    public JfrDumpEndpoint jfrDumpEndpoint(JfrRecordingEndpoint jfrRecordingEndpoint) {
+        return new JfrDumpEndpoint(jfrRecordingEndpoint);
+    }
+}
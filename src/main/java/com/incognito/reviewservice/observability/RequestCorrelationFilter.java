@@ -0,0 +1,62 @@
+package com.incognito.reviewservice.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every request an id (the caller's {@code X-Request-Id} or a fresh UUID), puts it in the MDC
+ * as {@code requestId} and echoes it back, and decides whether the request's SQL is traced. Caller ids
+ * outside {@link #VALID_REQUEST_ID} are replaced, since they end up verbatim in every log line.
+ */
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    // No CR/LF or other control characters that could forge log entries
+    static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private static final ThreadLocal<Boolean> SQL_TRACE_SAMPLED = new ThreadLocal<>();
+
+    private final int traceSampleRate;
+
+    public RequestCorrelationFilter(int traceSampleRate) {
+        this.traceSampleRate = traceSampleRate;
+    }
+
+    /**
+     * @return whether the request on the current thread was picked for SQL tracing.
+     */
+    public static boolean isSqlTraceSampled() {
+        return Boolean.TRUE.equals(SQL_TRACE_SAMPLED.get());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        if (traceSampleRate > 0 && ThreadLocalRandom.current().nextInt(traceSampleRate) == 0) {
+            SQL_TRACE_SAMPLED.set(Boolean.TRUE);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SQL_TRACE_SAMPLED.remove();
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+}
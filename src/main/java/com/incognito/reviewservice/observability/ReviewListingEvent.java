@@ -0,0 +1,55 @@
+package com.incognito.reviewservice.observability;
+
+import com.incognito.reviewservice.listing.ReviewQueryPlan;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A paginated review listing. Records which filters were used, not their values, so recordings can be
+ * grouped by query shape.
+ */
+@Name("reviewservice.ReviewListing")
+@Label("Review Listing")
+@Category({"Review Service", "Reviews"})
+@Description("Listing reviews with optional filters")
+@StackTrace(false)
+public final class ReviewListingEvent extends Event {
+
+    @Label("Filter Shape")
+    @Description("Filters present in the request, e.g. companyName+reviewType, or none")
+    String filterShape;
+
+    @Label("Query Plan")
+    @Description("Index expected to narrow the rows and the filters checked on them, as in the X-Query-Plan header")
+    String queryPlan;
+
+    @Label("Page Number")
+    int pageNumber;
+
+    @Label("Page Size")
+    int pageSize;
+
+    @Label("Sort")
+    String sort;
+
+    @Label("Rows Returned")
+    int rowsReturned;
+
+    public void complete(ReviewQueryPlan plan, Pageable pageable, int rowsReturned) {
+        end();
+        if (shouldCommit()) {
+            this.filterShape = plan.filterShape();
+            this.queryPlan = plan.describe();
+            this.pageNumber = pageable.isPaged() ? pageable.getPageNumber() : -1;
+            this.pageSize = pageable.isPaged() ? pageable.getPageSize() : -1;
+            this.sort = pageable.getSort().toString();
+            this.rowsReturned = rowsReturned;
+            commit();
+        }
+    }
+}
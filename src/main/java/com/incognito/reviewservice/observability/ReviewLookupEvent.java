@@ -0,0 +1,34 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A single-review lookup by id. Usage: {@code begin()} before the query, {@link #complete} after it.
+ */
+@Name("reviewservice.ReviewLookup")
+@Label("Review Lookup")
+@Category({"Review Service", "Reviews"})
+@Description("Loading one review by id")
+@StackTrace(false)
+public final class ReviewLookupEvent extends Event {
+
+    @Label("Review Id")
+    long reviewId;
+
+    @Label("Found")
+    boolean found;
+
+    public void complete(long reviewId, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.reviewId = reviewId;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.incognito.reviewservice.observability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQL logging, bound from {@code reviewservice.sql-log.*}. Replaces {@code spring.jpa.show-sql}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.sql-log")
+public class SqlLogProperties {
+
+    /**
+     * Statements running at least this long are written to the {@code reviewservice.sql.slow} logger.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * One in this many requests has every statement written to the {@code reviewservice.sql.trace}
+     * logger. Zero disables tracing.
+     */
+    private int traceSampleRate = 100;
+}
@@ -0,0 +1,30 @@
+package com.incognito.reviewservice.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} bean so every statement passes through {@link SqlLoggingListener}.
+ * Runs after the deadline wrapper, making this the outermost layer.
+ */
+public class SqlLoggingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final SqlLogProperties properties;
+
+    public SqlLoggingDataSourcePostProcessor(SqlLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlLoggingListener(properties.getSlowQueryThreshold().toMillis()))
+                    .build();
+        }
+        return bean;
+    }
+}
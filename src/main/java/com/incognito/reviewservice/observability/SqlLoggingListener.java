@@ -0,0 +1,49 @@
+package com.incognito.reviewservice.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Writes slow statements and the statements of sampled requests, each with its duration and bind count.
+ * Bind values themselves are never logged. Log lines carry the request id through the MDC.
+ */
+public class SqlLoggingListener implements QueryExecutionListener {
+
+    private static final Logger SLOW_LOG = LoggerFactory.getLogger("reviewservice.sql.slow");
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("reviewservice.sql.trace");
+
+    private final long slowQueryThresholdMillis;
+
+    public SqlLoggingListener(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Nothing to do until the duration is known
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowQueryThresholdMillis;
+        boolean traced = RequestCorrelationFilter.isSqlTraceSampled();
+        if (!slow && !traced) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            int binds = queryInfo.getParametersList().isEmpty() ? 0 : queryInfo.getParametersList().get(0).size();
+            if (slow && SLOW_LOG.isWarnEnabled()) {
+                SLOW_LOG.warn("{} ms, binds={}, batch={}, success={}: {}", elapsed, binds,
+                        execInfo.isBatch() ? execInfo.getBatchSize() : 0, execInfo.isSuccess(), queryInfo.getQuery());
+            } else if (traced && TRACE_LOG.isInfoEnabled()) {
+                TRACE_LOG.info("{} ms, binds={}: {}", elapsed, binds, queryInfo.getQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.incognito.reviewservice.observability;
+
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}, broken down by statement kind. Fed by {@link CountingStatementInspector}.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNTS = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        COUNTS.set(new int[SqlStatementKind.values().length]);
+    }
+
+    /**
+     * @return the statements counted since {@link #start()}, or empty counts if counting was not started.
+     */
+    public static SqlStatementCounts stop() {
+        int[] counts = COUNTS.get();
+        COUNTS.remove();
+        return counts == null ? SqlStatementCounts.EMPTY : new SqlStatementCounts(counts);
+    }
+
+    /**
+     * @return the statements counted so far, without ending the count.
+     */
+    public static SqlStatementCounts current() {
+        int[] counts = COUNTS.get();
+        return counts == null ? SqlStatementCounts.EMPTY : new SqlStatementCounts(counts.clone());
+    }
+
+    static void record(String sql) {
+        int[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[SqlStatementKind.of(sql).ordinal()]++;
+        }
+    }
+
+    public enum SqlStatementKind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static SqlStatementKind of(String sql) {
+            String trimmed = sql.stripLeading();
+            int end = 0;
+            while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+                end++;
+            }
+            return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+}
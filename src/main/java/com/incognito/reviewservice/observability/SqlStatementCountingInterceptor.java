@@ -0,0 +1,59 @@
+package com.incognito.reviewservice.observability;
+
+import com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each API request issued, per endpoint and statement kind.
+ */
+public class SqlStatementCountingInterceptor implements HandlerInterceptor {
+
+    private static final SqlStatementKind[] KINDS = SqlStatementKind.values();
+
+    private final MeterRegistry meterRegistry;
+    // One summary per kind, in SqlStatementKind order, resolved once per endpoint like MethodMetricsAspect's timers
+    private final Map<String, DistributionSummary[]> summaries = new ConcurrentHashMap<>();
+
+    public SqlStatementCountingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementCounts counts = SqlStatementCounter.stop();
+        String endpoint = EndpointTags.of(request);
+        DistributionSummary[] byKind = summaries.get(endpoint);
+        if (byKind == null) {
+            byKind = summaries.computeIfAbsent(endpoint, this::register);
+        }
+        for (SqlStatementKind kind : KINDS) {
+            byKind[kind.ordinal()].record(counts.get(kind));
+        }
+    }
+
+    private DistributionSummary[] register(String endpoint) {
+        DistributionSummary[] byKind = new DistributionSummary[KINDS.length];
+        for (SqlStatementKind kind : KINDS) {
+            byKind[kind.ordinal()] = DistributionSummary.builder("reviewservice.request.sql.statements")
+                    .description("SQL statements issued per request")
+                    .tag("endpoint", endpoint)
+                    .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+        return byKind;
+    }
+}
@@ -0,0 +1,36 @@
+package com.incognito.reviewservice.observability;
+
+import com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of {@link SqlStatementCounter}.
+ */
+public final class SqlStatementCounts {
+
+    static final SqlStatementCounts EMPTY = new SqlStatementCounts(new int[SqlStatementKind.values().length]);
+
+    private final int[] counts;
+
+    SqlStatementCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public int get(SqlStatementKind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    public int total() {
+        return Arrays.stream(counts).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SqlStatementCounts{");
+        for (SqlStatementKind kind : SqlStatementKind.values()) {
+            sb.append(kind.name().toLowerCase()).append('=').append(counts[kind.ordinal()]).append(kind == SqlStatementKind.OTHER ? "" : ", ");
+        }
+        return sb.append('}').toString();
+    }
+}
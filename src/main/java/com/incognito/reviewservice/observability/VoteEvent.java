@@ -0,0 +1,48 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A like/dislike increment on a review or comment. Covers the counter update only, not the re-read.
+ */
+@Name("reviewservice.Vote")
+@Label("Vote")
+@Category({"Review Service", "Votes"})
+@Description("Incrementing a like or dislike counter")
+@StackTrace(false)
+public final class VoteEvent extends Event {
+
+    public static final String REVIEW = "review";
+    public static final String COMMENT = "comment";
+    public static final String LIKE = "like";
+    public static final String DISLIKE = "dislike";
+
+    @Label("Target")
+    String target;
+
+    @Label("Target Id")
+    long targetId;
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Applied")
+    @Description("Whether a row was updated")
+    boolean applied;
+
+    public void complete(String target, long targetId, String direction, boolean applied) {
+        end();
+        if (shouldCommit()) {
+            this.target = target;
+            this.targetId = targetId;
+            this.direction = direction;
+            this.applied = applied;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.incognito.reviewservice.observability;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks calls made by the startup warm-up on the current thread. Method timers tag them
+ * {@code endpoint=warmup} and bulkheads do not time their queueing, so they stay out of production latencies.
+ * They queue for the {@code bulk} bulkhead, whatever bulkhead the method names.
+ */
+public final class WarmupTraffic {
+
+    static final String ENDPOINT = "warmup";
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private WarmupTraffic() {
+    }
+
+    public static <T> T run(Supplier<T> call) {
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
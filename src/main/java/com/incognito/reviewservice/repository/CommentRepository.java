@@ -1,6 +1,7 @@
 package com.incognito.reviewservice.repository;
 
 import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.model.CommentStatus;
 import org.springframework.data.domain.Page; // Import Page
 import org.springframework.data.domain.Pageable; // Import Pageable
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,13 +15,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // You can add custom query methods here if needed later
 
     /**
-     * Finds all comments associated with a given review ID, with pagination.
+     * Finds the top-level comments of a given review in one status, with pagination.
      *
      * @param reviewId The ID of the review.
+     * @param status   The status to list; {@link CommentStatus#ACTIVE} for public listings.
      * @param pageable Pagination information.
      * @return A page of comments.
      */
-    Page<Comment> findByReviewIdAndParentIsNull(Long reviewId, Pageable pageable);
+    Page<Comment> findByReviewIdAndParentIsNullAndStatus(Long reviewId, CommentStatus status, Pageable pageable);
 
     @Modifying
     @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId AND c.review.id = :reviewId")
@@ -30,5 +32,5 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("UPDATE Comment c SET c.dislikeCount = c.dislikeCount + 1 WHERE c.id = :commentId AND c.review.id = :reviewId")
     int incrementDislikeCount(@Param("commentId") Long commentId, @Param("reviewId") Long reviewId);
 
-    Page<Comment> findByParentId(Long commentId, Pageable pageable);
+    Page<Comment> findByParentIdAndStatus(Long commentId, CommentStatus status, Pageable pageable);
 }
\ No newline at end of file
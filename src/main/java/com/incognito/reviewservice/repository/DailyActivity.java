@@ -0,0 +1,19 @@
+package com.incognito.reviewservice.repository;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Counts to add to one company's row of {@code review_daily_stats}.
+ *
+ * @param companyKey See {@link #companyKey(String)}.
+ */
+public record DailyActivity(String companyKey, LocalDate day, int reviews, int comments, int likes, int dislikes) {
+
+    /**
+     * Same key as the V7 backfill: {@code lower(company_name)}, or {@code ''} without one.
+     */
+    public static String companyKey(String companyName) {
+        return companyName == null ? "" : companyName.toLowerCase(Locale.ROOT);
+    }
+}
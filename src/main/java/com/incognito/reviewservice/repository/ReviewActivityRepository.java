@@ -0,0 +1,38 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.model.HistogramInterval;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Review time-series, mixed into {@link ReviewRepository}: the daily activity rollup ({@code review_daily_stats})
+ * and {@code date_trunc} histograms over {@code reviews.created_at}. Days and buckets are in UTC.
+ */
+public interface ReviewActivityRepository {
+
+    /**
+     * Adds the counts to their day rows, creating missing ones, in one batched upsert. Rows are written in
+     * (company, day) order, so concurrent flushes lock them in the same order and cannot deadlock.
+     */
+    void addActivity(List<DailyActivity> rows);
+
+    /**
+     * Sums the rollup rows of {@code [from, to)} per {@code interval} bucket; buckets without activity are left
+     * out.
+     *
+     * @param companyName Company, matched case-insensitively; {@code null} sums all companies.
+     * @return Rows ordered by bucket.
+     */
+    List<ReviewActivityRow> sumActivity(String companyName, HistogramInterval interval, LocalDate from, LocalDate to);
+
+    /**
+     * Counts the reviews created in {@code [from, to)} per {@code interval} bucket, reading the table through the
+     * BRIN index on {@code created_at}; buckets without reviews are left out.
+     *
+     * @param companyName Company, matched case-insensitively; {@code null} counts all reviews.
+     * @return Rows ordered by bucket.
+     */
+    List<ReviewHistogramRow> countCreated(String companyName, HistogramInterval interval, Instant from, Instant to);
+}
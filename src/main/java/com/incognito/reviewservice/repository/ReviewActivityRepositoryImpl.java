@@ -0,0 +1,106 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.model.HistogramInterval;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+class ReviewActivityRepositoryImpl implements ReviewActivityRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO review_daily_stats AS s (company_key, day, reviews, comments, likes, dislikes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (company_key, day) DO UPDATE SET reviews = s.reviews + EXCLUDED.reviews,
+                comments = s.comments + EXCLUDED.comments, likes = s.likes + EXCLUDED.likes,
+                dislikes = s.dislikes + EXCLUDED.dislikes""";
+
+    // The day column is cast to timestamp so that date_trunc does not go through the session time zone
+    private static final String SUM_SQL = """
+            SELECT CAST(date_trunc(:field, CAST(day AS timestamp)) AS date) AS bucket, sum(reviews) AS reviews,
+                   sum(comments) AS comments, sum(likes) AS likes, sum(dislikes) AS dislikes
+            FROM review_daily_stats
+            WHERE day >= :rangeStart AND day < :rangeEnd%s
+            GROUP BY 1
+            ORDER BY 1""";
+
+    private static final String HISTOGRAM_SQL = """
+            SELECT date_trunc(:field, created_at, 'UTC') AS bucket, count(*) AS count
+            FROM reviews
+            WHERE created_at >= :rangeStart AND created_at < :rangeEnd%s
+            GROUP BY 1
+            ORDER BY 1""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addActivity(List<DailyActivity> rows) {
+        List<DailyActivity> ordered = rows.stream()
+                .sorted(Comparator.comparing((DailyActivity row) -> row.companyKey()).thenComparing(DailyActivity::day))
+                .toList();
+        // Plain JDBC for a real batch: Hibernate sends each native executeUpdate on its own
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (DailyActivity row : ordered) {
+                    statement.setString(1, row.companyKey());
+                    statement.setObject(2, row.day());
+                    statement.setInt(3, row.reviews());
+                    statement.setInt(4, row.comments());
+                    statement.setInt(5, row.likes());
+                    statement.setInt(6, row.dislikes());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReviewActivityRow> sumActivity(String companyName, HistogramInterval interval, LocalDate from, LocalDate to) {
+        NativeQuery<Object[]> nativeQuery = entityManager
+                .createNativeQuery(SUM_SQL.formatted(companyName == null ? "" : " AND company_key = :companyKey"))
+                .unwrap(NativeQuery.class);
+        nativeQuery.addScalar("bucket", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("reviews", StandardBasicTypes.LONG)
+                .addScalar("comments", StandardBasicTypes.LONG)
+                .addScalar("likes", StandardBasicTypes.LONG)
+                .addScalar("dislikes", StandardBasicTypes.LONG);
+        nativeQuery.setParameter("field", interval.field())
+                .setParameter("rangeStart", from)
+                .setParameter("rangeEnd", to);
+        if (companyName != null) {
+            nativeQuery.setParameter("companyKey", DailyActivity.companyKey(companyName));
+        }
+        return nativeQuery.getResultList().stream()
+                .map(row -> new ReviewActivityRow((LocalDate) row[0], (Long) row[1], (Long) row[2], (Long) row[3], (Long) row[4]))
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReviewHistogramRow> countCreated(String companyName, HistogramInterval interval, Instant from, Instant to) {
+        NativeQuery<Object[]> nativeQuery = entityManager
+                .createNativeQuery(HISTOGRAM_SQL.formatted(companyName == null ? "" : " AND lower(company_name) = :companyKey"))
+                .unwrap(NativeQuery.class);
+        nativeQuery.addScalar("bucket", StandardBasicTypes.INSTANT)
+                .addScalar("count", StandardBasicTypes.LONG);
+        nativeQuery.setParameter("field", interval.field())
+                .setParameter("rangeStart", from)
+                .setParameter("rangeEnd", to);
+        if (companyName != null) {
+            nativeQuery.setParameter("companyKey", DailyActivity.companyKey(companyName));
+        }
+        return nativeQuery.getResultList().stream()
+                .map(row -> new ReviewHistogramRow((Instant) row[0], (Long) row[1]))
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.incognito.reviewservice.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Activity of one bucket, as returned by {@link ReviewActivityRepository#sumActivity}; {@code bucket} is its
+ * first day.
+ */
+public record ReviewActivityRow(LocalDate bucket, long reviews, long comments, long likes, long dislikes) {
+}
@@ -0,0 +1,22 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.model.ReviewFacet;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Facet counts for review listings, mixed into {@link ReviewRepository}.
+ */
+public interface ReviewFacetRepository {
+
+    /**
+     * Counts the reviews matching the listing filter by each of {@code facets}, in one {@code GROUPING SETS} query.
+     * Filters mean the same as in {@link ReviewListingRepository#findListing}.
+     *
+     * @param maxValues Most frequent values returned per facet; ties are broken by value.
+     * @return Rows ordered by facet, then count descending.
+     */
+    List<ReviewFacetRow> countFacets(ReviewFilter filter, Set<ReviewFacet> facets, int maxValues);
+}
@@ -0,0 +1,79 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.model.ReviewFacet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+class ReviewFacetRepositoryImpl implements ReviewFacetRepository {
+
+    private static final ReviewFacet[] FACETS = ReviewFacet.values();
+
+    // One grouping set per requested facet. GROUPING(column) = 0 marks the set a row belongs to, which also
+    // tells a real NULL value apart from a column that is not grouped in that set.
+    private static final String FACET_SQL = """
+            SELECT facet, value, count FROM (
+                SELECT facet, value, count, row_number() OVER (PARTITION BY facet ORDER BY count DESC, value) AS position
+                FROM (
+                    SELECT CASE %s END AS facet, CASE %s END AS value, count(*) AS count
+                    FROM reviews%s
+                    GROUP BY GROUPING SETS (%s)
+                ) grouped
+            ) ranked
+            WHERE position <= :maxValues
+            ORDER BY facet, count DESC, value""";
+
+    private final ReviewQueryTemplates templates;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ReviewFacetRepositoryImpl(ReviewQueryTemplates templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReviewFacetRow> countFacets(ReviewFilter filter, Set<ReviewFacet> facets, int maxValues) {
+        if (facets.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner facetCase = new StringJoiner(" ");
+        StringJoiner valueCase = new StringJoiner(" ");
+        StringJoiner groupingSets = new StringJoiner(", ");
+        for (ReviewFacet facet : facets) {
+            String column = column(facet);
+            facetCase.add("WHEN GROUPING(" + column + ") = 0 THEN " + facet.ordinal());
+            valueCase.add("WHEN GROUPING(" + column + ") = 0 THEN CAST(" + column + " AS varchar)");
+            groupingSets.add("(" + column + ")");
+        }
+        ReviewQueryTemplates.Template template = templates.forFilter(filter);
+
+        NativeQuery<Object[]> nativeQuery = entityManager
+                .createNativeQuery(FACET_SQL.formatted(facetCase, valueCase, template.sqlWhere(), groupingSets))
+                .unwrap(NativeQuery.class);
+        nativeQuery.addScalar("facet", StandardBasicTypes.INTEGER)
+                .addScalar("value", StandardBasicTypes.STRING)
+                .addScalar("count", StandardBasicTypes.LONG);
+        nativeQuery.setParameter("maxValues", maxValues);
+        template.bindSql(nativeQuery, filter);
+        return nativeQuery.getResultList().stream()
+                .map(row -> new ReviewFacetRow(FACETS[(Integer) row[0]], (String) row[1], (Long) row[2]))
+                .toList();
+    }
+
+    private static String column(ReviewFacet facet) {
+        return switch (facet) {
+            case REVIEW_TYPE -> "review_type";
+            case IS_EMPLOYEE -> "is_employee";
+            case DEPT -> "dept";
+            case ROLE -> "role";
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.model.ReviewFacet;
+
+/**
+ * One facet value and how many reviews have it, as returned by {@link ReviewFacetRepository#countFacets}.
+ * {@code value} is the column rendered as text, and {@code null} for reviews without one.
+ */
+public record ReviewFacetRow(ReviewFacet facet, String value, long count) {
+}
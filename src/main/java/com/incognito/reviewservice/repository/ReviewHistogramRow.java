@@ -0,0 +1,10 @@
+package com.incognito.reviewservice.repository;
+
+import java.time.Instant;
+
+/**
+ * Reviews created in one bucket, as returned by {@link ReviewActivityRepository#countCreated}; {@code bucket} is
+ * its start.
+ */
+public record ReviewHistogramRow(Instant bucket, long count) {
+}
@@ -0,0 +1,27 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.entity.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * The filtered review listing from prebuilt JPQL templates ({@code ReviewQueryTemplates}), mixed into
+ * {@link ReviewRepository}.
+ */
+public interface ReviewListingRepository {
+
+    /**
+     * A page of reviews matching every filter given. Like Spring Data's paging, the count query only runs when
+     * the page alone does not tell the total.
+     *
+     * @throws com.incognito.reviewservice.exception.BadRequestException on a sort by an unknown attribute.
+     */
+    Page<Review> findListing(ReviewFilter filter, Pageable pageable);
+
+    /**
+     * {@link #findListing(ReviewFilter, Pageable)} reporting {@code estimatedTotal} where it would otherwise
+     * count, for listings whose count would read the whole table.
+     */
+    Page<Review> findListing(ReviewFilter filter, Pageable pageable, long estimatedTotal);
+}
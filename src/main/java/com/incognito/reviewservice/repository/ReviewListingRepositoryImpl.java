@@ -0,0 +1,52 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.entity.Review;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+class ReviewListingRepositoryImpl implements ReviewListingRepository {
+
+    private final ReviewQueryTemplates templates;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ReviewListingRepositoryImpl(ReviewQueryTemplates templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    public Page<Review> findListing(ReviewFilter filter, Pageable pageable) {
+        ReviewQueryTemplates.Template template = templates.forFilter(filter);
+        return findListing(template, filter, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(template.count(), Long.class);
+            template.bind(count, filter);
+            return count.getSingleResult();
+        });
+    }
+
+    @Override
+    public Page<Review> findListing(ReviewFilter filter, Pageable pageable, long estimatedTotal) {
+        return findListing(templates.forFilter(filter), filter, pageable, () -> estimatedTotal);
+    }
+
+    private Page<Review> findListing(ReviewQueryTemplates.Template template, ReviewFilter filter, Pageable pageable,
+                                     LongSupplier total) {
+        TypedQuery<Review> query = entityManager.createQuery(template.select(pageable.getSort()), Review.class);
+        template.bind(query, filter);
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Review> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+}
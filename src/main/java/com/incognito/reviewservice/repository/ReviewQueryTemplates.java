@@ -0,0 +1,278 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.exception.BadRequestException;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * JPQL for the review listing, one select and one count per filter combination, plus the same filters as a SQL
+ * {@code WHERE} clause for native queries over the listing. The strings are built once, in this one bean shared
+ * by the listing and facet repositories; they are not compiled. Hibernate translates each query string on its
+ * first use and caches the translation (see {@code hibernate.query.plan_cache_max_size}), so later listings of
+ * the same shape reuse a parsed query instead of building and translating a Criteria tree, and its count, per
+ * call. The startup warm-up ({@code WarmupRunner}) makes those first uses for the common shapes.
+ * <p>
+ * The predicates match the indexes in {@code ReviewIndex}: {@code isEmployee} is a literal rather than a
+ * parameter, since the planner can only use the partial employee index when it sees the value.
+ */
+@Component
+final class ReviewQueryTemplates {
+
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    // Review attributes a listing may be sorted by
+    static final Set<String> SORTABLE = Set.of("id", "reviewType", "title", "likeCount", "dislikeCount", "status",
+            "isEmployee", "dept", "role", "companyName", "workStartDate", "workEndDate", "reviewerName", "totalComments",
+            "createdAt", "updatedAt");
+
+    private static final int COMPANY_NAME = 1;
+    private static final int REVIEW_TYPE = 1 << 1;
+    private static final int STATUS = 1 << 2;
+    private static final int EMPLOYEE = 1 << 3;
+    private static final int NOT_EMPLOYEE = 1 << 4;
+    private static final int DEPT = 1 << 5;
+    private static final int ROLE = 1 << 6;
+    private static final int CREATED_FROM = 1 << 7;
+    private static final int CREATED_TO = 1 << 8;
+    private static final int WORKED_FROM = 1 << 9;
+    private static final int WORKED_TO = 1 << 10;
+    private static final int COMBINATIONS = 1 << 11;
+
+    // Bounds the cache against clients cycling through sort combinations; further ones are rendered per call
+    private static final int MAX_CACHED_SORTS = 64;
+
+    private final Template[] templates = new Template[COMBINATIONS];
+    private final ConcurrentMap<Sort, String> orderByClauses = new ConcurrentHashMap<>();
+
+    ReviewQueryTemplates() {
+        for (int mask = 0; mask < COMBINATIONS; mask++) {
+            if ((mask & EMPLOYEE) == 0 || (mask & NOT_EMPLOYEE) == 0) {
+                templates[mask] = new Template(mask, where(mask, attribute -> "r." + attribute),
+                        where(mask, ReviewQueryTemplates::column));
+            }
+        }
+    }
+
+    Template forFilter(ReviewFilter filter) {
+        return templates[mask(filter)];
+    }
+
+    /**
+     * Number of templates built; every valid filter combination has one.
+     */
+    int size() {
+        int size = 0;
+        for (Template template : templates) {
+            if (template != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static int mask(ReviewFilter filter) {
+        int mask = 0;
+        if (StringUtils.hasText(filter.companyName())) {
+            mask |= COMPANY_NAME;
+        }
+        if (filter.reviewType() != null) {
+            mask |= REVIEW_TYPE;
+        }
+        if (filter.status() != null) {
+            mask |= STATUS;
+        }
+        if (filter.isEmployee() != null) {
+            mask |= filter.isEmployee() ? EMPLOYEE : NOT_EMPLOYEE;
+        }
+        if (StringUtils.hasText(filter.dept())) {
+            mask |= DEPT;
+        }
+        if (StringUtils.hasText(filter.role())) {
+            mask |= ROLE;
+        }
+        if (filter.createdFrom() != null) {
+            mask |= CREATED_FROM;
+        }
+        if (filter.createdTo() != null) {
+            mask |= CREATED_TO;
+        }
+        if (filter.workedFrom() != null) {
+            mask |= WORKED_FROM;
+        }
+        if (filter.workedTo() != null) {
+            mask |= WORKED_TO;
+        }
+        return mask;
+    }
+
+    private static String where(int mask, UnaryOperator<String> path) {
+        List<String> conditions = new ArrayList<>();
+        if ((mask & COMPANY_NAME) != 0) {
+            conditions.add("lower(" + path.apply("companyName") + ") like :companyName");
+        }
+        if ((mask & REVIEW_TYPE) != 0) {
+            conditions.add(path.apply("reviewType") + " = :reviewType");
+        }
+        if ((mask & STATUS) != 0) {
+            conditions.add(path.apply("status") + " = :status");
+        }
+        if ((mask & EMPLOYEE) != 0) {
+            conditions.add(path.apply("isEmployee") + " = true");
+        }
+        if ((mask & NOT_EMPLOYEE) != 0) {
+            conditions.add(path.apply("isEmployee") + " = false");
+        }
+        if ((mask & DEPT) != 0) {
+            conditions.add(path.apply("dept") + " = :dept");
+        }
+        if ((mask & ROLE) != 0) {
+            conditions.add(path.apply("role") + " = :role");
+        }
+        if ((mask & CREATED_FROM) != 0) {
+            conditions.add(path.apply("createdAt") + " >= :createdFrom");
+        }
+        if ((mask & CREATED_TO) != 0) {
+            conditions.add(path.apply("createdAt") + " < :createdTo");
+        }
+        // Employment overlapping [workedFrom, workedTo): started before its end, and not ended before its start
+        // (a missing end date means still employed). Reviews without a start date never match.
+        if ((mask & (WORKED_FROM | WORKED_TO)) != 0) {
+            conditions.add(path.apply("workStartDate") + " is not null");
+        }
+        if ((mask & WORKED_TO) != 0) {
+            conditions.add(path.apply("workStartDate") + " < :workedTo");
+        }
+        if ((mask & WORKED_FROM) != 0) {
+            String workEndDate = path.apply("workEndDate");
+            conditions.add("(" + workEndDate + " is null or " + workEndDate + " >= :workedFrom)");
+        }
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    // Review attribute to reviews column. PhysicalNamingStrategyStandardImpl keeps names as mapped, so this only
+    // holds because every filtered attribute names its snake_case column in @Column (checked by the tests)
+    static String column(String attribute) {
+        return attribute.replaceAll("([A-Z])", "_$1").toLowerCase(Locale.ROOT);
+    }
+
+    private String orderBy(Sort sort) {
+        String cached = orderByClauses.get(sort);
+        if (cached != null) {
+            return cached;
+        }
+        String clause = renderOrderBy(sort);
+        if (orderByClauses.size() < MAX_CACHED_SORTS) {
+            orderByClauses.putIfAbsent(sort, clause);
+        }
+        return clause;
+    }
+
+    private static String renderOrderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orders = new StringJoiner(", ", " order by ", "");
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new BadRequestException("Cannot sort reviews by '" + order.getProperty() + "'");
+            }
+            String path = "r." + order.getProperty();
+            StringBuilder clause = new StringBuilder(order.isIgnoreCase() ? "lower(" + path + ")" : path)
+                    .append(order.isAscending() ? " asc" : " desc");
+            switch (order.getNullHandling()) {
+                case NULLS_FIRST -> clause.append(" nulls first");
+                case NULLS_LAST -> clause.append(" nulls last");
+                case NATIVE -> { }
+            }
+            orders.add(clause);
+        }
+        return orders.toString();
+    }
+
+    final class Template {
+        private final int mask;
+        private final String select;
+        private final String selectNewestFirst;
+        private final String count;
+        private final String sqlWhere;
+
+        private Template(int mask, String where, String sqlWhere) {
+            this.mask = mask;
+            this.sqlWhere = sqlWhere;
+            this.select = "select r from Review r" + where;
+            this.selectNewestFirst = select + renderOrderBy(NEWEST_FIRST);
+            this.count = "select count(r) from Review r" + where;
+        }
+
+        String select(Sort sort) {
+            return NEWEST_FIRST.equals(sort) ? selectNewestFirst : select + orderBy(sort);
+        }
+
+        String count() {
+            return count;
+        }
+
+        /**
+         * The filters over the columns of {@code reviews}, with a leading space, or empty without filters.
+         */
+        String sqlWhere() {
+            return sqlWhere;
+        }
+
+        /**
+         * Sets the parameters this template declares from the filter it was chosen for.
+         */
+        void bind(Query query, ReviewFilter filter) {
+            bind(query, filter, false);
+        }
+
+        /**
+         * {@link #bind} for a native query using {@link #sqlWhere()}, which takes enums by name.
+         */
+        void bindSql(Query query, ReviewFilter filter) {
+            bind(query, filter, true);
+        }
+
+        private void bind(Query query, ReviewFilter filter, boolean sql) {
+            if ((mask & COMPANY_NAME) != 0) {
+                query.setParameter("companyName", "%" + filter.companyName().toLowerCase() + "%");
+            }
+            if ((mask & REVIEW_TYPE) != 0) {
+                query.setParameter("reviewType", sql ? filter.reviewType().name() : filter.reviewType());
+            }
+            if ((mask & STATUS) != 0) {
+                query.setParameter("status", sql ? filter.status().name() : filter.status());
+            }
+            if ((mask & DEPT) != 0) {
+                query.setParameter("dept", filter.dept());
+            }
+            if ((mask & ROLE) != 0) {
+                query.setParameter("role", filter.role());
+            }
+            if ((mask & CREATED_FROM) != 0) {
+                query.setParameter("createdFrom", filter.createdFrom());
+            }
+            if ((mask & CREATED_TO) != 0) {
+                query.setParameter("createdTo", filter.createdTo());
+            }
+            if ((mask & WORKED_FROM) != 0) {
+                query.setParameter("workedFrom", filter.workedFrom());
+            }
+            if ((mask & WORKED_TO) != 0) {
+                query.setParameter("workedTo", filter.workedTo());
+            }
+        }
+    }
+}
@@ -14,7 +14,8 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecificationExecutor<Review> { // Add JpaSpecificationExecutor
+public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecificationExecutor<Review>, ReviewSearchRepository, ReviewFacetRepository, ReviewListingRepository, // Add JpaSpecificationExecutor
+        ReviewActivityRepository {
     // You can add custom query methods here if needed later
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Review> findById(Long id); // Override to lock
@@ -26,4 +27,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecif
     @Modifying
     @Query("UPDATE Review r SET r.dislikeCount = r.dislikeCount + 1 WHERE r.id = :reviewId")
     int incrementDislikeCount(@Param("reviewId") Long reviewId);
+
+    // Planner row estimate (kept current by autovacuum's ANALYZE); 0 before the table was first analyzed
+    @Query(value = "SELECT CAST(GREATEST(reltuples, 0) AS bigint) FROM pg_class WHERE oid = CAST('reviews' AS regclass)",
+            nativeQuery = true)
+    long estimateRowCount();
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.incognito.reviewservice.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Full-text search over review titles and content, mixed into {@link ReviewRepository}.
+ */
+public interface ReviewSearchRepository {
+
+    /**
+     * Ranks reviews matching {@code query} (web-search syntax: words, "phrases", OR, -exclusions) by text relevance,
+     * boosted by likes and decayed by age relative to {@code asOf}, and returns the page after the given keyset
+     * position in {@code score DESC, id DESC} order.
+     *
+     * @param asOf       Reference time for the recency decay. Keep it fixed across the pages of one search so scores
+     *                   stay comparable.
+     * @param afterScore Score of the last row of the previous page, or {@code null} for the first page.
+     * @param afterId    Id of the last row of the previous page; ignored when {@code afterScore} is {@code null}.
+     */
+    List<ReviewSearchRow> search(String query, Instant asOf, Double afterScore, Long afterId, int limit);
+}
@@ -0,0 +1,79 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.model.ReviewType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.Instant;
+import java.util.List;
+
+class ReviewSearchRepositoryImpl implements ReviewSearchRepository {
+
+    // Relevance (ts_rank_cd over the weighted vector) x (1 + ln(1 + likes) / 10) x halving every 180 days of age.
+    // Every match is ranked, since the order depends on the score, but only the returned page gets a snippet.
+    private static final String SEARCH_SQL = """
+            WITH search AS (SELECT websearch_to_tsquery('english', :query) AS q),
+            ranked AS (
+                SELECT r.id, r.title, r.company_name, r.review_type, r.like_count, r.created_at, r.content_html,
+                       CAST(ts_rank_cd(r.search_vector, search.q)
+                            * (1 + ln(1 + greatest(r.like_count, 0)) / 10)
+                            * power(0.5, greatest(extract(epoch FROM (CAST(:asOf AS timestamptz) - r.created_at)), 0) / (180 * 86400.0))
+                            AS double precision) AS score
+                FROM reviews r, search
+                WHERE r.search_vector @@ search.q
+            ),
+            page AS (
+                SELECT * FROM ranked
+                %s
+                ORDER BY score DESC, id DESC
+                LIMIT :limit
+            )
+            SELECT page.id, page.title, page.company_name, page.review_type, page.like_count, page.created_at, page.score,
+                   ts_headline('english', regexp_replace(coalesce(page.content_html, ''), '<[^>]*>', ' ', 'g'), search.q,
+                               'MaxFragments=2, MinWords=5, MaxWords=20, StartSel=<mark>, StopSel=</mark>') AS snippet
+            FROM page, search
+            ORDER BY page.score DESC, page.id DESC""";
+
+    private static final String FIRST_PAGE_SQL = SEARCH_SQL.formatted("");
+    private static final String NEXT_PAGE_SQL = SEARCH_SQL.formatted(
+            "WHERE score < :afterScore OR (score = :afterScore AND id < :afterId)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReviewSearchRow> search(String query, Instant asOf, Double afterScore, Long afterId, int limit) {
+        NativeQuery<Object[]> nativeQuery = entityManager
+                .createNativeQuery(afterScore == null ? FIRST_PAGE_SQL : NEXT_PAGE_SQL)
+                .unwrap(NativeQuery.class);
+        nativeQuery.addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("company_name", StandardBasicTypes.STRING)
+                .addScalar("review_type", StandardBasicTypes.STRING)
+                .addScalar("like_count", StandardBasicTypes.INTEGER)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("score", StandardBasicTypes.DOUBLE)
+                .addScalar("snippet", StandardBasicTypes.STRING);
+        nativeQuery.setParameter("query", query)
+                .setParameter("asOf", asOf)
+                .setParameter("limit", limit);
+        if (afterScore != null) {
+            nativeQuery.setParameter("afterScore", afterScore)
+                    .setParameter("afterId", afterId);
+        }
+        return nativeQuery.getResultList().stream()
+                .map(row -> new ReviewSearchRow(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        ReviewType.valueOf((String) row[3]),
+                        (Integer) row[4],
+                        (Instant) row[5],
+                        (Double) row[6],
+                        (String) row[7]))
+                .toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.time.Instant;
+
+/**
+ * One ranked full-text match, as returned by {@link ReviewSearchRepository#search}.
+ */
+public record ReviewSearchRow(
+        Long id,
+        String title,
+        String companyName,
+        ReviewType reviewType,
+        Integer likeCount,
+        Instant createdAt,
+        double score,
+        String snippet
+) {
+}
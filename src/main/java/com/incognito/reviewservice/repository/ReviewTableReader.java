@@ -0,0 +1,44 @@
+package com.incognito.reviewservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * Streams rows of the {@code reviews} table into the in-memory indexes and stores that load it before the
+ * application reports ready, without holding the whole result in memory.
+ */
+@Repository
+public class ReviewTableReader {
+
+    private final DataSource dataSource;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewTableReader(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.dataSource = dataSource;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Runs {@code sql} and hands each mapped row to {@code consumer} as it arrives.
+     *
+     * @param fetchSize Rows fetched per round trip.
+     * @return The number of rows read.
+     */
+    public <T> int stream(String sql, int fetchSize, RowMapper<T> mapper, Consumer<? super T> consumer, Object... args) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // PostgreSQL only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+        jdbcTemplate.setFetchSize(fetchSize);
+        int[] rows = new int[1];
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, (RowCallbackHandler) resultSet ->
+                consumer.accept(mapper.mapRow(resultSet, rows[0]++)), args));
+        return rows[0];
+    }
+}
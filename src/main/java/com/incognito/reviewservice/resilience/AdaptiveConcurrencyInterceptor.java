@@ -0,0 +1,95 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admits requests to {@link ConcurrencyLimited} endpoints against their group's {@link AimdLimiter}
+ * and the global one, shedding the rest with a 503 before any work is done.
+ */
+public class AdaptiveConcurrencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdaptiveConcurrencyInterceptor.class.getName() + ".start";
+    private static final String GROUP_ATTRIBUTE = AdaptiveConcurrencyInterceptor.class.getName() + ".group";
+
+    private final AimdLimiter globalLimiter;
+    private final Map<EndpointGroup, AimdLimiter> groupLimiters = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Double> shares = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+    private final long retryAfterSeconds;
+
+    public AdaptiveConcurrencyInterceptor(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this.globalLimiter = new AimdLimiter(properties.getGlobal());
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+        registerGauges("all", globalLimiter, meterRegistry);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            LoadSheddingProperties.Limit limit = properties.getGroups().getOrDefault(group.getKey(), new LoadSheddingProperties.Limit());
+            AimdLimiter limiter = new AimdLimiter(limit);
+            groupLimiters.put(group, limiter);
+            shares.put(group, limit.getShare());
+            registerGauges(group.getKey(), limiter, meterRegistry);
+            rejections.put(group, Counter.builder("reviewservice.concurrency.rejections")
+                    .description("Requests shed by the adaptive concurrency limiter")
+                    .tag("group", group.getKey())
+                    .register(meterRegistry));
+        }
+    }
+
+    private static void registerGauges(String group, AimdLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder("reviewservice.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.concurrency.in.flight", limiter, AimdLimiter::getInFlight)
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConcurrencyLimited limited = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (limited == null) {
+            return true;
+        }
+        EndpointGroup group = limited.value();
+        AimdLimiter groupLimiter = groupLimiters.get(group);
+        if (!groupLimiter.tryAcquire(1.0)) {
+            throw shed(group);
+        }
+        if (!globalLimiter.tryAcquire(shares.get(group))) {
+            groupLimiter.cancel();
+            throw shed(group);
+        }
+        request.setAttribute(GROUP_ATTRIBUTE, group);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(GROUP_ATTRIBUTE) instanceof EndpointGroup group)) {
+            return;
+        }
+        long latencyNanos = System.nanoTime() - (Long) request.getAttribute(START_ATTRIBUTE);
+        boolean dropped = response.getStatus() >= 500;
+        groupLimiters.get(group).release(latencyNanos, dropped);
+        globalLimiter.release(latencyNanos, dropped);
+    }
+
+    private ServiceOverloadedException shed(EndpointGroup group) {
+        rejections.get(group).increment();
+        return new ServiceOverloadedException("The service is overloaded. Please retry after " + retryAfterSeconds + " second(s).",
+                retryAfterSeconds);
+    }
+}
@@ -0,0 +1,92 @@
+package com.incognito.reviewservice.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit driven by observed latency.
+ * <p>
+ * Each fast completion grows the limit by {@code 1/limit} (about one per round of requests) while the
+ * limiter is actually being used; a completion above the latency threshold, or a failure, multiplies
+ * it by the backoff ratio. Requests that started before the last backoff do not back off again: they ran
+ * under the old limit, so one latency spike shrinks the limit once rather than once per request in flight.
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double limit;
+    private boolean backedOff;
+    private long lastBackoffNanos;
+
+    public AimdLimiter(LoadSheddingProperties.Limit properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AimdLimiter(LoadSheddingProperties.Limit properties, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+    }
+
+    /**
+     * Claims a slot if fewer than {@code share * limit} requests are in flight.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (getLimit() * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and feeds the outcome into the limit.
+     *
+     * @param latencyNanos time the request held the slot.
+     * @param dropped      whether the request failed in a way that signals overload (timeouts, 5xx).
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                if (!backedOff || now - latencyNanos - lastBackoffNanos > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    backedOff = true;
+                    lastBackoffNanos = now;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                // Only grow while the current limit is actually being used
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    /**
+     * Releases a slot without affecting the limit, e.g. when a sibling limiter rejected the request.
+     */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,82 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.BulkheadFullException;
+import com.incognito.reviewservice.observability.WarmupTraffic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fair semaphore guarding one class of database work, with a bounded queue-wait budget.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.waitTimer = Timer.builder("reviewservice.bulkhead.wait")
+                .description("Time spent queueing for a bulkhead slot")
+                .tag("bulkhead", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("reviewservice.bulkhead.rejections")
+                .description("Calls rejected because the bulkhead wait budget was exceeded")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.bulkhead.active", this, Bulkhead::getActiveCount)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.bulkhead.queued", permits, Semaphore::getQueueLength)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a slot, waiting at most the configured budget.
+     *
+     * @throws BulkheadFullException if no slot frees up in time.
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!WarmupTraffic.isActive()) {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejections.increment();
+            throw new BulkheadFullException(name, "Too many concurrent '" + name + "' requests. Please retry shortly.");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,38 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.observability.WarmupTraffic;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link UseBulkhead}. Ordered outside {@code @Transactional} so a slot is held before a
+ * connection is checked out of the pool, never the other way round. Calls made by the startup warm-up
+ * ({@link WarmupTraffic}) take a {@link UseBulkhead#BULK} slot instead of the one they are annotated with.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Around("@annotation(useBulkhead)")
+    public Object guard(ProceedingJoinPoint joinPoint, UseBulkhead useBulkhead) throws Throwable {
+        if (!bulkheadRegistry.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(WarmupTraffic.isActive() ? UseBulkhead.BULK : useBulkhead.value());
+        bulkhead.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.incognito.reviewservice.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Partitioning of the connection pool into bulkheads, bound from {@code reviewservice.bulkhead.*}.
+ * The {@code max-concurrent} values should add up to no more than {@code spring.datasource.hikari.maximum-pool-size}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Limit> limits = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /**
+         * Calls allowed to run concurrently inside the bulkhead.
+         */
+        private int maxConcurrent = 5;
+
+        /**
+         * How long a call may queue for a slot before it is rejected with 429.
+         */
+        private Duration maxWait = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,58 @@
+package com.incognito.reviewservice.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates one {@link Bulkhead} per configured name. Names without explicit limits get the defaults
+ * from {@link BulkheadProperties.Limit}.
+ */
+@Component
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadRegistry {
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        properties.getLimits().keySet().forEach(this::bulkhead);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Runs {@code work} inside the named bulkhead, for code the {@link UseBulkhead} aspect cannot reach, such as a
+     * bean's own scheduled tasks.
+     *
+     * @throws com.incognito.reviewservice.exception.BulkheadFullException if no slot frees up in time.
+     */
+    public void run(String name, Runnable work) {
+        if (!isEnabled()) {
+            work.run();
+            return;
+        }
+        Bulkhead bulkhead = bulkhead(name);
+        bulkhead.acquire();
+        try {
+            work.run();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public Bulkhead bulkhead(String name) {
+        return bulkheads.computeIfAbsent(name, key -> {
+            BulkheadProperties.Limit limit = properties.getLimits().getOrDefault(key, new BulkheadProperties.Limit());
+            return new Bulkhead(key, limit.getMaxConcurrent(), limit.getMaxWait(), meterRegistry);
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.incognito.reviewservice.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Puts {@link DbAdmissionController} in front of every repository call and every {@code @Transactional}
+ * method, annotated directly or through its class (public methods, as for the transaction proxy). Ordered
+ * inside the bulkheads but outside the transaction interceptor, so a thread is admitted before its
+ * transaction checks out a connection.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class DbAdmissionAspect {
+
+    private final DbAdmissionController admissionController;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || (@within(org.springframework.transaction.annotation.Transactional) && execution(public * *(..)))")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        admissionController.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            admissionController.exit();
+        }
+    }
+}
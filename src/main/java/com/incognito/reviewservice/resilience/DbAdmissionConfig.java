@@ -0,0 +1,36 @@
+package com.incognito.reviewservice.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.db-admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(DbAdmissionProperties.class)
+public class DbAdmissionConfig {
+
+    @Bean
+    public DbAdmissionController dbAdmissionController(DbAdmissionProperties properties, MeterRegistry meterRegistry) {
+        return new DbAdmissionController(properties.getMaxInFlight(), properties.getMaxWait(), meterRegistry);
+    }
+
+    @Bean
+    public DbAdmissionAspect dbAdmissionAspect(DbAdmissionController dbAdmissionController) {
+        return new DbAdmissionAspect(dbAdmissionController);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "reviewservice.db-admission", name = "pinning-monitor-enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(DbAdmissionProperties properties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.getPinningThreshold(), meterRegistry);
+    }
+
+    @Bean
+    public DbAdmissionEndpoint dbAdmissionEndpoint(DbAdmissionController dbAdmissionController,
+                                                   ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor) {
+        return new DbAdmissionEndpoint(dbAdmissionController, virtualThreadPinningMonitor);
+    }
+}
@@ -0,0 +1,104 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of threads doing database work at the same time.
+ * <p>
+ * With virtual threads there is no natural cap on concurrent requests, so thousands of them can end up
+ * queued inside the connection pool. Admission makes them park on a fair semaphore instead (which
+ * unmounts a virtual thread cleanly) and rejects them once the wait budget is spent. Admission is
+ * reentrant per thread: a service transaction is admitted once and the repository calls it makes pass
+ * straight through.
+ */
+public class DbAdmissionController {
+
+    static final String NAME = "db";
+
+    private final int maxInFlight;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final ThreadLocal<int[]> depth = new ThreadLocal<>();
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    public DbAdmissionController(int maxInFlight, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxInFlight, true);
+        this.waitTimer = Timer.builder("reviewservice.db.admission.wait")
+                .description("Time spent waiting for admission to the database")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("reviewservice.db.admission.rejections")
+                .description("Database calls rejected because the admission wait budget was exceeded")
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.db.admission.in.flight", this, DbAdmissionController::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.db.admission.queued", this, DbAdmissionController::getQueued)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits the current thread, or just records nesting if it is already admitted.
+     * Every call that returns normally must be paired with {@link #exit()}.
+     *
+     * @throws BulkheadFullException if no slot frees up within the wait budget.
+     */
+    public void enter() {
+        int[] current = depth.get();
+        if (current != null) {
+            current[0]++;
+            return;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejections.increment();
+            throw new BulkheadFullException(NAME, "The database is saturated. Please retry shortly.");
+        }
+        depth.set(new int[]{1});
+    }
+
+    public void exit() {
+        int[] current = depth.get();
+        if (current == null) {
+            return;
+        }
+        if (--current[0] == 0) {
+            depth.remove();
+            permits.release();
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return permits.getQueueLength();
+    }
+
+    public double getRejections() {
+        return rejections.count();
+    }
+}
@@ -0,0 +1,39 @@
+package com.incognito.reviewservice.resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/dbadmission}: a point-in-time view of database admission and carrier-thread pinning.
+ */
+@Endpoint(id = "dbadmission")
+public class DbAdmissionEndpoint {
+
+    private final DbAdmissionController admissionController;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    public DbAdmissionEndpoint(DbAdmissionController admissionController,
+                               ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        this.admissionController = admissionController;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("maxInFlight", admissionController.getMaxInFlight());
+        body.put("inFlight", admissionController.getInFlight());
+        body.put("queued", admissionController.getQueued());
+        body.put("rejected", (long) admissionController.getRejections());
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor != null) {
+            body.put("pinnedEvents", monitor.getPinnedCount());
+            body.put("lastPinnedStack", monitor.getLastPinnedFrames());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,39 @@
+package com.incognito.reviewservice.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits on concurrent database work, bound from {@code reviewservice.db-admission.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.db-admission")
+public class DbAdmissionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Units of database work (service transactions or bare repository calls) allowed at once.
+     * Keep this at or below the connection pool size so admitted work never queues inside Hikari.
+     */
+    private int maxInFlight = 20;
+
+    /**
+     * How long a caller may wait for admission before being rejected.
+     */
+    private Duration maxWait = Duration.ofSeconds(1);
+
+    /**
+     * Streams {@code jdk.VirtualThreadPinned} JFR events into metrics.
+     */
+    private boolean pinningMonitorEnabled = true;
+
+    /**
+     * Pinned periods shorter than this are not reported.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,54 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.DeadlineExceededException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Caps Hikari's connection-acquisition wait at the remaining {@link RequestDeadline}, so a request
+ * does not sit out the full pool {@code connectionTimeout} after its client has given up.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource implements Closeable {
+
+    private final HikariDataSource hikariDataSource;
+
+    public DeadlineAwareDataSource(HikariDataSource hikariDataSource) {
+        super(hikariDataSource);
+        this.hikariDataSource = hikariDataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!RequestDeadline.isActive()) {
+            return super.getConnection();
+        }
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded before a database connection was acquired");
+        }
+        // The pool is created lazily by the first getConnection(); until then use the regular path
+        if (!(hikariDataSource.getHikariPoolMXBean() instanceof HikariPool pool)) {
+            return super.getConnection();
+        }
+        long budget = Math.min(remainingMillis, hikariDataSource.getConnectionTimeout());
+        try {
+            return pool.getConnection(budget);
+        } catch (SQLException ex) {
+            if (RequestDeadline.remainingMillis() <= 0) {
+                throw new DeadlineExceededException("Request deadline exceeded while waiting for a database connection", ex);
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void close() {
+        // Keeps container shutdown closing the pool, which it would otherwise not find behind this wrapper
+        hikariDataSource.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.incognito.reviewservice.resilience;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Derives each transaction's timeout from the remaining {@link RequestDeadline}.
+ * <p>
+ * Hibernate applies the transaction timeout to every JDBC statement it issues, so PgJDBC cancels a
+ * running query (e.g. a slow {@code LIKE} scan in {@code getReviews}) once the client's budget is gone
+ * instead of letting it run to completion.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configured = super.determineTimeout(definition);
+        if (!RequestDeadline.isActive()) {
+            return configured;
+        }
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction started");
+        }
+        // Statement timeouts have second granularity; round up so a 300ms budget is not treated as none
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        if (configured == TransactionDefinition.TIMEOUT_DEFAULT) {
+            return remainingSeconds;
+        }
+        return Math.min(configured, remainingSeconds);
+    }
+}
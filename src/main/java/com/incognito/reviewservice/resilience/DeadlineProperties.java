@@ -0,0 +1,41 @@
+package com.incognito.reviewservice.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request deadlines, bound from {@code reviewservice.deadline.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Request header carrying the client's remaining budget in milliseconds.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Budget for endpoints without their own entry in {@link #endpoints}.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound for budgets requested through the header.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Per-endpoint budgets keyed by controller class and method, e.g. {@code ReviewController#getReviews}
+     * (bound with bracket notation, {@code endpoints[ReviewController#getReviews]}, to keep the '#').
+     */
+    private Map<String, Duration> endpoints = new HashMap<>();
+}
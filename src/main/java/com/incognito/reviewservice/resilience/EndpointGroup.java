@@ -0,0 +1,24 @@
+package com.incognito.reviewservice.resilience;
+
+/**
+ * Endpoint groups with their own adaptive concurrency limit. When the service as a whole nears its
+ * limit, groups with a smaller share of it are shed first, so single-review reads survive longest.
+ */
+public enum EndpointGroup {
+    SINGLE_READ("single-read"),
+    WRITE("write"),
+    LIST("list");
+
+    private final String key;
+
+    EndpointGroup(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the name used for this group in configuration and metric tags.
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,34 @@
+package com.incognito.reviewservice.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.load-shedding", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    public AdaptiveConcurrencyInterceptor adaptiveConcurrencyInterceptor(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyInterceptor(properties, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer loadSheddingConfigurer(AdaptiveConcurrencyInterceptor adaptiveConcurrencyInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // Shed before anything else runs for the request
+                registry.addInterceptor(adaptiveConcurrencyInterceptor)
+                        .addPathPatterns("/api/**")
+                        .order(Ordered.HIGHEST_PRECEDENCE);
+            }
+        };
+    }
+}
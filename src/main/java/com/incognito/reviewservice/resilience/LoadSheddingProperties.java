@@ -0,0 +1,58 @@
+package com.incognito.reviewservice.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits, bound from {@code reviewservice.load-shedding.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Value of the {@code Retry-After} header on shed requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Limit across all groups.
+     */
+    private Limit global = new Limit();
+
+    /**
+     * Per-group limits keyed by {@link EndpointGroup#getKey()}.
+     */
+    private Map<String, Limit> groups = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit = 50;
+        private int minLimit = 5;
+        private int maxLimit = 500;
+
+        /**
+         * Requests slower than this count as congestion and shrink the limit.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /**
+         * Multiplier applied to the limit on congestion.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Fraction of the global limit this group may fill; lower shares are shed earlier.
+         */
+        private double share = 1.0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.incognito.reviewservice.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time budget of the request being handled on the current thread. Set by
+ * {@link RequestDeadlineInterceptor} and read wherever work can be bounded: transaction (and therefore
+ * JDBC statement) timeouts and connection acquisition.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration budget) {
+        DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+    }
+
+    public static boolean isActive() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * @return milliseconds left before the deadline (zero or negative once it has passed),
+     * or {@link Long#MAX_VALUE} when no deadline is set.
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+}
@@ -0,0 +1,56 @@
+package com.incognito.reviewservice.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Starts the {@link RequestDeadline} for each API call: the client's header value when present
+ * (capped at the configured maximum), otherwise the endpoint's configured budget.
+ */
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    private final DeadlineProperties properties;
+
+    public RequestDeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline.start(budgetFor(request, handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    private Duration budgetFor(HttpServletRequest request, HandlerMethod handlerMethod) {
+        String requested = request.getHeader(properties.getHeader());
+        if (StringUtils.hasText(requested)) {
+            try {
+                Duration budget = Duration.ofMillis(Long.parseLong(requested.trim()));
+                if (budget.compareTo(properties.getMaxTimeout()) > 0) {
+                    return properties.getMaxTimeout();
+                }
+                return budget.isNegative() ? Duration.ZERO : budget;
+            } catch (NumberFormatException ignored) {
+                // Fall back to the endpoint default for malformed values
+            }
+        }
+        return properties.getEndpoints().getOrDefault(endpointKey(handlerMethod), properties.getDefaultTimeout());
+    }
+
+    // Qualified by controller so that same-named handlers in different controllers keep separate budgets
+    static String endpointKey(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,27 @@
+package com.incognito.reviewservice.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated service method inside the named bulkhead, so it only competes for database
+ * connections with work of the same kind. See {@link BulkheadProperties} for the available names.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseBulkhead {
+
+    String VOTES = "votes";
+    String READS = "reads";
+    // Review and comment creation: moderation screening plus several inserts per call
+    String WRITES = "writes";
+    // Background work that streams tables or batches rows: index and analytics loads, the moderation history,
+    // the activity flush and the startup warm-up
+    String BULK = "bulk";
+
+    String value();
+}
@@ -0,0 +1,139 @@
+package com.incognito.reviewservice.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, in ascending document order, stored as variable-length encoded
+ * (document gap, term frequency) pairs in a single byte array. Most gaps and frequencies fit in one byte.
+ * Not thread-safe; {@link ReviewSearchIndex} guards access.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int documentCount;
+    private int lastDocument = -1;
+
+    void add(int document, int frequency) {
+        if (document <= lastDocument) {
+            throw new IllegalArgumentException("Documents must be added in ascending order: " + document + " after " + lastDocument);
+        }
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length + (data.length >> 1), length + 10));
+        }
+        writeVarInt(document - lastDocument);
+        writeVarInt(frequency);
+        lastDocument = document;
+        documentCount++;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * The list as it is now. Appends only write past the current length, and copy {@code data} when it grows, so
+     * the captured bytes never change.
+     */
+    Frozen freeze() {
+        return new Frozen(data, length, documentCount, lastDocument);
+    }
+
+    /**
+     * A copy of this list keeping only documents with a non-negative new ordinal, renumbered.
+     * {@code newOrdinals} must preserve order.
+     */
+    PostingList remap(int[] newOrdinals) {
+        PostingList remapped = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            int document = newOrdinals[cursor.document()];
+            if (document >= 0) {
+                remapped.add(document, cursor.frequency());
+            }
+        }
+        return remapped;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        freeze().writeTo(out);
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        PostingList list = new PostingList();
+        list.documentCount = in.readInt();
+        list.lastDocument = in.readInt();
+        list.length = in.readInt();
+        list.data = new byte[Math.max(list.length, 8)];
+        in.readFully(list.data, 0, list.length);
+        return list;
+    }
+
+    record Frozen(byte[] data, int length, int documentCount, int lastDocument) {
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(documentCount);
+            out.writeInt(lastDocument);
+            out.writeInt(length);
+            out.write(data, 0, length);
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Forward-only iteration. Starts before the first document; {@link #next()} advances.
+     */
+    final class Cursor {
+        private final int end = length;
+        private int position;
+        private int document = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= end) {
+                document = Integer.MAX_VALUE;
+                return false;
+            }
+            document += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int document() {
+            return document;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
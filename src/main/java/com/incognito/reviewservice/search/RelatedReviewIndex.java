@@ -0,0 +1,567 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process TF-IDF vectors of review titles and content, for "related reviews" by cosine similarity.
+ * <p>
+ * Each review keeps its {@code maxTermsPerReview} highest-weighted terms: sorted term ids and raw counts in
+ * primitive arrays. Per term, a posting list holds the ordinals of the reviews using it with their unit-length
+ * weights. A query weights the source review's terms and walks only their posting lists, accumulating dot
+ * products (cosine similarities, as all vectors have unit length) per ordinal. Above {@code parallelThreshold}
+ * reviews the ordinal range is split across a {@link ForkJoinPool}. The best matches from the same company and
+ * from other companies are kept apart.
+ * <p>
+ * Stored weights use the document frequencies current when they were computed. They are recomputed for every
+ * review, dropping removed ones, each time the number of live reviews has grown by a quarter since the last
+ * time. Queries take a read lock and updates a write lock.
+ * <p>
+ * Snapshots hold each live review's kept terms and counts; weights and posting lists are recomputed on restore.
+ */
+public class RelatedReviewIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    static final double REWEIGHT_GROWTH = 1.25;
+
+    private static final int SPLIT_SIZE = 16_384;
+    private static final int SNAPSHOT_MAGIC = 0x52524958; // "RRIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final ReviewType[] REVIEW_TYPES = ReviewType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final Map<String, Integer> companyKeys = new HashMap<>();
+    private final Map<String, String> companyNames = new HashMap<>();
+    private final ForkJoinPool pool;
+    private final int maxTermsPerReview;
+    private final int parallelThreshold;
+    private BitSet removed = new BitSet();
+    private LongIntMap documentsByReviewId;
+    private int[] documentFrequencies = new int[1024];
+    private int[][] postingDocuments = new int[1024][];
+    private float[][] postingWeights = new float[1024][];
+    private int[] postingSizes = new int[1024];
+    private long[] reviewIds;
+    private long[] createdAtMillis;
+    private byte[] reviewTypes;
+    private String[] titles;
+    private String[] companies;
+    private int[] companyOrdinals;
+    private int[][] terms;
+    private char[][] counts;
+    private int documentCount;
+    private int liveDocuments;
+    private int weightedAtLiveDocuments;
+    private long maxReviewId;
+    private long modifications;
+
+    public RelatedReviewIndex(ForkJoinPool pool, int maxTermsPerReview, int parallelThreshold) {
+        this.pool = pool;
+        this.maxTermsPerReview = maxTermsPerReview;
+        this.parallelThreshold = parallelThreshold;
+        allocate(1024);
+    }
+
+    /**
+     * Adds the review, replacing any earlier version of it; reviews that are not searchable are only removed.
+     */
+    public void upsert(ReviewDocument document) {
+        Map<String, int[]> frequencies = document.isSearchable() ? termFrequencies(document) : Map.of();
+        lock.writeLock().lock();
+        try {
+            int existing = documentsByReviewId.get(document.id());
+            if (existing != LongIntMap.MISSING) {
+                markRemoved(existing);
+            }
+            modifications++;
+            maxReviewId = Math.max(maxReviewId, document.id());
+            if (!document.isSearchable() || frequencies.isEmpty()) {
+                return;
+            }
+            append(document, frequencies);
+            if (liveDocuments >= weightedAtLiveDocuments * REWEIGHT_GROWTH) {
+                reweight();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most similar reviews to {@code reviewId}, excluding itself, best first; at most {@code limit} from the same
+     * company (case-insensitive) and {@code limit} from others.
+     *
+     * @return The matches, or {@code null} if the review is not in the index.
+     */
+    public Related related(long reviewId, int limit) {
+        lock.readLock().lock();
+        try {
+            int source = documentsByReviewId.get(reviewId);
+            if (source == LongIntMap.MISSING || removed.get(source)) {
+                return null;
+            }
+            int[] queryTerms = terms[source];
+            float[] idf = new float[queryTerms.length];
+            for (int i = 0; i < queryTerms.length; i++) {
+                idf[i] = idf(queryTerms[i]);
+            }
+            Scan scan = new Scan(source, queryTerms, unitWeights(counts[source], null, idf), limit, 0, documentCount);
+            TopHits[] top = documentCount < parallelThreshold ? scan.compute() : pool.invoke(scan);
+            return new Related(top[0].sortedDescending(this::toHit), top[1].sortedDescending(this::toHit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int liveDocuments() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Highest review id ever indexed; a snapshot needs everything after it replayed.
+     */
+    public long maxReviewId() {
+        lock.readLock().lock();
+        try {
+            return maxReviewId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Incremented by every {@link #upsert}; lets callers skip snapshots when nothing changed.
+     */
+    public long modifications() {
+        lock.readLock().lock();
+        try {
+            return modifications;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(maxReviewId);
+            String[] termsById = new String[termIds.size()];
+            termIds.forEach((term, id) -> termsById[id] = term);
+            out.writeInt(termsById.length);
+            for (String term : termsById) {
+                out.writeUTF(term);
+            }
+            out.writeInt(liveDocuments);
+            for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+                if (removed.get(ordinal)) {
+                    continue;
+                }
+                out.writeLong(reviewIds[ordinal]);
+                out.writeLong(createdAtMillis[ordinal]);
+                out.writeByte(reviewTypes[ordinal]);
+                SnapshotFile.writeNullableUTF(out, titles[ordinal]);
+                SnapshotFile.writeNullableUTF(out, companies[ordinal]);
+                out.writeInt(terms[ordinal].length);
+                for (int i = 0; i < terms[ordinal].length; i++) {
+                    out.writeInt(terms[ordinal][i]);
+                    out.writeChar(counts[ordinal][i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static RelatedReviewIndex readFrom(DataInput in, ForkJoinPool pool, int maxTermsPerReview,
+                                              int parallelThreshold) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a related-reviews index snapshot");
+        }
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported related-reviews index snapshot version " + version);
+        }
+        RelatedReviewIndex index = new RelatedReviewIndex(pool, maxTermsPerReview, parallelThreshold);
+        index.maxReviewId = in.readLong();
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            index.termId(in.readUTF());
+        }
+        int documentCount = in.readInt();
+        for (int i = 0; i < documentCount; i++) {
+            long reviewId = in.readLong();
+            long createdAt = in.readLong();
+            byte reviewType = in.readByte();
+            String title = SnapshotFile.readNullableUTF(in);
+            String companyName = SnapshotFile.readNullableUTF(in);
+            int[] documentTerms = new int[in.readInt()];
+            char[] documentCounts = new char[documentTerms.length];
+            for (int j = 0; j < documentTerms.length; j++) {
+                documentTerms[j] = in.readInt();
+                documentCounts[j] = in.readChar();
+                if (documentTerms[j] < 0 || documentTerms[j] >= termCount) {
+                    throw new IOException("Term id " + documentTerms[j] + " out of range in review " + reviewId);
+                }
+            }
+            index.store(reviewId, createdAt, reviewType, title, companyName, documentTerms, documentCounts);
+        }
+        // Posting lists are only built here, from the restored document frequencies
+        index.reweight();
+        return index;
+    }
+
+    /**
+     * Recomputes every review's weights from current document frequencies and compacts away removed reviews.
+     * Runs on its own as the index grows; call it after a bulk load.
+     */
+    public void reweight() {
+        lock.writeLock().lock();
+        try {
+            float[] idf = new float[termIds.size()];
+            for (int term = 0; term < idf.length; term++) {
+                idf[term] = idf(term);
+                int documentFrequency = documentFrequencies[term];
+                postingDocuments[term] = documentFrequency == 0 ? null : new int[documentFrequency];
+                postingWeights[term] = documentFrequency == 0 ? null : new float[documentFrequency];
+            }
+            postingSizes = new int[postingSizes.length];
+            int live = 0;
+            LongIntMap byReviewId = new LongIntMap(Math.max(liveDocuments, 16));
+            for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+                if (removed.get(ordinal)) {
+                    continue;
+                }
+                moveDocument(ordinal, live);
+                int[] documentTerms = terms[live];
+                float[] documentWeights = unitWeights(counts[live], documentTerms, idf);
+                for (int i = 0; i < documentTerms.length; i++) {
+                    int term = documentTerms[i];
+                    postingDocuments[term][postingSizes[term]] = live;
+                    postingWeights[term][postingSizes[term]++] = documentWeights[i];
+                }
+                byReviewId.put(reviewIds[live], live);
+                live++;
+            }
+            for (int ordinal = live; ordinal < documentCount; ordinal++) {
+                titles[ordinal] = null;
+                companies[ordinal] = null;
+                terms[ordinal] = null;
+                counts[ordinal] = null;
+            }
+            documentCount = live;
+            documentsByReviewId = byReviewId;
+            removed = new BitSet();
+            weightedAtLiveDocuments = Math.max(liveDocuments, 16);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void append(ReviewDocument document, Map<String, int[]> frequencies) {
+        // Keep the terms that weigh most right now; their weights are refreshed by later reweights
+        List<Map.Entry<String, int[]>> entries = new ArrayList<>(frequencies.entrySet());
+        if (entries.size() > maxTermsPerReview) {
+            double[] score = new double[entries.size()];
+            Integer[] order = new Integer[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                Integer term = termIds.get(entries.get(i).getKey());
+                score[i] = (1 + Math.log(entries.get(i).getValue()[0])) * (term == null ? idf(-1) : idf(term));
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(score[b], score[a]));
+            List<Map.Entry<String, int[]>> kept = new ArrayList<>(maxTermsPerReview);
+            for (int i = 0; i < maxTermsPerReview; i++) {
+                kept.add(entries.get(order[i]));
+            }
+            entries = kept;
+        }
+
+        long[] packed = new long[entries.size()];
+        for (int i = 0; i < packed.length; i++) {
+            int term = termId(entries.get(i).getKey());
+            packed[i] = (long) term << 32 | Math.min(entries.get(i).getValue()[0], Character.MAX_VALUE);
+        }
+        Arrays.sort(packed);
+        int[] documentTerms = new int[packed.length];
+        char[] documentCounts = new char[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            documentTerms[i] = (int) (packed[i] >>> 32);
+            documentCounts[i] = (char) packed[i];
+        }
+
+        int ordinal = store(document.id(),
+                document.createdAt() == null ? Long.MIN_VALUE : document.createdAt().toEpochMilli(),
+                (byte) (document.reviewType() == null ? -1 : document.reviewType().ordinal()),
+                document.title(), document.companyName(), documentTerms, documentCounts);
+        float[] idf = new float[documentTerms.length];
+        for (int i = 0; i < documentTerms.length; i++) {
+            idf[i] = idf(documentTerms[i]);
+        }
+        float[] documentWeights = unitWeights(documentCounts, null, idf);
+        for (int i = 0; i < documentTerms.length; i++) {
+            addPosting(documentTerms[i], ordinal, documentWeights[i]);
+        }
+    }
+
+    // Document frequencies count the review from here on; its posting entries are the caller's job
+    private int store(long reviewId, long createdAt, byte reviewType, String title, String companyName,
+                      int[] documentTerms, char[] documentCounts) {
+        if (documentCount == reviewIds.length) {
+            grow(documentCount + (documentCount >> 1));
+        }
+        int ordinal = documentCount++;
+        reviewIds[ordinal] = reviewId;
+        createdAtMillis[ordinal] = createdAt;
+        reviewTypes[ordinal] = reviewType;
+        titles[ordinal] = title;
+        companies[ordinal] = companyName == null ? null : companyNames.computeIfAbsent(companyName, name -> name);
+        companyOrdinals[ordinal] = companyKey(companyName);
+        terms[ordinal] = documentTerms;
+        counts[ordinal] = documentCounts;
+        for (int term : documentTerms) {
+            documentFrequencies[term]++;
+        }
+        liveDocuments++;
+        documentsByReviewId.put(reviewId, ordinal);
+        return ordinal;
+    }
+
+    private void markRemoved(int ordinal) {
+        if (!removed.get(ordinal)) {
+            removed.set(ordinal);
+            liveDocuments--;
+            for (int term : terms[ordinal]) {
+                documentFrequencies[term]--;
+            }
+        }
+    }
+
+    // Smoothed, so a term in every review still counts a little; -1 stands for a term no review has yet
+    private float idf(int term) {
+        int documentFrequency = term < 0 ? 0 : documentFrequencies[term];
+        return (float) (Math.log((liveDocuments + 1.0) / (documentFrequency + 1.0)) + 1);
+    }
+
+    /**
+     * (1 + ln count) x idf, scaled to unit length. {@code idf} is indexed by term id when {@code documentTerms}
+     * is given, otherwise it is aligned with {@code documentCounts}.
+     */
+    private static float[] unitWeights(char[] documentCounts, int[] documentTerms, float[] idf) {
+        float[] result = new float[documentCounts.length];
+        double norm = 0;
+        for (int i = 0; i < result.length; i++) {
+            float weight = (float) (1 + Math.log(documentCounts[i])) * idf[documentTerms == null ? i : documentTerms[i]];
+            result[i] = weight;
+            norm += (double) weight * weight;
+        }
+        float scale = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < result.length; i++) {
+            result[i] *= scale;
+        }
+        return result;
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = termIds.size();
+            termIds.put(term, id);
+            if (id == documentFrequencies.length) {
+                documentFrequencies = Arrays.copyOf(documentFrequencies, id * 2);
+                postingDocuments = Arrays.copyOf(postingDocuments, id * 2);
+                postingWeights = Arrays.copyOf(postingWeights, id * 2);
+                postingSizes = Arrays.copyOf(postingSizes, id * 2);
+            }
+        }
+        return id;
+    }
+
+    // Ordinals only grow between reweights, so posting lists stay sorted; removed reviews stay in them until then
+    private void addPosting(int term, int ordinal, float weight) {
+        int size = postingSizes[term];
+        if (postingDocuments[term] == null) {
+            postingDocuments[term] = new int[4];
+            postingWeights[term] = new float[4];
+        } else if (size == postingDocuments[term].length) {
+            postingDocuments[term] = Arrays.copyOf(postingDocuments[term], size * 2);
+            postingWeights[term] = Arrays.copyOf(postingWeights[term], size * 2);
+        }
+        postingDocuments[term][size] = ordinal;
+        postingWeights[term][size] = weight;
+        postingSizes[term] = size + 1;
+    }
+
+    private int companyKey(String companyName) {
+        if (companyName == null || companyName.isBlank()) {
+            return -1;
+        }
+        String key = companyName.strip().toLowerCase(Locale.ROOT);
+        Integer existing = companyKeys.get(key);
+        if (existing == null) {
+            existing = companyKeys.size();
+            companyKeys.put(key, existing);
+        }
+        return existing;
+    }
+
+    private Map<String, int[]> termFrequencies(ReviewDocument document) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : Tokenizer.tokenize(document.title())) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0] += TITLE_WEIGHT;
+        }
+        for (String term : Tokenizer.tokenize(document.contentHtml())) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+        }
+        return frequencies;
+    }
+
+    private void allocate(int capacity) {
+        documentsByReviewId = new LongIntMap(capacity);
+        reviewIds = new long[capacity];
+        createdAtMillis = new long[capacity];
+        reviewTypes = new byte[capacity];
+        titles = new String[capacity];
+        companies = new String[capacity];
+        companyOrdinals = new int[capacity];
+        terms = new int[capacity][];
+        counts = new char[capacity][];
+    }
+
+    private void grow(int capacity) {
+        reviewIds = Arrays.copyOf(reviewIds, capacity);
+        createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+        reviewTypes = Arrays.copyOf(reviewTypes, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        companies = Arrays.copyOf(companies, capacity);
+        companyOrdinals = Arrays.copyOf(companyOrdinals, capacity);
+        terms = Arrays.copyOf(terms, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+    }
+
+    private void moveDocument(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        reviewIds[to] = reviewIds[from];
+        createdAtMillis[to] = createdAtMillis[from];
+        reviewTypes[to] = reviewTypes[from];
+        titles[to] = titles[from];
+        companies[to] = companies[from];
+        companyOrdinals[to] = companyOrdinals[from];
+        terms[to] = terms[from];
+        counts[to] = counts[from];
+    }
+
+    private static int firstAtLeast(int[] documents, int size, int ordinal) {
+        int slot = Arrays.binarySearch(documents, 0, size, ordinal);
+        return slot < 0 ? -slot - 1 : slot;
+    }
+
+    private Hit toHit(int ordinal, float similarity) {
+        byte reviewType = reviewTypes[ordinal];
+        long createdAt = createdAtMillis[ordinal];
+        return new Hit(reviewIds[ordinal],
+                reviewType < 0 ? null : REVIEW_TYPES[reviewType],
+                titles[ordinal],
+                companies[ordinal],
+                createdAt == Long.MIN_VALUE ? null : Instant.ofEpochMilli(createdAt),
+                similarity);
+    }
+
+    public record Hit(long reviewId, ReviewType reviewType, String title, String companyName, Instant createdAt, float similarity) {
+    }
+
+    public record Related(List<Hit> sameCompany, List<Hit> otherCompanies) {
+    }
+
+    /**
+     * Scores ordinals {@code [from, to)} against the source review, splitting in halves down to
+     * {@value #SPLIT_SIZE}. Runs under the caller's read lock, which keeps the arrays stable for the workers.
+     * Returns the best same-company and other-company hits.
+     */
+    private final class Scan extends RecursiveTask<TopHits[]> {
+        private final int source;
+        private final int[] queryTerms;
+        private final float[] queryWeights;
+        private final int limit;
+        private final int from;
+        private final int to;
+
+        Scan(int source, int[] queryTerms, float[] queryWeights, int limit, int from, int to) {
+            this.source = source;
+            this.queryTerms = queryTerms;
+            this.queryWeights = queryWeights;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopHits[] compute() {
+            if (to - from > SPLIT_SIZE && documentCount >= parallelThreshold) {
+                int middle = (from + to) >>> 1;
+                Scan right = new Scan(source, queryTerms, queryWeights, limit, middle, to);
+                right.fork();
+                TopHits[] top = new Scan(source, queryTerms, queryWeights, limit, from, middle).compute();
+                TopHits[] rightTop = right.join();
+                top[0].offerAll(rightTop[0]);
+                top[1].offerAll(rightTop[1]);
+                return top;
+            }
+            // Term-at-a-time: only reviews sharing a term with the source are touched
+            float[] similarities = new float[to - from];
+            for (int i = 0; i < queryTerms.length; i++) {
+                int term = queryTerms[i];
+                int[] documents = postingDocuments[term];
+                float[] weights = postingWeights[term];
+                int size = postingSizes[term];
+                float queryWeight = queryWeights[i];
+                for (int slot = from == 0 ? 0 : firstAtLeast(documents, size, from); slot < size && documents[slot] < to; slot++) {
+                    similarities[documents[slot] - from] += queryWeight * weights[slot];
+                }
+            }
+            TopHits sameCompany = new TopHits(limit);
+            TopHits otherCompanies = new TopHits(limit);
+            int company = companyOrdinals[source];
+            for (int offset = 0; offset < similarities.length; offset++) {
+                float similarity = similarities[offset];
+                int ordinal = from + offset;
+                if (similarity > 0 && ordinal != source && !removed.get(ordinal)) {
+                    (company >= 0 && companyOrdinals[ordinal] == company ? sameCompany : otherCompanies).offer(ordinal, similarity);
+                }
+            }
+            return new TopHits[]{sameCompany, otherCompanies};
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.incognito.reviewservice.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the {@link RelatedReviewIndex}: restores it from the snapshot (or lets {@link ReviewDocumentFeed} read the
+ * whole {@code reviews} table into it) before the application reports ready, and writes a snapshot periodically
+ * and on shutdown. Queries never touch the database. The similarity scan runs on a dedicated
+ * {@link ForkJoinPool}, so it does not compete with the common pool.
+ */
+@Slf4j
+public class RelatedReviewIndexManager implements ReviewDocumentIndex, DisposableBean {
+
+    private final RelatedReviewsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+    private final SnapshotFile snapshot;
+    private volatile RelatedReviewIndex index;
+    private volatile boolean ready;
+    private volatile Instant restoredFrom;
+    private volatile long snapshotModifications = -1;
+    private ScheduledExecutorService snapshotWriter;
+
+    public RelatedReviewIndexManager(RelatedReviewsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(properties.getParallelism());
+        this.snapshot = new SnapshotFile(properties.getSnapshotPath(), "related-reviews index");
+        this.index = new RelatedReviewIndex(pool, properties.getMaxTermsPerReview(), properties.getParallelThreshold());
+    }
+
+    @Override
+    public CatchUp restore() {
+        SnapshotFile.Snapshot<RelatedReviewIndex> restored = snapshot.read(in -> RelatedReviewIndex.readFrom(in, pool,
+                properties.getMaxTermsPerReview(), properties.getParallelThreshold()));
+        if (restored == null) {
+            return null;
+        }
+        index = restored.index();
+        snapshotModifications = restored.index().modifications();
+        restoredFrom = restored.takenAt();
+        return new CatchUp(restored.index().maxReviewId(), restored.takenAt().minus(properties.getCatchUpMargin()));
+    }
+
+    @Override
+    public void upsert(ReviewDocument document) {
+        index.upsert(document);
+    }
+
+    @Override
+    public void loaded(int rowsRead, long elapsedNanos) {
+        // Loaded in id order, so the first reviews were weighted against a small corpus
+        index.reweight();
+        ready = true;
+        log.info("Related-reviews index ready in {} ms: {} reviews, {} terms ({} rows read{})",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), index.liveDocuments(), index.termCount(), rowsRead,
+                restoredFrom == null ? "" : " after snapshot of " + restoredFrom);
+
+        Gauge.builder("reviewservice.search.related.documents", this, manager -> manager.index.liveDocuments())
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.search.related.terms", this, manager -> manager.index.termCount())
+                .register(meterRegistry);
+
+        if (snapshot.isEnabled() && !properties.getSnapshotInterval().isZero()) {
+            snapshotWriter = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("related-index-snapshot")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = properties.getSnapshotInterval().toMillis();
+            snapshotWriter.scheduleWithFixedDelay(this::writeSnapshotIfChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public int fetchSize() {
+        return properties.getFetchSize();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return The most similar reviews, or {@code null} if the review is not indexed (unknown, rejected or deleted).
+     */
+    public RelatedReviewIndex.Related related(long reviewId, int limit) {
+        return index.related(reviewId, limit);
+    }
+
+    @Override
+    public void destroy() {
+        if (snapshotWriter != null) {
+            snapshotWriter.shutdownNow();
+        }
+        if (ready) {
+            writeSnapshotIfChanged();
+        }
+        pool.shutdownNow();
+    }
+
+    void writeSnapshotIfChanged() {
+        RelatedReviewIndex current = index;
+        long modifications = current.modifications();
+        if (modifications != snapshotModifications && snapshot.write(Instant.now(), current::writeTo)) {
+            snapshotModifications = modifications;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.incognito.reviewservice.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.search.related", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RelatedReviewsProperties.class)
+public class RelatedReviewsConfig {
+
+    @Bean
+    public RelatedReviewIndexManager relatedReviewIndexManager(RelatedReviewsProperties properties, MeterRegistry meterRegistry) {
+        return new RelatedReviewIndexManager(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.incognito.reviewservice.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * In-memory related-reviews index, bound from {@code reviewservice.search.related.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.search.related")
+public class RelatedReviewsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Terms kept per review, highest TF-IDF weight first. Bounds memory and the posting lists a query walks.
+     */
+    private int maxTermsPerReview = 32;
+
+    /**
+     * Worker threads for the similarity scan.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Below this many indexed reviews the scan stays on the request thread, where forking would cost more than
+     * it saves.
+     */
+    private int parallelThreshold = 20_000;
+
+    /**
+     * Where the index is snapshotted; unset disables snapshots, so every start rebuilds from the database.
+     */
+    private Path snapshotPath;
+
+    /**
+     * How often the index is written to the snapshot when it has changed. It is also written on shutdown.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    /**
+     * After loading a snapshot, reviews updated up to this long before it was taken are re-read as well.
+     */
+    private Duration catchUpMargin = Duration.ofMinutes(1);
+
+    /**
+     * Rows fetched per round trip while loading the reviews table. With the search index enabled too, the
+     * table is read once at the larger of the two fetch sizes.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,8 @@
+package com.incognito.reviewservice.search;
+
+/**
+ * Published inside the transaction that created a review or changed its status; {@link ReviewDocumentFeed}
+ * applies it to the in-memory indexes once that transaction commits.
+ */
+public record ReviewChangedEvent(ReviewDocument document) {
+}
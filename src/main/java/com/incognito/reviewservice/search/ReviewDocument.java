@@ -0,0 +1,54 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * The fields of a review that the in-memory indexes ({@link ReviewSearchIndex}, {@link RelatedReviewIndex})
+ * index or return.
+ */
+public record ReviewDocument(
+        long id,
+        ReviewType reviewType,
+        String title,
+        String contentHtml,
+        String companyName,
+        ReviewStatus status,
+        Instant createdAt
+) {
+
+    /**
+     * The {@code reviews} columns {@link #read} expects.
+     */
+    static final String COLUMNS = "id, review_type, title, content_html, company_name, status, created_at";
+
+    public static ReviewDocument of(Review review) {
+        return new ReviewDocument(review.getId(), review.getReviewType(), review.getTitle(), review.getContentHtml(),
+                review.getCompanyName(), review.getStatus(), review.getCreatedAt());
+    }
+
+    static ReviewDocument read(ResultSet resultSet) throws SQLException {
+        Timestamp createdAt = resultSet.getTimestamp("created_at");
+        return new ReviewDocument(
+                resultSet.getLong("id"),
+                ReviewType.valueOf(resultSet.getString("review_type")),
+                resultSet.getString("title"),
+                resultSet.getString("content_html"),
+                resultSet.getString("company_name"),
+                ReviewStatus.valueOf(resultSet.getString("status")),
+                createdAt == null ? null : createdAt.toInstant());
+    }
+
+    /**
+     * Rejected and deleted reviews are kept out of the indexes.
+     */
+    boolean isSearchable() {
+        return status != ReviewStatus.REJECTED && status != ReviewStatus.DELETED;
+    }
+}
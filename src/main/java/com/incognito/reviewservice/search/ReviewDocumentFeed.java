@@ -0,0 +1,114 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.repository.ReviewTableReader;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Feeds every enabled {@link ReviewDocumentIndex} ({@link ReviewSearchIndexManager},
+ * {@link RelatedReviewIndexManager}): one read of the {@code reviews} table before the application reports
+ * ready, then each {@link ReviewChangedEvent} once its transaction commits.
+ * <p>
+ * When every index restored a snapshot, only the reviews the oldest snapshot may lack are read; otherwise the
+ * whole table is. Either way, each index that restored a snapshot only gets the rows its own catch-up asks for,
+ * so a full scan for one index does not re-add every review to the others.
+ */
+@Slf4j
+public class ReviewDocumentFeed implements ApplicationRunner {
+
+    private static final String SELECT_COLUMNS = "SELECT " + ReviewDocument.COLUMNS + ", updated_at FROM reviews";
+    private static final String FULL_SCAN = SELECT_COLUMNS + " ORDER BY id";
+    private static final String CATCH_UP_SCAN = SELECT_COLUMNS + " WHERE id > ? OR updated_at > ? ORDER BY id";
+    private static final RowMapper<Row> ROWS = (resultSet, row) -> {
+        Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+        return new Row(ReviewDocument.read(resultSet), updatedAt == null ? null : updatedAt.toInstant());
+    };
+
+    private final ReviewTableReader reviewTableReader;
+    private final List<ReviewDocumentIndex> indexes;
+
+    ReviewDocumentFeed(ReviewTableReader reviewTableReader, List<ReviewDocumentIndex> indexes) {
+        this.reviewTableReader = reviewTableReader;
+        this.indexes = List.copyOf(indexes);
+    }
+
+    @Override
+    @UseBulkhead(UseBulkhead.BULK)
+    public void run(ApplicationArguments args) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<ReviewDocumentIndex.CatchUp> catchUps = new ArrayList<>(indexes.size());
+        int fetchSize = 0;
+        for (ReviewDocumentIndex index : indexes) {
+            catchUps.add(index.restore());
+            fetchSize = Math.max(fetchSize, index.fetchSize());
+        }
+        ReviewDocumentIndex.CatchUp catchUp = oldest(catchUps);
+        Consumer<Row> load = row -> {
+            for (int i = 0; i < indexes.size(); i++) {
+                if (needs(catchUps.get(i), row)) {
+                    indexes.get(i).upsert(row.document());
+                }
+            }
+        };
+        int rows = catchUp == null
+                ? reviewTableReader.stream(FULL_SCAN, fetchSize, ROWS, load)
+                : reviewTableReader.stream(CATCH_UP_SCAN, fetchSize, ROWS, load,
+                        catchUp.afterReviewId(), Timestamp.from(catchUp.updatedAfter()));
+        long elapsedNanos = System.nanoTime() - start;
+        log.debug("Read {} reviews for {} in-memory indexes ({})", rows, indexes.size(), catchUp == null
+                ? "whole table" : "after review " + catchUp.afterReviewId() + " or updated after " + catchUp.updatedAfter());
+        indexes.forEach(index -> index.loaded(rows, elapsedNanos));
+    }
+
+    /**
+     * Review changes reach the indexes only once committed; {@code fallbackExecution} applies those published
+     * outside a transaction right away.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        for (ReviewDocumentIndex index : indexes) {
+            index.upsert(event.document());
+        }
+    }
+
+    /**
+     * Whether an index restored to {@code catchUp} ({@code null}: nothing restored) may lack the row.
+     */
+    static boolean needs(ReviewDocumentIndex.CatchUp catchUp, Row row) {
+        return catchUp == null
+                || row.document().id() > catchUp.afterReviewId()
+                || (row.updatedAt() != null && row.updatedAt().isAfter(catchUp.updatedAfter()));
+    }
+
+    /**
+     * The catch-up that covers all the others, or {@code null} if any index needs the whole table.
+     */
+    static ReviewDocumentIndex.CatchUp oldest(List<ReviewDocumentIndex.CatchUp> catchUps) {
+        long afterReviewId = Long.MAX_VALUE;
+        Instant updatedAfter = Instant.MAX;
+        for (ReviewDocumentIndex.CatchUp catchUp : catchUps) {
+            if (catchUp == null) {
+                return null;
+            }
+            afterReviewId = Math.min(afterReviewId, catchUp.afterReviewId());
+            updatedAfter = updatedAfter.isBefore(catchUp.updatedAfter()) ? updatedAfter : catchUp.updatedAfter();
+        }
+        return catchUps.isEmpty() ? null : new ReviewDocumentIndex.CatchUp(afterReviewId, updatedAfter);
+    }
+
+    record Row(ReviewDocument document, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.repository.ReviewTableReader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class ReviewDocumentFeedConfig {
+
+    @Bean
+    public ReviewDocumentFeed reviewDocumentFeed(ReviewTableReader reviewTableReader, ObjectProvider<ReviewDocumentIndex> indexes) {
+        return new ReviewDocumentFeed(reviewTableReader, indexes.orderedStream().toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.incognito.reviewservice.search;
+
+import java.time.Instant;
+
+/**
+ * An in-memory index of {@link ReviewDocument}s. {@link ReviewDocumentFeed} fills every one of them from a single
+ * read of the {@code reviews} table, then keeps them current.
+ */
+interface ReviewDocumentIndex {
+
+    /**
+     * Restores the index from its snapshot, if it has one.
+     *
+     * @return The reviews still to be read, or {@code null} to read the whole table.
+     */
+    CatchUp restore();
+
+    /**
+     * Adds the review, replacing any earlier version of it. Called for every row read at startup that
+     * {@link #restore()}'s catch-up asks for (rows inside the catch-up margin may already be held), and for
+     * every committed change.
+     */
+    void upsert(ReviewDocument document);
+
+    /**
+     * Called once, after the table has been read; the index reports ready from then on.
+     *
+     * @param rowsRead Rows read for all indexes together.
+     */
+    void loaded(int rowsRead, long elapsedNanos);
+
+    /**
+     * Rows fetched per round trip while the table is read.
+     */
+    int fetchSize();
+
+    /**
+     * Reviews a restored snapshot may lack: those with a higher id, and those updated after {@code updatedAfter}.
+     */
+    record CatchUp(long afterReviewId, Instant updatedAfter) {
+    }
+}
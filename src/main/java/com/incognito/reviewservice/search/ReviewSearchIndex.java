@@ -0,0 +1,427 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over review titles, content and company names, scored with BM25.
+ * <p>
+ * Each review is a document with a dense ordinal; postings are {@link PostingList}s of those ordinals. A term
+ * counts {@value #TITLE_WEIGHT}x in the title and {@value #COMPANY_WEIGHT}x in the company name, and the document
+ * length is weighted the same way. Re-indexing a review appends a new document and marks the old one removed.
+ * Removed documents are skipped at query time. Once they make up {@value #COMPACT_REMOVED_PERCENT}% of the
+ * documents, and after loading a snapshot that holds any, the index is compacted: live documents are renumbered
+ * and the posting lists rewritten without the removed ones.
+ * <p>
+ * Searches take a read lock and updates a write lock, so queries run concurrently with each other. Snapshots
+ * capture the index under the read lock and write it out after releasing it.
+ */
+public class ReviewSearchIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final int TITLE_WEIGHT = 3;
+    static final int COMPANY_WEIGHT = 2;
+    static final int MAX_QUERY_TERMS = 16;
+    static final int COMPACT_REMOVED_PERCENT = 25;
+    static final int COMPACT_MIN_REMOVED = 1024;
+
+    private static final int SNAPSHOT_MAGIC = 0x52534958; // "RSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final ReviewType[] REVIEW_TYPES = ReviewType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, String> companyNames = new HashMap<>();
+    private BitSet removed = new BitSet();
+    private LongIntMap documentsByReviewId;
+    private long[] reviewIds;
+    private int[] lengths;
+    private long[] createdAtMillis;
+    private byte[] reviewTypes;
+    private String[] titles;
+    private String[] companies;
+    private int documentCount;
+    private int liveDocuments;
+    private long liveLength;
+    private long maxReviewId;
+    private long modifications;
+
+    public ReviewSearchIndex() {
+        this(1024);
+    }
+
+    ReviewSearchIndex(int expectedDocuments) {
+        int capacity = Math.max(expectedDocuments, 16);
+        documentsByReviewId = new LongIntMap(capacity);
+        reviewIds = new long[capacity];
+        lengths = new int[capacity];
+        createdAtMillis = new long[capacity];
+        reviewTypes = new byte[capacity];
+        titles = new String[capacity];
+        companies = new String[capacity];
+    }
+
+    /**
+     * Adds the review, replacing any earlier version of it; reviews that are not searchable are only removed.
+     */
+    public void upsert(ReviewDocument document) {
+        Map<String, int[]> frequencies = document.isSearchable() ? termFrequencies(document) : Map.of();
+        lock.writeLock().lock();
+        try {
+            int existing = documentsByReviewId.get(document.id());
+            if (existing != LongIntMap.MISSING) {
+                markRemoved(existing);
+                compactIfNeeded();
+            }
+            modifications++;
+            maxReviewId = Math.max(maxReviewId, document.id());
+            if (!document.isSearchable()) {
+                return;
+            }
+            int length = 0;
+            for (int[] frequency : frequencies.values()) {
+                length += frequency[0];
+            }
+            int ordinal = appendDocument(document, length);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new PostingList()).add(ordinal, frequency[0]));
+            documentsByReviewId.put(document.id(), ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} matches for any of the query terms, highest BM25 score first.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = Tokenizer.tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+            float[] idf = new float[terms.size()];
+            int active = 0;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // Document frequency still counts removed documents; cap it so idf stays positive
+                int documentFrequency = Math.min(list.documentCount(), liveDocuments);
+                idf[active] = (float) Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                cursors[active] = list.cursor();
+                cursors[active].next();
+                active++;
+            }
+            if (active == 0 || liveDocuments == 0) {
+                return List.of();
+            }
+
+            // Document-at-a-time: walk all matching postings in step, so nothing is allocated per candidate
+            float averageLength = (float) liveLength / liveDocuments;
+            TopHits top = new TopHits(limit);
+            while (true) {
+                int ordinal = Integer.MAX_VALUE;
+                for (int i = 0; i < active; i++) {
+                    ordinal = Math.min(ordinal, cursors[i].document());
+                }
+                if (ordinal == Integer.MAX_VALUE) {
+                    break;
+                }
+                float lengthNorm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                float score = 0;
+                for (int i = 0; i < active; i++) {
+                    if (cursors[i].document() == ordinal) {
+                        int frequency = cursors[i].frequency();
+                        score += idf[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                        cursors[i].next();
+                    }
+                }
+                if (!removed.get(ordinal)) {
+                    top.offer(ordinal, score);
+                }
+            }
+            return top.sortedDescending(this::toHit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int liveDocuments() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int removedDocuments() {
+        lock.readLock().lock();
+        try {
+            return documentCount - liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Highest review id ever indexed; a snapshot needs everything after it replayed.
+     */
+    public long maxReviewId() {
+        lock.readLock().lock();
+        try {
+            return maxReviewId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Incremented by every {@link #upsert}; lets callers skip snapshots when nothing changed.
+     */
+    public long modifications() {
+        lock.readLock().lock();
+        try {
+            return modifications;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the index as it is when called. Only the capture holds the read lock; the write itself does not,
+     * so a slow disk never holds up an update and the searches queued behind it.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        Generation generation;
+        lock.readLock().lock();
+        try {
+            List<Map.Entry<String, PostingList.Frozen>> frozenPostings = new ArrayList<>(postings.size());
+            postings.forEach((term, list) -> frozenPostings.add(Map.entry(term, list.freeze())));
+            generation = new Generation(maxReviewId, documentCount, Arrays.copyOf(reviewIds, documentCount),
+                    Arrays.copyOf(lengths, documentCount), Arrays.copyOf(createdAtMillis, documentCount),
+                    Arrays.copyOf(reviewTypes, documentCount), (BitSet) removed.clone(),
+                    Arrays.copyOf(titles, documentCount), Arrays.copyOf(companies, documentCount), frozenPostings);
+        } finally {
+            lock.readLock().unlock();
+        }
+        generation.writeTo(out);
+    }
+
+    public static ReviewSearchIndex readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a review search index snapshot");
+        }
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported review search index snapshot version " + version);
+        }
+        long maxReviewId = in.readLong();
+        int documentCount = in.readInt();
+        ReviewSearchIndex index = new ReviewSearchIndex(documentCount);
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            long reviewId = in.readLong();
+            int length = in.readInt();
+            long createdAt = in.readLong();
+            byte reviewType = in.readByte();
+            boolean removed = in.readBoolean();
+            index.reviewIds[ordinal] = reviewId;
+            index.lengths[ordinal] = length;
+            index.createdAtMillis[ordinal] = createdAt;
+            index.reviewTypes[ordinal] = reviewType;
+            index.titles[ordinal] = SnapshotFile.readNullableUTF(in);
+            index.companies[ordinal] = index.internCompany(SnapshotFile.readNullableUTF(in));
+            // Later versions of a review come later, so the last put wins
+            index.documentsByReviewId.put(reviewId, ordinal);
+            if (removed) {
+                index.removed.set(ordinal);
+            } else {
+                index.liveDocuments++;
+                index.liveLength += length;
+            }
+        }
+        index.documentCount = documentCount;
+        index.maxReviewId = maxReviewId;
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            String term = in.readUTF();
+            index.postings.put(term, PostingList.readFrom(in));
+        }
+        if (index.liveDocuments < documentCount) {
+            index.compact();
+        }
+        return index;
+    }
+
+    /**
+     * Renumbers the live documents from 0 and rewrites every posting list without the removed ones. Runs on its
+     * own once enough documents are removed; callers hold the write lock or own the index exclusively.
+     */
+    void compact() {
+        int[] newOrdinals = new int[documentCount];
+        int live = 0;
+        LongIntMap byReviewId = new LongIntMap(Math.max(liveDocuments, 16));
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            if (removed.get(ordinal)) {
+                newOrdinals[ordinal] = -1;
+                continue;
+            }
+            newOrdinals[ordinal] = live;
+            reviewIds[live] = reviewIds[ordinal];
+            lengths[live] = lengths[ordinal];
+            createdAtMillis[live] = createdAtMillis[ordinal];
+            reviewTypes[live] = reviewTypes[ordinal];
+            titles[live] = titles[ordinal];
+            companies[live] = companies[ordinal];
+            byReviewId.put(reviewIds[live], live);
+            live++;
+        }
+        for (int ordinal = live; ordinal < documentCount; ordinal++) {
+            titles[ordinal] = null;
+            companies[ordinal] = null;
+        }
+        postings.replaceAll((term, list) -> list.remap(newOrdinals));
+        postings.values().removeIf(list -> list.documentCount() == 0);
+        documentCount = live;
+        documentsByReviewId = byReviewId;
+        removed = new BitSet();
+    }
+
+    private void compactIfNeeded() {
+        int removedDocuments = documentCount - liveDocuments;
+        if (removedDocuments >= COMPACT_MIN_REMOVED && removedDocuments * 100L >= (long) documentCount * COMPACT_REMOVED_PERCENT) {
+            compact();
+        }
+    }
+
+    private Map<String, int[]> termFrequencies(ReviewDocument document) {
+        Map<String, int[]> frequencies = new LinkedHashMap<>();
+        addTerms(frequencies, Tokenizer.tokenize(document.title()), TITLE_WEIGHT);
+        addTerms(frequencies, Tokenizer.tokenize(document.contentHtml()), 1);
+        addTerms(frequencies, Tokenizer.tokenize(document.companyName()), COMPANY_WEIGHT);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, int[]> frequencies, List<String> terms, int weight) {
+        for (String term : terms) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0] += weight;
+        }
+    }
+
+    private int appendDocument(ReviewDocument document, int length) {
+        if (documentCount == reviewIds.length) {
+            int capacity = documentCount + (documentCount >> 1);
+            reviewIds = Arrays.copyOf(reviewIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+            reviewTypes = Arrays.copyOf(reviewTypes, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            companies = Arrays.copyOf(companies, capacity);
+        }
+        int ordinal = documentCount++;
+        reviewIds[ordinal] = document.id();
+        lengths[ordinal] = length;
+        createdAtMillis[ordinal] = document.createdAt() == null ? Long.MIN_VALUE : document.createdAt().toEpochMilli();
+        reviewTypes[ordinal] = (byte) (document.reviewType() == null ? -1 : document.reviewType().ordinal());
+        titles[ordinal] = document.title();
+        companies[ordinal] = internCompany(document.companyName());
+        liveDocuments++;
+        liveLength += length;
+        return ordinal;
+    }
+
+    private void markRemoved(int ordinal) {
+        if (!removed.get(ordinal)) {
+            removed.set(ordinal);
+            liveDocuments--;
+            liveLength -= lengths[ordinal];
+        }
+    }
+
+    // Company names repeat across many reviews; keep one copy of each
+    private String internCompany(String companyName) {
+        return companyName == null ? null : companyNames.computeIfAbsent(companyName, name -> name);
+    }
+
+    private Hit toHit(int ordinal, float score) {
+        byte reviewType = reviewTypes[ordinal];
+        long createdAt = createdAtMillis[ordinal];
+        return new Hit(reviewIds[ordinal],
+                reviewType < 0 ? null : REVIEW_TYPES[reviewType],
+                titles[ordinal],
+                companies[ordinal],
+                createdAt == Long.MIN_VALUE ? null : Instant.ofEpochMilli(createdAt),
+                score);
+    }
+
+    public record Hit(long reviewId, ReviewType reviewType, String title, String companyName, Instant createdAt, float score) {
+    }
+
+    /**
+     * The index as captured by {@link #writeTo}: copied document arrays and frozen posting lists, which later
+     * updates do not touch.
+     */
+    private record Generation(long maxReviewId, int documentCount, long[] reviewIds, int[] lengths,
+                              long[] createdAtMillis, byte[] reviewTypes, BitSet removed, String[] titles,
+                              String[] companies, List<Map.Entry<String, PostingList.Frozen>> postings) {
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(maxReviewId);
+            out.writeInt(documentCount);
+            for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+                out.writeLong(reviewIds[ordinal]);
+                out.writeInt(lengths[ordinal]);
+                out.writeLong(createdAtMillis[ordinal]);
+                out.writeByte(reviewTypes[ordinal]);
+                out.writeBoolean(removed.get(ordinal));
+                SnapshotFile.writeNullableUTF(out, titles[ordinal]);
+                SnapshotFile.writeNullableUTF(out, companies[ordinal]);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList.Frozen> entry : postings) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.incognito.reviewservice.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the {@link ReviewSearchIndex}: restores it from the snapshot (or lets {@link ReviewDocumentFeed} read the
+ * whole {@code reviews} table into it) before the application reports ready, and writes a snapshot periodically
+ * and on shutdown.
+ * <p>
+ * After a snapshot is restored, only reviews with a higher id or a recent {@code updated_at} are re-read.
+ */
+@Slf4j
+public class ReviewSearchIndexManager implements ReviewDocumentIndex, DisposableBean {
+
+    private final SearchIndexProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SnapshotFile snapshot;
+    private volatile ReviewSearchIndex index = new ReviewSearchIndex();
+    private volatile boolean ready;
+    private volatile Instant restoredFrom;
+    private volatile long snapshotModifications = -1;
+    private ScheduledExecutorService snapshotWriter;
+
+    public ReviewSearchIndexManager(SearchIndexProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.snapshot = new SnapshotFile(properties.getSnapshotPath(), "review search index");
+    }
+
+    @Override
+    public CatchUp restore() {
+        SnapshotFile.Snapshot<ReviewSearchIndex> restored = snapshot.read(ReviewSearchIndex::readFrom);
+        if (restored == null) {
+            return null;
+        }
+        index = restored.index();
+        snapshotModifications = restored.index().modifications();
+        restoredFrom = restored.takenAt();
+        return new CatchUp(restored.index().maxReviewId(), restored.takenAt().minus(properties.getCatchUpMargin()));
+    }
+
+    @Override
+    public void upsert(ReviewDocument document) {
+        index.upsert(document);
+    }
+
+    @Override
+    public void loaded(int rowsRead, long elapsedNanos) {
+        ready = true;
+        log.info("Review search index ready in {} ms: {} documents, {} terms, {} KiB of postings ({} rows read{})",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), index.liveDocuments(), index.termCount(),
+                index.postingBytes() / 1024, rowsRead, restoredFrom == null ? "" : " after snapshot of " + restoredFrom);
+
+        Gauge.builder("reviewservice.search.index.documents", this, manager -> manager.index.liveDocuments())
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.search.index.removed.documents", this, manager -> manager.index.removedDocuments())
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.search.index.terms", this, manager -> manager.index.termCount())
+                .register(meterRegistry);
+        Gauge.builder("reviewservice.search.index.posting.bytes", this, manager -> manager.index.postingBytes())
+                .register(meterRegistry);
+
+        if (snapshot.isEnabled() && !properties.getSnapshotInterval().isZero()) {
+            snapshotWriter = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("search-index-snapshot")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = properties.getSnapshotInterval().toMillis();
+            snapshotWriter.scheduleWithFixedDelay(this::writeSnapshotIfChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public int fetchSize() {
+        return properties.getFetchSize();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<ReviewSearchIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @Override
+    public void destroy() {
+        if (snapshotWriter != null) {
+            snapshotWriter.shutdownNow();
+        }
+        if (ready) {
+            writeSnapshotIfChanged();
+        }
+    }
+
+    void writeSnapshotIfChanged() {
+        ReviewSearchIndex current = index;
+        long modifications = current.modifications();
+        if (modifications != snapshotModifications && snapshot.write(Instant.now(), current::writeTo)) {
+            snapshotModifications = modifications;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.temporal.ValueRange;
+import java.util.Base64;
+
+/**
+ * Keyset position in a ranked search: the score and id of the last row returned, plus the reference time the
+ * scores were computed against. Encoded as an opaque URL-safe token so clients just echo it back.
+ */
+public record SearchCursor(Instant asOf, double score, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    // Years 1 to 9999; a forged epoch beyond them would otherwise get past here and fail binding to timestamptz
+    private static final ValueRange AS_OF_MILLIS = ValueRange.of(
+            Instant.parse("0001-01-01T00:00:00Z").toEpochMilli(), Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli());
+
+    public String encode() {
+        // Double.toString round-trips exactly, so the next page resumes at the same score the database produced
+        String raw = asOf.toEpochMilli() + ":" + score + ":" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("expected 3 parts, got " + parts.length);
+            }
+            long asOfMillis = Long.parseLong(parts[0]);
+            if (!AS_OF_MILLIS.isValidValue(asOfMillis)) {
+                throw new DateTimeException("asOf out of range: " + asOfMillis);
+            }
+            return new SearchCursor(Instant.ofEpochMilli(asOfMillis),
+                    Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException("Invalid search cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.incognito.reviewservice.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.search.index", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SearchIndexProperties.class)
+public class SearchIndexConfig {
+
+    @Bean
+    public ReviewSearchIndexManager reviewSearchIndexManager(SearchIndexProperties properties, MeterRegistry meterRegistry) {
+        return new ReviewSearchIndexManager(properties, meterRegistry);
+    }
+}
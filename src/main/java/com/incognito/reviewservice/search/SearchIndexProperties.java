@@ -0,0 +1,40 @@
+package com.incognito.reviewservice.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * In-memory review search index, bound from {@code reviewservice.search.index.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.search.index")
+public class SearchIndexProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Where the index is snapshotted; unset disables snapshots, so every start rebuilds from the database.
+     */
+    private Path snapshotPath;
+
+    /**
+     * How often the index is written to the snapshot when it has changed. It is also written on shutdown.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    /**
+     * After loading a snapshot, reviews updated up to this long before it was taken are re-read as well.
+     * This covers transactions that committed after the snapshot but stamped {@code updated_at} before it.
+     */
+    private Duration catchUpMargin = Duration.ofMinutes(1);
+
+    /**
+     * Rows fetched per round trip while streaming the reviews table.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,107 @@
+package com.incognito.reviewservice.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+
+/**
+ * A snapshot of an in-memory index on disk: the time it was taken, then the index itself. Writes go to a
+ * temporary file that is moved into place, so a crash mid-write leaves the previous snapshot intact.
+ */
+@Slf4j
+final class SnapshotFile {
+
+    private final Path path;
+    private final String description;
+
+    /**
+     * @param path        Where the snapshot lives; {@code null} disables reading and writing it.
+     * @param description What the snapshot holds, for log messages.
+     */
+    SnapshotFile(Path path, String description) {
+        this.path = path;
+        this.description = description;
+    }
+
+    boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * @return The snapshot, or {@code null} if there is none or it cannot be read, in which case the index is
+     * rebuilt from the database.
+     */
+    <T> Snapshot<T> read(Reader<T> reader) {
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            Instant takenAt = Instant.ofEpochMilli(in.readLong());
+            return new Snapshot<>(takenAt, reader.read(in));
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable {} snapshot {}, rebuilding: {}", description, path, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param takenAt Taken before the index is read, so the catch-up after a restart starts no later than the
+     *                snapshot.
+     * @return Whether the snapshot was written; failures are logged.
+     */
+    boolean write(Instant takenAt, Writer writer) {
+        if (path == null) {
+            return false;
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                out.writeLong(takenAt.toEpochMilli());
+                writer.write(out);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} snapshot to {}", description, path);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not write {} snapshot to {}: {}", description, path, ex.getMessage());
+            return false;
+        }
+    }
+
+    static void writeNullableUTF(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableUTF(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    record Snapshot<T>(Instant takenAt, T index) {
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Writer {
+        void write(DataOutput out) throws IOException;
+    }
+}
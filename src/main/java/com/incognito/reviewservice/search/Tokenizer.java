@@ -0,0 +1,57 @@
+package com.incognito.reviewservice.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits text into lower-case terms for {@link ReviewSearchIndex}: runs of letters and digits, HTML tags skipped,
+ * stop words and single characters dropped. No stemming, so "benefit" and "benefits" are different terms.
+ */
+final class Tokenizer {
+
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "its", "of", "on", "or", "so", "such", "that", "the", "their", "then", "there", "these", "they",
+            "this", "to", "was", "were", "will", "with");
+
+    private Tokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        StringBuilder term = new StringBuilder();
+        boolean inTag = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                inTag = true;
+            } else if (inTag) {
+                inTag = c != '>';
+                continue;
+            }
+            if (!inTag && Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else {
+                emit(term, terms);
+            }
+        }
+        emit(term, terms);
+        return terms;
+    }
+
+    private static void emit(StringBuilder term, List<String> terms) {
+        if (term.length() > 1 && term.length() <= MAX_TERM_LENGTH) {
+            String value = term.toString();
+            if (!STOP_WORDS.contains(value)) {
+                terms.add(value);
+            }
+        }
+        term.setLength(0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.incognito.reviewservice.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded min-heap of (document, score); the root is the weakest hit kept so far.
+ */
+final class TopHits {
+
+    private final int[] documents;
+    private final float[] scores;
+    private int size;
+
+    TopHits(int limit) {
+        documents = new int[limit];
+        scores = new float[limit];
+    }
+
+    void offer(int document, float score) {
+        if (size < documents.length) {
+            documents[size] = document;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0] || (score == scores[0] && document > documents[0])) {
+            documents[0] = document;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers every hit of {@code other}, e.g. to combine the results of a split scan.
+     */
+    void offerAll(TopHits other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.documents[i], other.scores[i]);
+        }
+    }
+
+    <T> List<T> sortedDescending(HitFactory<T> factory) {
+        List<T> hits = new ArrayList<>(size);
+        while (size > 0) {
+            hits.add(factory.create(documents[0], scores[0]));
+            size--;
+            documents[0] = documents[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return hits.reversed();
+    }
+
+    private void siftUp(int child) {
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (!weaker(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            child = parent;
+        }
+    }
+
+    private void siftDown(int parent) {
+        while (true) {
+            int weakest = parent;
+            int left = 2 * parent + 1;
+            if (left < size && weaker(left, weakest)) {
+                weakest = left;
+            }
+            if (left + 1 < size && weaker(left + 1, weakest)) {
+                weakest = left + 1;
+            }
+            if (weakest == parent) {
+                return;
+            }
+            swap(parent, weakest);
+            parent = weakest;
+        }
+    }
+
+    // Equal scores: the older document (lower ordinal) ranks lower
+    private boolean weaker(int a, int b) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && documents[a] < documents[b]);
+    }
+
+    private void swap(int a, int b) {
+        int document = documents[a];
+        documents[a] = documents[b];
+        documents[b] = document;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+
+    @FunctionalInterface
+    interface HitFactory<T> {
+        T create(int ordinal, float score);
+    }
+}
@@ -1,15 +1,25 @@
 package com.incognito.reviewservice.service;
 
+import com.incognito.reviewservice.activity.ActivityEvent;
 import com.incognito.reviewservice.dto.CommentCreateRequest;
 import com.incognito.reviewservice.dto.CommentResponse;
 import com.incognito.reviewservice.entity.Comment;
 import com.incognito.reviewservice.entity.Review;
 import com.incognito.reviewservice.exception.BadRequestException;
 import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.model.CommentStatus;
+import com.incognito.reviewservice.moderation.ModerationAction;
+import com.incognito.reviewservice.moderation.ModerationService;
+import com.incognito.reviewservice.moderation.ModerationVerdict;
+import com.incognito.reviewservice.observability.CommentCreationEvent;
+import com.incognito.reviewservice.observability.VoteEvent;
 import com.incognito.reviewservice.repository.CommentRepository;
 import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.resilience.UseBulkhead;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page; // Import Page
 import org.springframework.data.domain.Pageable; // Import Pageable
 import org.springframework.stereotype.Service;
@@ -21,9 +31,14 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
+    private final ModerationService moderationService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @UseBulkhead(UseBulkhead.WRITES)
     @Transactional
     public CommentResponse createComment(Long reviewId, Long parentId, CommentCreateRequest request) {
+        CommentCreationEvent event = new CommentCreationEvent();
+        event.begin();
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId + " to add comment."));
 
@@ -33,6 +48,12 @@ public class CommentService {
                 .commenterName(request.commenterName()) // Use name from request, can be null
                 .build();
 
+        ModerationVerdict verdict = moderationService.screenComment(request.content());
+        if (verdict.isFlagged()) {
+            comment.setStatus(verdict.action() == ModerationAction.HIDE ? CommentStatus.HIDDEN : CommentStatus.PENDING);
+            comment.setModerationReason(verdict.reason());
+        }
+
         if (parentId != null) {
             Comment parentComment = commentRepository.findById(parentId)
                     .orElseThrow(() -> new ResourceNotFoundException("Parent comment not found with id: " + parentId));
@@ -46,16 +67,20 @@ public class CommentService {
 
         // Save the comment entity itself. The returned instance is managed and has the ID.
         Comment savedComment = commentRepository.save(comment);
+        moderationService.recordComment(savedComment.getId(), verdict);
+        eventPublisher.publishEvent(new ActivityEvent(review.getCompanyName(), ActivityType.COMMENT, savedComment.getCreatedAt()));
+        event.complete(reviewId, parentId != null, savedComment.getId() == null ? 0 : savedComment.getId());
 
         return mapToCommentResponse(savedComment);
     }
 
+    @UseBulkhead(UseBulkhead.READS)
     @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentsByReviewId(Long reviewId, Pageable pageable) {
         if (!reviewRepository.existsById(reviewId)) {
             throw new ResourceNotFoundException("Review not found with id: " + reviewId);
         }
-        Page<Comment> commentPage = commentRepository.findByReviewIdAndParentIsNull(reviewId, pageable);
+        Page<Comment> commentPage = commentRepository.findByReviewIdAndParentIsNullAndStatus(reviewId, CommentStatus.ACTIVE, pageable);
         return commentPage.map(this::mapToCommentResponse);
     }
 
@@ -68,9 +93,13 @@ public class CommentService {
      * @throws ResourceNotFoundException if the comment is not found.
      * @throws BadRequestException if the comment does not belong to the specified review.
      */
+    @UseBulkhead(UseBulkhead.VOTES)
     @Transactional
     public CommentResponse incrementLikeCount(Long reviewId, Long commentId) {
+        VoteEvent event = new VoteEvent();
+        event.begin();
         int updatedRows = commentRepository.incrementLikeCount(commentId, reviewId);
+        event.complete(VoteEvent.COMMENT, commentId, VoteEvent.LIKE, updatedRows > 0);
         if (updatedRows == 0) {
             throw new ResourceNotFoundException("Comment not found with id: " + commentId + " for review id: " + reviewId + " to increment like count.");
         }
@@ -87,9 +116,13 @@ public class CommentService {
      * @return A {@link CommentResponse} representing the updated comment.
      * @throws ResourceNotFoundException if the comment is not found or does not belong to the review.
      */
+    @UseBulkhead(UseBulkhead.VOTES)
     @Transactional
     public CommentResponse incrementDislikeCount(Long reviewId, Long commentId) {
+        VoteEvent event = new VoteEvent();
+        event.begin();
         int updatedRows = commentRepository.incrementDislikeCount(commentId, reviewId);
+        event.complete(VoteEvent.COMMENT, commentId, VoteEvent.DISLIKE, updatedRows > 0);
         if (updatedRows == 0) {
             throw new ResourceNotFoundException("Comment not found with id: " + commentId + " for review id: " + reviewId + " to increment dislike count.");
         }
@@ -98,7 +131,8 @@ public class CommentService {
         return mapToCommentResponse(comment);
     }
 
-    private CommentResponse mapToCommentResponse(Comment comment) {
+    // Package-private for the JMH benchmarks (src/jmh)
+    CommentResponse mapToCommentResponse(Comment comment) {
         if (comment == null) {
             return null;
         }
@@ -118,6 +152,7 @@ public class CommentService {
         );
     }
 
+    @UseBulkhead(UseBulkhead.READS)
     @Transactional(readOnly = true)
     public Page<CommentResponse> getRepliesOfComment(Long reviewId, Long commentId, Pageable pageable) {
         if (!reviewRepository.existsById(reviewId)) {
@@ -126,7 +161,7 @@ public class CommentService {
         if (!commentRepository.existsById(commentId)) {
             throw new ResourceNotFoundException("Comment not found with id: " + commentId);
         }
-        Page<Comment> commentPage = commentRepository.findByParentId(commentId, pageable);
+        Page<Comment> commentPage = commentRepository.findByParentIdAndStatus(commentId, CommentStatus.ACTIVE, pageable);
         return commentPage.map(this::mapToCommentResponse);
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.RelatedReview;
+import com.incognito.reviewservice.dto.RelatedReviewsResponse;
+import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import com.incognito.reviewservice.search.RelatedReviewIndex;
+import com.incognito.reviewservice.search.RelatedReviewIndexManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * "Related reviews" served from the in-memory TF-IDF index; never queries the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatedReviewService {
+    static final int MAX_RELATED = 20;
+    static final long RETRY_AFTER_SECONDS = 10;
+
+    private final ObjectProvider<RelatedReviewIndexManager> relatedReviews;
+
+    /**
+     * @param reviewId The review to find related ones for.
+     * @param size     Maximum results per list, capped at {@value #MAX_RELATED}.
+     * @return Up to {@code size} similar reviews of the same company and up to {@code size} of other companies.
+     * @throws ResourceNotFoundException   if the review is unknown, rejected or deleted.
+     * @throws ServiceOverloadedException if the index is disabled or still loading.
+     */
+    public RelatedReviewsResponse getRelatedReviews(Long reviewId, int size) {
+        RelatedReviewIndexManager index = relatedReviews.getIfAvailable();
+        if (index == null || !index.isReady()) {
+            throw new ServiceOverloadedException("Related reviews are not available yet", RETRY_AFTER_SECONDS);
+        }
+        RelatedReviewIndex.Related related = index.related(reviewId, Math.clamp(size, 1, MAX_RELATED));
+        if (related == null) {
+            throw new ResourceNotFoundException("Review not found with id: " + reviewId);
+        }
+        return new RelatedReviewsResponse(reviewId, map(related.sameCompany()), map(related.otherCompanies()));
+    }
+
+    private static List<RelatedReview> map(List<RelatedReviewIndex.Hit> hits) {
+        return hits.stream()
+                .map(hit -> new RelatedReview(hit.reviewId(), hit.reviewType(), hit.title(), hit.companyName(),
+                        hit.createdAt(), hit.similarity()))
+                .toList();
+    }
+}
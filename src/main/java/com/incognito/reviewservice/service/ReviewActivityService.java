@@ -0,0 +1,100 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.ActivityBucket;
+import com.incognito.reviewservice.dto.HistogramBucket;
+import com.incognito.reviewservice.dto.ReviewActivityResponse;
+import com.incognito.reviewservice.dto.ReviewHistogramResponse;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.model.HistogramInterval;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Review time-series for company dashboards. Long ranges come from the daily rollup, which the write paths of
+ * {@link ReviewService} and {@link CommentService} keep current; short ranges at up to hourly resolution are
+ * counted from the reviews table itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewActivityService {
+    static final long MAX_ACTIVITY_DAYS = 5 * 366;
+    static final long DEFAULT_ACTIVITY_DAYS = 90;
+    static final Duration MAX_HISTOGRAM_RANGE = Duration.ofDays(92);
+    static final Duration DEFAULT_HISTOGRAM_RANGE = Duration.ofDays(7);
+
+    private final ReviewRepository reviewRepository;
+
+    /**
+     * Reviews, comments, likes and dislikes per bucket, summed from the daily rollup: one row per company and
+     * day, so two years of a company is at most 731 rows.
+     *
+     * @param companyName Company, matched case-insensitively; blank or {@code null} for all companies.
+     * @param interval    DAY, WEEK or MONTH; defaults to DAY.
+     * @param from        First day (UTC); defaults to {@value #DEFAULT_ACTIVITY_DAYS} days before {@code to}.
+     * @param to          Day after the last one (UTC); defaults to tomorrow, so that today is included.
+     * @throws BadRequestException if the interval is HOUR, or the range is empty or longer than
+     *                             {@value #MAX_ACTIVITY_DAYS} days.
+     */
+    @UseBulkhead(UseBulkhead.READS)
+    @Transactional(readOnly = true)
+    public ReviewActivityResponse getActivity(String companyName, HistogramInterval interval, LocalDate from, LocalDate to) {
+        HistogramInterval bucket = interval == null ? HistogramInterval.DAY : interval;
+        if (bucket == HistogramInterval.HOUR) {
+            throw new BadRequestException("Activity is kept per day; use /api/v1/reviews/histogram for hourly counts");
+        }
+        LocalDate end = to == null ? LocalDate.now(ZoneOffset.UTC).plusDays(1) : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_ACTIVITY_DAYS) : from;
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_ACTIVITY_DAYS) {
+            throw new BadRequestException("Activity ranges are limited to " + MAX_ACTIVITY_DAYS + " days");
+        }
+        String company = StringUtils.hasText(companyName) ? companyName : null;
+        List<ActivityBucket> buckets = reviewRepository.sumActivity(company, bucket, start, end).stream()
+                .map(row -> new ActivityBucket(row.bucket(), row.reviews(), row.comments(), row.likes(), row.dislikes()))
+                .toList();
+        return new ReviewActivityResponse(company, bucket, buckets);
+    }
+
+    /**
+     * Reviews created per bucket, counted with {@code date_trunc} over {@code reviews.created_at}. Exact and
+     * current to the second, unlike the rollup, but it reads every review of the range.
+     *
+     * @param companyName Company, matched case-insensitively; blank or {@code null} for all companies.
+     * @param interval    Bucket width; defaults to HOUR.
+     * @param from        Start of the range; defaults to seven days before {@code to}.
+     * @param to          End of the range, exclusive; defaults to now.
+     * @throws BadRequestException if the range is empty or longer than 92 days.
+     */
+    @UseBulkhead(UseBulkhead.READS)
+    @Transactional(readOnly = true)
+    public ReviewHistogramResponse getHistogram(String companyName, HistogramInterval interval, Instant from, Instant to) {
+        HistogramInterval bucket = interval == null ? HistogramInterval.HOUR : interval;
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_HISTOGRAM_RANGE) : from;
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("from must be before to");
+        }
+        if (Duration.between(start, end).compareTo(MAX_HISTOGRAM_RANGE) > 0) {
+            throw new BadRequestException("Histogram ranges are limited to " + MAX_HISTOGRAM_RANGE.toDays()
+                    + " days; use /api/v1/reviews/activity for longer ones");
+        }
+        String company = StringUtils.hasText(companyName) ? companyName : null;
+        List<HistogramBucket> buckets = reviewRepository.countCreated(company, bucket, start, end).stream()
+                .map(row -> new HistogramBucket(row.bucket(), row.count()))
+                .toList();
+        return new ReviewHistogramResponse(company, bucket, buckets);
+    }
+}
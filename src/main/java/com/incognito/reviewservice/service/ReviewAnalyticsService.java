@@ -0,0 +1,88 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.analytics.AnalyticsDimension;
+import com.incognito.reviewservice.analytics.AnalyticsQuery;
+import com.incognito.reviewservice.analytics.ReviewAnalyticsManager;
+import com.incognito.reviewservice.analytics.ReviewFactStore;
+import com.incognito.reviewservice.dto.AnalyticsGroup;
+import com.incognito.reviewservice.dto.ReviewAnalyticsResponse;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ad-hoc review aggregations served from the in-memory columnar store; never queries the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewAnalyticsService {
+    static final int MAX_GROUPS = 1000;
+    static final long RETRY_AFTER_SECONDS = 10;
+
+    private final ObjectProvider<ReviewAnalyticsManager> analytics;
+
+    /**
+     * @param groupBy Dimensions to group by, in order: company, reviewType, status, isEmployee, tenure, month; none
+     *                counts all matching reviews as one group.
+     * @param from    First month (UTC) of reviews counted, inclusive.
+     * @param to      Last month (UTC) of reviews counted, inclusive.
+     * @param limit   Most groups returned, capped at {@value #MAX_GROUPS}.
+     * @throws BadRequestException        if a dimension is unknown or repeated, or {@code from} is after {@code to}.
+     * @throws ServiceOverloadedException if the store is disabled or still loading.
+     */
+    public ReviewAnalyticsResponse getAnalytics(List<String> groupBy, String companyName, ReviewType reviewType,
+                                                ReviewStatus status, Boolean isEmployee, YearMonth from, YearMonth to,
+                                                int limit) {
+        List<AnalyticsDimension> dimensions = parseDimensions(groupBy);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        ReviewAnalyticsManager manager = analytics.getIfAvailable();
+        if (manager == null || !manager.isReady()) {
+            throw new ServiceOverloadedException("Review analytics are not available yet", RETRY_AFTER_SECONDS);
+        }
+        ReviewFactStore.Result result = manager.aggregate(
+                new AnalyticsQuery(dimensions, companyName, reviewType, status, isEmployee, from, to),
+                Math.clamp(limit, 1, MAX_GROUPS));
+        List<AnalyticsGroup> top = result.top().stream()
+                .map(group -> new AnalyticsGroup(values(dimensions, group.values()), group.reviews(), group.averageTenureMonths()))
+                .toList();
+        return new ReviewAnalyticsResponse(dimensions.stream().map(AnalyticsDimension::getParameterName).toList(),
+                result.reviews(), result.groups(), top);
+    }
+
+    private static List<AnalyticsDimension> parseDimensions(List<String> names) {
+        List<AnalyticsDimension> dimensions = new ArrayList<>();
+        if (names == null) {
+            return dimensions;
+        }
+        for (String name : names) {
+            AnalyticsDimension dimension = AnalyticsDimension.fromParameterName(name.strip()).orElseThrow(() -> new BadRequestException(
+                    "Unknown dimension '" + name + "'; expected company, reviewType, status, isEmployee, tenure or month"));
+            if (dimensions.contains(dimension)) {
+                throw new BadRequestException("Dimension '" + name + "' is grouped by twice");
+            }
+            dimensions.add(dimension);
+        }
+        return dimensions;
+    }
+
+    private static Map<String, String> values(List<AnalyticsDimension> dimensions, List<String> values) {
+        // LinkedHashMap keeps groupBy order and, unlike Map.of, allows the null company
+        Map<String, String> named = new LinkedHashMap<>();
+        for (int d = 0; d < dimensions.size(); d++) {
+            named.put(dimensions.get(d).getParameterName(), values.get(d));
+        }
+        return named;
+    }
+}
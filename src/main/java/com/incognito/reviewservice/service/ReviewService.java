@@ -1,32 +1,79 @@
 package com.incognito.reviewservice.service;
 
+import com.incognito.reviewservice.activity.ActivityEvent;
+import com.incognito.reviewservice.analytics.ReviewFact;
+import com.incognito.reviewservice.analytics.ReviewFactEvent;
+import com.incognito.reviewservice.dto.FacetCount;
+import com.incognito.reviewservice.dto.FacetedReviewPageResponse;
 import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
 import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResult;
 import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.exception.BadRequestException;
 import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.listing.FacetCountCache;
+import com.incognito.reviewservice.listing.ReviewListing;
+import com.incognito.reviewservice.listing.ReviewQueryPlan;
+import com.incognito.reviewservice.listing.SequentialScanGuard;
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.model.ReviewFacet;
 import com.incognito.reviewservice.model.ReviewType;
 import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.moderation.ModerationService;
+import com.incognito.reviewservice.moderation.ModerationVerdict;
+import com.incognito.reviewservice.observability.ReviewListingEvent;
+import com.incognito.reviewservice.observability.ReviewLookupEvent;
+import com.incognito.reviewservice.observability.VoteEvent;
+import com.incognito.reviewservice.repository.ReviewFacetRow;
 import com.incognito.reviewservice.repository.ReviewRepository;
-import jakarta.persistence.criteria.Predicate;
+import com.incognito.reviewservice.repository.ReviewSearchRow;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import com.incognito.reviewservice.search.ReviewChangedEvent;
+import com.incognito.reviewservice.search.ReviewDocument;
+import com.incognito.reviewservice.search.ReviewSearchIndex;
+import com.incognito.reviewservice.search.ReviewSearchIndexManager;
+import com.incognito.reviewservice.search.SearchCursor;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    static final int MAX_SEARCH_PAGE_SIZE = 50;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    static final int MAX_FACET_VALUES = 20;
+
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReviewSearchIndexManager> searchIndex;
+    private final ModerationService moderationService;
+    private final SequentialScanGuard sequentialScanGuard;
+    private final FacetCountCache facetCountCache;
 
+    @UseBulkhead(UseBulkhead.WRITES)
     @Transactional
     public ReviewResponse createReview(ReviewCreateRequest request) {
+        // New reviews always start PENDING (there is no hidden state for reviews); flagged ones also record why
+        ModerationVerdict verdict = moderationService.screenReview(request.title(), request.content());
         Review review = Review.builder()
                 .reviewType(request.reviewType())
                 .title(request.title())
@@ -40,33 +87,140 @@ public class ReviewService {
                 .workStartDate(request.workStartDate())
                 .workEndDate(request.workEndDate())
                 .status(ReviewStatus.PENDING)
+                .moderationReason(verdict.reason())
                 .reviewerName(ObjectUtils.isEmpty(request.reviewerName()) ? "Anonymous" : request.reviewerName())
                 .build();
         Review savedReview = reviewRepository.save(review);
+        moderationService.recordReview(savedReview.getId(), verdict);
+        eventPublisher.publishEvent(new ActivityEvent(savedReview.getCompanyName(), ActivityType.REVIEW, savedReview.getCreatedAt()));
+        eventPublisher.publishEvent(new ReviewChangedEvent(ReviewDocument.of(savedReview)));
+        eventPublisher.publishEvent(new ReviewFactEvent(ReviewFact.of(savedReview)));
         return mapToReviewResponse(savedReview);
     }
 
+    @UseBulkhead(UseBulkhead.READS)
     @Transactional
     public ReviewResponse getReviewById(Long id) {
-        Review review = reviewRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + id));
+        ReviewLookupEvent event = new ReviewLookupEvent();
+        event.begin();
+        Optional<Review> found = reviewRepository.findById(id);
+        event.complete(id, found.isPresent());
+        Review review = found.orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + id));
         return mapToReviewResponse(review);
     }
 
+    @UseBulkhead(UseBulkhead.READS)
     @Transactional(readOnly = true)
     public Page<ReviewResponse> getReviews(String companyName, ReviewType reviewType, Pageable pageable) {
-        Specification<Review> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (StringUtils.hasText(companyName)) {
-                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("companyName")), "%" + companyName.toLowerCase() + "%"));
-            }
-            if (reviewType != null) {
-                predicates.add(criteriaBuilder.equal(root.get("reviewType"), reviewType));
-            }
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-        Page<Review> reviewPage = reviewRepository.findAll(spec, pageable);
-        return reviewPage.map(this::mapToReviewResponse);
+        return findReviews(ReviewFilter.of(companyName, reviewType), pageable).page();
+    }
+
+    /**
+     * A page of reviews matching every given filter, with the plan chosen for it. Without filters on a large table,
+     * the total is the table's row estimate rather than a count.
+     *
+     * @throws BadRequestException on an empty date range, or when no index narrows the filters or the sort and the
+     *                             table is too large to read whole (see {@link SequentialScanGuard#check}).
+     */
+    @UseBulkhead(UseBulkhead.READS)
+    @Transactional(readOnly = true)
+    public ReviewListing listReviews(ReviewFilter filter, Pageable pageable) {
+        return findReviews(filter, pageable);
+    }
+
+    /**
+     * A page of {@link #listReviews} plus counts of the whole filtered listing by each requested facet, computed
+     * together in one {@code GROUPING SETS} query and reused for a while (see {@link FacetCountCache}).
+     *
+     * @param facets Facet names ({@code reviewType}, {@code isEmployee}, {@code dept}, {@code role}); {@code null}
+     *               or empty counts all of them.
+     * @return The page and, per facet, its {@value #MAX_FACET_VALUES} most frequent values.
+     * @throws BadRequestException on an unknown facet name or an empty date range, or when no index narrows the
+     *                             filtered reviews and the table is too large to count whole (see
+     *                             {@link SequentialScanGuard#checkAggregate}).
+     */
+    @UseBulkhead(UseBulkhead.READS)
+    @Transactional(readOnly = true)
+    public FacetedReviewPageResponse getFacetedReviews(ReviewFilter filter, List<String> facets, Pageable pageable) {
+        Set<ReviewFacet> requested = parseFacets(facets);
+        sequentialScanGuard.checkAggregate(ReviewQueryPlan.of(filter));
+        Page<ReviewResponse> page = findReviews(filter, pageable).page();
+        Map<String, List<FacetCount>> counts = new LinkedHashMap<>();
+        requested.forEach(facet -> counts.put(facet.getParameterName(), new ArrayList<>()));
+        List<ReviewFacetRow> rows = facetCountCache.get(filter, requested,
+                () -> reviewRepository.countFacets(filter, requested, MAX_FACET_VALUES));
+        for (ReviewFacetRow row : rows) {
+            counts.get(row.facet().getParameterName()).add(new FacetCount(row.value(), row.count()));
+        }
+        return new FacetedReviewPageResponse(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), counts);
+    }
+
+    private ReviewListing findReviews(ReviewFilter filter, Pageable pageable) {
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter, pageable.getSort());
+        OptionalLong estimatedTotal = sequentialScanGuard.check(plan);
+        ReviewListingEvent event = new ReviewListingEvent();
+        event.begin();
+        Page<Review> reviewPage = estimatedTotal.isPresent()
+                ? reviewRepository.findListing(filter, pageable, estimatedTotal.getAsLong())
+                : reviewRepository.findListing(filter, pageable);
+        event.complete(plan, pageable, reviewPage.getNumberOfElements());
+        return new ReviewListing(reviewPage.map(this::mapToReviewResponse), plan);
+    }
+
+    /**
+     * Full-text search over review titles and content, best matches first.
+     *
+     * @param query  Web-search style query: words, "quoted phrases", OR, and -excluded words.
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param size   Page size, capped at {@value #MAX_SEARCH_PAGE_SIZE}.
+     * @return The page of results and the cursor for the next one ({@code null} on the last page).
+     * @throws BadRequestException if the query is blank or too long, or the cursor is malformed.
+     */
+    @UseBulkhead(UseBulkhead.READS)
+    @Transactional(readOnly = true)
+    public ReviewSearchResponse searchReviews(String query, String cursor, int size) {
+        if (!StringUtils.hasText(query) || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        SearchCursor after = cursor == null ? null : SearchCursor.decode(cursor);
+        Instant asOf = after == null ? Instant.now() : after.asOf();
+
+        // One extra row tells us whether there is a next page without a count query
+        List<ReviewSearchRow> rows = reviewRepository.search(query.strip(), asOf,
+                after == null ? null : after.score(), after == null ? null : after.id(), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewSearchRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewSearchRow last = page.get(pageSize - 1);
+            nextCursor = new SearchCursor(asOf, last.score(), last.id()).encode();
+        }
+        return new ReviewSearchResponse(page.stream().map(this::mapToSearchResult).toList(), nextCursor);
+    }
+
+    /**
+     * Searches the in-memory index instead of the database: BM25 over titles, content and company names, with
+     * no snippets, like counts or further pages.
+     *
+     * @param query Search terms; any of them may match.
+     * @param size  Number of results, capped at {@value #MAX_SEARCH_PAGE_SIZE}.
+     * @return The results, or empty when the index is disabled or still loading.
+     * @throws BadRequestException if the query is blank or too long.
+     */
+    public Optional<ReviewSearchResponse> searchIndex(String query, int size) {
+        if (!StringUtils.hasText(query) || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        ReviewSearchIndexManager index = searchIndex.getIfAvailable();
+        if (index == null || !index.isReady()) {
+            return Optional.empty();
+        }
+        List<ReviewSearchResult> results = index.search(query, Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE)).stream()
+                .map(this::mapToSearchResult)
+                .toList();
+        return Optional.of(new ReviewSearchResponse(results, null));
     }
 
     /**
@@ -76,15 +230,20 @@ public class ReviewService {
      * @return A {@link ReviewResponse} representing the updated review.
      * @throws ResourceNotFoundException if no review is found with the given ID.
      */
+    @UseBulkhead(UseBulkhead.VOTES)
     @Transactional
     public ReviewResponse incrementLikeCount(Long reviewId) {
+        VoteEvent event = new VoteEvent();
+        event.begin();
         int updatedRows = reviewRepository.incrementLikeCount(reviewId);
+        event.complete(VoteEvent.REVIEW, reviewId, VoteEvent.LIKE, updatedRows > 0);
         if (updatedRows == 0) {
             throw new ResourceNotFoundException("Review not found with id: " + reviewId + " to increment like count.");
         }
         // Fetch the updated review to return the latest state
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId)); // Should not happen if update was successful
+        eventPublisher.publishEvent(new ActivityEvent(review.getCompanyName(), ActivityType.LIKE, Instant.now()));
         return mapToReviewResponse(review);
     }
 
@@ -95,19 +254,47 @@ public class ReviewService {
      * @return A {@link ReviewResponse} representing the updated review.
      * @throws ResourceNotFoundException if no review is found with the given ID.
      */
+    @UseBulkhead(UseBulkhead.VOTES)
     @Transactional
     public ReviewResponse incrementDislikeCount(Long reviewId) {
+        VoteEvent event = new VoteEvent();
+        event.begin();
         int updatedRows = reviewRepository.incrementDislikeCount(reviewId);
+        event.complete(VoteEvent.REVIEW, reviewId, VoteEvent.DISLIKE, updatedRows > 0);
         if (updatedRows == 0) {
             throw new ResourceNotFoundException("Review not found with id: " + reviewId + " to increment dislike count.");
         }
         // Fetch the updated review to return the latest state
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId)); // Should not happen if update was successful
+        eventPublisher.publishEvent(new ActivityEvent(review.getCompanyName(), ActivityType.DISLIKE, Instant.now()));
         return mapToReviewResponse(review);
     }
 
-    private ReviewResponse mapToReviewResponse(Review review) {
+    private static Set<ReviewFacet> parseFacets(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(ReviewFacet.class);
+        }
+        Set<ReviewFacet> facets = EnumSet.noneOf(ReviewFacet.class);
+        for (String name : names) {
+            facets.add(ReviewFacet.fromParameterName(name.strip()).orElseThrow(() -> new BadRequestException(
+                    "Unknown facet '" + name + "'; expected reviewType, isEmployee, dept or role")));
+        }
+        return facets;
+    }
+
+    private ReviewSearchResult mapToSearchResult(ReviewSearchRow row) {
+        return new ReviewSearchResult(row.id(), row.reviewType(), row.title(), row.companyName(),
+                row.likeCount(), row.createdAt(), row.score(), row.snippet());
+    }
+
+    private ReviewSearchResult mapToSearchResult(ReviewSearchIndex.Hit hit) {
+        return new ReviewSearchResult(hit.reviewId(), hit.reviewType(), hit.title(), hit.companyName(),
+                null, hit.createdAt(), hit.score(), null);
+    }
+
+    // Package-private for the JMH benchmarks (src/jmh)
+    ReviewResponse mapToReviewResponse(Review review) {
         if (review == null) {
             return null;
         }
@@ -0,0 +1,80 @@
+package com.incognito.reviewservice.startup;
+
+import com.incognito.reviewservice.dto.ActivityBucket;
+import com.incognito.reviewservice.dto.AnalyticsGroup;
+import com.incognito.reviewservice.dto.CommentCreateRequest;
+import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.dto.FacetCount;
+import com.incognito.reviewservice.dto.FacetedReviewPageResponse;
+import com.incognito.reviewservice.dto.HistogramBucket;
+import com.incognito.reviewservice.dto.RelatedReview;
+import com.incognito.reviewservice.dto.RelatedReviewsResponse;
+import com.incognito.reviewservice.dto.ReviewActivityResponse;
+import com.incognito.reviewservice.dto.ReviewAnalyticsResponse;
+import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.dto.ReviewHistogramResponse;
+import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResult;
+import com.incognito.reviewservice.entity.BaseEntity;
+import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.CommentStatus;
+import com.incognito.reviewservice.model.HistogramInterval;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.observability.CommentCreationEvent;
+import com.incognito.reviewservice.observability.FacetCountCacheEvent;
+import com.incognito.reviewservice.observability.ReviewListingEvent;
+import com.incognito.reviewservice.observability.ReviewLookupEvent;
+import com.incognito.reviewservice.observability.VoteEvent;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Reflection, proxy and resource hints for the GraalVM native image ({@code -Pnative}). Spring AOT covers
+ * beans and JPA scanning; this adds what is reached reflectively outside the context: Hibernate field access on
+ * entities, Jackson and springdoc introspection of the DTO records and enums, the datasource-proxy JDBC
+ * proxies, JFR event classes and the Swagger UI assets. Ignored on the JVM.
+ */
+public class ReviewServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] ALL_MEMBERS = {
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS,
+            MemberCategory.DECLARED_FIELDS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : new Class<?>[]{BaseEntity.class, Review.class, Comment.class,
+                ReviewCreateRequest.class, ReviewResponse.class, CommentCreateRequest.class, CommentResponse.class,
+                ReviewSearchResponse.class, ReviewSearchResult.class, RelatedReviewsResponse.class, RelatedReview.class,
+                FacetedReviewPageResponse.class, FacetCount.class, ReviewFilter.class,
+                ReviewActivityResponse.class, ActivityBucket.class, ReviewHistogramResponse.class, HistogramBucket.class,
+                ReviewAnalyticsResponse.class, AnalyticsGroup.class,
+                ReviewType.class, ReviewStatus.class, CommentStatus.class, HistogramInterval.class,
+                ReviewLookupEvent.class, ReviewListingEvent.class, CommentCreationEvent.class, VoteEvent.class,
+                FacetCountCacheEvent.class}) {
+            hints.reflection().registerType(type, ALL_MEMBERS);
+        }
+
+        // Interface order must match datasource-proxy's JdkJdbcProxyFactory
+        for (Class<?> jdbcType : new Class<?>[]{Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class}) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+        }
+
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*");
+        hints.resources().registerPattern("db/migration/*");
+    }
+}
@@ -0,0 +1,22 @@
+package com.incognito.reviewservice.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incognito.reviewservice.service.CommentService;
+import com.incognito.reviewservice.service.ReviewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "reviewservice.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupRunner(ReviewService reviewService, CommentService commentService, ObjectMapper objectMapper,
+                                     WarmupProperties properties, MeterRegistry meterRegistry) {
+        return new WarmupRunner(reviewService, commentService, objectMapper, properties, meterRegistry);
+    }
+}
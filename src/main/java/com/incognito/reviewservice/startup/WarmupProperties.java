@@ -0,0 +1,33 @@
+package com.incognito.reviewservice.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Start-up warm-up, bound from {@code reviewservice.warmup.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reviewservice.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Rounds over the read paths; each round touches one of the hot reviews.
+     */
+    private int rounds = 200;
+
+    /**
+     * Upper bound on the whole warm-up; readiness is held back at most this long.
+     */
+    private Duration maxDuration = Duration.ofSeconds(20);
+
+    /**
+     * Number of most recent reviews cycled through.
+     */
+    private int hotReviews = 20;
+}
@@ -0,0 +1,156 @@
+package com.incognito.reviewservice.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.observability.WarmupTraffic;
+import com.incognito.reviewservice.service.CommentService;
+import com.incognito.reviewservice.service.ReviewService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the read paths of {@link ReviewService} and {@link CommentService}, plus JSON serialization of their
+ * results, against the most recent reviews before the application reports ready. Spring Boot only switches
+ * readiness to {@code ACCEPTING_TRAFFIC} after all runners finish, so the first real requests find classes
+ * loaded, lazy initialization done, Jackson serializers built, pool connections open and Hibernate query plans
+ * cached. A few hundred calls per path are far below C2's compile thresholds: the JIT still optimizes the hot
+ * paths under real traffic. Nothing is written, and failures are logged without failing startup.
+ * <p>
+ * Calls run as {@link WarmupTraffic}, so method timers tag them {@code endpoint=warmup}, and they take slots of
+ * the {@code bulk} bulkhead rather than {@code reads}, whose wait timers skip them.
+ * <p>
+ * Effect is published as {@code reviewservice.warmup.call.latency} per path for the first and last round,
+ * next to the total {@code reviewservice.warmup.duration} and {@code reviewservice.warmup.calls}.
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    static final String GET_REVIEW = "getReviewById";
+    static final String LIST_REVIEWS = "getReviews";
+    static final String LIST_COMMENTS = "getCommentsByReviewId";
+    static final String LIST_REPLIES = "getRepliesOfComment";
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final ReviewService reviewService;
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+    private final WarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, double[]> firstAndLastMillis = new LinkedHashMap<>();
+
+    public WarmupRunner(ReviewService reviewService, CommentService commentService, ObjectMapper objectMapper,
+                        WarmupProperties properties, MeterRegistry meterRegistry) {
+        this.reviewService = reviewService;
+        this.commentService = commentService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        List<ReviewResponse> hotReviews;
+        try {
+            hotReviews = WarmupTraffic.run(() -> reviewService.getReviews(null, null,
+                    PageRequest.of(0, properties.getHotReviews(), NEWEST_FIRST))).getContent();
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up skipped, could not load recent reviews: {}", ex.getMessage());
+            return;
+        }
+        if (hotReviews.isEmpty()) {
+            log.info("Warm-up skipped, there are no reviews yet");
+            return;
+        }
+
+        int round = 0;
+        for (; round < properties.getRounds() && System.nanoTime() < deadline; round++) {
+            ReviewResponse review = hotReviews.get(round % hotReviews.size());
+            Pageable page = PageRequest.of(0, 10, NEWEST_FIRST);
+            exercise(GET_REVIEW, () -> reviewService.getReviewById(review.id()));
+            boolean byCompany = round % 2 == 0;
+            exercise(LIST_REVIEWS,
+                    () -> reviewService.getReviews(byCompany ? review.companyName() : null, review.reviewType(), page));
+            Page<CommentResponse> comments = exercise(LIST_COMMENTS,
+                    () -> commentService.getCommentsByReviewId(review.id(), page));
+            if (comments != null) {
+                comments.stream()
+                        .filter(comment -> Boolean.TRUE.equals(comment.hasReplies()))
+                        .findFirst()
+                        .ifPresent(comment -> exercise(LIST_REPLIES,
+                                () -> commentService.getRepliesOfComment(review.id(), comment.id(), page)));
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("reviewservice.warmup.duration")
+                .description("Time spent warming up before readiness")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        firstAndLastMillis.forEach((path, millis) -> {
+            registerLatencyGauge(path, "first", millis, 0);
+            registerLatencyGauge(path, "last", millis, 1);
+            log.info("Warm-up {}: first call {} ms, last call {} ms", path, String.format("%.2f", millis[0]), String.format("%.2f", millis[1]));
+        });
+        log.info("Warm-up finished: {} rounds over {} reviews in {} ms", round, hotReviews.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Calls and serializes one read path, keeping the latency of its first and of its latest call.
+     */
+    private <T> T exercise(String path, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = WarmupTraffic.run(call);
+            objectMapper.writeValueAsBytes(result);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            double[] samples = firstAndLastMillis.get(path);
+            if (samples == null) {
+                firstAndLastMillis.put(path, new double[]{millis, millis});
+            } else {
+                samples[1] = millis;
+            }
+            count(path, "success");
+            return result;
+        } catch (Exception ex) {
+            log.debug("Warm-up call {} failed: {}", path, ex.getMessage());
+            count(path, "failure");
+            return null;
+        }
+    }
+
+    private void count(String path, String outcome) {
+        Counter.builder("reviewservice.warmup.calls")
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerLatencyGauge(String path, String phase, double[] samples, int index) {
+        Gauge.builder("reviewservice.warmup.call.latency", samples, values -> values[index])
+                .description("Latency of a warm-up call in the first and in the last round")
+                .baseUnit("milliseconds")
+                .tag("path", path)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+-- Baseline schema, taken from db_scripts.sql. Databases created earlier by ddl-auto=update are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+-- Create the 'reviews' table
+CREATE TABLE reviews (
+    id BIGSERIAL PRIMARY KEY,
+    review_type VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL, -- Changed: Made NOT NULL
+    content_html TEXT NOT NULL,   -- Changed: Made NOT NULL
+    ip_address VARCHAR(45),
+    like_count INTEGER NOT NULL DEFAULT 0,
+    dislike_count INTEGER NOT NULL DEFAULT 0,
+    -- has_comment BOOLEAN NOT NULL DEFAULT FALSE, -- Removed: No longer in Review entity
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    is_employee BOOLEAN NOT NULL DEFAULT FALSE,
+    dept VARCHAR(100),
+    role VARCHAR(100),
+    company_name VARCHAR(255),
+    website VARCHAR(2048),
+    work_start_date TIMESTAMP WITH TIME ZONE,
+    work_end_date TIMESTAMP WITH TIME ZONE,
+    reviewer_name VARCHAR(100) DEFAULT 'Anonymous',
+    created_by UUID,
+    updated_by UUID,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 1
+);
+
+-- Add indexes to 'reviews' table
+CREATE INDEX idx_reviews_status ON reviews(status);
+CREATE INDEX idx_reviews_review_type ON reviews(review_type);
+CREATE INDEX idx_reviews_company_name ON reviews(company_name);
+CREATE INDEX idx_reviews_created_at ON reviews(created_at);
+
+-- Create the 'comments' table
+CREATE TABLE comments (
+    id BIGSERIAL PRIMARY KEY,
+    parent_id BIGINT,
+    review_id BIGINT NOT NULL,
+    user_name VARCHAR(100), -- As per Comment entity, purpose to be clarified in code
+    content TEXT NOT NULL,  -- Matches @NotBlank in Comment entity
+    ip_address VARCHAR(45),
+    like_count INTEGER NOT NULL DEFAULT 0,
+    dislike_count INTEGER NOT NULL DEFAULT 0,
+    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
+    commenter_name VARCHAR(100) DEFAULT 'Anonymous',
+    created_by UUID,
+    updated_by UUID,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 1,
+    CONSTRAINT fk_comments_review FOREIGN KEY (review_id) REFERENCES reviews(id) ON DELETE CASCADE,
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments(id) ON DELETE SET NULL -- Or ON DELETE CASCADE depending on desired behavior for replies
+);
+
+-- Add indexes to 'comments' table
+CREATE INDEX idx_comments_review_id ON comments(review_id);
+CREATE INDEX idx_comments_parent_id ON comments(parent_id);
+CREATE INDEX idx_comments_created_at ON comments(created_at);
+
+-- Optional: Add comments to tables and columns for better understanding
+COMMENT ON TABLE reviews IS 'Stores review information submitted by users.';
+COMMENT ON COLUMN reviews.review_type IS 'Type of the review (e.g., POSITIVE, NEGATIVE, NEUTRAL).'; -- Updated example based on ReviewType
+COMMENT ON COLUMN reviews.status IS 'Current status of the review (e.g., PENDING, APPROVED, REJECTED).';
+
+COMMENT ON TABLE comments IS 'Stores comments made on reviews, supporting threaded replies.';
+COMMENT ON COLUMN comments.parent_id IS 'ID of the parent comment if this is a reply.';
+COMMENT ON COLUMN comments.review_id IS 'ID of the review this comment belongs to.';
+COMMENT ON COLUMN comments.status IS 'Current status of the comment (e.g., ACTIVE, HIDDEN, DELETED).';
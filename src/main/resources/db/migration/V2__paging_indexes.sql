@@ -0,0 +1,18 @@
+-- Indexes matching the paginated reads (newest first). Built CONCURRENTLY so large tables stay writable;
+-- this script therefore runs outside a transaction (see the .conf file next to it) and uses IF NOT EXISTS
+-- so a run interrupted halfway can be repeated. An interrupted CONCURRENTLY build leaves an INVALID index
+-- behind: drop it before re-running.
+
+-- Top-level comments of a review: WHERE review_id = ? AND parent_id IS NULL ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_review_top_level
+    ON comments (review_id, created_at DESC)
+    WHERE parent_id IS NULL;
+
+-- Replies of a comment: WHERE parent_id = ? ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_parent_created
+    ON comments (parent_id, created_at DESC)
+    WHERE parent_id IS NOT NULL;
+
+-- Review listing filtered by type: WHERE review_type = ? ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_type_created
+    ON reviews (review_type, created_at DESC);
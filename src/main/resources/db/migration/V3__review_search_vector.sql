@@ -0,0 +1,9 @@
+-- Full-text search document for reviews: title (weight A) and content with HTML tags stripped (weight B).
+-- STORED generated column, so it is maintained on every write without triggers. Adding it rewrites the
+-- table under an exclusive lock; on large tables run this in a maintenance window. The GIN index is built
+-- concurrently by V4.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', regexp_replace(coalesce(content_html, ''), '<[^>]*>', ' ', 'g')), 'B')
+    ) STORED;
@@ -0,0 +1,3 @@
+-- GIN index for search_vector @@ tsquery (non-transactional, see the .conf file next to it)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_search_vector
+    ON reviews USING GIN (search_vector);
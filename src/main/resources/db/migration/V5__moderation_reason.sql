@@ -0,0 +1,7 @@
+-- Reason a review or comment was held for moderation (e.g. near-duplicate detection). Nullable without a
+-- default, so adding the columns does not rewrite either table.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS moderation_reason VARCHAR(255);
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS moderation_reason VARCHAR(255);
+
+COMMENT ON COLUMN reviews.moderation_reason IS 'Why the review was held for moderation; NULL if nothing was detected.';
+COMMENT ON COLUMN comments.moderation_reason IS 'Why the comment was held for moderation (status PENDING); NULL if nothing was detected.';
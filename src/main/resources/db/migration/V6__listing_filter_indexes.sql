@@ -0,0 +1,28 @@
+-- Indexes behind the filtered review listing (see ReviewIndex): each drives one filter and returns rows newest
+-- first. Non-transactional like V2 (see the .conf file next to it); an interrupted CONCURRENTLY build leaves an
+-- INVALID index behind: drop it before re-running.
+
+-- Trigram index for the case-insensitive substring match on company names: lower(company_name) LIKE '%...%'.
+-- pg_trgm is a trusted extension, so the database owner can create it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_company_name_trgm
+    ON reviews USING GIN (lower(company_name) gin_trgm_ops);
+
+-- WHERE dept = ? [AND role = ?] ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_dept_role_created
+    ON reviews (dept, role, created_at DESC);
+
+-- WHERE role = ? ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_role_created
+    ON reviews (role, created_at DESC);
+
+-- WHERE status = ? ORDER BY created_at DESC; supersedes idx_reviews_status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_status_created
+    ON reviews (status, created_at DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_reviews_status;
+
+-- Employee reviews only: WHERE is_employee ORDER BY created_at DESC. Queries must use the literal predicate
+-- (not a bind parameter) for the planner to prove the partial index applies.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_employee_created
+    ON reviews (created_at DESC)
+    WHERE is_employee;
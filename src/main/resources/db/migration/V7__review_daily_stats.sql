@@ -0,0 +1,30 @@
+-- Daily activity per company behind GET /api/v1/reviews/activity: one row per company and UTC day, incremented
+-- in the same transaction as the review, comment or review vote it counts (ReviewActivityRepository). A chart
+-- over two years reads at most 731 rows per company instead of every review in the range.
+-- company_key is lower(company_name), or '' for reviews without a company.
+CREATE TABLE review_daily_stats (
+    company_key VARCHAR(255) NOT NULL,
+    day DATE NOT NULL,
+    reviews INTEGER NOT NULL DEFAULT 0,
+    comments INTEGER NOT NULL DEFAULT 0,
+    likes INTEGER NOT NULL DEFAULT 0,
+    dislikes INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (company_key, day)
+);
+
+-- Charts over all companies sum every company's rows of each day
+CREATE INDEX idx_review_daily_stats_day ON review_daily_stats (day);
+
+-- Backfill reviews and comments from their created_at. Votes carry no timestamp, so likes and dislikes
+-- start counting from this migration on.
+INSERT INTO review_daily_stats (company_key, day, reviews)
+SELECT coalesce(lower(company_name), ''), CAST(created_at AT TIME ZONE 'UTC' AS date), count(*)
+FROM reviews
+GROUP BY 1, 2;
+
+INSERT INTO review_daily_stats (company_key, day, comments)
+SELECT coalesce(lower(r.company_name), ''), CAST(c.created_at AT TIME ZONE 'UTC' AS date), count(*)
+FROM comments c
+JOIN reviews r ON r.id = c.review_id
+GROUP BY 1, 2
+ON CONFLICT (company_key, day) DO UPDATE SET comments = EXCLUDED.comments;
@@ -0,0 +1,10 @@
+-- Block-range indexes on creation time, behind the date_trunc histograms (GET /api/v1/reviews/histogram).
+-- Rows are appended in created_at order, so each 128-page range covers a narrow time span and the whole index
+-- is a few pages; a histogram over weeks or months reads only the ranges overlapping them. The btree
+-- idx_reviews_created_at stays: it returns rows in order for the newest-first listing, which BRIN cannot.
+-- Non-transactional like V2 (see the .conf file next to it).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_created_at_brin
+    ON reviews USING BRIN (created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_created_at_brin
+    ON comments USING BRIN (created_at);
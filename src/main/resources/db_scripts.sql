@@ -1,4 +1,5 @@
 -- Script to create tables for the ReviewService application
+-- Reference only: the schema is applied by Flyway from src/main/resources/db/migration (V1 mirrors this file)
 -- Target Database: PostgreSQL
 
 -- Drop tables if they exist to ensure a clean setup (optional, use with caution)
@@ -71,7 +72,7 @@ COMMENT ON COLUMN reviews.status IS 'Current status of the review (e.g., PENDING
 COMMENT ON TABLE comments IS 'Stores comments made on reviews, supporting threaded replies.';
 COMMENT ON COLUMN comments.parent_id IS 'ID of the parent comment if this is a reply.';
 COMMENT ON COLUMN comments.review_id IS 'ID of the review this comment belongs to.';
-COMMENT ON COLUMN comments.status IS 'Current status of the comment (e.g., ACTIVE, HIDDEN, DELETED).';
+COMMENT ON COLUMN comments.status IS 'Current status of the comment (e.g., ACTIVE, PENDING, HIDDEN, DELETED).';
 
 -- Note on created_at and updated_at:
 -- The DEFAULT CURRENT_TIMESTAMP is a common way to handle these at the DB level.
@@ -0,0 +1,122 @@
+package com.incognito.reviewservice.activity;
+
+import com.incognito.reviewservice.exception.BulkheadFullException;
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.repository.DailyActivity;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.resilience.BulkheadProperties;
+import com.incognito.reviewservice.resilience.BulkheadRegistry;
+import com.incognito.reviewservice.resilience.UseBulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ActivityBufferTest {
+
+    private static final Instant MONDAY = Instant.parse("2025-03-03T10:00:00Z");
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadRegistry bulkheadRegistry = bulkheadRegistry();
+    private final ActivityBuffer buffer = buffer();
+
+    private BulkheadRegistry bulkheadRegistry() {
+        BulkheadProperties.Limit bulk = new BulkheadProperties.Limit();
+        bulk.setMaxConcurrent(1);
+        bulk.setMaxWait(Duration.ZERO);
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getLimits().put(UseBulkhead.BULK, bulk);
+        return new BulkheadRegistry(properties, meterRegistry);
+    }
+
+    private ActivityBuffer buffer() {
+        ActivityProperties properties = new ActivityProperties();
+        properties.setFlushInterval(Duration.ZERO);
+        return new ActivityBuffer(reviewRepository, mock(PlatformTransactionManager.class), bulkheadRegistry,
+                properties, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DailyActivity> flushedRows(int flushes) {
+        ArgumentCaptor<List<DailyActivity>> rows = ArgumentCaptor.forClass(List.class);
+        verify(reviewRepository, times(flushes)).addActivity(rows.capture());
+        return rows.getValue();
+    }
+
+    @Test
+    void flush_shouldWriteOneRowPerCompanyAndDayInOneBatch() {
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.LIKE, MONDAY));
+        buffer.onActivity(new ActivityEvent("ACME", ActivityType.LIKE, MONDAY.plusSeconds(60)));
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.COMMENT, MONDAY));
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.DISLIKE, MONDAY.plus(Duration.ofDays(1))));
+        buffer.onActivity(new ActivityEvent("Globex", ActivityType.REVIEW, MONDAY));
+
+        buffer.flush();
+
+        List<DailyActivity> rows = flushedRows(1);
+        assertEquals(3, rows.size());
+        assertTrue(rows.contains(new DailyActivity("acme", LocalDate.of(2025, 3, 3), 0, 1, 2, 0)));
+        assertTrue(rows.contains(new DailyActivity("acme", LocalDate.of(2025, 3, 4), 0, 0, 0, 1)));
+        assertTrue(rows.contains(new DailyActivity("globex", LocalDate.of(2025, 3, 3), 1, 0, 0, 0)));
+    }
+
+    @Test
+    void flush_shouldSkipTheDatabaseWhenNothingIsBuffered() {
+        buffer.flush();
+
+        verify(reviewRepository, never()).addActivity(anyList());
+    }
+
+    @Test
+    void flush_shouldKeepCountsOfAFailedWriteForTheNextFlush() {
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.LIKE, MONDAY));
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(reviewRepository).addActivity(anyList());
+
+        assertThrows(QueryTimeoutException.class, buffer::flush);
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.LIKE, MONDAY));
+        buffer.flush();
+
+        assertEquals(List.of(new DailyActivity("acme", LocalDate.of(2025, 3, 3), 0, 0, 2, 0)), flushedRows(2));
+    }
+
+    @Test
+    void destroy_shouldFlushWhatIsStillBuffered() throws InterruptedException {
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.REVIEW, MONDAY));
+
+        buffer.destroy();
+
+        assertEquals(List.of(new DailyActivity("acme", LocalDate.of(2025, 3, 3), 1, 0, 0, 0)), flushedRows(1));
+        assertEquals(0, meterRegistry.get("reviewservice.activity.pending").gauge().value());
+    }
+
+    @Test
+    void flush_whenBulkBulkheadIsFull_shouldKeepCountsForTheNextFlush() {
+        buffer.onActivity(new ActivityEvent("Acme", ActivityType.LIKE, MONDAY));
+        bulkheadRegistry.bulkhead(UseBulkhead.BULK).acquire();
+
+        assertThrows(BulkheadFullException.class, buffer::flush);
+        verify(reviewRepository, never()).addActivity(anyList());
+
+        bulkheadRegistry.bulkhead(UseBulkhead.BULK).release();
+        buffer.flush();
+
+        assertEquals(List.of(new DailyActivity("acme", LocalDate.of(2025, 3, 3), 0, 0, 1, 0)), flushedRows(1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.incognito.reviewservice.analytics;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewFactStoreTest {
+
+    private static ReviewFact fact(long id, String company, ReviewType type, boolean employee, String workStart,
+                                   String workEnd, String createdAt) {
+        return new ReviewFact(id, company, type, ReviewStatus.APPROVED, employee,
+                workStart == null ? null : Instant.parse(workStart), workEnd == null ? null : Instant.parse(workEnd),
+                Instant.parse(createdAt));
+    }
+
+    private static AnalyticsQuery groupBy(AnalyticsDimension... dimensions) {
+        return new AnalyticsQuery(Arrays.asList(dimensions), null, null, null, null, null, null);
+    }
+
+    private static ReviewFactStore sampleStore() {
+        ReviewFactStore store = new ReviewFactStore(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        store.append(fact(1, "Acme", ReviewType.POSITIVE, true, "2020-01-01T00:00:00Z", "2023-06-01T00:00:00Z", "2024-01-10T00:00:00Z"));
+        store.append(fact(2, "ACME ", ReviewType.NEGATIVE, true, "2023-09-01T00:00:00Z", null, "2024-02-01T00:00:00Z"));
+        store.append(fact(3, "Acme", ReviewType.NEGATIVE, false, null, null, "2024-02-15T00:00:00Z"));
+        store.append(fact(4, "Globex", ReviewType.NEGATIVE, true, "2022-01-01T00:00:00Z", "2023-07-01T00:00:00Z", "2024-03-31T23:00:00Z"));
+        store.append(fact(5, null, ReviewType.POSITIVE, false, null, null, "2024-03-01T00:00:00Z"));
+        return store;
+    }
+
+    @Test
+    void aggregate_shouldGroupByCompanyIgnoringCaseAndOrderLargestFirst() {
+        ReviewFactStore.Result result = sampleStore().aggregate(groupBy(AnalyticsDimension.COMPANY), 10);
+
+        assertEquals(5, result.reviews());
+        assertEquals(3, result.groups());
+        // Shown as first seen; ties are broken by group key, so the review without a company comes first
+        assertEquals(List.of("Acme"), result.top().get(0).values());
+        assertEquals(3, result.top().get(0).reviews());
+        assertEquals(Arrays.asList((String) null), result.top().get(1).values());
+        assertEquals(List.of("Globex"), result.top().get(2).values());
+        // 41 and 5 months; the review without a start date is not averaged
+        assertEquals(23.0, result.top().get(0).averageTenureMonths());
+        assertNull(result.top().get(1).averageTenureMonths());
+    }
+
+    @Test
+    void aggregate_shouldApplyFiltersAndGroupByMonthAndTenure() {
+        ReviewFactStore store = sampleStore();
+
+        ReviewFactStore.Result result = store.aggregate(new AnalyticsQuery(
+                List.of(AnalyticsDimension.MONTH, AnalyticsDimension.TENURE), " acme", ReviewType.NEGATIVE, null, null,
+                YearMonth.of(2024, 2), null), 10);
+
+        assertEquals(2, result.reviews());
+        assertEquals(List.of("2024-02", "<1y"), result.top().get(0).values());
+        assertEquals(List.of("2024-02", ReviewFactStore.UNKNOWN_TENURE), result.top().get(1).values());
+
+        ReviewFactStore.Result employees = store.aggregate(new AnalyticsQuery(
+                List.of(AnalyticsDimension.EMPLOYEE, AnalyticsDimension.REVIEW_TYPE), null, null, ReviewStatus.APPROVED,
+                true, YearMonth.of(2024, 1), YearMonth.of(2024, 3)), 1);
+        assertEquals(3, employees.reviews());
+        assertEquals(2, employees.groups());
+        assertEquals(1, employees.top().size());
+        assertEquals(List.of("true", "NEGATIVE"), employees.top().get(0).values());
+    }
+
+    @Test
+    void aggregate_whenNothingCanMatch_shouldReturnEmptyResult() {
+        ReviewFactStore store = sampleStore();
+
+        assertEquals(0, store.aggregate(new AnalyticsQuery(List.of(), "Initech", null, null, null, null, null), 10).reviews());
+        assertEquals(0, store.aggregate(new AnalyticsQuery(List.of(), null, null, null, null,
+                YearMonth.of(2025, 1), null), 10).groups());
+        assertTrue(new ReviewFactStore(ForkJoinPool.commonPool(), 0).aggregate(groupBy(), 10).top().isEmpty());
+
+        ReviewFactStore.Result all = store.aggregate(groupBy(), 10);
+        assertEquals(List.of(), all.top().get(0).values());
+        assertEquals(5, all.top().get(0).reviews());
+    }
+
+    @Test
+    void aggregate_withManyGroupsInParallel_shouldMatchSequentialCounts() {
+        ReviewFactStore sequential = new ReviewFactStore(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        ReviewFactStore parallel = new ReviewFactStore(ForkJoinPool.commonPool(), 0);
+        // 3000 companies times 36 months is past the dense group limit, and 600k rows split across tasks
+        for (int i = 0; i < 600_000; i++) {
+            ReviewFact fact = new ReviewFact(i, "Company " + i % 3000, ReviewType.values()[i % 2], ReviewStatus.APPROVED,
+                    i % 3 == 0, null, null, Instant.parse("2022-01-15T00:00:00Z").plusSeconds(86_400L * (i % 1000)));
+            sequential.append(fact);
+            parallel.append(fact);
+        }
+        AnalyticsQuery query = new AnalyticsQuery(List.of(AnalyticsDimension.COMPANY, AnalyticsDimension.MONTH),
+                null, ReviewType.POSITIVE, null, null, null, null);
+
+        ReviewFactStore.Result expected = sequential.aggregate(query, 50);
+        ReviewFactStore.Result actual = parallel.aggregate(query, 50);
+
+        assertEquals(300_000, actual.reviews());
+        assertEquals(expected, actual);
+        assertEquals(3000, parallel.companyCount());
+    }
+
+    @Test
+    void contains_shouldSearchTheSortedPrefix() {
+        ReviewFactStore store = sampleStore();
+        store.append(fact(3, "Acme", ReviewType.POSITIVE, false, null, null, "2024-04-01T00:00:00Z"));
+
+        assertTrue(store.contains(4, 5));
+        assertFalse(store.contains(4, 3));
+        assertFalse(store.contains(42, 6));
+        assertEquals(6, store.size());
+    }
+
+    @Test
+    void tenureBucket_shouldUseUpperBoundsExclusive() {
+        assertEquals(0, ReviewFactStore.tenureBucket(11));
+        assertEquals(1, ReviewFactStore.tenureBucket(12));
+        assertEquals(2, ReviewFactStore.tenureBucket(59));
+        assertEquals(3, ReviewFactStore.tenureBucket(60));
+        assertEquals(ReviewFactStore.TENURE_LABELS.length - 1, ReviewFactStore.tenureBucket(-1));
+    }
+}
@@ -1,11 +1,32 @@
 package com.incognito.reviewservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incognito.reviewservice.dto.ActivityBucket;
+import com.incognito.reviewservice.dto.AnalyticsGroup;
+import com.incognito.reviewservice.dto.FacetCount;
+import com.incognito.reviewservice.dto.FacetedReviewPageResponse;
+import com.incognito.reviewservice.dto.HistogramBucket;
+import com.incognito.reviewservice.dto.RelatedReview;
+import com.incognito.reviewservice.dto.RelatedReviewsResponse;
+import com.incognito.reviewservice.dto.ReviewActivityResponse;
+import com.incognito.reviewservice.dto.ReviewAnalyticsResponse;
 import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.dto.ReviewHistogramResponse;
 import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResult;
+import com.incognito.reviewservice.exception.BadRequestException;
 import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import com.incognito.reviewservice.listing.ReviewListing;
+import com.incognito.reviewservice.listing.ReviewQueryPlan;
+import com.incognito.reviewservice.model.HistogramInterval;
 import com.incognito.reviewservice.model.ReviewStatus;
 import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.service.RelatedReviewService;
+import com.incognito.reviewservice.service.ReviewActivityService;
+import com.incognito.reviewservice.service.ReviewAnalyticsService;
 import com.incognito.reviewservice.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,13 +40,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -50,6 +76,21 @@ class ReviewControllerTest {
         public ReviewService reviewService() {
             return Mockito.mock(ReviewService.class);
         }
+
+        @Bean
+        public RelatedReviewService relatedReviewService() {
+            return Mockito.mock(RelatedReviewService.class);
+        }
+
+        @Bean
+        public ReviewActivityService reviewActivityService() {
+            return Mockito.mock(ReviewActivityService.class);
+        }
+
+        @Bean
+        public ReviewAnalyticsService reviewAnalyticsService() {
+            return Mockito.mock(ReviewAnalyticsService.class);
+        }
     }
 
     @Autowired
@@ -58,6 +99,15 @@ class ReviewControllerTest {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private RelatedReviewService relatedReviewService;
+
+    @Autowired
+    private ReviewActivityService reviewActivityService;
+
+    @Autowired
+    private ReviewAnalyticsService reviewAnalyticsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -189,7 +239,8 @@ class ReviewControllerTest {
         List<ReviewResponse> reviewList = Collections.singletonList(reviewResponse);
         Page<ReviewResponse> reviewPage = new PageImpl<>(reviewList, pageable, reviewList.size());
 
-        given(reviewService.getReviews(eq(null), eq(null), any(Pageable.class))).willReturn(reviewPage);
+        given(reviewService.listReviews(eq(ReviewFilter.NONE), any(Pageable.class)))
+                .willReturn(new ReviewListing(reviewPage, ReviewQueryPlan.of(ReviewFilter.NONE)));
 
         // When
         ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews")
@@ -202,9 +253,11 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.content[0].id", is(reviewResponse.id().intValue())))
                 .andExpect(jsonPath("$.totalPages", is(1)))
-                .andExpect(jsonPath("$.totalElements", is(1)));
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                .andExpect(header().string("X-Query-Plan", "index=idx_reviews_created_at"));
 
-        verify(reviewService).getReviews(eq(null), eq(null), any(Pageable.class));
+        // newest first unless the client sorts, matching the prebuilt default query
+        verify(reviewService).listReviews(ReviewFilter.NONE, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
     }
 
     @Test
@@ -216,7 +269,9 @@ class ReviewControllerTest {
         List<ReviewResponse> reviewList = Collections.singletonList(reviewResponse);
         Page<ReviewResponse> reviewPage = new PageImpl<>(reviewList, pageable, reviewList.size());
 
-        given(reviewService.getReviews(eq(companyName), eq(reviewType), any(Pageable.class))).willReturn(reviewPage);
+        ReviewFilter filter = ReviewFilter.of(companyName, reviewType);
+        given(reviewService.listReviews(eq(filter), any(Pageable.class)))
+                .willReturn(new ReviewListing(reviewPage, ReviewQueryPlan.of(filter)));
 
         // When
         ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews")
@@ -231,7 +286,157 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.content[0].companyName", is(companyName)));
 
-        verify(reviewService).getReviews(eq(companyName), eq(reviewType), any(Pageable.class));
+        verify(reviewService).listReviews(eq(filter), any(Pageable.class));
+    }
+
+    @Test
+    void testGetReviews_BindsAllFiltersAndReportsPlan() throws Exception {
+        // Given
+        ReviewFilter filter = new ReviewFilter(null, null, ReviewStatus.APPROVED, true, "Engineering", "Software Developer",
+                Instant.parse("2024-01-01T00:00:00Z"), null, null, Instant.parse("2023-06-01T00:00:00Z"));
+        Page<ReviewResponse> reviewPage = new PageImpl<>(List.of(reviewResponse), PageRequest.of(0, 10), 1);
+        given(reviewService.listReviews(eq(filter), any(Pageable.class)))
+                .willReturn(new ReviewListing(reviewPage, ReviewQueryPlan.of(filter)));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews")
+                .param("status", "APPROVED")
+                .param("isEmployee", "true")
+                .param("dept", "Engineering")
+                .param("role", "Software Developer")
+                .param("createdFrom", "2024-01-01T00:00:00Z")
+                .param("workedTo", "2023-06-01T00:00:00Z"));
+
+        // Then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(header().string("X-Query-Plan",
+                        "index=idx_reviews_dept_role_created; filtered=status,isEmployee,createdFrom,workedTo"));
+    }
+
+    @Test
+    void testGetReviews_FullScanRejected_ShouldReturnBadRequest() throws Exception {
+        ReviewFilter filter = new ReviewFilter(null, null, null, false, null, null, null, null, null, null);
+        given(reviewService.listReviews(eq(filter), any(Pageable.class)))
+                .willThrow(new BadRequestException("Filtering by isEmployee alone would scan all ~250000 reviews"));
+
+        mockMvc.perform(get("/api/v1/reviews").param("isEmployee", "false"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetFacetedReviews_Success() throws Exception {
+        // Given
+        FacetedReviewPageResponse response = new FacetedReviewPageResponse(List.of(reviewResponse), 0, 10, 1, 1,
+                Map.of("reviewType", List.of(new FacetCount("POSITIVE", 1))));
+        given(reviewService.getFacetedReviews(eq(ReviewFilter.NONE), eq(List.of("reviewType")), any(Pageable.class)))
+                .willReturn(response);
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/faceted")
+                .param("facets", "reviewType"));
+
+        // Then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                .andExpect(jsonPath("$.facets.reviewType[0].value", is("POSITIVE")))
+                .andExpect(jsonPath("$.facets.reviewType[0].count", is(1)));
+    }
+
+    @Test
+    void testGetFacetedReviews_ShouldBindTheListingFilters() throws Exception {
+        ReviewFilter filter = new ReviewFilter(null, null, null, true, "Engineering", null, null, null, null, null);
+        given(reviewService.getFacetedReviews(eq(filter), eq(null), any(Pageable.class)))
+                .willReturn(new FacetedReviewPageResponse(List.of(), 0, 10, 0, 0, Map.of()));
+
+        mockMvc.perform(get("/api/v1/reviews/faceted").param("dept", "Engineering").param("isEmployee", "true"))
+                .andExpect(status().isOk());
+
+        verify(reviewService).getFacetedReviews(eq(filter), eq(null), any(Pageable.class));
+    }
+
+    @Test
+    void testGetFacetedReviews_UnknownFacet_ShouldReturnBadRequest() throws Exception {
+        given(reviewService.getFacetedReviews(eq(ReviewFilter.NONE), eq(List.of("salary")), any(Pageable.class)))
+                .willThrow(new BadRequestException("Unknown facet 'salary'"));
+
+        mockMvc.perform(get("/api/v1/reviews/faceted").param("facets", "salary"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetActivity_Success() throws Exception {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2024-03-01");
+        given(reviewActivityService.getActivity("Globex", HistogramInterval.MONTH, from, to)).willReturn(
+                new ReviewActivityResponse("Globex", HistogramInterval.MONTH, List.of(new ActivityBucket(from, 12, 30, 85, 9))));
+
+        mockMvc.perform(get("/api/v1/reviews/activity")
+                        .param("companyName", "Globex")
+                        .param("interval", "MONTH")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interval", is("MONTH")))
+                .andExpect(jsonPath("$.buckets", hasSize(1)))
+                .andExpect(jsonPath("$.buckets[0].start", is("2024-01-01")))
+                .andExpect(jsonPath("$.buckets[0].likes", is(85)));
+    }
+
+    @Test
+    void testGetActivity_Hourly_ShouldReturnBadRequest() throws Exception {
+        given(reviewActivityService.getActivity(null, HistogramInterval.HOUR, null, null))
+                .willThrow(new BadRequestException("Activity is kept per day"));
+
+        mockMvc.perform(get("/api/v1/reviews/activity").param("interval", "HOUR"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetHistogram_Success() throws Exception {
+        Instant from = Instant.parse("2024-06-03T00:00:00Z");
+        Instant to = Instant.parse("2024-06-04T00:00:00Z");
+        Instant bucket = Instant.parse("2024-06-03T14:00:00Z");
+        given(reviewActivityService.getHistogram(null, null, from, to)).willReturn(
+                new ReviewHistogramResponse(null, HistogramInterval.HOUR, List.of(new HistogramBucket(bucket, 4))));
+
+        mockMvc.perform(get("/api/v1/reviews/histogram")
+                        .param("from", "2024-06-03T00:00:00Z")
+                        .param("to", "2024-06-04T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interval", is("HOUR")))
+                .andExpect(jsonPath("$.buckets[0].start", is("2024-06-03T14:00:00Z")))
+                .andExpect(jsonPath("$.buckets[0].reviews", is(4)));
+    }
+
+    @Test
+    void testGetAnalytics_Success() throws Exception {
+        given(reviewAnalyticsService.getAnalytics(List.of("company", "month"), null, ReviewType.NEGATIVE, null, null,
+                YearMonth.parse("2024-01"), YearMonth.parse("2024-12"), 100)).willReturn(
+                new ReviewAnalyticsResponse(List.of("company", "month"), 40, 7,
+                        List.of(new AnalyticsGroup(Map.of("company", "Globex", "month", "2024-05"), 12, 30.5))));
+
+        mockMvc.perform(get("/api/v1/reviews/analytics")
+                        .param("groupBy", "company,month")
+                        .param("reviewType", "NEGATIVE")
+                        .param("from", "2024-01")
+                        .param("to", "2024-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", is(40)))
+                .andExpect(jsonPath("$.groups", is(7)))
+                .andExpect(jsonPath("$.top", hasSize(1)))
+                .andExpect(jsonPath("$.top[0].values.company", is("Globex")))
+                .andExpect(jsonPath("$.top[0].averageTenureMonths", is(30.5)));
+    }
+
+    @Test
+    void testGetAnalytics_UnknownDimension_ShouldReturnBadRequest() throws Exception {
+        given(reviewAnalyticsService.getAnalytics(List.of("salary"), null, null, null, null, null, null, 100))
+                .willThrow(new BadRequestException("Unknown dimension 'salary'"));
+
+        mockMvc.perform(get("/api/v1/reviews/analytics").param("groupBy", "salary"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -313,4 +518,86 @@ class ReviewControllerTest {
         resultActions.andExpect(status().isNotFound());
         verify(reviewService).incrementDislikeCount(reviewId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchReviews_Success() throws Exception {
+        // Given
+        ReviewSearchResult result = new ReviewSearchResult(1L, ReviewType.POSITIVE, "Great benefits", "Incognito Corp",
+                3, Instant.now(), 0.42, "Great <mark>benefits</mark>");
+        given(reviewService.searchReviews("benefits", null, 5))
+                .willReturn(new ReviewSearchResponse(List.of(result), "next-token"));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/search")
+                .param("q", "benefits")
+                .param("size", "5"));
+
+        // Then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.results[0].snippet", is("Great <mark>benefits</mark>")))
+                .andExpect(jsonPath("$.nextCursor", is("next-token")));
+        verify(reviewService).searchReviews("benefits", null, 5);
+    }
+
+    @Test
+    void testSearchReviews_InvalidCursor() throws Exception {
+        // Given
+        given(reviewService.searchReviews("benefits", "garbage", 10)).willThrow(new BadRequestException("Invalid search cursor"));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/search")
+                .param("q", "benefits")
+                .param("cursor", "garbage"));
+
+        // Then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchReviewsInstant_WhenIndexUnavailable_FallsBackToDatabaseSearch() throws Exception {
+        // Given
+        given(reviewService.searchIndex("benefits", 10)).willReturn(Optional.empty());
+        given(reviewService.searchReviews("benefits", null, 10)).willReturn(new ReviewSearchResponse(List.of(), null));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/search/instant").param("q", "benefits"));
+
+        // Then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(0)));
+        verify(reviewService).searchReviews("benefits", null, 10);
+    }
+
+    @Test
+    void testGetRelatedReviews() throws Exception {
+        // Given
+        RelatedReview related = new RelatedReview(7L, ReviewType.POSITIVE, "Overtime", "Globex",
+                Instant.parse("2024-03-01T00:00:00Z"), 0.5);
+        given(relatedReviewService.getRelatedReviews(1L, 3)).willReturn(new RelatedReviewsResponse(1L, List.of(), List.of(related)));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/{id}/related", 1L).param("size", "3"));
+
+        // Then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewId", is(1)))
+                .andExpect(jsonPath("$.sameCompany", hasSize(0)))
+                .andExpect(jsonPath("$.otherCompanies[0].id", is(7)))
+                .andExpect(jsonPath("$.otherCompanies[0].similarity", is(0.5)));
+    }
+
+    @Test
+    void testGetRelatedReviews_WhileIndexLoading() throws Exception {
+        // Given
+        given(relatedReviewService.getRelatedReviews(1L, 5))
+                .willThrow(new ServiceOverloadedException("Related reviews are not available yet", 10));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/reviews/{id}/related", 1L));
+
+        // Then
+        resultActions.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "10"));
+    }
+}
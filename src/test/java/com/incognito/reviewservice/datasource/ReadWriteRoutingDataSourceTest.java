@@ -0,0 +1,74 @@
+package com.incognito.reviewservice.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaTarget replicaOne;
+    private ReplicaTarget replicaTwo;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        replicaOne = new ReplicaTarget("replica-1", mock(DataSource.class));
+        replicaTwo = new ReplicaTarget("replica-2", mock(DataSource.class));
+        routingDataSource = new ReadWriteRoutingDataSource(mock(DataSource.class), List.of(replicaOne, replicaTwo),
+                Duration.ofSeconds(2), Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldUsePrimary_whenTransactionIsNotReadOnly() {
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRoundRobinReplicas_whenTransactionIsReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldSkipUnhealthyReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaOne.markUnhealthy();
+
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldFailOverToPrimary_whenNoReplicaIsHealthy() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaOne.markUnhealthy();
+        replicaTwo.markUnhealthy();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldUsePrimary_whenClientIsPinnedAfterWrite() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.pinToPrimary();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -155,6 +157,95 @@ class GlobalExceptionHandlerTest {
         assertEquals("/test/path", body.get("path"));
     }
     
+    @Test
+    void testHandleBulkheadFullException() {
+        // Arrange
+        BulkheadFullException ex = new BulkheadFullException("votes", "Too many concurrent 'votes' requests. Please retry shortly.");
+
+        // Act
+        ResponseEntity<Object> responseEntity = globalExceptionHandler.handleBulkheadFullException(ex, webRequest);
+
+        // Assert
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseEntity.getStatusCode());
+        assertEquals("1", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) responseEntity.getBody();
+        assertNotNull(body);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), body.get("status"));
+        assertEquals("Too Many Requests", body.get("error"));
+        assertEquals("Too many concurrent 'votes' requests. Please retry shortly.", body.get("message"));
+        assertEquals("/test/path", body.get("path"));
+    }
+
+    @Test
+    void testHandleDeadlineExceeded() {
+        // Arrange
+        TransactionTimedOutException ex = new TransactionTimedOutException("Transaction timed out");
+
+        // Act
+        ResponseEntity<Object> responseEntity = globalExceptionHandler.handleDeadlineExceeded(ex, webRequest);
+
+        // Assert
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, responseEntity.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) responseEntity.getBody();
+        assertNotNull(body);
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), body.get("status"));
+        assertEquals("Deadline Exceeded", body.get("error"));
+        assertEquals("/test/path", body.get("path"));
+    }
+
+    @Test
+    void testHandleCannotCreateTransaction_whenCausedByDeadline() {
+        // Arrange
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new DeadlineExceededException("Request deadline exceeded while waiting for a database connection"));
+
+        // Act
+        ResponseEntity<Object> responseEntity = globalExceptionHandler.handleCannotCreateTransaction(ex, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, responseEntity.getStatusCode());
+    }
+
+    @Test
+    void testHandleCannotCreateTransaction_whenDatabaseIsUnavailable() {
+        // Arrange
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new IllegalStateException("Connection refused"));
+
+        // Act
+        ResponseEntity<Object> responseEntity = globalExceptionHandler.handleCannotCreateTransaction(ex, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseEntity.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) responseEntity.getBody();
+        assertNotNull(body);
+        assertEquals("Service Unavailable", body.get("error"));
+    }
+
+    @Test
+    void testHandleServiceOverloadedException() {
+        // Arrange
+        ServiceOverloadedException ex = new ServiceOverloadedException("The service is overloaded. Please retry after 2 second(s).", 2);
+
+        // Act
+        ResponseEntity<Object> responseEntity = globalExceptionHandler.handleServiceOverloadedException(ex, webRequest);
+
+        // Assert
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseEntity.getStatusCode());
+        assertEquals("2", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) responseEntity.getBody();
+        assertNotNull(body);
+        assertEquals("Service Unavailable", body.get("error"));
+        assertEquals("The service is overloaded. Please retry after 2 second(s).", body.get("message"));
+    }
+
     @Test
     void testHandleGenericException() {
         // Arrange
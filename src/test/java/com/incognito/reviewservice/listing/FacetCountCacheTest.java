@@ -0,0 +1,126 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.model.ReviewFacet;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.repository.ReviewFacetRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetCountCacheTest {
+
+    private static final ReviewFilter ACME = ReviewFilter.of("Acme", null);
+    private static final Set<ReviewFacet> TYPES = EnumSet.of(ReviewFacet.REVIEW_TYPE);
+
+    private final AtomicInteger counted = new AtomicInteger();
+    private final Supplier<List<ReviewFacetRow>> counter = () -> List.of(
+            new ReviewFacetRow(ReviewFacet.REVIEW_TYPE, "POSITIVE", counted.incrementAndGet()));
+    private ReviewListingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private long now;
+    private FacetCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReviewListingProperties();
+        properties.setFacetCacheTtl(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FacetCountCache(properties, meterRegistry, () -> now);
+    }
+
+    @Test
+    void get_shouldReuseCountsUntilTheyExpire() {
+        cache.get(ACME, TYPES, counter);
+        now += Duration.ofSeconds(29).toNanos();
+        List<ReviewFacetRow> reused = cache.get(ACME, EnumSet.copyOf(TYPES), counter);
+        now += Duration.ofSeconds(1).toNanos();
+        List<ReviewFacetRow> recounted = cache.get(ACME, TYPES, counter);
+
+        assertEquals(1, reused.getFirst().count());
+        assertEquals(2, recounted.getFirst().count());
+        assertEquals(1.0, meterRegistry.get("reviewservice.listing.facet.cache").tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("reviewservice.listing.facet.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_shouldKeepFiltersAndFacetsApart() {
+        cache.get(ACME, TYPES, counter);
+        cache.get(ReviewFilter.of("Acme", ReviewType.POSITIVE), TYPES, counter);
+        cache.get(ACME, EnumSet.of(ReviewFacet.REVIEW_TYPE, ReviewFacet.DEPT), counter);
+
+        assertEquals(3, counted.get());
+    }
+
+    @Test
+    void get_whenFull_shouldCountWithoutCachingUntilEntriesExpire() {
+        properties.setFacetCacheMaxEntries(1);
+        cache.get(ACME, TYPES, counter);
+
+        cache.get(ReviewFilter.NONE, TYPES, counter);
+        cache.get(ReviewFilter.NONE, TYPES, counter);
+        now += Duration.ofSeconds(30).toNanos();
+        cache.get(ReviewFilter.NONE, TYPES, counter);
+        cache.get(ReviewFilter.NONE, TYPES, counter);
+
+        assertEquals(4, counted.get());
+    }
+
+    @Test
+    void get_withZeroTtl_shouldCountEveryTime() {
+        properties.setFacetCacheTtl(Duration.ZERO);
+
+        cache.get(ACME, TYPES, counter);
+        cache.get(ACME, TYPES, counter);
+
+        assertEquals(2, counted.get());
+    }
+
+    @Test
+    void get_shouldRecordHitsAndMissesWithKeyAndCountingTime(@TempDir Path directory) throws Exception {
+        Supplier<List<ReviewFacetRow>> slowCounter = () -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return counter.get();
+        };
+        Path file = directory.resolve("facets.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("reviewservice.FacetCountCache").withoutThreshold();
+            recording.start();
+            cache.get(ACME, TYPES, slowCounter);
+            cache.get(ACME, TYPES, slowCounter);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        RecordedEvent miss = events.get(0);
+        RecordedEvent hit = events.get(1);
+        assertFalse(miss.getBoolean("hit"));
+        assertTrue(miss.getDuration("loaderDuration").toMillis() >= 5);
+        assertEquals("companyName", miss.getString("filterShape"));
+        assertTrue(miss.getString("key").contains("companyName=Acme"));
+        assertTrue(hit.getBoolean("hit"));
+        assertEquals(Duration.ZERO, hit.getDuration("loaderDuration"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewQueryPlanTest {
+
+    private static final Instant JAN_2024 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant JUL_2024 = Instant.parse("2024-07-01T00:00:00Z");
+
+    @Test
+    void of_withoutFilters_shouldWalkCreatedAtIndex() {
+        ReviewQueryPlan plan = ReviewQueryPlan.of(ReviewFilter.NONE);
+
+        assertEquals(ReviewIndex.CREATED_AT, plan.index());
+        assertEquals("none", plan.filterShape());
+        assertEquals("index=idx_reviews_created_at", plan.describe());
+    }
+
+    @Test
+    void of_shouldPreferMostSelectiveIndexAndFilterTheRest() {
+        ReviewFilter filter = new ReviewFilter("Incognito", ReviewType.POSITIVE, ReviewStatus.APPROVED, null,
+                "Engineering", null, null, null, null, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertEquals(ReviewIndex.COMPANY_NAME, plan.index());
+        assertEquals(List.of("reviewType", "status", "dept"), plan.residualFilters());
+        assertEquals("index=idx_reviews_company_name_trgm; filtered=reviewType,status,dept", plan.describe());
+        assertEquals("companyName+reviewType+status+dept", plan.filterShape());
+    }
+
+    @Test
+    void of_withDeptAndRole_shouldCoverBothWithCompositeIndex() {
+        ReviewFilter filter = new ReviewFilter(null, null, null, null, "Engineering", "Developer", null, null, null, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertEquals(ReviewIndex.DEPT_ROLE, plan.index());
+        assertTrue(plan.residualFilters().isEmpty());
+    }
+
+    @Test
+    void of_withShortCompanyName_shouldNotUseTrigramIndex() {
+        ReviewQueryPlan plan = ReviewQueryPlan.of(ReviewFilter.of("IB", ReviewType.NEGATIVE));
+
+        assertEquals(ReviewIndex.REVIEW_TYPE, plan.index());
+        assertEquals(List.of("companyName"), plan.residualFilters());
+    }
+
+    @Test
+    void of_withOnlyShortCompanyName_shouldWalkCreatedAtIndexRatherThanScan() {
+        ReviewFilter filter = new ReviewFilter("ab", null, null, false, null, null, null, null, null, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertFalse(plan.isSequentialScan());
+        assertEquals(ReviewIndex.CREATED_AT, plan.index());
+        assertEquals("index=idx_reviews_created_at; filtered=companyName,isEmployee", plan.describe());
+    }
+
+    @Test
+    void of_withCreatedRange_shouldUseCreatedAtIndex() {
+        ReviewFilter filter = new ReviewFilter(null, null, null, false, null, null, JAN_2024, JUL_2024, null, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertEquals(ReviewIndex.CREATED_AT, plan.index());
+        assertEquals(List.of("isEmployee"), plan.residualFilters());
+    }
+
+    @Test
+    void of_withEmployeesOnly_shouldUsePartialIndex() {
+        ReviewFilter filter = new ReviewFilter(null, null, null, true, null, null, null, null, null, null);
+
+        assertEquals(ReviewIndex.EMPLOYEE, ReviewQueryPlan.of(filter).index());
+    }
+
+    @Test
+    void of_withOnlyUnindexedFilters_shouldPlanSequentialScan() {
+        ReviewFilter filter = new ReviewFilter(null, null, null, false, null, null, null, null, JAN_2024, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertTrue(plan.isSequentialScan());
+        assertNull(plan.index());
+        assertEquals("seqscan; filtered=isEmployee,workedFrom", plan.describe());
+    }
+
+    @Test
+    void of_withBlankStrings_shouldTreatThemAsAbsent() {
+        ReviewFilter filter = new ReviewFilter(" ", null, null, null, "", null, null, null, null, null);
+
+        ReviewQueryPlan plan = ReviewQueryPlan.of(filter);
+
+        assertFalse(plan.isSequentialScan());
+        assertEquals("none", plan.filterShape());
+    }
+
+    @Test
+    void of_withEmptyRange_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> ReviewQueryPlan.of(
+                new ReviewFilter(null, null, null, null, null, null, JUL_2024, JAN_2024, null, null)));
+        assertThrows(BadRequestException.class, () -> ReviewQueryPlan.of(
+                new ReviewFilter(null, null, null, null, null, null, null, null, JAN_2024, JAN_2024)));
+    }
+
+    @Test
+    void narrowsRows_shouldHoldOnlyWhenAnIndexFiltersRows() {
+        assertTrue(ReviewQueryPlan.of(ReviewFilter.of("Incognito", null)).narrowsRows());
+        assertTrue(ReviewQueryPlan.of(new ReviewFilter(null, null, null, null, null, null, JAN_2024, null, null, null))
+                .narrowsRows());
+        // newest first over every row, or over every row with the filter checked on each
+        assertFalse(ReviewQueryPlan.of(ReviewFilter.NONE).narrowsRows());
+        assertFalse(ReviewQueryPlan.of(ReviewFilter.of("IB", null)).narrowsRows());
+        assertFalse(ReviewQueryPlan.of(new ReviewFilter(null, null, null, false, null, null, null, null, null, null))
+                .narrowsRows());
+    }
+
+    @Test
+    void of_sortedByCreatedAtEitherWay_shouldKeepTheIndexWalk() {
+        ReviewQueryPlan newestFirst = ReviewQueryPlan.of(ReviewFilter.NONE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        ReviewQueryPlan oldestFirst = ReviewQueryPlan.of(ReviewFilter.NONE, Sort.by("createdAt"));
+
+        assertEquals(ReviewIndex.CREATED_AT, newestFirst.index());
+        assertEquals(ReviewIndex.CREATED_AT, oldestFirst.index());
+        assertEquals("index=idx_reviews_created_at", oldestFirst.describe());
+    }
+
+    @Test
+    void of_withOtherSortAndNoNarrowingIndex_shouldPlanSequentialScan() {
+        ReviewQueryPlan unfiltered = ReviewQueryPlan.of(ReviewFilter.NONE, Sort.by(Sort.Direction.DESC, "likeCount"));
+        ReviewQueryPlan shortName = ReviewQueryPlan.of(ReviewFilter.of("ab", null), Sort.by("title", "createdAt"));
+
+        assertTrue(unfiltered.isSequentialScan());
+        assertEquals("seqscan; sorted=likeCount", unfiltered.describe());
+        assertTrue(shortName.isSequentialScan());
+        assertEquals("seqscan; filtered=companyName; sorted=title,createdAt", shortName.describe());
+    }
+
+    @Test
+    void of_withOtherSortAndNarrowingIndex_shouldSortTheNarrowedRows() {
+        ReviewQueryPlan plan = ReviewQueryPlan.of(ReviewFilter.of("Incognito", null), Sort.by("likeCount"));
+
+        assertEquals(ReviewIndex.COMPANY_NAME, plan.index());
+        assertEquals("index=idx_reviews_company_name_trgm; sorted=likeCount", plan.describe());
+    }
+}
@@ -0,0 +1,157 @@
+package com.incognito.reviewservice.listing;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequentialScanGuardTest {
+
+    private static final ReviewQueryPlan FULL_SCAN = ReviewQueryPlan.of(
+            new ReviewFilter(null, null, null, false, null, null, null, null, null, null));
+    private static final ReviewQueryPlan INDEXED = ReviewQueryPlan.of(
+            new ReviewFilter(null, null, null, true, null, null, null, null, null, null));
+
+    private final AtomicInteger estimates = new AtomicInteger();
+    private ReviewListingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private long tableRows;
+    private SequentialScanGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReviewListingProperties();
+        properties.setSequentialScanRowLimit(1000);
+        properties.setRowEstimateRefresh(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new SequentialScanGuard(() -> {
+            estimates.incrementAndGet();
+            return tableRows;
+        }, properties, meterRegistry);
+    }
+
+    @Test
+    void check_whenPlanIsIndexed_shouldPassWithoutEstimating() {
+        tableRows = 1_000_000;
+
+        assertDoesNotThrow(() -> guard.check(INDEXED));
+        assertEquals(0, estimates.get());
+    }
+
+    @Test
+    void check_whenSmallTable_shouldAllowFullScan() {
+        tableRows = 1000;
+
+        assertDoesNotThrow(() -> guard.check(FULL_SCAN));
+    }
+
+    @Test
+    void check_whenLargeTable_shouldRejectFullScanAndCountIt() {
+        tableRows = 1001;
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> guard.check(FULL_SCAN));
+
+        assertTrue(exception.getMessage().contains("isEmployee"));
+        assertEquals(1.0, meterRegistry.get("reviewservice.listing.rejected").tag("filters", "isEmployee").counter().count());
+    }
+
+    @Test
+    void check_whenLargeTableAndPlanOnlyBoundsThePage_shouldEstimateUnfilteredCount() {
+        tableRows = 5000;
+
+        assertEquals(OptionalLong.of(5000), guard.check(ReviewQueryPlan.of(ReviewFilter.NONE)));
+    }
+
+    @Test
+    void check_whenSmallTable_shouldCountExactly() {
+        tableRows = 1000;
+
+        assertEquals(OptionalLong.empty(), guard.check(ReviewQueryPlan.of(ReviewFilter.NONE)));
+        assertEquals(OptionalLong.empty(), guard.check(ReviewQueryPlan.of(ReviewFilter.of("ab", null))));
+    }
+
+    @Test
+    void check_whenLargeTable_shouldRejectShortCompanyNameWhoseCountReadsEveryRow() {
+        tableRows = 1001;
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> guard.check(ReviewQueryPlan.of(ReviewFilter.of("ab", null))));
+
+        assertTrue(exception.getMessage().startsWith("Counting reviews filtered by companyName"));
+        assertEquals(1.0, meterRegistry.get("reviewservice.listing.rejected").tag("filters", "companyName").counter().count());
+    }
+
+    @Test
+    void check_whenLargeTable_shouldRejectSortThatNoIndexNarrows() {
+        tableRows = 1001;
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> guard.check(ReviewQueryPlan.of(ReviewFilter.NONE, Sort.by("likeCount"))));
+
+        assertTrue(exception.getMessage().startsWith("Sorting reviews by likeCount would read all ~1001 reviews"));
+        assertEquals(OptionalLong.empty(),
+                guard.check(ReviewQueryPlan.of(ReviewFilter.of("Incognito", null), Sort.by("likeCount"))));
+    }
+
+    @Test
+    void check_shouldReuseEstimateUntilRefresh() {
+        tableRows = 10;
+        guard.check(FULL_SCAN);
+        tableRows = 1_000_000;
+
+        assertDoesNotThrow(() -> guard.check(FULL_SCAN));
+        assertEquals(1, estimates.get());
+
+        properties.setRowEstimateRefresh(Duration.ZERO);
+        assertThrows(BadRequestException.class, () -> guard.check(FULL_SCAN));
+        assertEquals(2, estimates.get());
+    }
+
+    @Test
+    void check_whenLimitNegative_shouldAllowEverything() {
+        properties.setSequentialScanRowLimit(-1);
+        tableRows = 1_000_000;
+
+        assertDoesNotThrow(() -> guard.check(FULL_SCAN));
+        assertEquals(0, estimates.get());
+    }
+
+    @Test
+    void checkAggregate_whenLargeTable_shouldRejectCountingEveryReview() {
+        tableRows = 1001;
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> guard.checkAggregate(ReviewQueryPlan.of(ReviewFilter.NONE)));
+
+        assertTrue(exception.getMessage().contains("without filters"));
+        assertEquals(1.0, meterRegistry.get("reviewservice.listing.rejected").tag("filters", "none").counter().count());
+        assertThrows(BadRequestException.class, () -> guard.checkAggregate(FULL_SCAN));
+    }
+
+    @Test
+    void checkAggregate_whenIndexNarrowsRows_shouldPassWithoutEstimating() {
+        tableRows = 1_000_000;
+
+        assertDoesNotThrow(() -> guard.checkAggregate(INDEXED));
+        assertDoesNotThrow(() -> guard.checkAggregate(ReviewQueryPlan.of(ReviewFilter.of("Incognito", null))));
+        assertEquals(0, estimates.get());
+    }
+
+    @Test
+    void checkAggregate_whenSmallTable_shouldAllowCountingEveryReview() {
+        tableRows = 1000;
+
+        assertDoesNotThrow(() -> guard.checkAggregate(ReviewQueryPlan.of(ReviewFilter.NONE)));
+    }
+}
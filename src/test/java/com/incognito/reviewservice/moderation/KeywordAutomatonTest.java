@@ -0,0 +1,70 @@
+package com.incognito.reviewservice.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordAutomatonTest {
+
+    private static KeywordAutomaton compile(String... lines) {
+        return KeywordAutomaton.compile(Keyword.parse(List.of(lines)));
+    }
+
+    @Test
+    void findMostSevere_shouldFindOverlappingKeywordsThroughFailureLinks() {
+        KeywordAutomaton automaton = compile("he", "she", "his", "hers");
+
+        KeywordAutomaton.Match match = automaton.findMostSevere("ushers");
+
+        // Inside "ushers" none of them is a whole word
+        assertNull(match);
+        assertEquals("hers", automaton.findMostSevere("That is hers.").keyword().term());
+        assertEquals("she", automaton.findMostSevere("and she left").keyword().term());
+        assertEquals(4, automaton.size());
+    }
+
+    @Test
+    void findMostSevere_shouldMatchWholeWordsIgnoringCase() {
+        KeywordAutomaton automaton = compile("spam", "crypto giveaway");
+
+        assertNull(automaton.findMostSevere("They spammed the forum"));
+        assertNull(automaton.findMostSevere("cryptogiveaway"));
+        KeywordAutomaton.Match match = automaton.findMostSevere("Huge CRYPTO Giveaway, click now");
+        assertNotNull(match);
+        assertEquals("crypto giveaway", match.keyword().term());
+        assertEquals(5, match.start());
+        assertEquals(ModerationAction.HOLD, automaton.findMostSevere("SPAM!").keyword().action());
+    }
+
+    @Test
+    void findMostSevere_shouldPreferHideOverEarlierHold() {
+        KeywordAutomaton automaton = compile("# moderators' list", "", "referral", "scam | hide", "Referral | HIDE");
+
+        KeywordAutomaton.Match match = automaton.findMostSevere("Referral link inside, total scam");
+
+        // "referral" is listed twice; the stricter action wins
+        assertEquals(ModerationAction.HIDE, match.keyword().action());
+        assertEquals("referral", match.keyword().term());
+        assertEquals(2, automaton.size());
+    }
+
+    @Test
+    void findMostSevere_withNoKeywords_shouldMatchNothing() {
+        assertNull(KeywordAutomaton.EMPTY.findMostSevere("anything at all"));
+        assertNull(compile("scam").findMostSevere(null));
+    }
+
+    @Test
+    void parse_shouldRejectUnknownActionWithLineNumber() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> Keyword.parse(List.of("spam", "scam | delete")));
+
+        assertTrue(ex.getMessage().startsWith("Line 2: unknown action 'DELETE'"), ex.getMessage());
+    }
+}
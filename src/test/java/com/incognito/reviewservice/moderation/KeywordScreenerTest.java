@@ -0,0 +1,53 @@
+package com.incognito.reviewservice.moderation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordScreenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reloadIfModified_shouldSwapInChangedListAndKeepPreviousOnError() throws IOException {
+        Path file = tempDir.resolve("keywords.txt");
+        Files.writeString(file, "scam | hide\n");
+        KeywordScreener screener = new KeywordScreener(file, Duration.ZERO);
+        screener.afterPropertiesSet();
+        assertEquals(ModerationAction.HIDE, screener.screen("what a scam").keyword().action());
+
+        Files.writeString(file, "scam | hide\nreferral\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        screener.reloadIfModified();
+        assertEquals(2, screener.getKeywordCount());
+        assertNotNull(screener.screen("my referral code"));
+
+        Files.writeString(file, "referral | ban\n");
+        assertFalse(screener.reload());
+        assertEquals(2, screener.getKeywordCount());
+        assertTrue(screener.getLastError().contains("unknown action 'BAN'"), screener.getLastError());
+    }
+
+    @Test
+    void screen_withoutKeywordFile_shouldMatchNothing() {
+        KeywordScreener screener = new KeywordScreener(null, Duration.ofSeconds(10));
+        screener.afterPropertiesSet();
+
+        assertNull(screener.screen("what a scam"));
+        assertFalse(screener.reload());
+        assertEquals(0, screener.getKeywordCount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.incognito.reviewservice.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LshIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private static int[] signature(String text) {
+        return MinHasher.signature(MinHasher.normalize(text));
+    }
+
+    @Test
+    void findMostSimilar_shouldReturnClosestItemAboveThreshold() {
+        LshIndex index = new LshIndex(24 * HOUR, 100);
+        index.add(1L, signature("the quick brown fox jumps over the lazy dog near the river bank"), 0);
+        index.add(2L, signature("the quick brown fox jumps over the lazy dog near the river bank today"), 1);
+
+        LshIndex.Match match = index.findMostSimilar(signature("the quick brown fox jumps over the lazy dog near the river bank"), 0.8, 2);
+
+        assertNotNull(match);
+        assertEquals(1L, match.id());
+        assertEquals(1.0, match.similarity());
+        assertNull(index.findMostSimilar(signature("completely different words about salaries and benefits"), 0.8, 2));
+    }
+
+    @Test
+    void add_shouldForgetItemsPastHorizonOrBeyondCapacity() {
+        String text = "management ignores feedback and the workload is unsustainable for everyone";
+        LshIndex index = new LshIndex(HOUR, 2);
+        index.add(1L, signature(text), 0);
+
+        assertNull(index.findMostSimilar(signature(text), 0.8, 2 * HOUR));
+        assertEquals(0, index.size());
+
+        index.add(2L, signature(text), 2 * HOUR);
+        index.add(3L, signature("another review entirely, about onboarding and remote work"), 2 * HOUR);
+        index.add(4L, signature("yet another review, about salaries and promotion cycles"), 2 * HOUR);
+
+        assertEquals(2, index.size());
+        assertNull(index.findMostSimilar(signature(text), 0.8, 2 * HOUR));
+    }
+}
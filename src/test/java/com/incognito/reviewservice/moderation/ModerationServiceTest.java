@@ -0,0 +1,114 @@
+package com.incognito.reviewservice.moderation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ModerationServiceTest {
+
+    private static final String ORIGINAL = "<p>Management ignores feedback and the workload is <b>unsustainable</b>. "
+            + "Promotions depend on politics rather than results, and most of my team left within a year.</p>";
+    private static final String LIGHTLY_EDITED = "Management ignores feedback and the workload is unsustainable!! "
+            + "Promotions depend on politics rather than results, and most of our team left within a year.";
+    private static final String UNRELATED = "Great onboarding, friendly colleagues and flexible remote work. "
+            + "The benefits package is generous and leadership communicates the roadmap clearly.";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModerationProperties properties;
+    private KeywordScreener keywordScreener;
+    private ModerationService moderationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ModerationProperties();
+        keywordScreener = new KeywordScreener(null, Duration.ZERO);
+        moderationService = new ModerationService(null, mock(PlatformTransactionManager.class), properties, keywordScreener, meterRegistry);
+    }
+
+    @Test
+    void screenReview_shouldFlagLightlyEditedCopyOfRecentReview() {
+        ModerationVerdict first = moderationService.screenReview("Avoid this place", ORIGINAL);
+        assertFalse(first.isFlagged());
+        moderationService.recordReview(41L, first);
+
+        ModerationVerdict copy = moderationService.screenReview("Avoid this place!", LIGHTLY_EDITED);
+        ModerationVerdict unrelated = moderationService.screenReview("Lovely team", UNRELATED);
+
+        assertTrue(copy.isFlagged());
+        assertTrue(copy.reason().startsWith("Near-duplicate of review 41"), copy.reason());
+        assertFalse(unrelated.isFlagged());
+        assertEquals(1.0, meterRegistry.get("reviewservice.moderation.duplicates").tag("kind", "review").counter().count());
+    }
+
+    @Test
+    void screenComment_shouldIgnoreShortTextsAndKeepKindsApart() {
+        ModerationVerdict review = moderationService.screenReview("Avoid this place", ORIGINAL);
+        moderationService.recordReview(41L, review);
+
+        ModerationVerdict shortReply = moderationService.screenComment("Thanks, agreed!");
+        moderationService.recordComment(1L, shortReply);
+
+        assertNull(shortReply.signature());
+        assertFalse(moderationService.screenComment("Thanks, agreed!").isFlagged());
+        // Comments are compared with comments only
+        assertFalse(moderationService.screenComment(ORIGINAL).isFlagged());
+    }
+
+    @Test
+    void screenComment_whenKeywordListed_shouldApplyItsActionEvenToShortTexts() {
+        keywordScreener.install(KeywordAutomaton.compile(Keyword.parse(List.of("crypto giveaway", "scam | hide"))));
+
+        ModerationVerdict held = moderationService.screenComment("Join the Crypto Giveaway!");
+        ModerationVerdict hidden = moderationService.screenComment("Total scam");
+
+        assertEquals(ModerationAction.HOLD, held.action());
+        assertEquals("Contains screened term 'crypto giveaway'", held.reason());
+        assertEquals(ModerationAction.HIDE, hidden.action());
+        assertFalse(moderationService.screenComment("Scammers everywhere").isFlagged());
+        assertEquals(1.0, meterRegistry.get("reviewservice.moderation.keyword.matches")
+                .tags("kind", "comment", "action", "hide").counter().count());
+    }
+
+    @Test
+    void screenReview_whenKeywordAndDuplicate_shouldReportKeywordAndKeepSignature() {
+        moderationService.recordReview(41L, moderationService.screenReview("Avoid this place", ORIGINAL));
+        keywordScreener.install(KeywordAutomaton.compile(Keyword.parse(List.of("politics | hide"))));
+
+        ModerationVerdict verdict = moderationService.screenReview("Avoid this place!", LIGHTLY_EDITED);
+
+        assertEquals(ModerationAction.HIDE, verdict.action());
+        assertEquals("Contains screened term 'politics'", verdict.reason());
+        assertNotNull(verdict.signature());
+        assertEquals(1.0, meterRegistry.get("reviewservice.moderation.duplicates").tag("kind", "review").counter().count());
+    }
+
+    @Test
+    void screen_whenDisabled_shouldPassEverything() {
+        properties.setEnabled(false);
+        moderationService.recordReview(41L, new ModerationVerdict(ModerationAction.PASS, null, MinHasher.signature(MinHasher.normalize(ORIGINAL))));
+
+        ModerationVerdict verdict = moderationService.screenReview("Avoid this place", ORIGINAL);
+
+        assertFalse(verdict.isFlagged());
+        assertNull(verdict.signature());
+    }
+
+    @Test
+    void normalize_shouldDropTagsAndPunctuation() {
+        assertEquals("the workload is unsustainable ok", MinHasher.normalize("<p>The <b>workload</b> is unsustainable...</p> OK"));
+        assertEquals(5, MinHasher.wordCount("the workload is unsustainable ok"));
+        assertNotNull(MinHasher.signature("abc"));
+    }
+}
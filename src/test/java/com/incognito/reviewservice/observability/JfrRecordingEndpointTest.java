@@ -0,0 +1,61 @@
+package com.incognito.reviewservice.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.destroy();
+    }
+
+    @Test
+    void dump_shouldReturnNull_whenNothingWasRecorded() throws Exception {
+        assertNull(endpoint.dump());
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+
+    @Test
+    void dump_shouldContainDomainEvents_afterStartAndStop() throws Exception {
+        assertEquals("RUNNING", endpoint.start(null, null).get("state"));
+
+        ReviewLookupEvent event = new ReviewLookupEvent();
+        event.begin();
+        event.complete(42L, true);
+
+        assertEquals("STOPPED", endpoint.stop().get("state"));
+        Path file = endpoint.dump();
+        assertNotNull(file);
+        try {
+            List<RecordedEvent> lookups = RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("reviewservice.ReviewLookup"))
+                    .toList();
+            assertEquals(1, lookups.size());
+            assertEquals(42L, lookups.get(0).getLong("reviewId"));
+            assertTrue(lookups.get(0).getBoolean("found"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void start_shouldRejectUnknownSettings() {
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.start("no-such-settings", null));
+    }
+}
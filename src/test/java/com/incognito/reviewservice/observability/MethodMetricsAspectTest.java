@@ -0,0 +1,75 @@
+package com.incognito.reviewservice.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MethodMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MethodMetricsAspect aspect = new MethodMetricsAspect(meterRegistry);
+
+    private static ProceedingJoinPoint joinPoint(String method) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(method);
+        when(signature.getDeclaringType()).thenReturn(MethodMetricsAspectTest.class);
+        return joinPoint;
+    }
+
+    @Test
+    void timeServiceMethod_shouldReuseOneTimerPerTagCombination() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("getReview");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.timeServiceMethod(joinPoint);
+        aspect.timeServiceMethod(joinPoint);
+
+        Timer timer = meterRegistry.get("reviewservice.service.calls")
+                .tag("service", "MethodMetricsAspectTest")
+                .tag("method", "getReview")
+                .tag("endpoint", EndpointTags.NONE)
+                .tag("exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(1, meterRegistry.getMeters().size());
+    }
+
+    @Test
+    void timeServiceMethod_shouldTagFailuresWithTheExceptionType() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("getReview");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.timeServiceMethod(joinPoint));
+
+        assertEquals(1, meterRegistry.get("reviewservice.service.calls")
+                .tag("exception", "IllegalStateException")
+                .timer().count());
+    }
+
+    @Test
+    void timeServiceMethod_shouldTagWarmupCallsApart() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("getReviews");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        WarmupTraffic.run(() -> {
+            try {
+                return aspect.timeServiceMethod(joinPoint);
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertEquals(1, meterRegistry.get("reviewservice.service.calls")
+                .tag("endpoint", WarmupTraffic.ENDPOINT)
+                .timer().count());
+    }
+}
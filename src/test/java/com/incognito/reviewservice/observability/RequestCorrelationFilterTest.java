@@ -0,0 +1,70 @@
+package com.incognito.reviewservice.observability;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCorrelationFilterTest {
+
+    @Test
+    void doFilter_shouldPropagateCallerRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reviews/1");
+        request.addHeader(RequestCorrelationFilter.REQUEST_ID_HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seenInMdc = new AtomicReference<>();
+
+        new RequestCorrelationFilter(0).doFilter(request, response,
+                (req, res) -> seenInMdc.set(MDC.get(RequestCorrelationFilter.REQUEST_ID_MDC_KEY)));
+
+        assertEquals("abc-123", seenInMdc.get());
+        assertEquals("abc-123", response.getHeader(RequestCorrelationFilter.REQUEST_ID_HEADER));
+        assertNull(MDC.get(RequestCorrelationFilter.REQUEST_ID_MDC_KEY));
+    }
+
+    @Test
+    void doFilter_shouldGenerateRequestId_whenHeaderMissing() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestCorrelationFilter(0).doFilter(new MockHttpServletRequest("GET", "/api/v1/reviews"), response,
+                (req, res) -> { });
+
+        assertNotNull(response.getHeader(RequestCorrelationFilter.REQUEST_ID_HEADER));
+    }
+
+    @Test
+    void doFilter_shouldReplaceRequestId_whenItCouldForgeLogLines() throws Exception {
+        for (String forged : new String[]{"abc\r\n2024-01-01 INFO fake entry", "id with spaces", "x".repeat(65), ""}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reviews");
+            request.addHeader(RequestCorrelationFilter.REQUEST_ID_HEADER, forged);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            new RequestCorrelationFilter(0).doFilter(request, response, (req, res) -> { });
+
+            String requestId = response.getHeader(RequestCorrelationFilter.REQUEST_ID_HEADER);
+            assertNotEquals(forged, requestId);
+            assertTrue(RequestCorrelationFilter.VALID_REQUEST_ID.matcher(requestId).matches(), requestId);
+        }
+    }
+
+    @Test
+    void doFilter_shouldSampleEveryRequest_whenRateIsOne() throws Exception {
+        AtomicBoolean sampled = new AtomicBoolean();
+
+        new RequestCorrelationFilter(1).doFilter(new MockHttpServletRequest("GET", "/api/v1/reviews"),
+                new MockHttpServletResponse(), (req, res) -> sampled.set(RequestCorrelationFilter.isSqlTraceSampled()));
+
+        assertTrue(sampled.get());
+        assertFalse(RequestCorrelationFilter.isSqlTraceSampled());
+    }
+}
@@ -0,0 +1,41 @@
+package com.incognito.reviewservice.observability;
+
+import com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementCounterTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    void stop_shouldReturnCountsByKind() {
+        SqlStatementCounter.start();
+
+        inspector.inspect("select r1_0.id from reviews r1_0 where r1_0.id=?");
+        inspector.inspect("  SELECT count(*) from comments");
+        inspector.inspect("insert into comments (content) values (?)");
+        inspector.inspect("update reviews set like_count=like_count+1 where id=?");
+
+        SqlStatementCounts counts = SqlStatementCounter.stop();
+        assertEquals(2, counts.get(SqlStatementKind.SELECT));
+        assertEquals(1, counts.get(SqlStatementKind.INSERT));
+        assertEquals(1, counts.get(SqlStatementKind.UPDATE));
+        assertEquals(0, counts.get(SqlStatementKind.DELETE));
+        assertEquals(4, counts.total());
+    }
+
+    @Test
+    void inspect_shouldNotCount_whenCountingWasNotStarted() {
+        inspector.inspect("select 1");
+
+        assertEquals(0, SqlStatementCounter.stop().total());
+    }
+}
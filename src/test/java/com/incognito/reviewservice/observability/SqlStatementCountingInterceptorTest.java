@@ -0,0 +1,46 @@
+package com.incognito.reviewservice.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementCountingInterceptorTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCountingInterceptor interceptor = new SqlStatementCountingInterceptor(meterRegistry);
+
+    private void handle(String pattern, String... statements) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reviews/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        for (String statement : statements) {
+            inspector.inspect(statement);
+        }
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    @Test
+    void afterCompletion_shouldReuseOneSummaryPerEndpointAndKind() {
+        handle("/api/v1/reviews/{id}", "select 1", "select 2");
+        handle("/api/v1/reviews/{id}", "select 1", "update reviews set like_count=like_count+1");
+
+        DistributionSummary selects = meterRegistry.get("reviewservice.request.sql.statements")
+                .tag("endpoint", "GET /api/v1/reviews/{id}")
+                .tag("kind", "select")
+                .summary();
+        assertEquals(2, selects.count());
+        assertEquals(3, selects.totalAmount());
+        assertEquals(SqlStatementCounter.SqlStatementKind.values().length, meterRegistry.getMeters().size());
+
+        handle("/api/v1/reviews", "select 1");
+
+        assertEquals(2 * SqlStatementCounter.SqlStatementKind.values().length, meterRegistry.getMeters().size());
+    }
+}
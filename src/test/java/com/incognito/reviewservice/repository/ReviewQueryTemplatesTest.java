@@ -0,0 +1,135 @@
+package com.incognito.reviewservice.repository;
+
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.entity.BaseEntity;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReviewQueryTemplatesTest {
+
+    private static final Instant JAN_2024 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReviewQueryTemplates templates = new ReviewQueryTemplates();
+
+    @Test
+    void constructor_shouldBuildOneTemplatePerFilterCombination() {
+        // 10 filters, isEmployee being absent, true or false: 2^9 * 3
+        assertEquals(1536, templates.size());
+    }
+
+    @Test
+    void forFilter_shouldReturnSameTemplateForSameCombination() {
+        assertSame(templates.forFilter(ReviewFilter.of("Acme", ReviewType.POSITIVE)),
+                templates.forFilter(ReviewFilter.of("Globex", ReviewType.NEGATIVE)));
+    }
+
+    @Test
+    void forFilter_withoutFilters_shouldSelectEverythingNewestFirst() {
+        ReviewQueryTemplates.Template template = templates.forFilter(ReviewFilter.NONE);
+
+        assertEquals("select r from Review r order by r.createdAt desc", template.select(ReviewQueryTemplates.NEWEST_FIRST));
+        assertEquals("select count(r) from Review r", template.count());
+    }
+
+    @Test
+    void forFilter_shouldRenderEmploymentAsLiteralAndWorkDatesAsOverlap() {
+        ReviewFilter filter = new ReviewFilter(null, null, ReviewStatus.APPROVED, true, null, null,
+                null, null, JAN_2024, null);
+
+        ReviewQueryTemplates.Template template = templates.forFilter(filter);
+
+        assertEquals("select count(r) from Review r where r.status = :status and r.isEmployee = true"
+                + " and r.workStartDate is not null and (r.workEndDate is null or r.workEndDate >= :workedFrom)",
+                template.count());
+    }
+
+    @Test
+    void select_shouldRenderRequestedSort() {
+        ReviewQueryTemplates.Template template = templates.forFilter(ReviewFilter.of(null, ReviewType.POSITIVE));
+        Sort sort = Sort.by(Sort.Order.desc("likeCount"), Sort.Order.asc("companyName").ignoreCase().nullsLast());
+
+        assertEquals("select r from Review r where r.reviewType = :reviewType"
+                + " order by r.likeCount desc, lower(r.companyName) asc nulls last", template.select(sort));
+        assertEquals("select r from Review r where r.reviewType = :reviewType", template.select(Sort.unsorted()));
+    }
+
+    @Test
+    void select_withUnknownSortProperty_shouldThrowBadRequest() {
+        ReviewQueryTemplates.Template template = templates.forFilter(ReviewFilter.NONE);
+
+        assertThrows(BadRequestException.class, () -> template.select(Sort.by("contentHtml")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bind_shouldSetOnlyTheTemplatesParameters() {
+        ReviewFilter filter = new ReviewFilter("Incognito", null, null, false, "Engineering", null,
+                JAN_2024, null, null, null);
+        TypedQuery<Object> query = mock(TypedQuery.class);
+
+        templates.forFilter(filter).bind(query, filter);
+
+        verify(query).setParameter("companyName", "%incognito%");
+        verify(query).setParameter("dept", "Engineering");
+        verify(query).setParameter("createdFrom", JAN_2024);
+        verify(query, times(3)).setParameter(anyString(), any());
+    }
+
+    @Test
+    void sqlWhere_shouldRenderTheSameFiltersOverColumns() {
+        ReviewFilter filter = new ReviewFilter("Incognito", null, ReviewStatus.APPROVED, true, null, null,
+                null, JAN_2024, JAN_2024, null);
+
+        assertEquals(" where lower(company_name) like :companyName and status = :status and is_employee = true"
+                + " and created_at < :createdTo and work_start_date is not null"
+                + " and (work_end_date is null or work_end_date >= :workedFrom)",
+                templates.forFilter(filter).sqlWhere());
+        assertEquals("", templates.forFilter(ReviewFilter.NONE).sqlWhere());
+    }
+
+    @Test
+    void bindSql_shouldBindEnumsByName() {
+        ReviewFilter filter = new ReviewFilter(null, ReviewType.MIXED, ReviewStatus.APPROVED, null, null, null,
+                null, null, null, null);
+        Query query = mock(Query.class);
+
+        templates.forFilter(filter).bindSql(query, filter);
+
+        verify(query).setParameter("reviewType", "MIXED");
+        verify(query).setParameter("status", "APPROVED");
+        verify(query, times(2)).setParameter(anyString(), any());
+    }
+
+    @Test
+    void column_shouldMatchTheColumnNameMappedOnEveryFilteredAttribute() throws NoSuchFieldException {
+        // The physical naming strategy keeps mapped names as they are, so sqlWhere relies on these annotations
+        for (String attribute : List.of("companyName", "reviewType", "status", "isEmployee", "dept", "role",
+                "createdAt", "workStartDate", "workEndDate")) {
+            Field field = attribute.equals("createdAt")
+                    ? BaseEntity.class.getDeclaredField(attribute) : Review.class.getDeclaredField(attribute);
+            Column mapping = field.getAnnotation(Column.class);
+            String mapped = mapping == null || mapping.name().isEmpty() ? attribute : mapping.name();
+            assertEquals(mapped, ReviewQueryTemplates.column(attribute), attribute);
+        }
+    }
+}
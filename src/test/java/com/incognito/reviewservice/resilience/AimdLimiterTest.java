@@ -0,0 +1,106 @@
+package com.incognito.reviewservice.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private AimdLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        LoadSheddingProperties.Limit properties = new LoadSheddingProperties.Limit();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(10);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        limiter = new AimdLimiter(properties);
+    }
+
+    @Test
+    void tryAcquire_shouldRejectOnceLimitIsReached() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+
+        assertFalse(limiter.tryAcquire(1.0));
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_shouldHonourShareOfLimit() {
+        assertTrue(limiter.tryAcquire(0.5));
+        assertTrue(limiter.tryAcquire(0.5));
+
+        assertFalse(limiter.tryAcquire(0.5));
+        assertTrue(limiter.tryAcquire(1.0));
+    }
+
+    @Test
+    void release_shouldBackOff_whenLatencyExceedsThreshold() {
+        limiter.tryAcquire(1.0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+
+        assertEquals(2.0, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_shouldBackOff_whenRequestWasDropped() {
+        limiter.tryAcquire(1.0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        assertEquals(2.0, limiter.getLimit());
+    }
+
+    @Test
+    void release_shouldGrowAdditively_whenLimitIsInUseAndFast() {
+        limiter.tryAcquire(1.0);
+        limiter.tryAcquire(1.0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertEquals(4.25, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void release_shouldNotGrow_whenLimitIsMostlyIdle() {
+        limiter.tryAcquire(1.0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertEquals(4.0, limiter.getLimit());
+    }
+
+    @Test
+    void release_shouldBackOffOncePerWindow_whenConcurrentRequestsAreSlow() {
+        LoadSheddingProperties.Limit properties = new LoadSheddingProperties.Limit();
+        properties.setInitialLimit(8);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(10);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(10));
+        AimdLimiter windowed = new AimdLimiter(properties, clock::get);
+        for (int i = 0; i < 4; i++) {
+            windowed.tryAcquire(1.0);
+        }
+
+        // All four were in flight when the first one backed off
+        for (int i = 0; i < 4; i++) {
+            windowed.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+        }
+        assertEquals(4.0, windowed.getLimit());
+
+        // A slow request that started after that backoff shrinks the limit again
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        windowed.tryAcquire(1.0);
+        windowed.release(TimeUnit.MILLISECONDS.toNanos(200), true);
+        assertEquals(2.0, windowed.getLimit());
+    }
+}
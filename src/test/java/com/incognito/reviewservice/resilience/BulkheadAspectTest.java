@@ -0,0 +1,42 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.observability.WarmupTraffic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BulkheadAspectTest {
+
+    private BulkheadRegistry bulkheadRegistry;
+    private Reads reads;
+
+    @BeforeEach
+    void setUp() {
+        bulkheadRegistry = new BulkheadRegistry(new BulkheadProperties(), new SimpleMeterRegistry());
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Reads());
+        factory.addAspect(new BulkheadAspect(bulkheadRegistry));
+        reads = factory.getProxy();
+    }
+
+    @Test
+    void guard_shouldHoldTheAnnotatedBulkheadDuringTheCall() {
+        assertEquals(1, reads.activeIn(bulkheadRegistry, UseBulkhead.READS));
+        assertEquals(0, bulkheadRegistry.bulkhead(UseBulkhead.READS).getActiveCount());
+    }
+
+    @Test
+    void guard_whenWarmupTraffic_shouldTakeABulkSlotInstead() {
+        assertEquals(1, WarmupTraffic.run(() -> reads.activeIn(bulkheadRegistry, UseBulkhead.BULK)));
+        assertEquals(0, WarmupTraffic.run(() -> reads.activeIn(bulkheadRegistry, UseBulkhead.READS)));
+    }
+
+    static class Reads {
+        @UseBulkhead(UseBulkhead.READS)
+        public int activeIn(BulkheadRegistry registry, String name) {
+            return registry.bulkhead(name).getActiveCount();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("votes", 2, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    void acquire_shouldAdmitUpToMaxConcurrent() {
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        assertEquals(2, bulkhead.getActiveCount());
+    }
+
+    @Test
+    void acquire_shouldRejectAndCount_whenWaitBudgetIsExceeded() {
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        BulkheadFullException ex = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertEquals("votes", ex.getBulkhead());
+        assertEquals(1.0, meterRegistry.get("reviewservice.bulkhead.rejections").tag("bulkhead", "votes").counter().count());
+        assertEquals(3L, meterRegistry.get("reviewservice.bulkhead.wait").tag("bulkhead", "votes").timer().count());
+    }
+
+    @Test
+    void release_shouldFreeSlotForNextCaller() {
+        bulkhead.acquire();
+        bulkhead.acquire();
+        bulkhead.release();
+
+        assertDoesNotThrow(bulkhead::acquire);
+        assertEquals(2, bulkhead.getActiveCount());
+    }
+}
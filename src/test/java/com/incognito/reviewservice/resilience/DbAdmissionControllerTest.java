@@ -0,0 +1,47 @@
+package com.incognito.reviewservice.resilience;
+
+import com.incognito.reviewservice.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DbAdmissionControllerTest {
+
+    private DbAdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        admissionController = new DbAdmissionController(1, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void enter_shouldBeReentrantOnSameThread() {
+        admissionController.enter();
+        admissionController.enter();
+
+        assertEquals(1, admissionController.getInFlight());
+
+        admissionController.exit();
+        assertEquals(1, admissionController.getInFlight());
+        admissionController.exit();
+        assertEquals(0, admissionController.getInFlight());
+    }
+
+    @Test
+    void enter_shouldRejectOtherThread_whenNoSlotIsFree() throws Exception {
+        admissionController.enter();
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.runAsync(admissionController::enter, Thread::startVirtualThread).get());
+
+        assertInstanceOf(BulkheadFullException.class, ex.getCause());
+        assertEquals(1.0, admissionController.getRejections());
+        admissionController.exit();
+    }
+}
@@ -0,0 +1,58 @@
+package com.incognito.reviewservice.resilience;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private DeadlineAwareJpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new DeadlineAwareJpaTransactionManager(mock(EntityManagerFactory.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void determineTimeout_shouldKeepDefault_whenNoDeadlineIsActive() {
+        assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+    }
+
+    @Test
+    void determineTimeout_shouldRoundRemainingBudgetUpToSeconds() {
+        RequestDeadline.start(Duration.ofMillis(2500));
+
+        assertEquals(3, transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+    }
+
+    @Test
+    void determineTimeout_shouldKeepStricterConfiguredTimeout() {
+        RequestDeadline.start(Duration.ofSeconds(10));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(2);
+
+        assertEquals(2, transactionManager.determineTimeout(definition));
+    }
+
+    @Test
+    void determineTimeout_shouldFail_whenDeadlineHasPassed() {
+        RequestDeadline.start(Duration.ZERO);
+
+        assertThrows(TransactionTimedOutException.class,
+                () -> transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.incognito.reviewservice.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineInterceptorTest {
+
+    static class ReviewController {
+        public void getReviews() {
+        }
+    }
+
+    static class CommentController {
+        public void getReviews() {
+        }
+    }
+
+    private final DeadlineProperties properties = new DeadlineProperties();
+    private final RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor(properties);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    private static HandlerMethod handler(Object controller) throws NoSuchMethodException {
+        return new HandlerMethod(controller, controller.getClass().getMethod("getReviews"));
+    }
+
+    @Test
+    void preHandle_shouldKeyEndpointBudgetsByControllerAndMethod() throws Exception {
+        properties.setDefaultTimeout(Duration.ofSeconds(10));
+        properties.setEndpoints(Map.of("ReviewController#getReviews", Duration.ofSeconds(2)));
+
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler(new ReviewController()));
+        long reviewBudget = RequestDeadline.remainingMillis();
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler(new CommentController()));
+        long commentBudget = RequestDeadline.remainingMillis();
+
+        assertTrue(reviewBudget <= 2000 && reviewBudget > 1000, "review budget " + reviewBudget);
+        assertTrue(commentBudget > 2000, "comment budget " + commentBudget);
+        assertEquals("CommentController#getReviews", RequestDeadlineInterceptor.endpointKey(handler(new CommentController())));
+    }
+}
@@ -0,0 +1,50 @@
+package com.incognito.reviewservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostingListTest {
+
+    @Test
+    void cursor_shouldReturnDocumentsAndFrequenciesInOrder() {
+        PostingList list = new PostingList();
+        list.add(0, 1);
+        list.add(5, 300);
+        list.add(1_000_000, 2);
+
+        PostingList.Cursor cursor = list.cursor();
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.document());
+        assertEquals(1, cursor.frequency());
+        assertTrue(cursor.next());
+        assertEquals(5, cursor.document());
+        assertEquals(300, cursor.frequency());
+        assertTrue(cursor.next());
+        assertEquals(1_000_000, cursor.document());
+        assertFalse(cursor.next());
+        assertEquals(Integer.MAX_VALUE, cursor.document());
+        assertEquals(3, list.documentCount());
+    }
+
+    @Test
+    void add_shouldUseOneByteForSmallGapsAndFrequencies() {
+        PostingList list = new PostingList();
+        for (int document = 0; document < 1000; document += 3) {
+            list.add(document, 1);
+        }
+
+        assertEquals(2 * list.documentCount(), list.sizeInBytes());
+    }
+
+    @Test
+    void add_shouldRejectDocumentsOutOfOrder() {
+        PostingList list = new PostingList();
+        list.add(10, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> list.add(10, 1));
+    }
+}
@@ -0,0 +1,128 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelatedReviewIndexTest {
+
+    private static ReviewDocument review(long id, String company, String title, String content) {
+        return new ReviewDocument(id, ReviewType.POSITIVE, title, content, company, ReviewStatus.APPROVED, Instant.ofEpochSecond(id));
+    }
+
+    private static List<Long> ids(List<RelatedReviewIndex.Hit> hits) {
+        return hits.stream().map(RelatedReviewIndex.Hit::reviewId).toList();
+    }
+
+    @Test
+    void related_shouldRankBySimilarityAndSplitByCompany() {
+        RelatedReviewIndex index = new RelatedReviewIndex(ForkJoinPool.commonPool(), 64, Integer.MAX_VALUE);
+        index.upsert(review(1, "Acme", "Long hours", "<p>Long hours, unpaid overtime and constant deadline pressure</p>"));
+        index.upsert(review(2, "ACME ", "Overtime", "Unpaid overtime every week and deadline pressure from management"));
+        index.upsert(review(3, "Acme", "Nice canteen", "The canteen serves good lunches"));
+        index.upsert(review(4, "Globex", "Burnout", "Unpaid overtime, long hours, burnout"));
+        index.upsert(review(5, "Initech", "Great benefits", "Generous pension and health insurance"));
+        index.upsert(review(6, null, "Overtime again", "Overtime is unpaid"));
+
+        RelatedReviewIndex.Related related = index.related(1, 5);
+
+        // Company names match case-insensitively; reviews sharing no terms are left out
+        assertEquals(List.of(2L), ids(related.sameCompany()));
+        assertEquals(List.of(4L, 6L), ids(related.otherCompanies()));
+        float similarity = related.otherCompanies().get(0).similarity();
+        assertTrue(similarity > 0 && similarity < 1, "similarity " + similarity);
+        assertEquals("Burnout", related.otherCompanies().get(0).title());
+        assertEquals(1, ids(index.related(1, 1).otherCompanies()).size());
+    }
+
+    @Test
+    void related_shouldForgetRemovedReviewsAndReturnNullForUnknownOnes() {
+        RelatedReviewIndex index = new RelatedReviewIndex(ForkJoinPool.commonPool(), 64, Integer.MAX_VALUE);
+        index.upsert(review(1, "Acme", "Slow promotions", "Promotions take years"));
+        index.upsert(review(2, "Acme", "Promotions", "Slow promotions, years of waiting"));
+        index.upsert(new ReviewDocument(2, ReviewType.POSITIVE, "Promotions", "Slow promotions", "Acme",
+                ReviewStatus.REJECTED, Instant.EPOCH));
+
+        assertTrue(index.related(1, 5).sameCompany().isEmpty());
+        assertNull(index.related(2, 5));
+        assertNull(index.related(99, 5));
+
+        index.reweight();
+        assertEquals(1, index.liveDocuments());
+        assertTrue(index.related(1, 5).sameCompany().isEmpty());
+    }
+
+    @Test
+    void related_withParallelScan_shouldMatchSequentialScan() {
+        RelatedReviewIndex sequential = new RelatedReviewIndex(ForkJoinPool.commonPool(), 16, Integer.MAX_VALUE);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        RelatedReviewIndex parallel = new RelatedReviewIndex(pool, 16, 1);
+        Random random = new Random(7);
+        String[] words = {"salary", "culture", "overtime", "remote", "manager", "benefits", "growth", "stress",
+                "team", "office", "pension", "bonus", "training", "deadline", "travel", "equity"};
+        for (long id = 1; id <= 40_000; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                content.append(words[random.nextInt(words.length)]).append(random.nextInt(50)).append(' ');
+            }
+            ReviewDocument document = review(id, "Company " + (id % 40), "Review", content.toString());
+            sequential.upsert(document);
+            parallel.upsert(document);
+        }
+
+        try {
+            for (long id : new long[]{1, 24_321, 40_000}) {
+                RelatedReviewIndex.Related expected = sequential.related(id, 10);
+                RelatedReviewIndex.Related actual = parallel.related(id, 10);
+                assertEquals(ids(expected.sameCompany()), ids(actual.sameCompany()));
+                assertEquals(ids(expected.otherCompanies()), ids(actual.otherCompanies()));
+                assertEquals(10, actual.otherCompanies().size());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void snapshot_shouldRestoreIdenticalResults() throws IOException {
+        RelatedReviewIndex index = new RelatedReviewIndex(ForkJoinPool.commonPool(), 8, Integer.MAX_VALUE);
+        for (long id = 1; id <= 50; id++) {
+            index.upsert(review(id, "Company " + (id % 4), "Review " + id, "salary " + "overtime ".repeat((int) (id % 5)) + "culture" + id % 7));
+        }
+        index.upsert(review(7, "Company 3", "Edited review", "pension and bonus"));
+        index.upsert(new ReviewDocument(9, ReviewType.NEGATIVE, "Gone", "salary", "Company 1", ReviewStatus.REJECTED, Instant.EPOCH));
+        index.reweight();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        RelatedReviewIndex restored = RelatedReviewIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                ForkJoinPool.commonPool(), 8, Integer.MAX_VALUE);
+
+        assertEquals(index.related(1, 5), restored.related(1, 5));
+        assertEquals(index.related(7, 5), restored.related(7, 5));
+        assertNull(restored.related(9, 5));
+        assertEquals(index.liveDocuments(), restored.liveDocuments());
+        assertEquals(index.termCount(), restored.termCount());
+        assertEquals(index.maxReviewId(), restored.maxReviewId());
+
+        // Updates after the restore still replace the right review
+        restored.upsert(review(7, "Company 3", "Edited again", "salary overtime"));
+        restored.upsert(review(51, "Company 3", "Pension", "pension and bonus"));
+        assertEquals(List.of(), ids(restored.related(51, 5).sameCompany()));
+        assertEquals(51, restored.maxReviewId());
+    }
+}
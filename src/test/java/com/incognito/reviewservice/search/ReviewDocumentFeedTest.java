@@ -0,0 +1,150 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.repository.ReviewTableReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewDocumentFeedTest {
+
+    private static final ReviewDocument DOCUMENT = document(3);
+    private static final Instant SNAPSHOT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static ReviewDocument document(long id) {
+        return new ReviewDocument(id, ReviewType.POSITIVE, "Title", "Content", "Acme", ReviewStatus.APPROVED, Instant.EPOCH);
+    }
+
+    @Test
+    void run_withoutSnapshot_shouldReadWholeTableOnceForEveryIndex() {
+        RecordingReader reader = new RecordingReader();
+        RecordingIndex restored = new RecordingIndex(new ReviewDocumentIndex.CatchUp(2, SNAPSHOT), 500);
+        RecordingIndex empty = new RecordingIndex(null, 2000);
+
+        new ReviewDocumentFeed(reader, List.of(restored, empty)).run(null);
+
+        assertEquals(1, reader.calls.size());
+        assertFalse(reader.calls.get(0).sql().contains("WHERE"), reader.calls.get(0).sql());
+        assertEquals(2000, reader.calls.get(0).fetchSize());
+        for (RecordingIndex index : List.of(restored, empty)) {
+            assertEquals(List.of(DOCUMENT), index.upserts);
+            assertEquals(1, index.rowsRead);
+        }
+    }
+
+    @Test
+    void run_withSnapshots_shouldReadWhatTheOldestOneLacks() {
+        RecordingReader reader = new RecordingReader();
+        RecordingIndex first = new RecordingIndex(new ReviewDocumentIndex.CatchUp(7, SNAPSHOT.plusSeconds(60)), 1000);
+        RecordingIndex second = new RecordingIndex(new ReviewDocumentIndex.CatchUp(9, SNAPSHOT), 1000);
+
+        new ReviewDocumentFeed(reader, List.of(first, second)).run(null);
+
+        assertEquals(1, reader.calls.size());
+        assertTrue(reader.calls.get(0).sql().contains("WHERE id > ? OR updated_at > ?"), reader.calls.get(0).sql());
+        assertArrayEquals(new Object[]{7L, Timestamp.from(SNAPSHOT)}, reader.calls.get(0).args());
+        assertEquals(List.of(DOCUMENT), first.upserts);
+        assertEquals(List.of(DOCUMENT), second.upserts);
+    }
+
+    @Test
+    void run_withFullScanForOneIndex_shouldOnlyGiveTheOthersWhatTheirSnapshotLacks() {
+        ReviewDocument old = document(1);
+        ReviewDocument updated = document(2);
+        ReviewDocument added = document(6);
+        RecordingReader reader = new RecordingReader(List.of(
+                new ReviewDocumentFeed.Row(old, SNAPSHOT.minusSeconds(1)),
+                new ReviewDocumentFeed.Row(updated, SNAPSHOT.plusSeconds(1)),
+                new ReviewDocumentFeed.Row(added, null)));
+        RecordingIndex restored = new RecordingIndex(new ReviewDocumentIndex.CatchUp(5, SNAPSHOT), 1000);
+        RecordingIndex empty = new RecordingIndex(null, 1000);
+
+        new ReviewDocumentFeed(reader, List.of(restored, empty)).run(null);
+
+        assertEquals(List.of(updated, added), restored.upserts);
+        assertEquals(List.of(old, updated, added), empty.upserts);
+        assertEquals(3, restored.rowsRead);
+    }
+
+    @Test
+    void onReviewChanged_shouldUpdateEveryIndex() {
+        RecordingIndex first = new RecordingIndex(null, 1000);
+        RecordingIndex second = new RecordingIndex(null, 1000);
+
+        new ReviewDocumentFeed(new RecordingReader(), List.of(first, second)).onReviewChanged(new ReviewChangedEvent(DOCUMENT));
+
+        assertEquals(List.of(DOCUMENT), first.upserts);
+        assertEquals(List.of(DOCUMENT), second.upserts);
+    }
+
+    private record Call(String sql, int fetchSize, Object[] args) {
+    }
+
+    /**
+     * Returns the same rows, by default {@link #DOCUMENT} updated now, for any query.
+     */
+    private static final class RecordingReader extends ReviewTableReader {
+        private final List<Call> calls = new ArrayList<>();
+        private final List<ReviewDocumentFeed.Row> rows;
+
+        RecordingReader() {
+            this(List.of(new ReviewDocumentFeed.Row(DOCUMENT, Instant.now())));
+        }
+
+        RecordingReader(List<ReviewDocumentFeed.Row> rows) {
+            super(null, null);
+            this.rows = rows;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> int stream(String sql, int fetchSize, RowMapper<T> mapper, Consumer<? super T> consumer, Object... args) {
+            calls.add(new Call(sql, fetchSize, args));
+            rows.forEach(row -> consumer.accept((T) row));
+            return rows.size();
+        }
+    }
+
+    private static final class RecordingIndex implements ReviewDocumentIndex {
+        private final CatchUp catchUp;
+        private final int fetchSize;
+        private final List<ReviewDocument> upserts = new ArrayList<>();
+        private int rowsRead = -1;
+
+        RecordingIndex(CatchUp catchUp, int fetchSize) {
+            this.catchUp = catchUp;
+            this.fetchSize = fetchSize;
+        }
+
+        @Override
+        public CatchUp restore() {
+            return catchUp;
+        }
+
+        @Override
+        public void upsert(ReviewDocument document) {
+            upserts.add(document);
+        }
+
+        @Override
+        public void loaded(int rowsRead, long elapsedNanos) {
+            this.rowsRead = rowsRead;
+        }
+
+        @Override
+        public int fetchSize() {
+            return fetchSize;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewSearchIndexTest {
+
+    private static ReviewDocument review(long id, String title, String content, ReviewStatus status) {
+        return new ReviewDocument(id, ReviewType.POSITIVE, title, content, "Incognito Corp", status, Instant.ofEpochSecond(id));
+    }
+
+    private static List<Long> ids(List<ReviewSearchIndex.Hit> hits) {
+        return hits.stream().map(ReviewSearchIndex.Hit::reviewId).toList();
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesAboveContentMatchesAndIgnoreHtml() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.upsert(review(1, "Office life", "<p>The <b>salary</b> is fine</p>", ReviewStatus.APPROVED));
+        index.upsert(review(2, "Salary review", "<p>Nothing else to add</p>", ReviewStatus.APPROVED));
+        index.upsert(review(3, "Remote work", "<p class=\"salary\">Flexible hours</p>", ReviewStatus.APPROVED));
+
+        List<ReviewSearchIndex.Hit> hits = index.search("salary", 10);
+
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals("Salary review", hits.get(0).title());
+        assertEquals(Instant.ofEpochSecond(2), hits.get(0).createdAt());
+    }
+
+    @Test
+    void search_shouldScoreDocumentsMatchingMoreTermsHigherAndRespectLimit() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        for (long id = 1; id <= 20; id++) {
+            index.upsert(review(id, "Review " + id, id % 2 == 0 ? "great culture" : "poor culture", ReviewStatus.APPROVED));
+        }
+        index.upsert(review(21, "Review 21", "great culture and great benefits", ReviewStatus.APPROVED));
+
+        List<ReviewSearchIndex.Hit> hits = index.search("great benefits", 3);
+
+        assertEquals(3, hits.size());
+        assertEquals(21L, hits.get(0).reviewId());
+    }
+
+    @Test
+    void upsert_shouldReplaceEarlierVersionAndDropUnsearchableReviews() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.upsert(review(1, "Salary review", "content", ReviewStatus.PENDING));
+        index.upsert(review(2, "Salary again", "content", ReviewStatus.PENDING));
+
+        index.upsert(review(1, "Benefits review", "content", ReviewStatus.APPROVED));
+        index.upsert(review(2, "Salary again", "content", ReviewStatus.REJECTED));
+
+        assertEquals(List.of(), ids(index.search("salary", 10)));
+        assertEquals(List.of(1L), ids(index.search("benefits", 10)));
+        assertEquals(1, index.liveDocuments());
+        assertEquals(2, index.removedDocuments());
+        assertEquals(2, index.maxReviewId());
+    }
+
+    @Test
+    void snapshot_shouldRestoreIdenticalResults() throws IOException {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.upsert(review(id, "Review " + id, "salary " + "benefits ".repeat((int) (id % 5)), ReviewStatus.APPROVED));
+        }
+        index.upsert(review(7, "Edited review", "culture", ReviewStatus.APPROVED));
+        // Loading compacts, and document frequencies no longer count the removed copy of review 7
+        index.compact();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        ReviewSearchIndex restored = ReviewSearchIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.search("salary benefits", 10), restored.search("salary benefits", 10));
+        assertEquals(index.search("culture", 10), restored.search("culture", 10));
+        assertEquals(index.liveDocuments(), restored.liveDocuments());
+        assertEquals(index.maxReviewId(), restored.maxReviewId());
+
+        // Updates after the restore still replace the right document
+        restored.upsert(review(7, "Edited again", "teamwork", ReviewStatus.APPROVED));
+        assertEquals(List.of(), ids(restored.search("culture", 10)));
+        assertEquals(List.of(7L), ids(restored.search("teamwork", 10)));
+    }
+
+    @Test
+    void upsert_shouldCompactOnceEnoughDocumentsAreRemoved() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        for (long id = 1; id <= 2000; id++) {
+            index.upsert(review(id, "Review " + id, "salary", ReviewStatus.APPROVED));
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.upsert(review(id, "Edited " + id, "culture", ReviewStatus.APPROVED));
+        }
+
+        // Compacted once, at 1,024 removed of 3,024; the 976 edits after that are still pending
+        assertEquals(976, index.removedDocuments());
+        assertEquals(2000, index.liveDocuments());
+        assertEquals(List.of(), index.search("salary", 10));
+        assertEquals(2000, index.search("culture", 5000).size());
+        assertEquals(List.of(1500L), ids(index.search("edited 1500", 1)));
+
+        // Re-reading every review, as a full scan after a restore does, does not pile up dead copies
+        for (long id = 1; id <= 2000; id++) {
+            index.upsert(review(id, "Edited " + id, "culture", ReviewStatus.APPROVED));
+        }
+        assertEquals(2000, index.liveDocuments());
+        assertTrue(index.removedDocuments() < ReviewSearchIndex.COMPACT_MIN_REMOVED, "removed " + index.removedDocuments());
+    }
+
+    @Test
+    void snapshot_shouldDropRemovedDocumentsOnLoad() throws IOException {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.upsert(review(1, "Salary", "salary", ReviewStatus.APPROVED));
+        index.upsert(review(2, "Culture", "culture", ReviewStatus.APPROVED));
+        index.upsert(review(1, "Salary again", "salary", ReviewStatus.APPROVED));
+        index.upsert(review(2, "Culture", "culture", ReviewStatus.REJECTED));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        ReviewSearchIndex restored = ReviewSearchIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(0, restored.removedDocuments());
+        assertEquals(1, restored.liveDocuments());
+        assertEquals(List.of(1L), ids(restored.search("salary", 10)));
+        assertEquals(List.of(), restored.search("culture", 10));
+        restored.upsert(review(1, "Third edit", "pension", ReviewStatus.APPROVED));
+        assertEquals(List.of(1L), ids(restored.search("pension", 10)));
+        assertEquals(List.of(), restored.search("salary", 10));
+    }
+}
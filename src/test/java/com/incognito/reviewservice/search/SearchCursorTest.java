@@ -0,0 +1,38 @@
+package com.incognito.reviewservice.search;
+
+import com.incognito.reviewservice.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCursorTest {
+
+    @Test
+    void encode_thenDecode_shouldRoundTripScoreExactly() {
+        SearchCursor cursor = new SearchCursor(Instant.parse("2024-06-01T12:00:00.123Z"), 0.1 + 0.2, 42L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_whenTokenMalformed_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode("MTIz")); // "123"
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode("YTpiOmM")); // "a:b:c"
+    }
+
+    @Test
+    void decode_whenAsOfOutOfRange_shouldThrowBadRequest() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.MAX_VALUE + ":1.0:42").getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(token));
+    }
+}
@@ -0,0 +1,90 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.CommentStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.repository.CommentRepository;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comment listings against the configured database: comments held or hidden by moderation must not be listed,
+ * nor counted as replies. Every test rolls back.
+ */
+@SpringBootTest
+@Transactional
+class CommentListingTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long reviewId;
+    private Long parentId;
+
+    @BeforeEach
+    void setUp() {
+        Review review = reviewRepository.save(Review.builder()
+                .reviewType(ReviewType.POSITIVE)
+                .title("Listing review")
+                .contentHtml("Seeded by CommentListingTest")
+                .companyName("Listing Corp")
+                .build());
+        Comment parent = commentRepository.save(comment(review, null, "Visible comment", CommentStatus.ACTIVE));
+        commentRepository.save(comment(review, null, "Hidden comment", CommentStatus.HIDDEN));
+        commentRepository.save(comment(review, null, "Held comment", CommentStatus.PENDING));
+        commentRepository.save(comment(review, parent, "Visible reply", CommentStatus.ACTIVE));
+        commentRepository.save(comment(review, parent, "Hidden reply", CommentStatus.HIDDEN));
+        reviewId = review.getId();
+        parentId = parent.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getCommentsByReviewId_shouldOmitHiddenAndHeldComments() {
+        Page<CommentResponse> page = commentService.getCommentsByReviewId(reviewId, PageRequest.of(0, 10));
+
+        assertEquals(List.of("Visible comment"), page.map(CommentResponse::content).getContent());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1, page.getContent().getFirst().totalReplies());
+    }
+
+    @Test
+    void getRepliesOfComment_shouldOmitHiddenReplies() {
+        Page<CommentResponse> page = commentService.getRepliesOfComment(reviewId, parentId, PageRequest.of(0, 10));
+
+        assertEquals(List.of("Visible reply"), page.map(CommentResponse::content).getContent());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    private static Comment comment(Review review, Comment parent, String content, CommentStatus status) {
+        return Comment.builder()
+                .content(content)
+                .review(review)
+                .parent(parent)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.CommentCreateRequest;
+import com.incognito.reviewservice.entity.Comment;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.repository.CommentRepository;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.INSERT;
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.SELECT;
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.UPDATE;
+
+/**
+ * Query-count budgets for {@link CommentService}, run against the configured database. Every test rolls back.
+ * Reply counts come from a {@code @Formula} subquery inside the main select and the parent/review ids are
+ * read from uninitialised proxies, so neither may add statements.
+ */
+@SpringBootTest
+@Transactional
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long reviewId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        Review review = reviewRepository.save(Review.builder()
+                .reviewType(ReviewType.POSITIVE)
+                .title("Query count review")
+                .contentHtml("Seeded by CommentServiceQueryCountTest")
+                .companyName("Query Count Corp")
+                .build());
+        Comment first = null;
+        for (int i = 0; i < 12; i++) {
+            Comment comment = commentRepository.save(Comment.builder()
+                    .content("Top-level comment " + i)
+                    .review(review)
+                    .build());
+            if (first == null) {
+                first = comment;
+            }
+        }
+        for (int i = 0; i < 12; i++) {
+            commentRepository.save(Comment.builder()
+                    .content("Reply " + i)
+                    .review(review)
+                    .parent(first)
+                    .build());
+        }
+        reviewId = review.getId();
+        commentId = first.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getCommentsByReviewId_pageOfTen_shouldStayWithinBudget() {
+        // existsById, page select, count select
+        SqlStatementBudget.measure("getCommentsByReviewId page of 10",
+                        () -> commentService.getCommentsByReviewId(reviewId, PageRequest.of(0, 10)))
+                .totalAtMost(3)
+                .exactly(SELECT, 3);
+    }
+
+    @Test
+    void getRepliesOfComment_pageOfTen_shouldStayWithinBudget() {
+        // two existsById checks, page select, count select
+        SqlStatementBudget.measure("getRepliesOfComment page of 10",
+                        () -> commentService.getRepliesOfComment(reviewId, commentId, PageRequest.of(0, 10)))
+                .totalAtMost(4)
+                .exactly(SELECT, 4);
+    }
+
+    @Test
+    void createComment_topLevel_shouldStayWithinBudget() {
+        SqlStatementBudget.measure("createComment",
+                        () -> commentService.createComment(reviewId, null, new CommentCreateRequest("New comment", null)))
+                .totalAtMost(2)
+                .exactly(SELECT, 1)
+                .exactly(INSERT, 1);
+    }
+
+    @Test
+    void createComment_reply_shouldNotLoadParentReview() {
+        SqlStatementBudget.measure("createComment reply",
+                        () -> commentService.createComment(reviewId, commentId, new CommentCreateRequest("New reply", null)))
+                .totalAtMost(3)
+                .exactly(SELECT, 2)
+                .exactly(INSERT, 1);
+    }
+
+    @Test
+    void incrementLikeCount_shouldStayWithinBudget() {
+        SqlStatementBudget.measure("comment incrementLikeCount",
+                        () -> commentService.incrementLikeCount(reviewId, commentId))
+                .totalAtMost(2)
+                .exactly(UPDATE, 1)
+                .exactly(SELECT, 1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.incognito.reviewservice.service;
 
+import com.incognito.reviewservice.activity.ActivityEvent;
 import com.incognito.reviewservice.dto.CommentResponse;
 import com.incognito.reviewservice.dto.CommentCreateRequest;
 import com.incognito.reviewservice.entity.Comment;
@@ -8,12 +9,17 @@ import com.incognito.reviewservice.repository.CommentRepository;
 import com.incognito.reviewservice.repository.ReviewRepository;
 import com.incognito.reviewservice.exception.BadRequestException;
 import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.moderation.ModerationAction;
+import com.incognito.reviewservice.moderation.ModerationService;
+import com.incognito.reviewservice.moderation.ModerationVerdict;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -37,6 +43,12 @@ class CommentServiceTests {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ModerationService moderationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -65,6 +77,8 @@ class CommentServiceTests {
         comment.setCreatedAt(fixedTime.minusSeconds(3600));
         comment.setUpdatedAt(fixedTime.minusSeconds(1800));
         comment.setVersion(1); // Assuming a default version
+
+        lenient().when(moderationService.screenComment(any())).thenReturn(ModerationVerdict.CLEAN);
     }
 
     @Test
@@ -197,6 +211,7 @@ class CommentServiceTests {
         assertEquals(request.commenterName(), capturedComment.getCommenterName());
         assertEquals(review, capturedComment.getReview());
         assertNull(capturedComment.getParent());
+        verify(eventPublisher).publishEvent(new ActivityEvent(review.getCompanyName(), ActivityType.COMMENT, fixedTime));
     }
 
     @Test
@@ -341,7 +356,7 @@ class CommentServiceTests {
         Page<Comment> commentPage = new PageImpl<>(comments, pageable, comments.size());
 
         when(reviewRepository.existsById(reviewId)).thenReturn(true);
-        when(commentRepository.findByReviewIdAndParentIsNull(reviewId, pageable)).thenReturn(commentPage);
+        when(commentRepository.findByReviewIdAndParentIsNullAndStatus(reviewId, com.incognito.reviewservice.model.CommentStatus.ACTIVE, pageable)).thenReturn(commentPage);
 
         Page<CommentResponse> resultPage = commentService.getCommentsByReviewId(reviewId, pageable);
 
@@ -378,7 +393,7 @@ class CommentServiceTests {
         assertNull(response2.parentId());
 
         verify(reviewRepository, times(1)).existsById(reviewId);
-        verify(commentRepository, times(1)).findByReviewIdAndParentIsNull(reviewId, pageable);
+        verify(commentRepository, times(1)).findByReviewIdAndParentIsNullAndStatus(reviewId, com.incognito.reviewservice.model.CommentStatus.ACTIVE, pageable);
     }
 
     @Test
@@ -408,7 +423,7 @@ class CommentServiceTests {
 
         when(reviewRepository.existsById(reviewId)).thenReturn(true);
         when(commentRepository.existsById(parentCommentId)).thenReturn(true);
-        when(commentRepository.findByParentId(parentCommentId, pageable)).thenReturn(replyPage);
+        when(commentRepository.findByParentIdAndStatus(parentCommentId, com.incognito.reviewservice.model.CommentStatus.ACTIVE, pageable)).thenReturn(replyPage);
 
         Page<CommentResponse> resultPage = commentService.getRepliesOfComment(reviewId, parentCommentId, pageable);
 
@@ -446,7 +461,45 @@ class CommentServiceTests {
 
         verify(reviewRepository, times(1)).existsById(reviewId);
         verify(commentRepository, times(1)).existsById(parentCommentId);
-        verify(commentRepository, times(1)).findByParentId(parentCommentId, pageable);
+        verify(commentRepository, times(1)).findByParentIdAndStatus(parentCommentId, com.incognito.reviewservice.model.CommentStatus.ACTIVE, pageable);
+    }
+
+    @Test
+    void createComment_whenNearDuplicate_shouldHoldCommentAsPendingWithReason() {
+        CommentCreateRequest request = new CommentCreateRequest("Buy cheap followers now at example dot com", "spammer");
+        int[] signature = new int[64];
+        ModerationVerdict verdict = new ModerationVerdict(ModerationAction.HOLD, "Near-duplicate of comment 7 (similarity 0.94)", signature);
+        when(moderationService.screenComment(request.content())).thenReturn(verdict);
+        when(reviewRepository.findById(review.getId())).thenReturn(Optional.of(review));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment toSave = invocation.getArgument(0);
+            toSave.setId(8L);
+            return toSave;
+        });
+
+        CommentResponse response = commentService.createComment(review.getId(), null, request);
+
+        assertEquals(com.incognito.reviewservice.model.CommentStatus.PENDING, response.status());
+        ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
+        verify(commentRepository).save(commentCaptor.capture());
+        assertEquals("Near-duplicate of comment 7 (similarity 0.94)", commentCaptor.getValue().getModerationReason());
+        verify(moderationService).recordComment(8L, verdict);
+    }
+
+    @Test
+    void createComment_whenKeywordHides_shouldSaveCommentAsHidden() {
+        CommentCreateRequest request = new CommentCreateRequest("Total scam, stay away", "visitor");
+        ModerationVerdict verdict = new ModerationVerdict(ModerationAction.HIDE, "Contains screened term 'scam'", null);
+        when(moderationService.screenComment(request.content())).thenReturn(verdict);
+        when(reviewRepository.findById(review.getId())).thenReturn(Optional.of(review));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CommentResponse response = commentService.createComment(review.getId(), null, request);
+
+        assertEquals(com.incognito.reviewservice.model.CommentStatus.HIDDEN, response.status());
+        ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
+        verify(commentRepository).save(commentCaptor.capture());
+        assertEquals("Contains screened term 'scam'", commentCaptor.getValue().getModerationReason());
     }
 
     @Test
@@ -560,7 +613,7 @@ class CommentServiceTests {
         });
 
         verify(reviewRepository, times(1)).existsById(reviewId);
-        verify(commentRepository, never()).findByReviewIdAndParentIsNull(anyLong(), any(Pageable.class));
+        verify(commentRepository, never()).findByReviewIdAndParentIsNullAndStatus(anyLong(), any(), any(Pageable.class));
     }
 
     @Test
@@ -607,7 +660,7 @@ class CommentServiceTests {
 
         verify(reviewRepository, times(1)).existsById(reviewId);
         verify(commentRepository, never()).existsById(anyLong());
-        verify(commentRepository, never()).findByParentId(anyLong(), any(Pageable.class));
+        verify(commentRepository, never()).findByParentIdAndStatus(anyLong(), any(), any(Pageable.class));
     }
 
     @Test
@@ -625,6 +678,6 @@ class CommentServiceTests {
 
         verify(reviewRepository, times(1)).existsById(reviewId);
         verify(commentRepository, times(1)).existsById(parentCommentId);
-        verify(commentRepository, never()).findByParentId(anyLong(), any(Pageable.class));
+        verify(commentRepository, never()).findByParentIdAndStatus(anyLong(), any(), any(Pageable.class));
     }
 }
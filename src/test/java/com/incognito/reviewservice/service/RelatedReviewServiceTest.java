@@ -0,0 +1,74 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.RelatedReviewsResponse;
+import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.search.RelatedReviewIndex;
+import com.incognito.reviewservice.search.RelatedReviewIndexManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelatedReviewServiceTest {
+
+    @Mock
+    private ObjectProvider<RelatedReviewIndexManager> relatedReviews;
+
+    @InjectMocks
+    private RelatedReviewService relatedReviewService;
+
+    @Test
+    void getRelatedReviews_whenIndexUnavailableOrLoading_shouldThrowServiceOverloaded() {
+        assertThrows(ServiceOverloadedException.class, () -> relatedReviewService.getRelatedReviews(1L, 5));
+
+        RelatedReviewIndexManager manager = mock(RelatedReviewIndexManager.class);
+        when(relatedReviews.getIfAvailable()).thenReturn(manager);
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+                () -> relatedReviewService.getRelatedReviews(1L, 5));
+        assertEquals(RelatedReviewService.RETRY_AFTER_SECONDS, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void getRelatedReviews_whenReviewNotIndexed_shouldThrowNotFound() {
+        RelatedReviewIndexManager manager = mock(RelatedReviewIndexManager.class);
+        when(relatedReviews.getIfAvailable()).thenReturn(manager);
+        when(manager.isReady()).thenReturn(true);
+        when(manager.related(42L, 5)).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class, () -> relatedReviewService.getRelatedReviews(42L, 5));
+    }
+
+    @Test
+    void getRelatedReviews_shouldCapSizeAndMapHits() {
+        RelatedReviewIndexManager manager = mock(RelatedReviewIndexManager.class);
+        when(relatedReviews.getIfAvailable()).thenReturn(manager);
+        when(manager.isReady()).thenReturn(true);
+        RelatedReviewIndex.Hit hit = new RelatedReviewIndex.Hit(7L, ReviewType.POSITIVE, "Overtime", "Globex",
+                Instant.parse("2024-03-01T00:00:00Z"), 0.5f);
+        when(manager.related(1L, RelatedReviewService.MAX_RELATED))
+                .thenReturn(new RelatedReviewIndex.Related(List.of(), List.of(hit)));
+
+        RelatedReviewsResponse response = relatedReviewService.getRelatedReviews(1L, 500);
+
+        assertEquals(1L, response.reviewId());
+        assertTrue(response.sameCompany().isEmpty());
+        assertEquals(1, response.otherCompanies().size());
+        assertEquals(7L, response.otherCompanies().get(0).id());
+        assertEquals("Globex", response.otherCompanies().get(0).companyName());
+        assertEquals(0.5, response.otherCompanies().get(0).similarity());
+    }
+}
@@ -0,0 +1,116 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.ActivityBucket;
+import com.incognito.reviewservice.dto.HistogramBucket;
+import com.incognito.reviewservice.dto.ReviewActivityResponse;
+import com.incognito.reviewservice.dto.ReviewHistogramResponse;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.model.HistogramInterval;
+import com.incognito.reviewservice.repository.ReviewActivityRow;
+import com.incognito.reviewservice.repository.ReviewHistogramRow;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewActivityServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ReviewActivityService reviewActivityService;
+
+    @Test
+    void getActivity_shouldSumRollupPerBucket() {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2024-03-01");
+        when(reviewRepository.sumActivity("Globex", HistogramInterval.MONTH, from, to)).thenReturn(List.of(
+                new ReviewActivityRow(from, 12, 30, 85, 9),
+                new ReviewActivityRow(LocalDate.parse("2024-02-01"), 3, 0, 4, 1)));
+
+        ReviewActivityResponse response = reviewActivityService.getActivity("Globex", HistogramInterval.MONTH, from, to);
+
+        assertEquals("Globex", response.companyName());
+        assertEquals(HistogramInterval.MONTH, response.interval());
+        assertEquals(List.of(new ActivityBucket(from, 12, 30, 85, 9),
+                new ActivityBucket(LocalDate.parse("2024-02-01"), 3, 0, 4, 1)), response.buckets());
+    }
+
+    @Test
+    void getActivity_withoutParameters_shouldSumDailyUpToTodayForAllCompanies() {
+        LocalDate tomorrow = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+        LocalDate from = tomorrow.minusDays(ReviewActivityService.DEFAULT_ACTIVITY_DAYS);
+        when(reviewRepository.sumActivity(isNull(), eq(HistogramInterval.DAY), eq(from), eq(tomorrow))).thenReturn(List.of());
+
+        ReviewActivityResponse response = reviewActivityService.getActivity(" ", null, null, null);
+
+        assertNull(response.companyName());
+        assertEquals(HistogramInterval.DAY, response.interval());
+        assertEquals(List.of(), response.buckets());
+    }
+
+    @Test
+    void getActivity_hourlyOrInvalidRange_shouldThrowBadRequest() {
+        LocalDate day = LocalDate.parse("2024-01-01");
+
+        assertThrows(BadRequestException.class, () -> reviewActivityService.getActivity(null, HistogramInterval.HOUR, null, null));
+        assertThrows(BadRequestException.class, () -> reviewActivityService.getActivity(null, null, day, day));
+        assertThrows(BadRequestException.class, () -> reviewActivityService.getActivity(null, null,
+                day, day.plusDays(ReviewActivityService.MAX_ACTIVITY_DAYS + 1)));
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void getHistogram_shouldCountCreatedPerBucket() {
+        Instant from = Instant.parse("2024-06-03T00:00:00Z");
+        Instant to = Instant.parse("2024-06-04T00:00:00Z");
+        when(reviewRepository.countCreated(null, HistogramInterval.HOUR, from, to)).thenReturn(List.of(
+                new ReviewHistogramRow(Instant.parse("2024-06-03T14:00:00Z"), 4)));
+
+        ReviewHistogramResponse response = reviewActivityService.getHistogram(null, null, from, to);
+
+        assertEquals(HistogramInterval.HOUR, response.interval());
+        assertEquals(List.of(new HistogramBucket(Instant.parse("2024-06-03T14:00:00Z"), 4)), response.buckets());
+    }
+
+    @Test
+    void getHistogram_withoutRange_shouldCoverTheLastWeek() {
+        when(reviewRepository.countCreated(eq("Globex"), eq(HistogramInterval.DAY), any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of());
+
+        reviewActivityService.getHistogram("Globex", HistogramInterval.DAY, null, Instant.parse("2024-06-10T00:00:00Z"));
+
+        verify(reviewRepository).countCreated("Globex", HistogramInterval.DAY,
+                Instant.parse("2024-06-03T00:00:00Z"), Instant.parse("2024-06-10T00:00:00Z"));
+    }
+
+    @Test
+    void getHistogram_emptyOrOverlongRange_shouldThrowBadRequest() {
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+
+        assertThrows(BadRequestException.class, () -> reviewActivityService.getHistogram(null, null, from, from));
+        assertThrows(BadRequestException.class, () -> reviewActivityService.getHistogram(null, null,
+                from, from.plus(ReviewActivityService.MAX_HISTOGRAM_RANGE).plus(Duration.ofHours(1))));
+        verifyNoInteractions(reviewRepository);
+    }
+}
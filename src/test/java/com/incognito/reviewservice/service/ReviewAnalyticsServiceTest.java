@@ -0,0 +1,84 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.analytics.AnalyticsDimension;
+import com.incognito.reviewservice.analytics.AnalyticsQuery;
+import com.incognito.reviewservice.analytics.ReviewAnalyticsManager;
+import com.incognito.reviewservice.analytics.ReviewFactStore;
+import com.incognito.reviewservice.dto.ReviewAnalyticsResponse;
+import com.incognito.reviewservice.exception.BadRequestException;
+import com.incognito.reviewservice.exception.ServiceOverloadedException;
+import com.incognito.reviewservice.model.ReviewType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewAnalyticsServiceTest {
+
+    @Mock
+    private ObjectProvider<ReviewAnalyticsManager> analytics;
+
+    @InjectMocks
+    private ReviewAnalyticsService reviewAnalyticsService;
+
+    @Test
+    void getAnalytics_whenDimensionUnknownOrRepeated_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> reviewAnalyticsService.getAnalytics(
+                List.of("salary"), null, null, null, null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> reviewAnalyticsService.getAnalytics(
+                List.of("month", "Month"), null, null, null, null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> reviewAnalyticsService.getAnalytics(
+                List.of(), null, null, null, null, YearMonth.of(2024, 5), YearMonth.of(2024, 4), 10));
+        verifyNoInteractions(analytics);
+    }
+
+    @Test
+    void getAnalytics_whenStoreUnavailableOrLoading_shouldThrowServiceOverloaded() {
+        assertThrows(ServiceOverloadedException.class, () -> reviewAnalyticsService.getAnalytics(
+                null, null, null, null, null, null, null, 10));
+
+        ReviewAnalyticsManager manager = mock(ReviewAnalyticsManager.class);
+        when(analytics.getIfAvailable()).thenReturn(manager);
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+                () -> reviewAnalyticsService.getAnalytics(null, null, null, null, null, null, null, 10));
+        assertEquals(ReviewAnalyticsService.RETRY_AFTER_SECONDS, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void getAnalytics_shouldCapLimitAndNameGroupValues() {
+        ReviewAnalyticsManager manager = mock(ReviewAnalyticsManager.class);
+        when(analytics.getIfAvailable()).thenReturn(manager);
+        when(manager.isReady()).thenReturn(true);
+        AnalyticsQuery query = new AnalyticsQuery(List.of(AnalyticsDimension.COMPANY, AnalyticsDimension.TENURE),
+                null, ReviewType.NEGATIVE, null, true, YearMonth.of(2024, 1), null);
+        when(manager.aggregate(query, ReviewAnalyticsService.MAX_GROUPS)).thenReturn(new ReviewFactStore.Result(9, 2,
+                List.of(new ReviewFactStore.Group(List.of("Globex", "1-2y"), 6, 17.5),
+                        new ReviewFactStore.Group(Arrays.asList(null, "unknown"), 3, null))));
+
+        ReviewAnalyticsResponse response = reviewAnalyticsService.getAnalytics(List.of("company", " tenure"), null,
+                ReviewType.NEGATIVE, null, true, YearMonth.of(2024, 1), null, 5000);
+
+        assertEquals(List.of("company", "tenure"), response.groupBy());
+        assertEquals(9, response.reviews());
+        assertEquals(2, response.groups());
+        assertEquals("Globex", response.top().get(0).values().get("company"));
+        assertEquals("1-2y", response.top().get(0).values().get("tenure"));
+        assertEquals(17.5, response.top().get(0).averageTenureMonths());
+        assertNull(response.top().get(1).values().get("company"));
+        assertEquals(List.of("company", "tenure"), List.copyOf(response.top().get(1).values().keySet()));
+    }
+}
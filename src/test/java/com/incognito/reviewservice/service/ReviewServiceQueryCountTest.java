@@ -0,0 +1,154 @@
+package com.incognito.reviewservice.service;
+
+import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
+import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.model.HistogramInterval;
+import com.incognito.reviewservice.model.ReviewStatus;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.INSERT;
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.SELECT;
+import static com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind.UPDATE;
+
+/**
+ * Query-count budgets for {@link ReviewService}, run against the configured database. Every test rolls back.
+ * Comment counts come from a {@code @Formula} subquery inside the main select and must not add statements.
+ * Activity counts are buffered and flushed after commit, so writes add no statement for {@code review_daily_stats}.
+ */
+@SpringBootTest
+@Transactional
+class ReviewServiceQueryCountTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewActivityService reviewActivityService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 12; i++) {
+            Review review = reviewRepository.save(Review.builder()
+                    .reviewType(ReviewType.POSITIVE)
+                    .title("Query count review " + i)
+                    .contentHtml("Seeded by ReviewServiceQueryCountTest")
+                    .companyName("Query Count Corp")
+                    .build());
+            reviewId = review.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getReviewById_shouldIssueSingleSelect() {
+        SqlStatementBudget.measure("getReviewById", () -> reviewService.getReviewById(reviewId))
+                .totalAtMost(1)
+                .exactly(SELECT, 1);
+    }
+
+    @Test
+    void getReviews_pageOfTen_shouldStayWithinBudget() {
+        // page select and count select
+        SqlStatementBudget.measure("getReviews page of 10",
+                        () -> reviewService.getReviews("query count", ReviewType.POSITIVE, PageRequest.of(0, 10)))
+                .totalAtMost(2)
+                .exactly(SELECT, 2);
+    }
+
+    @Test
+    void listReviews_withIndexedFilters_shouldNotEstimateTableSize() {
+        // page select and count select; the row estimate is only read for plans without an index
+        ReviewFilter filter = new ReviewFilter("query count", ReviewType.POSITIVE, ReviewStatus.PENDING, false,
+                null, null, Instant.parse("2020-01-01T00:00:00Z"), null, null, null);
+        SqlStatementBudget.measure("listReviews page of 10", () -> reviewService.listReviews(filter, PageRequest.of(0, 10)))
+                .totalAtMost(2)
+                .exactly(SELECT, 2);
+    }
+
+    @Test
+    void getFacetedReviews_shouldCountAllFacetsInOneSelect() {
+        // page select, count select and a single GROUPING SETS select for every facet
+        ReviewFilter filter = ReviewFilter.of("query count", ReviewType.POSITIVE);
+        SqlStatementBudget.measure("getFacetedReviews page of 10", () -> reviewService.getFacetedReviews(
+                        filter, List.of("reviewType", "dept"), PageRequest.of(0, 10)))
+                .totalAtMost(3)
+                .exactly(SELECT, 3);
+    }
+
+    @Test
+    void getFacetedReviews_repeated_shouldReuseFacetCounts() {
+        ReviewFilter filter = ReviewFilter.of("query count", ReviewType.POSITIVE);
+        reviewService.getFacetedReviews(filter, List.of("role"), PageRequest.of(0, 10));
+
+        // page select and count select; the counts are still within reviewservice.listing.facet-cache-ttl
+        SqlStatementBudget.measure("getFacetedReviews repeated", () -> reviewService.getFacetedReviews(
+                        filter, List.of("role"), PageRequest.of(0, 10)))
+                .totalAtMost(2)
+                .exactly(SELECT, 2);
+    }
+
+    @Test
+    void searchReviews_shouldRankPageAndHighlightInOneSelect() {
+        // no count query: the extra row fetched decides whether there is a next page
+        SqlStatementBudget.measure("searchReviews page of 10", () -> reviewService.searchReviews("query count", null, 10))
+                .totalAtMost(1)
+                .exactly(SELECT, 1);
+    }
+
+    @Test
+    void getActivity_twoYears_shouldReadRollupInOneSelect() {
+        SqlStatementBudget.measure("getActivity two years by week", () -> reviewActivityService.getActivity("Query Count Corp",
+                        HistogramInterval.WEEK, LocalDate.parse("2023-01-01"), LocalDate.parse("2025-01-01")))
+                .totalAtMost(1)
+                .exactly(SELECT, 1);
+    }
+
+    @Test
+    void getHistogram_shouldCountInOneSelect() {
+        SqlStatementBudget.measure("getHistogram last week by hour",
+                        () -> reviewActivityService.getHistogram("Query Count Corp", HistogramInterval.HOUR, null, null))
+                .totalAtMost(1)
+                .exactly(SELECT, 1);
+    }
+
+    @Test
+    void createReview_shouldInsertOnlyTheReview() {
+        ReviewCreateRequest request = new ReviewCreateRequest(ReviewType.MIXED, "Budgeted review",
+                "Content long enough to be valid", null, null, null, "Query Count Corp", null, false, null, null, null);
+
+        SqlStatementBudget.measure("createReview", () -> reviewService.createReview(request))
+                .totalAtMost(1)
+                .exactly(INSERT, 1);
+    }
+
+    @Test
+    void incrementLikeCount_shouldStayWithinBudget() {
+        SqlStatementBudget.measure("review incrementLikeCount", () -> reviewService.incrementLikeCount(reviewId))
+                .totalAtMost(2)
+                .exactly(UPDATE, 1)
+                .exactly(SELECT, 1);
+    }
+}
@@ -1,31 +1,66 @@
 package com.incognito.reviewservice.service;
 
+import com.incognito.reviewservice.activity.ActivityEvent;
+import com.incognito.reviewservice.analytics.ReviewFact;
+import com.incognito.reviewservice.analytics.ReviewFactEvent;
+import com.incognito.reviewservice.dto.FacetCount;
+import com.incognito.reviewservice.dto.FacetedReviewPageResponse;
 import com.incognito.reviewservice.dto.ReviewCreateRequest;
+import com.incognito.reviewservice.dto.ReviewFilter;
 import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.dto.ReviewSearchResponse;
 import com.incognito.reviewservice.entity.Review;
+import com.incognito.reviewservice.exception.BadRequestException;
 import com.incognito.reviewservice.exception.ResourceNotFoundException;
+import com.incognito.reviewservice.listing.FacetCountCache;
+import com.incognito.reviewservice.listing.ReviewIndex;
+import com.incognito.reviewservice.listing.ReviewListing;
+import com.incognito.reviewservice.listing.ReviewQueryPlan;
+import com.incognito.reviewservice.listing.SequentialScanGuard;
+import com.incognito.reviewservice.model.ActivityType;
+import com.incognito.reviewservice.model.ReviewFacet;
 import com.incognito.reviewservice.model.ReviewStatus;
 import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.moderation.ModerationAction;
+import com.incognito.reviewservice.moderation.ModerationService;
+import com.incognito.reviewservice.moderation.ModerationVerdict;
 import com.incognito.reviewservice.repository.ReviewRepository;
+import com.incognito.reviewservice.repository.ReviewFacetRow;
+import com.incognito.reviewservice.repository.ReviewSearchRow;
+import com.incognito.reviewservice.search.ReviewChangedEvent;
+import com.incognito.reviewservice.search.ReviewDocument;
+import com.incognito.reviewservice.search.ReviewSearchIndex;
+import com.incognito.reviewservice.search.ReviewSearchIndexManager;
+import com.incognito.reviewservice.search.SearchCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant; // Changed from LocalDate
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +69,21 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ReviewSearchIndexManager> searchIndex;
+
+    @Mock
+    private ModerationService moderationService;
+
+    @Mock
+    private SequentialScanGuard sequentialScanGuard;
+
+    @Mock
+    private FacetCountCache facetCountCache;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -96,6 +146,8 @@ class ReviewServiceTest {
                 fixedWorkEndDate,
                 null // Null reviewerName
         );
+
+        lenient().when(moderationService.screenReview(any(), any())).thenReturn(ModerationVerdict.CLEAN);
     }
 
     @Test
@@ -151,6 +203,7 @@ class ReviewServiceTest {
         assertNotNull(reviewResponse.createdAt()); // Should be populated by service/JPA
         assertNotNull(reviewResponse.updatedAt()); // Should be populated by service/JPA
         verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(eventPublisher).publishEvent(new ActivityEvent(reviewCreateRequest.companyName(), ActivityType.REVIEW, testInstant));
     }
 
     @Test
@@ -291,11 +344,10 @@ class ReviewServiceTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked") // Added to suppress Specification warning
     void getReviews_shouldReturnPageOfReviews() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Review> reviewPage = new PageImpl<>(Collections.singletonList(review), pageable, 1);
-        when(reviewRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(reviewPage);
+        when(reviewRepository.findListing(any(ReviewFilter.class), any(Pageable.class))).thenReturn(reviewPage);
 
         Page<ReviewResponse> reviewResponsePage = reviewService.getReviews("Incognito Corp", ReviewType.POSITIVE, pageable);
 
@@ -311,16 +363,15 @@ class ReviewServiceTest {
         assertEquals(0, firstReview.totalComments()); // DTO mapping handles null from entity, or it's 0 from setUp
         assertEquals(review.getCreatedAt(), firstReview.createdAt());
         assertEquals(review.getUpdatedAt(), firstReview.updatedAt());
-        verify(reviewRepository, times(1)).findAll(any(Specification.class), any(Pageable.class)); // Suppressed warning applies here
+        verify(reviewRepository, times(1)).findListing(any(ReviewFilter.class), any(Pageable.class));
     }
     
     @Test
-    @SuppressWarnings("unchecked") // Added to suppress Specification warning
     void getReviews_whenNoFilters_shouldReturnPageOfReviews() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Review> reviewPage = new PageImpl<>(Collections.singletonList(review), pageable, 1);
         // Ensure the mock for findAll without specific filters is set up
-        when(reviewRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(reviewPage);
+        when(reviewRepository.findListing(any(ReviewFilter.class), eq(pageable))).thenReturn(reviewPage);
 
         Page<ReviewResponse> reviewResponsePage = reviewService.getReviews(null, null, pageable);
 
@@ -334,42 +385,138 @@ class ReviewServiceTest {
         assertEquals(0, firstReview.totalComments()); // DTO mapping handles null from entity, or it's 0 from setUp
         assertEquals(review.getCreatedAt(), firstReview.createdAt());
         assertEquals(review.getUpdatedAt(), firstReview.updatedAt());
-        verify(reviewRepository, times(1)).findAll(any(Specification.class), eq(pageable)); // Suppressed warning applies here
+        verify(reviewRepository, times(1)).findListing(any(ReviewFilter.class), eq(pageable));
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void getReviews_withCompanyNameFilterOnly_shouldReturnFilteredReviews() {
         Pageable pageable = PageRequest.of(0, 10);
         String companyName = "Incognito Corp";
         Page<Review> reviewPage = new PageImpl<>(Collections.singletonList(review), pageable, 1);
 
-        when(reviewRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(reviewPage);
+        when(reviewRepository.findListing(any(ReviewFilter.class), eq(pageable))).thenReturn(reviewPage);
 
         Page<ReviewResponse> result = reviewService.getReviews(companyName, null, pageable);
 
         assertNotNull(result);
         assertFalse(result.getContent().isEmpty());
         assertEquals(companyName, result.getContent().get(0).companyName());
-        verify(reviewRepository).findAll(any(Specification.class), eq(pageable)); // Changed from argThat
+        verify(reviewRepository).findListing(ReviewFilter.of(companyName, null), pageable);
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void getReviews_withReviewTypeFilterOnly_shouldReturnFilteredReviews() {
         Pageable pageable = PageRequest.of(0, 10);
         ReviewType reviewType = ReviewType.POSITIVE;
         Page<Review> reviewPage = new PageImpl<>(Collections.singletonList(review), pageable, 1);
         review.setReviewType(reviewType); // Ensure the base review matches the filter for this test
 
-        when(reviewRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(reviewPage);
+        when(reviewRepository.findListing(any(ReviewFilter.class), eq(pageable))).thenReturn(reviewPage);
 
         Page<ReviewResponse> result = reviewService.getReviews(null, reviewType, pageable);
 
         assertNotNull(result);
         assertFalse(result.getContent().isEmpty());
         assertEquals(reviewType, result.getContent().get(0).reviewType());
-        verify(reviewRepository).findAll(any(Specification.class), eq(pageable)); // Changed from argThat
+        verify(reviewRepository).findListing(ReviewFilter.of(null, reviewType), pageable);
+    }
+
+    @Test
+    void listReviews_shouldCheckPlanAndReturnItWithThePage() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(reviewRepository.findListing(any(ReviewFilter.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(Collections.singletonList(review), pageable, 1));
+        ReviewFilter filter = new ReviewFilter(null, null, ReviewStatus.APPROVED, true, "Engineering", null,
+                null, null, null, null);
+
+        ReviewListing listing = reviewService.listReviews(filter, pageable);
+
+        assertEquals(1, listing.page().getTotalElements());
+        assertEquals(ReviewIndex.DEPT_ROLE, listing.plan().index());
+        assertEquals(List.of("status", "isEmployee"), listing.plan().residualFilters());
+        verify(sequentialScanGuard).check(listing.plan());
+    }
+
+    @Test
+    void listReviews_whenGuardEstimatesTotal_shouldNotCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(sequentialScanGuard.check(any(ReviewQueryPlan.class))).thenReturn(OptionalLong.of(250_000));
+        when(reviewRepository.findListing(ReviewFilter.NONE, pageable, 250_000))
+                .thenReturn(new PageImpl<>(Collections.singletonList(review), pageable, 250_000));
+
+        ReviewListing listing = reviewService.listReviews(ReviewFilter.NONE, pageable);
+
+        assertEquals(250_000, listing.page().getTotalElements());
+        verify(reviewRepository, never()).findListing(any(ReviewFilter.class), any(Pageable.class));
+    }
+
+    @Test
+    void listReviews_whenGuardRejectsPlan_shouldNotQuery() {
+        ReviewFilter filter = new ReviewFilter(null, null, null, false, null, null, null, null, null, null);
+        doThrow(new BadRequestException("too large")).when(sequentialScanGuard).check(any(ReviewQueryPlan.class));
+
+        assertThrows(BadRequestException.class, () -> reviewService.listReviews(filter, PageRequest.of(0, 10)));
+
+        verifyNoInteractions(reviewRepository);
+    }
+
+    private void countFacetsWithoutCache() {
+        when(facetCountCache.get(any(ReviewFilter.class), anySet(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<ReviewFacetRow>>>getArgument(2).get());
+    }
+
+    @Test
+    void getFacetedReviews_shouldGroupCountsPerRequestedFacet() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ReviewFilter filter = new ReviewFilter("Incognito Corp", null, null, true, null, null, null, null, null, null);
+        Page<Review> reviewPage = new PageImpl<>(Collections.singletonList(review), pageable, 1);
+        when(reviewRepository.findListing(filter, pageable)).thenReturn(reviewPage);
+        countFacetsWithoutCache();
+        when(reviewRepository.countFacets(filter, EnumSet.of(ReviewFacet.REVIEW_TYPE, ReviewFacet.DEPT),
+                ReviewService.MAX_FACET_VALUES))
+                .thenReturn(List.of(new ReviewFacetRow(ReviewFacet.REVIEW_TYPE, "POSITIVE", 7),
+                        new ReviewFacetRow(ReviewFacet.REVIEW_TYPE, "NEGATIVE", 2)));
+
+        FacetedReviewPageResponse response = reviewService.getFacetedReviews(filter, List.of("dept", "reviewType"), pageable);
+
+        assertEquals(1, response.totalElements());
+        assertEquals(1, response.content().size());
+        // facets come back in a stable order, and a requested facet without values is still present
+        assertEquals(List.of("reviewType", "dept"), List.copyOf(response.facets().keySet()));
+        assertEquals(List.of(new FacetCount("POSITIVE", 7), new FacetCount("NEGATIVE", 2)), response.facets().get("reviewType"));
+        assertTrue(response.facets().get("dept").isEmpty());
+    }
+
+    @Test
+    void getFacetedReviews_withoutFacets_shouldCountAllFacets() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(reviewRepository.findListing(any(ReviewFilter.class), eq(pageable))).thenReturn(Page.empty(pageable));
+        countFacetsWithoutCache();
+        when(reviewRepository.countFacets(ReviewFilter.NONE, EnumSet.allOf(ReviewFacet.class), ReviewService.MAX_FACET_VALUES))
+                .thenReturn(List.of());
+
+        FacetedReviewPageResponse response = reviewService.getFacetedReviews(ReviewFilter.NONE, null, pageable);
+
+        assertEquals(List.of("reviewType", "isEmployee", "dept", "role"), List.copyOf(response.facets().keySet()));
+    }
+
+    @Test
+    void getFacetedReviews_withUnknownFacet_shouldThrowBadRequest() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> reviewService.getFacetedReviews(ReviewFilter.NONE, List.of("salary"), PageRequest.of(0, 10)));
+
+        assertTrue(exception.getMessage().contains("salary"));
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void getFacetedReviews_whenGuardRejectsCounting_shouldNotQuery() {
+        doThrow(new BadRequestException("too large")).when(sequentialScanGuard).checkAggregate(any(ReviewQueryPlan.class));
+
+        assertThrows(BadRequestException.class,
+                () -> reviewService.getFacetedReviews(ReviewFilter.NONE, null, PageRequest.of(0, 10)));
+
+        verifyNoInteractions(reviewRepository, facetCountCache);
     }
 
     @Test
@@ -412,6 +559,8 @@ class ReviewServiceTest {
         assertEquals(reviewAfterLike.getUpdatedAt(), reviewResponse.updatedAt());
         verify(reviewRepository, times(1)).incrementLikeCount(1L);
         verify(reviewRepository, times(1)).findById(1L);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ActivityEvent activity
+                && activity.type() == ActivityType.LIKE && "Incognito Corp".equals(activity.companyName())));
     }
 
     @Test
@@ -421,6 +570,7 @@ class ReviewServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> reviewService.incrementLikeCount(1L));
         verify(reviewRepository, times(1)).incrementLikeCount(1L);
         verify(reviewRepository, never()).findById(1L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
     
     @Test
@@ -473,6 +623,8 @@ class ReviewServiceTest {
         assertEquals(reviewAfterDislike.getUpdatedAt(), reviewResponse.updatedAt());
         verify(reviewRepository, times(1)).incrementDislikeCount(1L);
         verify(reviewRepository, times(1)).findById(1L);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ActivityEvent activity
+                && activity.type() == ActivityType.DISLIKE && "Incognito Corp".equals(activity.companyName())));
     }
 
     @Test
@@ -482,6 +634,7 @@ class ReviewServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> reviewService.incrementDislikeCount(1L));
         verify(reviewRepository, times(1)).incrementDislikeCount(1L);
         verify(reviewRepository, never()).findById(1L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
     
     @Test
@@ -521,4 +674,113 @@ class ReviewServiceTest {
         assertNotNull(reviewResponse);
         assertEquals(0, reviewResponse.totalComments(), "Total comments should be 0 when entity's totalComments is null");
     }
+
+    private ReviewSearchRow searchRow(long id, double score) {
+        return new ReviewSearchRow(id, "Great benefits", "Incognito Corp", ReviewType.POSITIVE, 3,
+                Instant.parse("2024-05-01T00:00:00Z"), score, "Great <mark>benefits</mark>");
+    }
+
+    @Test
+    void searchReviews_whenMoreRowsThanPage_shouldReturnCursorFromLastRowOfPage() {
+        when(reviewRepository.search(eq("benefits"), any(Instant.class), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(searchRow(9L, 0.9), searchRow(7L, 0.5), searchRow(4L, 0.1)));
+
+        ReviewSearchResponse response = reviewService.searchReviews("  benefits ", null, 2);
+
+        assertEquals(2, response.results().size());
+        assertEquals(9L, response.results().get(0).id());
+        assertEquals("Great <mark>benefits</mark>", response.results().get(0).snippet());
+        SearchCursor next = SearchCursor.decode(response.nextCursor());
+        assertEquals(0.5, next.score());
+        assertEquals(7L, next.id());
+    }
+
+    @Test
+    void searchReviews_withCursor_shouldResumeAfterItWithSameReferenceTime() {
+        Instant asOf = Instant.parse("2024-06-01T12:00:00Z");
+        String cursor = new SearchCursor(asOf, 0.5, 7L).encode();
+        when(reviewRepository.search("benefits", asOf, 0.5, 7L, 11)).thenReturn(List.of(searchRow(4L, 0.1)));
+
+        ReviewSearchResponse response = reviewService.searchReviews("benefits", cursor, 10);
+
+        assertEquals(1, response.results().size());
+        assertNull(response.nextCursor());
+        verify(reviewRepository).search("benefits", asOf, 0.5, 7L, 11);
+    }
+
+    @Test
+    void searchReviews_shouldCapPageSize() {
+        when(reviewRepository.search(eq("benefits"), any(Instant.class), isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        reviewService.searchReviews("benefits", null, 1_000);
+
+        verify(reviewRepository).search(eq("benefits"), any(Instant.class), isNull(), isNull(), eq(ReviewService.MAX_SEARCH_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void searchReviews_whenQueryBlankOrCursorMalformed_shouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> reviewService.searchReviews("   ", null, 10));
+        assertThrows(BadRequestException.class, () -> reviewService.searchReviews("x".repeat(201), null, 10));
+        assertThrows(BadRequestException.class, () -> reviewService.searchReviews("benefits", "not-a-cursor", 10));
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void createReview_shouldPublishChangeForSearchIndexAndAnalytics() {
+        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+
+        reviewService.createReview(reviewCreateRequest);
+
+        verify(eventPublisher).publishEvent(new ReviewChangedEvent(ReviewDocument.of(review)));
+        verify(eventPublisher).publishEvent(new ReviewFactEvent(ReviewFact.of(review)));
+    }
+
+    @Test
+    void searchIndex_whenIndexUnavailableOrLoading_shouldReturnEmpty() {
+        assertTrue(reviewService.searchIndex("benefits", 10).isEmpty());
+
+        ReviewSearchIndexManager manager = mock(ReviewSearchIndexManager.class);
+        when(searchIndex.getIfAvailable()).thenReturn(manager);
+        when(manager.isReady()).thenReturn(false);
+        assertTrue(reviewService.searchIndex("benefits", 10).isEmpty());
+        verify(manager, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void searchIndex_whenIndexReady_shouldMapHitsWithoutCursor() {
+        ReviewSearchIndexManager manager = mock(ReviewSearchIndexManager.class);
+        when(searchIndex.getIfAvailable()).thenReturn(manager);
+        when(manager.isReady()).thenReturn(true);
+        when(manager.search("benefits", ReviewService.MAX_SEARCH_PAGE_SIZE)).thenReturn(List.of(
+                new ReviewSearchIndex.Hit(5L, ReviewType.POSITIVE, "Great benefits", "Incognito Corp", Instant.EPOCH, 2.5f)));
+
+        ReviewSearchResponse response = reviewService.searchIndex("benefits", 500).orElseThrow();
+
+        assertEquals(1, response.results().size());
+        assertEquals(5L, response.results().get(0).id());
+        assertEquals(2.5, response.results().get(0).score());
+        assertNull(response.results().get(0).snippet());
+        assertNull(response.nextCursor());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void createReview_whenNearDuplicate_shouldRecordReasonAndRememberSignature() {
+        int[] signature = new int[64];
+        ModerationVerdict verdict = new ModerationVerdict(ModerationAction.HOLD, "Near-duplicate of review 3 (similarity 0.91)", signature);
+        when(moderationService.screenReview(reviewCreateRequest.title(), reviewCreateRequest.content())).thenReturn(verdict);
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> {
+            Review toSave = invocation.getArgument(0);
+            toSave.setId(4L);
+            return toSave;
+        });
+
+        ReviewResponse response = reviewService.createReview(reviewCreateRequest);
+
+        assertEquals(ReviewStatus.PENDING, response.status());
+        ArgumentCaptor<Review> reviewCaptor = ArgumentCaptor.forClass(Review.class);
+        verify(reviewRepository).save(reviewCaptor.capture());
+        assertEquals("Near-duplicate of review 3 (similarity 0.91)", reviewCaptor.getValue().getModerationReason());
+        verify(moderationService).recordReview(4L, verdict);
+    }
 }
@@ -0,0 +1,34 @@
+package com.incognito.reviewservice.startup;
+
+import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.entity.Review;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewServiceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    ReviewServiceRuntimeHintsTest() {
+        new ReviewServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_shouldCoverEntitiesAndRecords() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Review.class).withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ReviewResponse.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+    }
+
+    @Test
+    void registerHints_shouldCoverJdbcProxiesAndMigrations() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V1__baseline_schema.sql").test(hints));
+    }
+}
@@ -0,0 +1,88 @@
+package com.incognito.reviewservice.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incognito.reviewservice.dto.CommentResponse;
+import com.incognito.reviewservice.dto.ReviewResponse;
+import com.incognito.reviewservice.model.ReviewType;
+import com.incognito.reviewservice.service.CommentService;
+import com.incognito.reviewservice.service.ReviewService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    // Paged, because Jackson cannot serialize an unpaged Pageable
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private CommentService commentService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        WarmupProperties properties = new WarmupProperties();
+        properties.setRounds(4);
+        warmupRunner = new WarmupRunner(reviewService, commentService, new ObjectMapper().findAndRegisterModules(),
+                properties, meterRegistry);
+    }
+
+    @Test
+    void run_shouldExerciseReadPathsAndRecordMetrics() {
+        ReviewResponse review = new ReviewResponse(7L, ReviewType.POSITIVE, "Title", "Content", null, 0, 0, true,
+                null, false, null, null, "Acme", null, null, null, null, null, "Anonymous", 1);
+        Page<ReviewResponse> reviews = new PageImpl<>(List.of(review), PAGE, 1);
+        when(reviewService.getReviews(any(), any(), any(Pageable.class))).thenReturn(reviews);
+        when(reviewService.getReviewById(7L)).thenReturn(review);
+        CommentResponse comment = new CommentResponse(3L, "Comment", 0, 0, 7L, null, null, null, null, true, "Anonymous", 2);
+        when(commentService.getCommentsByReviewId(eq(7L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(comment), PAGE, 1));
+        when(commentService.getRepliesOfComment(eq(7L), eq(3L), any(Pageable.class))).thenReturn(Page.empty(PAGE));
+
+        warmupRunner.run(null);
+
+        verify(reviewService, times(4)).getReviewById(7L);
+        verify(commentService, times(4)).getRepliesOfComment(eq(7L), eq(3L), any(Pageable.class));
+        assertEquals(4, meterRegistry.get("reviewservice.warmup.calls")
+                .tags("path", WarmupRunner.GET_REVIEW, "outcome", "success").counter().count());
+        assertNotNull(meterRegistry.get("reviewservice.warmup.call.latency")
+                .tags("path", WarmupRunner.LIST_COMMENTS, "phase", "last").gauge());
+        assertEquals(1, meterRegistry.get("reviewservice.warmup.duration").timer().count());
+    }
+
+    @Test
+    void run_shouldSkip_whenThereAreNoReviews() {
+        when(reviewService.getReviews(any(), any(), any(Pageable.class))).thenReturn(Page.empty());
+
+        warmupRunner.run(null);
+
+        verify(reviewService, never()).getReviewById(anyLong());
+        assertNull(meterRegistry.find("reviewservice.warmup.duration").timer());
+    }
+}
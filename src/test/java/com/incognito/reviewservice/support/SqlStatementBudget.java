@@ -0,0 +1,64 @@
+package com.incognito.reviewservice.support;
+
+import com.incognito.reviewservice.observability.SqlStatementCounter;
+import com.incognito.reviewservice.observability.SqlStatementCounter.SqlStatementKind;
+import com.incognito.reviewservice.observability.SqlStatementCounts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts how many SQL statements, and of which kind, a call issues. Relies on the Hibernate
+ * statement inspector registered by the application context, so it only works in
+ * {@code @SpringBootTest}/{@code @DataJpaTest} tests that include {@code ObservabilityConfig}.
+ * <p>
+ * Flush and clear the persistence context after seeding data, otherwise lookups are served from
+ * it and never reach the database.
+ *
+ * <pre>{@code
+ * SqlStatementBudget.measure("getReviewById", () -> reviewService.getReviewById(id))
+ *         .totalAtMost(1)
+ *         .exactly(SqlStatementKind.SELECT, 1);
+ * }</pre>
+ */
+public final class SqlStatementBudget {
+
+    private final String call;
+    private final SqlStatementCounts counts;
+
+    private SqlStatementBudget(String call, SqlStatementCounts counts) {
+        this.call = call;
+        this.counts = counts;
+    }
+
+    public static SqlStatementBudget measure(String call, Runnable action) {
+        SqlStatementCounter.start();
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            SqlStatementCounter.stop();
+            throw ex;
+        }
+        return new SqlStatementBudget(call, SqlStatementCounter.stop());
+    }
+
+    public SqlStatementBudget totalAtMost(int maxStatements) {
+        assertTrue(counts.total() <= maxStatements,
+                () -> call + " issued " + counts.total() + " statements, budget is " + maxStatements + ": " + counts);
+        return this;
+    }
+
+    public SqlStatementBudget exactly(SqlStatementKind kind, int expected) {
+        assertEquals(expected, counts.get(kind),
+                () -> call + " issued an unexpected number of " + kind + " statements: " + counts);
+        return this;
+    }
+
+    public SqlStatementBudget none(SqlStatementKind kind) {
+        return exactly(kind, 0);
+    }
+
+    public SqlStatementCounts getCounts() {
+        return counts;
+    }
+}